@@ -30,6 +30,7 @@ import org.apache.syncope.client.ui.commons.markup.html.form.AjaxTextFieldPanel;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.common.lib.to.ResourceTO;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.wicket.extensions.wizard.WizardStep;
 import org.apache.wicket.markup.html.WebMarkupContainer;
@@ -125,6 +126,14 @@ public class ResourceDetailsPanel extends WizardStep {
                 false).
                 setChoices(Arrays.stream(TraceLevel.values()).collect(Collectors.toList())).setNullValid(false));
 
+        container.add(new AjaxDropDownChoicePanel<>(
+                "propagationReadMode",
+                new ResourceModel("propagationReadMode", "propagationReadMode").getObject(),
+                new PropertyModel<>(resourceTO, "propagationReadMode"),
+                false).
+                setChoices(Arrays.stream(PropagationReadMode.values()).collect(Collectors.toList())).
+                setNullValid(false));
+
         container.add(new AjaxTextFieldPanel(
                 "connector",
                 new ResourceModel("connector", "connector").getObject(),
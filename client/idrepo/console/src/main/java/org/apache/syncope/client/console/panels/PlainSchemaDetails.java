@@ -285,6 +285,9 @@ public class PlainSchemaDetails extends AbstractSchemaDetailsPanel {
         add(new AjaxCheckBoxPanel(
                 "readonly", getString("readonly"), new PropertyModel<>(schemaTO, "readonly")));
 
+        add(new AjaxCheckBoxPanel(
+                "indexed", getString("indexed"), new PropertyModel<>(schemaTO, "indexed")));
+
         add(new AjaxCheckBoxPanel("uniqueConstraint",
                 getString("uniqueConstraint"), new PropertyModel<>(schemaTO, "uniqueConstraint")).
                 setEnabled(isCreate));
@@ -36,6 +36,6 @@ public class SyncopeRestClient extends BaseRestClient {
     }
 
     public Response exportInternalStorageContent() {
-        return getService(SyncopeService.class).exportInternalStorageContent();
+        return getService(SyncopeService.class).exportInternalStorageContent(1);
     }
 }
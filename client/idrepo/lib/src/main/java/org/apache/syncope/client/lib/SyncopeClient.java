@@ -19,6 +19,7 @@
 package org.apache.syncope.client.lib;
 
 import org.apache.syncope.client.lib.batch.BatchRequest;
+import org.apache.syncope.client.lib.batch.BatchResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -26,6 +27,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -35,11 +44,13 @@ import org.apache.cxf.configuration.jsse.TLSClientParameters;
 import org.apache.cxf.jaxrs.client.Client;
 import org.apache.cxf.jaxrs.client.ClientConfiguration;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
+import org.apache.cxf.jaxrs.client.ThreadLocalClientState;
 import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.cxf.transport.common.gzip.GZIPInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
 import org.apache.cxf.transport.http.HTTPConduit;
 import org.apache.cxf.transport.http.URLConnectionHTTPConduit;
+import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.search.AnyObjectFiqlSearchConditionBuilder;
 import org.apache.syncope.common.lib.search.OrderByClauseBuilder;
@@ -73,6 +84,14 @@ public class SyncopeClient {
 
     private final TLSClientParameters tlsClientParameters;
 
+    private final HTTPClientPolicy httpClientPolicy;
+
+    private final Executor asyncExecutor;
+
+    private final Map<Class<?>, Object> sharedServices = new ConcurrentHashMap<>();
+
+    private ExecutorService defaultAsyncExecutor;
+
     public SyncopeClient(
             final MediaType mediaType,
             final JAXRSClientFactoryBean restClientFactory,
@@ -81,6 +100,26 @@ public class SyncopeClient {
             final boolean useCompression,
             final TLSClientParameters tlsClientParameters) {
 
+        this(mediaType,
+                restClientFactory,
+                exceptionMapper,
+                handler,
+                useCompression,
+                tlsClientParameters,
+                null,
+                null);
+    }
+
+    public SyncopeClient(
+            final MediaType mediaType,
+            final JAXRSClientFactoryBean restClientFactory,
+            final RestClientExceptionMapper exceptionMapper,
+            final AuthenticationHandler handler,
+            final boolean useCompression,
+            final TLSClientParameters tlsClientParameters,
+            final HTTPClientPolicy httpClientPolicy,
+            final Executor asyncExecutor) {
+
         this.mediaType = mediaType;
         this.restClientFactory = restClientFactory;
         if (this.restClientFactory.getHeaders() == null) {
@@ -88,6 +127,8 @@ public class SyncopeClient {
         }
         this.exceptionMapper = exceptionMapper;
         this.tlsClientParameters = tlsClientParameters;
+        this.httpClientPolicy = httpClientPolicy;
+        this.asyncExecutor = asyncExecutor;
         init(handler);
         this.useCompression = useCompression;
     }
@@ -129,9 +170,12 @@ public class SyncopeClient {
     }
 
     protected void cleanup() {
-        restClientFactory.getHeaders().remove(HttpHeaders.AUTHORIZATION);
-        restClientFactory.setUsername(null);
-        restClientFactory.setPassword(null);
+        synchronized (restClientFactory) {
+            sharedServices.clear();
+            restClientFactory.getHeaders().remove(HttpHeaders.AUTHORIZATION);
+            restClientFactory.setUsername(null);
+            restClientFactory.setPassword(null);
+        }
     }
 
     /**
@@ -139,7 +183,10 @@ public class SyncopeClient {
      */
     public void refresh() {
         String jwt = getService(AccessTokenService.class).refresh().getHeaderString(RESTHeaders.TOKEN);
-        restClientFactory.getHeaders().put(HttpHeaders.AUTHORIZATION, List.of("Bearer " + jwt));
+        synchronized (restClientFactory) {
+            restClientFactory.getHeaders().put(HttpHeaders.AUTHORIZATION, List.of("Bearer " + jwt));
+            sharedServices.clear();
+        }
     }
 
     /**
@@ -227,6 +274,30 @@ public class SyncopeClient {
                 : headerValues.get(0);
     }
 
+    private void configure(final Object serviceInstance) {
+        ClientConfiguration config = WebClient.getConfig(WebClient.client(serviceInstance));
+        config.getRequestContext().put(HEADER_SPLIT_PROPERTY, true);
+        config.getRequestContext().put(URLConnectionHTTPConduit.HTTPURL_CONNECTION_METHOD_REFLECTION, true);
+        if (useCompression) {
+            config.getInInterceptors().add(new GZIPInInterceptor());
+            config.getOutInterceptors().add(new GZIPOutInterceptor());
+        }
+        if (tlsClientParameters != null || httpClientPolicy != null) {
+            HTTPConduit httpConduit = (HTTPConduit) config.getConduit();
+            if (tlsClientParameters != null) {
+                httpConduit.setTlsClientParameters(tlsClientParameters);
+            }
+            if (httpClientPolicy != null) {
+                httpConduit.setClient(httpClientPolicy);
+            }
+        }
+    }
+
+    private static boolean isMultipart(final Class<?> serviceClass) {
+        return AnyService.class.isAssignableFrom(serviceClass)
+                || ExecutableService.class.isAssignableFrom(serviceClass);
+    }
+
     /**
      * Creates an instance of the given service class, with configured content type and authentication.
      *
@@ -245,22 +316,111 @@ public class SyncopeClient {
                 client.accept(RESTHeaders.MULTIPART_MIXED);
             }
 
-            ClientConfiguration config = WebClient.getConfig(client);
-            config.getRequestContext().put(HEADER_SPLIT_PROPERTY, true);
-            config.getRequestContext().put(URLConnectionHTTPConduit.HTTPURL_CONNECTION_METHOD_REFLECTION, true);
-            if (useCompression) {
-                config.getInInterceptors().add(new GZIPInInterceptor());
-                config.getOutInterceptors().add(new GZIPOutInterceptor());
+            configure(serviceInstance);
+
+            return serviceInstance;
+        }
+    }
+
+    private <T> T createSharedService(final Class<T> serviceClass) {
+        synchronized (restClientFactory) {
+            Map<String, List<String>> headers = restClientFactory.getHeaders();
+
+            // configured content type, accept and authentication need to be part of the initial state, as copied
+            // by each thread upon first invocation
+            Map<String, String> initialHeaders = new HashMap<>();
+            headers.forEach((key, values) -> initialHeaders.put(key, String.join(",", values)));
+            initialHeaders.put(HttpHeaders.CONTENT_TYPE, mediaType.toString());
+            initialHeaders.put(HttpHeaders.ACCEPT, isMultipart(serviceClass)
+                    ? mediaType.toString() + ',' + RESTHeaders.MULTIPART_MIXED
+                    : mediaType.toString());
+
+            restClientFactory.setHeaders(initialHeaders);
+            restClientFactory.setInitialState(new ThreadLocalClientState(restClientFactory.getAddress(), 0));
+            try {
+                restClientFactory.setServiceClass(serviceClass);
+                T serviceInstance = restClientFactory.create(serviceClass);
+
+                configure(serviceInstance);
+
+                return serviceInstance;
+            } finally {
+                restClientFactory.setInitialState(null);
+                restClientFactory.setHeaders(headers.entrySet().stream().collect(Collectors.toMap(
+                        Map.Entry::getKey, entry -> String.join(",", entry.getValue()))));
             }
-            if (tlsClientParameters != null) {
-                HTTPConduit httpConduit = (HTTPConduit) config.getConduit();
-                httpConduit.setTlsClientParameters(tlsClientParameters);
+        }
+    }
+
+    /**
+     * Returns an instance of the given service class, with configured content type and authentication, which can be
+     * safely shared among threads: the same instance is returned by subsequent invocations, until authentication
+     * changes, so that creation costs are not paid for each request and HTTP connections are reused.
+     * Headers set on the returned instance (as via {@link #header(java.lang.Object, java.lang.String,
+     * java.lang.Object...)}) are kept by the calling thread for its next requests: use {@link #getService(Class)}
+     * when such headers are needed.
+     *
+     * @param <T> any service class
+     * @param serviceClass service class reference
+     * @return shared service instance of the given reference class
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getSharedService(final Class<T> serviceClass) {
+        Object serviceInstance = sharedServices.get(serviceClass);
+        if (serviceInstance == null) {
+            synchronized (restClientFactory) {
+                serviceInstance = sharedServices.get(serviceClass);
+                if (serviceInstance == null) {
+                    serviceInstance = createSharedService(serviceClass);
+                    sharedServices.put(serviceClass, serviceInstance);
+                }
             }
+        }
+        return (T) serviceInstance;
+    }
 
-            return serviceInstance;
+    private Executor asyncExecutor() {
+        if (asyncExecutor != null) {
+            return asyncExecutor;
+        }
+
+        synchronized (this) {
+            if (defaultAsyncExecutor == null) {
+                AtomicInteger threadNumber = new AtomicInteger();
+                defaultAsyncExecutor = Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "SyncopeClient-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return defaultAsyncExecutor;
         }
     }
 
+    /**
+     * Invokes the given function on the shared instance of the given service class, without blocking the calling
+     * thread.
+     *
+     * @param <T> any service class
+     * @param <R> result type
+     * @param serviceClass service class reference
+     * @param call function invoking the service
+     * @return future completing with the result of the given function, or exceptionally with the exception thrown
+     */
+    public <T, R> CompletableFuture<R> async(final Class<T> serviceClass, final Function<T, R> call) {
+        return CompletableFuture.supplyAsync(() -> call.apply(getSharedService(serviceClass)), asyncExecutor());
+    }
+
+    /**
+     * Commits the given Batch request, without blocking the calling thread.
+     *
+     * @param batchRequest Batch request
+     * @return future completing with the Batch response
+     */
+    public CompletableFuture<BatchResponse> async(final BatchRequest batchRequest) {
+        return CompletableFuture.supplyAsync(batchRequest::commit, asyncExecutor());
+    }
+
     public Pair<Map<String, Set<String>>, UserTO> self() {
         // Explicitly disable header value split because it interferes with JSON deserialization below
         UserSelfService service = getService(UserSelfService.class);
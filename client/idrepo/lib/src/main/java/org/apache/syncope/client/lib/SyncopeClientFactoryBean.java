@@ -26,7 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.Executor;
 import javax.ws.rs.core.MediaType;
 import javax.xml.bind.Marshaller;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +36,7 @@ import org.apache.cxf.ext.logging.LoggingFeature;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
 import org.apache.cxf.jaxrs.provider.JAXBElementProvider;
 import org.apache.cxf.staxutils.DocumentDepthProperties;
+import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.apache.syncope.common.lib.policy.PolicyTO;
 import org.apache.syncope.common.rest.api.DateParamConverterProvider;
 import org.apache.syncope.common.rest.api.RESTHeaders;
@@ -87,6 +88,10 @@ public class SyncopeClientFactoryBean {
 
     private TLSClientParameters tlsClientParameters;
 
+    private HTTPClientPolicy httpClientPolicy;
+
+    private Executor asyncExecutor;
+
     private JAXRSClientFactoryBean restClientFactoryBean;
 
     protected JacksonJaxbJsonProvider defaultJsonProvider() {
@@ -237,6 +242,38 @@ public class SyncopeClientFactoryBean {
         return tlsClientParameters;
     }
 
+    /**
+     * Sets the HTTP client policy (connection and receive timeouts, keep-alive, chunking, ...) applied to all
+     * service instances.
+     *
+     * @param httpClientPolicy HTTP client policy
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setHttpClientPolicy(final HTTPClientPolicy httpClientPolicy) {
+        this.httpClientPolicy = httpClientPolicy;
+        return this;
+    }
+
+    public HTTPClientPolicy getHttpClientPolicy() {
+        return httpClientPolicy;
+    }
+
+    /**
+     * Sets the executor running the invocations requested via {@code SyncopeClient#async}; if not set, a cached
+     * thread pool is used.
+     *
+     * @param asyncExecutor executor for asynchronous invocations
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setAsyncExecutor(final Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        return this;
+    }
+
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     public JAXRSClientFactoryBean getRestClientFactoryBean() {
         return Optional.ofNullable(restClientFactoryBean).orElseGet(this::defaultRestClientFactoryBean);
     }
@@ -293,6 +330,8 @@ public class SyncopeClientFactoryBean {
                 getExceptionMapper(),
                 handler,
                 useCompression,
-                tlsClientParameters);
+                tlsClientParameters,
+                httpClientPolicy,
+                asyncExecutor);
     }
 }
@@ -18,9 +18,20 @@
  */
 package org.apache.syncope.client.lib;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.common.rest.api.service.SyncopeService;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -71,4 +82,22 @@ public class ConcurrencyTest {
             fail(e::getMessage);
         }
     }
+
+    @Test
+    public void sharedService() {
+        List<CompletableFuture<SyncopeService>> futures = IntStream.range(0, THREAD_NUMBER).
+                mapToObj(i -> CompletableFuture.supplyAsync(() -> CLIENT.getSharedService(SyncopeService.class))).
+                collect(Collectors.toList());
+        Set<SyncopeService> services = futures.stream().map(CompletableFuture::join).collect(Collectors.toSet());
+        assertEquals(1, services.size());
+
+        // content type and accept are available to any thread
+        UserService userService = CLIENT.getSharedService(UserService.class);
+        assertSame(userService, CLIENT.getSharedService(UserService.class));
+        assertEquals(
+                List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON),
+                CompletableFuture.supplyAsync(() -> List.of(
+                WebClient.client(userService).getHeaders().getFirst(HttpHeaders.CONTENT_TYPE),
+                WebClient.client(userService).getHeaders().getFirst(HttpHeaders.ACCEPT))).join());
+    }
 }
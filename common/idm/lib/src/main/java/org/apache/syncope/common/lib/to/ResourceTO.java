@@ -32,6 +32,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.TraceLevel;
 
 @XmlRootElement(name = "resource")
@@ -70,6 +71,8 @@ public class ResourceTO implements EntityTO {
 
     private TraceLevel provisioningTraceLevel = TraceLevel.ALL;
 
+    private PropagationReadMode propagationReadMode = PropagationReadMode.FULL;
+
     private String passwordPolicy;
 
     private String accountPolicy;
@@ -245,6 +248,14 @@ public class ResourceTO implements EntityTO {
         this.provisioningTraceLevel = provisioningTraceLevel;
     }
 
+    public PropagationReadMode getPropagationReadMode() {
+        return propagationReadMode;
+    }
+
+    public void setPropagationReadMode(final PropagationReadMode propagationReadMode) {
+        this.propagationReadMode = propagationReadMode;
+    }
+
     @XmlElementWrapper(name = "propagationActions")
     @XmlElement(name = "propagationAction")
     @JsonProperty("propagationActions")
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.types;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+/**
+ * How the remote object is read when propagating to an external resource.
+ */
+@XmlEnum
+public enum PropagationReadMode {
+
+    /**
+     * Remote object is read before and after each write.
+     */
+    FULL,
+    /**
+     * Remote object is read before each write only; the object after the write is built from the propagated
+     * attributes.
+     */
+    SKIP_AFTER,
+    /**
+     * Remote object is not read: the last known state, as left by the previous propagation, is used in place of the
+     * object before each write, when available; the object after the write is built from the propagated attributes.
+     * Only available with a single Core instance, as the last known state is held by each node.
+     */
+    CACHED;
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.syncope.common.lib.SyncopeConstants;
+
+/**
+ * Request for applying the same plain attribute patch to all the users matching the given FIQL expression.
+ */
+@XmlRootElement(name = "bulkAttrUR")
+@XmlType
+public class BulkAttrUR implements Serializable {
+
+    private static final long serialVersionUID = -2470853934765233541L;
+
+    public static class Builder {
+
+        private final BulkAttrUR instance = new BulkAttrUR();
+
+        public Builder(final AttrPatch attrPatch) {
+            instance.setAttrPatch(attrPatch);
+        }
+
+        public Builder realm(final String realm) {
+            instance.setRealm(realm);
+            return this;
+        }
+
+        public Builder fiql(final String fiql) {
+            instance.setFiql(fiql);
+            return this;
+        }
+
+        public BulkAttrUR build() {
+            return instance;
+        }
+    }
+
+    private String realm = SyncopeConstants.ROOT_REALM;
+
+    private String fiql;
+
+    private AttrPatch attrPatch;
+
+    public String getRealm() {
+        return realm;
+    }
+
+    public void setRealm(final String realm) {
+        this.realm = realm;
+    }
+
+    public String getFiql() {
+        return fiql;
+    }
+
+    public void setFiql(final String fiql) {
+        this.fiql = fiql;
+    }
+
+    @JsonProperty(required = true)
+    @XmlElement(required = true)
+    public AttrPatch getAttrPatch() {
+        return attrPatch;
+    }
+
+    public void setAttrPatch(final AttrPatch attrPatch) {
+        this.attrPatch = attrPatch;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(realm).
+                append(fiql).
+                append(attrPatch).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final BulkAttrUR other = (BulkAttrUR) obj;
+        return new EqualsBuilder().
+                append(realm, other.realm).
+                append(fiql, other.fiql).
+                append(attrPatch, other.attrPatch).
+                build();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Outcome of a bulk plain attribute update.
+ */
+@XmlRootElement(name = "bulkAttrResult")
+@XmlType
+public class BulkAttrResult implements Serializable {
+
+    private static final long serialVersionUID = 5327846021862312744L;
+
+    /**
+     * Number of users matching the provided FIQL expression.
+     */
+    private int matching;
+
+    /**
+     * Number of users actually updated.
+     */
+    private int updated;
+
+    /**
+     * Keys of users for which propagation to at least one external resource did not succeed.
+     */
+    private final List<String> propagationFailures = new ArrayList<>();
+
+    /**
+     * Keys of users left untouched, as mandatory conditions would not be met otherwise.
+     */
+    private final List<String> requiredValuesMissing = new ArrayList<>();
+
+    public int getMatching() {
+        return matching;
+    }
+
+    public void setMatching(final int matching) {
+        this.matching = matching;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(final int updated) {
+        this.updated = updated;
+    }
+
+    @XmlElementWrapper(name = "propagationFailures")
+    @XmlElement(name = "propagationFailure")
+    @JsonProperty("propagationFailures")
+    public List<String> getPropagationFailures() {
+        return propagationFailures;
+    }
+
+    @XmlElementWrapper(name = "requiredValuesMissing")
+    @XmlElement(name = "requiredValueMissing")
+    @JsonProperty("requiredValuesMissing")
+    public List<String> getRequiredValuesMissing() {
+        return requiredValuesMissing;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                append(matching).
+                append(updated).
+                append(propagationFailures).
+                append(requiredValuesMissing).
+                build();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final BulkAttrResult other = (BulkAttrResult) obj;
+        return new EqualsBuilder().
+                append(matching, other.matching).
+                append(updated, other.updated).
+                append(propagationFailures, other.propagationFailures).
+                append(requiredValuesMissing, other.requiredValuesMissing).
+                build();
+    }
+}
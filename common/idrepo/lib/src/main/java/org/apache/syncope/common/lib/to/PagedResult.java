@@ -50,6 +50,8 @@ public class PagedResult<T extends BaseBean> implements Serializable {
 
     private int totalCount;
 
+    private String cursor;
+
     public URI getPrev() {
         return prev;
     }
@@ -98,6 +100,22 @@ public class PagedResult<T extends BaseBean> implements Serializable {
         this.totalCount = totalCount;
     }
 
+    /**
+     * @return the opaque cursor which should be used with the next search request, or {@code null} if cursor-based
+     * paging was not requested, or if there are no more pages to be returned
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @param cursor the opaque cursor which should be used with the next search request, or {@code null} if
+     * cursor-based paging was not requested, or if there are no more pages to be returned
+     */
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
@@ -107,6 +125,7 @@ public class PagedResult<T extends BaseBean> implements Serializable {
                 append(page).
                 append(size).
                 append(totalCount).
+                append(cursor).
                 build();
     }
 
@@ -130,6 +149,7 @@ public class PagedResult<T extends BaseBean> implements Serializable {
                 append(page, other.page).
                 append(size, other.size).
                 append(totalCount, other.totalCount).
+                append(cursor, other.cursor).
                 build();
     }
 }
@@ -47,6 +47,8 @@ public class PlainSchemaTO extends SchemaTO {
 
     private boolean readonly;
 
+    private boolean indexed;
+
     private String conversionPattern;
 
     private String validator;
@@ -111,6 +113,14 @@ public class PlainSchemaTO extends SchemaTO {
         this.readonly = readonly;
     }
 
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+    }
+
     public AttrSchemaType getType() {
         return type;
     }
@@ -176,6 +186,7 @@ public class PlainSchemaTO extends SchemaTO {
                 append(multivalue).
                 append(uniqueConstraint).
                 append(readonly).
+                append(indexed).
                 append(conversionPattern).
                 append(validator).
                 append(enumerationKeys).
@@ -205,6 +216,7 @@ public class PlainSchemaTO extends SchemaTO {
                 append(multivalue, other.multivalue).
                 append(uniqueConstraint, other.uniqueConstraint).
                 append(readonly, other.readonly).
+                append(indexed, other.indexed).
                 append(conversionPattern, other.conversionPattern).
                 append(validator, other.validator).
                 append(enumerationKeys, other.enumerationKeys).
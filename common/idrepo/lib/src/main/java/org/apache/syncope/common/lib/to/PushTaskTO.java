@@ -48,6 +48,14 @@ public class PushTaskTO extends ProvisioningTaskTO {
     @XmlJavaTypeAdapter(XmlGenericMapAdapter.class)
     private final Map<String, String> filters = new HashMap<>();
 
+    private Integer concurrency;
+
+    private boolean preloadRemoteKeys;
+
+    private boolean skipUnchanged;
+
+    private boolean changedSinceLastExec;
+
     @XmlTransient
     @JsonProperty("@class")
     @Schema(name = "@class", required = true, example = "org.apache.syncope.common.lib.to.PushTaskTO")
@@ -69,12 +77,73 @@ public class PushTaskTO extends ProvisioningTaskTO {
         return filters;
     }
 
+    /**
+     * Number of worker threads used to push matching entities concurrently; when not set (or 1) entities are
+     * pushed sequentially.
+     *
+     * @return number of worker threads
+     */
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * When true, the keys of all connector objects on the external resource are read upfront via paged search, so
+     * that matching does not require one remote call per entity; ignored when a push correlation rule is defined.
+     * Updates are then computed without comparing the current remote attribute values.
+     *
+     * @return whether remote keys are preloaded before pushing
+     */
+    public boolean isPreloadRemoteKeys() {
+        return preloadRemoteKeys;
+    }
+
+    public void setPreloadRemoteKeys(final boolean preloadRemoteKeys) {
+        this.preloadRemoteKeys = preloadRemoteKeys;
+    }
+
+    /**
+     * When true, entities whose mapped attributes are unchanged since they were last pushed towards the same
+     * resource are skipped, without contacting the connector; password values are not considered.
+     *
+     * @return whether unchanged entities are skipped
+     */
+    public boolean isSkipUnchanged() {
+        return skipUnchanged;
+    }
+
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    /**
+     * When true, only entities created or changed after the start of the latest successful execution of this task
+     * are considered, in addition to the configured filters.
+     *
+     * @return whether only entities changed since the latest successful execution are pushed
+     */
+    public boolean isChangedSinceLastExec() {
+        return changedSinceLastExec;
+    }
+
+    public void setChangedSinceLastExec(final boolean changedSinceLastExec) {
+        this.changedSinceLastExec = changedSinceLastExec;
+    }
+
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
                 appendSuper(super.hashCode()).
                 append(sourceRealm).
                 append(filters).
+                append(concurrency).
+                append(preloadRemoteKeys).
+                append(skipUnchanged).
+                append(changedSinceLastExec).
                 build();
     }
 
@@ -94,6 +163,10 @@ public class PushTaskTO extends ProvisioningTaskTO {
                 appendSuper(super.equals(obj)).
                 append(sourceRealm, other.sourceRealm).
                 append(filters, other.filters).
+                append(concurrency, other.concurrency).
+                append(preloadRemoteKeys, other.preloadRemoteKeys).
+                append(skipUnchanged, other.skipUnchanged).
+                append(changedSinceLastExec, other.changedSinceLastExec).
                 build();
     }
 }
@@ -67,6 +67,16 @@ public final class RESTHeaders {
      */
     public static final MediaType APPLICATION_YAML_TYPE = new MediaType("application", "yaml");
 
+    /**
+     * Mediatype for newline delimited JSON, not defined in {@link javax.ws.rs.core.MediaType}.
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    /**
+     * Mediatype for CSV, not defined in {@link javax.ws.rs.core.MediaType}.
+     */
+    public static final String TEXT_CSV = "text/csv";
+
     /**
      * Mediatype for multipart/mixed, not defined in {@link javax.ws.rs.core.MediaType}.
      */
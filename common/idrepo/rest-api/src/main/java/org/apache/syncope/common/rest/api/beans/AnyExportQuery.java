@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.rest.api.beans;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
+import org.apache.syncope.common.rest.api.service.JAXRSService;
+
+public class AnyExportQuery implements Serializable {
+
+    private static final long serialVersionUID = 4326285003839716520L;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    public static class Builder {
+
+        private final AnyExportQuery instance = new AnyExportQuery();
+
+        public Builder realm(final String realm) {
+            instance.setRealm(realm);
+            return this;
+        }
+
+        public Builder fiql(final String fiql) {
+            instance.setFiql(fiql);
+            return this;
+        }
+
+        public Builder attribute(final String attribute) {
+            instance.getAttributes().add(attribute);
+            return this;
+        }
+
+        public Builder attributes(final List<String> attributes) {
+            instance.getAttributes().addAll(attributes);
+            return this;
+        }
+
+        public Builder format(final AnyExportFormat format) {
+            instance.setFormat(format);
+            return this;
+        }
+
+        public Builder batchSize(final Integer batchSize) {
+            instance.setBatchSize(batchSize);
+            return this;
+        }
+
+        public AnyExportQuery build() {
+            return instance;
+        }
+    }
+
+    private String realm;
+
+    private String fiql;
+
+    private List<String> attributes = new ArrayList<>();
+
+    private AnyExportFormat format;
+
+    private Integer batchSize;
+
+    public String getRealm() {
+        return realm;
+    }
+
+    @DefaultValue(SyncopeConstants.ROOT_REALM)
+    @QueryParam("realm")
+    public void setRealm(final String realm) {
+        this.realm = realm;
+    }
+
+    public String getFiql() {
+        return fiql;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIQL)
+    public void setFiql(final String fiql) {
+        this.fiql = fiql;
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    @QueryParam("attributes")
+    public void setAttributes(final List<String> attributes) {
+        this.attributes = attributes;
+    }
+
+    public AnyExportFormat getFormat() {
+        return Optional.ofNullable(format).orElse(AnyExportFormat.NDJSON);
+    }
+
+    @QueryParam("format")
+    @DefaultValue("NDJSON")
+    public void setFormat(final AnyExportFormat format) {
+        this.format = format;
+    }
+
+    public Integer getBatchSize() {
+        return Optional.ofNullable(batchSize).map(size -> Math.min(size, MAX_BATCH_SIZE)).orElse(100);
+    }
+
+    @Min(1)
+    @Max(MAX_BATCH_SIZE)
+    @QueryParam("batchSize")
+    @DefaultValue("100")
+    public void setBatchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -29,6 +29,11 @@ public class AnyQuery extends AbstractQuery {
 
     private static final long serialVersionUID = -6736562952418964707L;
 
+    /**
+     * Cursor value requesting the first page of cursor-based paging.
+     */
+    public static final String FIRST_CURSOR = "*";
+
     public static class Builder extends AbstractQuery.Builder<AnyQuery, Builder> {
 
         @Override
@@ -51,6 +56,11 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder cursor(final String cursor) {
+            getInstance().setCursor(cursor);
+            return this;
+        }
     }
 
     private String realm;
@@ -59,6 +69,8 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String cursor;
+
     public String getRealm() {
         return realm;
     }
@@ -88,4 +100,21 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Requests cursor-based paging: results are sorted by the given ordering clauses followed by key, and each page
+     * is fetched by seeking right after the last result of the previous one, rather than by skipping results; cost
+     * does not depend on how deep the requested page is, and results do not shift when data changes among requests.
+     * Start with {@link #FIRST_CURSOR}, then use the cursor returned with each page; page is ignored and ordering is
+     * only allowed by {@code key}, {@code username} or {@code name}.
+     *
+     * @param cursor {@link #FIRST_CURSOR} or opaque cursor returned with the previous page
+     */
+    @QueryParam(JAXRSService.PARAM_CURSOR)
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
 }
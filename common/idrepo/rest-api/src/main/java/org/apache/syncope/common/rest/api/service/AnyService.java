@@ -50,6 +50,7 @@ import org.apache.syncope.common.lib.types.ResourceAssociationAction;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
 import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.beans.AnyExportQuery;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 
 public interface AnyService<TO extends AnyTO> extends JAXRSService {
@@ -109,6 +110,21 @@ public interface AnyService<TO extends AnyTO> extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     PagedResult<TO> search(@BeanParam AnyQuery anyQuery);
 
+    /**
+     * Streams all any objects matching the given query, in the requested format; differently from
+     * {@link #search(org.apache.syncope.common.rest.api.beans.AnyQuery)}, no paging is needed on client side, as
+     * matching any objects are iterated on server side and written straight to the response.
+     *
+     * @param exportQuery export conditions
+     * @return a stream for content download
+     */
+    @ApiResponses(
+            @ApiResponse(responseCode = "200", description = "Matching any objects, one per line"))
+    @GET
+    @Path("export")
+    @Produces({ RESTHeaders.APPLICATION_NDJSON, RESTHeaders.TEXT_CSV })
+    Response export(@BeanParam AnyExportQuery exportQuery);
+
     /**
      * Adds or replaces the attribute, owned by the given any object, for the given schema type and schema.
      *
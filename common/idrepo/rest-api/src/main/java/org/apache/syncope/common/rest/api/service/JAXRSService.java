@@ -42,4 +42,6 @@ public interface JAXRSService {
 
     String PARAM_MAX = "max";
 
+    String PARAM_CURSOR = "cursor";
+
 }
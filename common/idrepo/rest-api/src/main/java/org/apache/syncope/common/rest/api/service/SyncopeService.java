@@ -175,11 +175,16 @@ public interface SyncopeService extends JAXRSService {
     TypeExtensionTO readUserTypeExtension(@NotNull @PathParam("groupName") String groupName);
 
     /**
-     * Exports internal storage content as downloadable XML file.
+     * Exports internal storage content as downloadable XML file; when more than one thread is requested, tables are
+     * exported in parallel as separate XML files, downloadable as ZIP archive.
+     * The number of threads is capped by configuration and by the connection pool size: when capped to one, a single
+     * XML file is returned. The ZIP archive is meant for backup and inspection only: it cannot be used as content to
+     * load at startup, which requires a single XML file.
      *
-     * @return internal storage content as downloadable XML file
+     * @param threads number of threads to export tables with
+     * @return internal storage content as downloadable XML file, or as ZIP archive of XML files
      */
     @GET
     @Path("internalStorage/stream")
-    Response exportInternalStorageContent();
+    Response exportInternalStorageContent(@Min(1) @QueryParam("threads") @DefaultValue("1") int threads);
 }
@@ -37,9 +37,11 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.request.BulkAttrUR;
 import org.apache.syncope.common.lib.request.StatusR;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.BulkAttrResult;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
@@ -194,4 +196,27 @@ public interface UserService extends AnyService<UserTO> {
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     Response status(@NotNull StatusR updateReq);
+
+    /**
+     * Sets, replaces or removes the given plain attribute on all users matching the given search condition.
+     *
+     * @param updateReq bulk attribute update details
+     * @return counts of matching and updated users, keys of users for which some propagation failed and keys of users
+     * left untouched as mandatory conditions would not be met otherwise
+     */
+    @Parameter(name = RESTHeaders.NULL_PRIORITY_ASYNC, in = ParameterIn.HEADER,
+            description = "If 'true', instructs the propagation process not to wait for completion when communicating"
+            + " with External Resources with no priority set",
+            allowEmptyValue = true, schema =
+            @Schema(type = "boolean", defaultValue = "false"))
+    @ApiResponses(
+            @ApiResponse(responseCode = "200",
+                    description = "Matching users successfully updated", content =
+                    @Content(schema =
+                            @Schema(implementation = BulkAttrResult.class))))
+    @PATCH
+    @Path("attrs")
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    BulkAttrResult updateAttrs(@NotNull BulkAttrUR updateReq);
 }
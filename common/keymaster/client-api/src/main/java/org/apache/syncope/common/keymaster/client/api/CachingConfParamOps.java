@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates {@link ConfParamOps} by keeping an in-memory copy of configuration parameters for each domain, loaded
+ * upon first access: reads are then served locally, while writes go through the decorated instance.
+ *
+ * Subclasses are expected to keep the local copies aligned with changes made elsewhere by invoking
+ * {@link #refresh(String)} or {@link #refresh(String, String)}; each refresh reads the current value from the
+ * decorated instance while holding the same lock as writes, so that local copies never go back in time.
+ */
+public class CachingConfParamOps implements ConfParamOps {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    protected final ConfParamOps delegate;
+
+    private final Map<String, Map<String, Object>> cache = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    public CachingConfParamOps(final ConfParamOps delegate) {
+        this.delegate = delegate;
+    }
+
+    private static Map<String, Object> copyOf(final Map<String, Object> params) {
+        Map<String, Object> copy = new ConcurrentHashMap<>();
+        params.forEach((key, value) -> {
+            if (value != null) {
+                copy.put(key, value);
+            }
+        });
+        return copy;
+    }
+
+    private Map<String, Object> cached(final String domain) {
+        Map<String, Object> params = cache.get(domain);
+        if (params == null) {
+            synchronized (lock) {
+                params = cache.computeIfAbsent(domain, k -> copyOf(delegate.list(domain)));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * @return domains for which configuration parameters are currently cached
+     */
+    protected Set<String> getCachedDomains() {
+        return Set.copyOf(cache.keySet());
+    }
+
+    /**
+     * Reloads all configuration parameters for the given domain, if cached.
+     *
+     * @param domain domain
+     */
+    public void refresh(final String domain) {
+        synchronized (lock) {
+            if (cache.containsKey(domain)) {
+                cache.put(domain, copyOf(delegate.list(domain)));
+            }
+        }
+    }
+
+    /**
+     * Reloads the given configuration parameter for the given domain, if cached.
+     *
+     * @param domain domain
+     * @param key configuration parameter key
+     */
+    public void refresh(final String domain, final String key) {
+        synchronized (lock) {
+            Map<String, Object> params = cache.get(domain);
+            if (params != null) {
+                Object value = delegate.get(domain, key, null, Object.class);
+                if (value == null) {
+                    params.remove(key);
+                } else {
+                    params.put(key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the local copy of configuration parameters for the given domain, if any.
+     *
+     * @param domain domain
+     */
+    public void evict(final String domain) {
+        synchronized (lock) {
+            cache.remove(domain);
+        }
+    }
+
+    @Override
+    public Map<String, Object> list(final String domain) {
+        return new TreeMap<>(cached(domain));
+    }
+
+    @Override
+    public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
+        Object value = cached(domain).get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return MAPPER.convertValue(value, reference);
+        } catch (IllegalArgumentException e) {
+            LOG.error("Could not convert {} to {}", value, reference.getName(), e);
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public <T> void set(final String domain, final String key, final T value) {
+        synchronized (lock) {
+            delegate.set(domain, key, value);
+            refresh(domain, key);
+        }
+    }
+
+    @Override
+    public void remove(final String domain, final String key) {
+        synchronized (lock) {
+            delegate.remove(domain, key);
+            Map<String, Object> params = cache.get(domain);
+            if (params != null) {
+                params.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.zookeper;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * Caching {@link ConfParamOps} kept up-to-date by watching configuration parameter nodes via Apache Curator.
+ */
+public class ZookeeperCachingConfParamOps extends CachingConfParamOps implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
+
+    private final CuratorFramework client;
+
+    private TreeCache treeCache;
+
+    public ZookeeperCachingConfParamOps(final CuratorFramework client) {
+        super(new ZookeeperConfParamOps(client));
+        this.client = client;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (client.checkExists().forPath(ZookeeperConfParamOps.CONF_PATH) == null) {
+            client.create().creatingParentContainersIfNeeded().forPath(ZookeeperConfParamOps.CONF_PATH);
+        }
+
+        treeCache = TreeCache.newBuilder(client, ZookeeperConfParamOps.CONF_PATH).
+                setCacheData(false).setMaxDepth(2).build();
+        treeCache.getListenable().addListener((cf, event) -> {
+            switch (event.getType()) {
+                case NODE_ADDED:
+                case NODE_UPDATED:
+                case NODE_REMOVED:
+                    // paths are /conf/{domain}/{key}
+                    String[] parts = StringUtils.split(
+                            StringUtils.removeStart(event.getData().getPath(), ZookeeperConfParamOps.CONF_PATH), '/');
+                    if (parts.length == 2) {
+                        LOG.debug("Configuration parameter {} for domain {} changed", parts[1], parts[0]);
+                        refresh(parts[0], parts[1]);
+                    } else if (parts.length == 1 && event.getType() == TreeCacheEvent.Type.NODE_REMOVED) {
+                        evict(parts[0]);
+                    }
+                    break;
+
+                case CONNECTION_RECONNECTED:
+                    // changes might have been missed while disconnected
+                    getCachedDomains().forEach(this::refresh);
+                    break;
+
+                default:
+                    LOG.debug("Event {} received", event);
+            }
+        });
+        treeCache.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (treeCache != null) {
+            treeCache.close();
+        }
+    }
+}
@@ -28,7 +28,6 @@ import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.zookeeper.KeeperException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * Implements {@link ConfParamOps} via Apache Curator / Zookeeper.
@@ -39,12 +38,15 @@ public class ZookeeperConfParamOps implements ConfParamOps {
 
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
-    private static final String CONF_PATH = "/conf";
+    protected static final String CONF_PATH = "/conf";
 
-    @Autowired
-    private CuratorFramework client;
+    private final CuratorFramework client;
 
-    private String buildConfPath(final String... parts) {
+    public ZookeeperConfParamOps(final CuratorFramework client) {
+        this.client = client;
+    }
+
+    protected static String buildConfPath(final String... parts) {
         return CONF_PATH + "/" + String.join("/", parts);
     }
 
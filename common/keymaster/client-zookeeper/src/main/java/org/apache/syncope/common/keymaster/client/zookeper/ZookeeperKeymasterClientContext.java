@@ -110,8 +110,8 @@ public class ZookeeperKeymasterClientContext {
     @ConditionalOnExpression("#{'${keymaster.address}' "
             + "matches '^((\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})\\.(\\d{1,3})|[a-z\\.]+):[0-9]+$'}")
     @Bean
-    public ConfParamOps selfConfParamOps() {
-        return new ZookeeperConfParamOps();
+    public ConfParamOps selfConfParamOps() throws InterruptedException {
+        return new ZookeeperCachingConfParamOps(curatorFramework());
     }
 
     @ConditionalOnExpression("#{'${keymaster.address}' "
@@ -28,6 +28,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +42,9 @@ public class ZookeeperConfParamOpsITCase {
     @Autowired
     private ConfParamOps confParamOps;
 
+    @Autowired
+    private CuratorFramework client;
+
     @Test
     public void list() {
         Map<String, Object> confParams = confParamOps.list(DOMAIN);
@@ -119,4 +123,28 @@ public class ZookeeperConfParamOpsITCase {
         assertNull(confParamOps.get(DOMAIN, key, null, String.class));
         assertEquals("defaultValue", confParamOps.get(DOMAIN, key, "defaultValue", String.class));
     }
+
+    @Test
+    public void externalChange() throws InterruptedException {
+        String key = UUID.randomUUID().toString();
+        assertNull(confParamOps.get(DOMAIN, key, null, String.class));
+
+        // change without going through the cached instance
+        ConfParamOps uncached = new ZookeeperConfParamOps(client);
+        uncached.set(DOMAIN, key, "externalValue");
+
+        String value = null;
+        for (int i = 0; i < 50 && value == null; i++) {
+            Thread.sleep(100);
+            value = confParamOps.get(DOMAIN, key, null, String.class);
+        }
+        assertEquals("externalValue", value);
+
+        uncached.remove(DOMAIN, key);
+        for (int i = 0; i < 50 && value != null; i++) {
+            Thread.sleep(100);
+            value = confParamOps.get(DOMAIN, key, null, String.class);
+        }
+        assertNull(value);
+    }
 }
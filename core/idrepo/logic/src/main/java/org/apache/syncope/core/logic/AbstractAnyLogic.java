@@ -18,24 +18,43 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyUR;
 import org.apache.syncope.common.lib.request.GroupCR;
 import org.apache.syncope.common.lib.request.UserCR;
+import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -44,9 +63,11 @@ import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.LogicActions;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.ImplementationManager;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,7 +85,7 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
     protected AnyObjectDAO anyObjectDAO;
 
     @Autowired
-    private RealmDAO realmDAO;
+    protected RealmDAO realmDAO;
 
     @Autowired
     private AnyTypeDAO anyTypeDAO;
@@ -249,6 +270,169 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
         return effectiveRealms.stream().anyMatch(new RealmUtils.DynRealmsPredicate());
     }
 
+    private static String getName(final AnyTO anyTO) {
+        return anyTO instanceof UserTO
+                ? ((UserTO) anyTO).getUsername()
+                : anyTO instanceof GroupTO
+                        ? ((GroupTO) anyTO).getName()
+                        : ((AnyObjectTO) anyTO).getName();
+    }
+
+    private static Optional<Attr> getAttr(final AnyTO anyTO, final String schema) {
+        return anyTO.getPlainAttr(schema).
+                or(() -> anyTO.getDerAttr(schema)).
+                or(() -> anyTO.getVirAttr(schema));
+    }
+
+    private static String escapeCSV(final String value) {
+        if (value == null) {
+            return StringUtils.EMPTY;
+        }
+        return StringUtils.containsAny(value, ',', '"', '\r', '\n')
+                ? '"' + value.replace("\"", "\"\"") + '"'
+                : value;
+    }
+
+    private static void writeCSV(final Writer writer, final List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCSV(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static void write(
+            final Writer writer,
+            final AnyTO anyTO,
+            final List<String> attributes,
+            final AnyExportFormat format) throws IOException {
+
+        if (format == AnyExportFormat.CSV) {
+            List<String> values = new ArrayList<>();
+            values.add(anyTO.getKey());
+            values.add(getName(anyTO));
+            values.add(anyTO.getRealm());
+            attributes.forEach(schema -> values.add(getAttr(anyTO, schema).
+                    map(attr -> String.join(";", attr.getValues())).orElse(null)));
+
+            writeCSV(writer, values);
+        } else {
+            if (attributes.isEmpty()) {
+                writer.write(POJOHelper.serialize(anyTO));
+            } else {
+                Map<String, Object> projection = new LinkedHashMap<>();
+                projection.put("key", anyTO.getKey());
+                projection.put("name", getName(anyTO));
+                projection.put("realm", anyTO.getRealm());
+                attributes.forEach(schema -> projection.put(
+                        schema, getAttr(anyTO, schema).map(Attr::getValues).orElse(List.of())));
+
+                writer.write(POJOHelper.serialize(projection));
+            }
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Iterates, via keyset paging, over all any objects matching the given condition and writes them to the given
+     * stream; the persistence context is cleared after each batch, so that memory consumption does not depend on
+     * the number of matching any objects.
+     *
+     * @param <A> any
+     * @param searchDAO search DAO
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCond search condition
+     * @param kind any type kind
+     * @param toTO function converting each matching any object to the TO to export
+     * @param attributes attributes to export, all if empty
+     * @param format export format
+     * @param batchSize number of any objects to fetch at once
+     * @param os output stream
+     */
+    protected <A extends Any<?>> void doExport(
+            final AnySearchDAO searchDAO,
+            final Set<String> adminRealms,
+            final SearchCond searchCond,
+            final AnyTypeKind kind,
+            final Function<A, TO> toTO,
+            final List<String> attributes,
+            final AnyExportFormat format,
+            final int batchSize,
+            final OutputStream os) {
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+
+            if (format == AnyExportFormat.CSV) {
+                List<String> header = new ArrayList<>();
+                header.add("key");
+                header.add(kind == AnyTypeKind.USER ? "username" : "name");
+                header.add("realm");
+                header.addAll(attributes);
+                writeCSV(writer, header);
+            }
+
+            String lastKey = null;
+            List<A> batch;
+            do {
+                batch = searchDAO.searchAfter(adminRealms, searchCond, lastKey, batchSize, kind);
+                for (A any : batch) {
+                    write(writer, toTO.apply(any), attributes, format);
+                }
+                if (!batch.isEmpty()) {
+                    lastKey = batch.get(batch.size() - 1).getKey();
+                }
+
+                writer.flush();
+                searchDAO.clear();
+            } while (batch.size() == batchSize);
+        } catch (IOException e) {
+            LOG.error("While exporting {}", kind, e);
+            throw new IllegalStateException("Could not export " + kind, e);
+        }
+    }
+
+    /**
+     * Fetches, via cursor-based paging, the any objects matching the given condition which follow the given cursor
+     * values.
+     *
+     * @param <A> any
+     * @param searchDAO search DAO
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCond search condition
+     * @param kind any type kind
+     * @param after cursor values of the last any object previously returned, empty to start from the beginning
+     * @param size number of any objects to return
+     * @param orderBy list of ordering clauses
+     * @param toTO function converting each matching any object to the TO to return
+     * @return total number of matching any objects, TOs for the requested page and cursor values for the next
+     * page, null if no more any objects are available
+     */
+    protected <A extends Any<?>> Triple<Integer, List<TO>, List<String>> doSearchAfter(
+            final AnySearchDAO searchDAO,
+            final Set<String> adminRealms,
+            final SearchCond searchCond,
+            final AnyTypeKind kind,
+            final List<String> after,
+            final int size,
+            final List<OrderByClause> orderBy,
+            final Function<A, TO> toTO) {
+
+        int count = searchDAO.count(adminRealms, searchCond, kind);
+
+        // one more than requested, to find out whether a next page is available
+        List<A> matching = searchDAO.searchAfter(adminRealms, searchCond, orderBy, after, size + 1, kind);
+        List<String> next = null;
+        if (matching.size() > size) {
+            matching = matching.subList(0, size);
+            next = searchDAO.cursorValues(matching.get(size - 1), orderBy);
+        }
+
+        return Triple.of(count, matching.stream().map(toTO).collect(Collectors.toList()), next);
+    }
+
     public abstract TO read(String key);
 
     public abstract Pair<Integer, List<TO>> search(
@@ -257,6 +441,20 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             String realm,
             boolean details);
 
+    public abstract Triple<Integer, List<TO>, List<String>> searchAfter(
+            SearchCond searchCond,
+            List<String> after, int size, List<OrderByClause> orderBy,
+            String realm,
+            boolean details);
+
+    public abstract void export(
+            SearchCond searchCond,
+            String realm,
+            List<String> attributes,
+            AnyExportFormat format,
+            int batchSize,
+            OutputStream os);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashSet;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
@@ -35,6 +37,7 @@ import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -100,6 +103,61 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         return Pair.of(count, result);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<AnyObjectTO>, List<String>> searchAfter(
+            final SearchCond searchCond,
+            final List<String> after, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean details) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        return doSearchAfter(
+                searchDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().get(
+                                AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                        realm),
+                searchCond,
+                AnyTypeKind.ANY_OBJECT,
+                after,
+                size,
+                orderBy,
+                (AnyObject anyObject) -> binder.getAnyObjectTO(anyObject, details));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void export(
+            final SearchCond searchCond,
+            final String realm,
+            final List<String> attributes,
+            final AnyExportFormat format,
+            final int batchSize,
+            final OutputStream os) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        doExport(
+                searchDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().get(
+                                AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                        realm),
+                searchCond,
+                AnyTypeKind.ANY_OBJECT,
+                (AnyObject anyObject) -> binder.getAnyObjectTO(anyObject, attributes.isEmpty()),
+                attributes,
+                format,
+                batchSize,
+                os);
+    }
+
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
         Pair<AnyObjectCR, List<LogicActions>> before = beforeCreate(createReq);
 
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Date;
@@ -31,6 +32,7 @@ import javax.annotation.Resource;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -41,6 +43,7 @@ import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ProvisionAction;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -173,6 +176,49 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<GroupTO>, List<String>> searchAfter(
+            final SearchCond searchCond,
+            final List<String> after, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean details) {
+
+        return doSearchAfter(
+                searchDAO,
+                RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm),
+                Optional.ofNullable(searchCond).orElseGet(() -> groupDAO.getAllMatchingCond()),
+                AnyTypeKind.GROUP,
+                after,
+                size,
+                orderBy,
+                (Group group) -> binder.getGroupTO(group, details));
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public void export(
+            final SearchCond searchCond,
+            final String realm,
+            final List<String> attributes,
+            final AnyExportFormat format,
+            final int batchSize,
+            final OutputStream os) {
+
+        doExport(
+                searchDAO,
+                RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm),
+                Optional.ofNullable(searchCond).orElseGet(() -> groupDAO.getAllMatchingCond()),
+                AnyTypeKind.GROUP,
+                (Group group) -> binder.getGroupTO(group, attributes.isEmpty()),
+                attributes,
+                format,
+                batchSize,
+                os);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
     public ProvisioningResult<GroupTO> create(final GroupCR createReq, final boolean nullPriorityAsync) {
         Pair<GroupCR, List<LogicActions>> before = beforeCreate(createReq);
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.lib.info.NumbersInfo;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.VirSchema;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
+import org.apache.syncope.core.persistence.api.entity.policy.Policy;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.persistence.api.entity.user.SecurityQuestion;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the {@link NumbersInfo} last computed for each domain, so that repeated requests do not scan the database
+ * again.
+ * Users, groups and any objects created, updated or deleted mark the related figures as stale, as well as resources,
+ * roles, policies, notifications, pull tasks, virtual schemas, any types and security questions do for configuration
+ * figures: stale figures are computed again, alone, at the first request occurring after
+ * {@code numbers.refreshSeconds} since last computation.
+ * All figures are anyway reconciled with the database after {@code numbers.reconcileSeconds}.
+ */
+@Component
+public class NumbersInfoCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NumbersInfoCache.class);
+
+    private static class DomainNumbers {
+
+        private final Set<AnyTypeKind> stale = ConcurrentHashMap.newKeySet();
+
+        private volatile boolean confStale;
+
+        private NumbersInfo numbersInfo;
+
+        private long refreshed;
+
+        private long reconciled;
+    }
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private PolicyDAO policyDAO;
+
+    @Autowired
+    private NotificationDAO notificationDAO;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private VirSchemaDAO virSchemaDAO;
+
+    @Autowired
+    private RoleDAO roleDAO;
+
+    @Autowired
+    private SecurityQuestionDAO securityQuestionDAO;
+
+    @Value("${numbers.refreshSeconds:5}")
+    private long refreshSeconds;
+
+    @Value("${numbers.reconcileSeconds:300}")
+    private long reconcileSeconds;
+
+    private static final List<Class<? extends Entity>> CONF_REFERENCES = List.of(
+            ExternalResource.class, Role.class, Policy.class, Notification.class, PullTask.class,
+            VirSchema.class, AnyType.class, SecurityQuestion.class);
+
+    private final Map<String, DomainNumbers> domains = new ConcurrentHashMap<>();
+
+    private DomainNumbers domainNumbers(final String domain) {
+        return domains.computeIfAbsent(domain, k -> new DomainNumbers());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyCreatedUpdatedEvent<Any<?>> event) {
+        domainNumbers(event.getDomain()).stale.add(event.getAnyTypeKind());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyDeletedEvent event) {
+        domainNumbers(event.getDomain()).stale.add(event.getAnyTypeKind());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final EntityChangedEvent event) {
+        if (CONF_REFERENCES.stream().anyMatch(reference -> reference.isAssignableFrom(event.getReference()))) {
+            domainNumbers(event.getDomain()).confStale = true;
+        }
+    }
+
+    /**
+     * Returns the figures for the given domain, computing again those found stale.
+     * Requires to be invoked within a transaction for the given domain.
+     *
+     * @param domain domain
+     * @return figures for the given domain
+     */
+    public NumbersInfo get(final String domain) {
+        DomainNumbers domainNumbers = domainNumbers(domain);
+        synchronized (domainNumbers) {
+            long now = System.currentTimeMillis();
+            boolean reconcile = domainNumbers.numbersInfo == null
+                    || now - domainNumbers.reconciled >= reconcileSeconds * 1000;
+            boolean refresh = (!domainNumbers.stale.isEmpty() || domainNumbers.confStale)
+                    && now - domainNumbers.refreshed >= refreshSeconds * 1000;
+
+            if (reconcile || refresh) {
+                Set<AnyTypeKind> stale = EnumSet.noneOf(AnyTypeKind.class);
+                boolean confStale = reconcile || domainNumbers.confStale;
+                domainNumbers.confStale = false;
+                if (reconcile) {
+                    stale.addAll(EnumSet.allOf(AnyTypeKind.class));
+                    domainNumbers.stale.clear();
+                } else {
+                    for (Iterator<AnyTypeKind> itor = domainNumbers.stale.iterator(); itor.hasNext();) {
+                        stale.add(itor.next());
+                        itor.remove();
+                    }
+                }
+                LOG.debug("Computing {} figures for domain {}, configuration: {}", stale, domain, confStale);
+
+                NumbersInfo numbersInfo = new NumbersInfo();
+                if (stale.contains(AnyTypeKind.USER)) {
+                    users(numbersInfo);
+                } else {
+                    copyUsers(domainNumbers.numbersInfo, numbersInfo);
+                }
+                if (stale.contains(AnyTypeKind.GROUP)) {
+                    groups(numbersInfo);
+                } else {
+                    copyGroups(domainNumbers.numbersInfo, numbersInfo);
+                }
+                if (stale.contains(AnyTypeKind.ANY_OBJECT)) {
+                    anyObjects(numbersInfo);
+                } else {
+                    copyAnyObjects(domainNumbers.numbersInfo, numbersInfo);
+                }
+                if (confStale) {
+                    conf(numbersInfo);
+                } else {
+                    copyConf(domainNumbers.numbersInfo, numbersInfo);
+                }
+                numbersInfo.getConfCompleteness().put(
+                        NumbersInfo.ConfItem.ANY_TYPE.name(), numbersInfo.getAnyType1() != null);
+
+                domainNumbers.numbersInfo = numbersInfo;
+                domainNumbers.refreshed = now;
+                if (reconcile) {
+                    domainNumbers.reconciled = now;
+                }
+            }
+
+            return domainNumbers.numbersInfo;
+        }
+    }
+
+    private void users(final NumbersInfo numbersInfo) {
+        numbersInfo.setTotalUsers(userDAO.count());
+        numbersInfo.getUsersByRealm().putAll(userDAO.countByRealm());
+        numbersInfo.getUsersByStatus().putAll(userDAO.countByStatus());
+    }
+
+    private static void copyUsers(final NumbersInfo source, final NumbersInfo target) {
+        target.setTotalUsers(source.getTotalUsers());
+        target.getUsersByRealm().putAll(source.getUsersByRealm());
+        target.getUsersByStatus().putAll(source.getUsersByStatus());
+    }
+
+    private void groups(final NumbersInfo numbersInfo) {
+        numbersInfo.setTotalGroups(groupDAO.count());
+        numbersInfo.getGroupsByRealm().putAll(groupDAO.countByRealm());
+    }
+
+    private static void copyGroups(final NumbersInfo source, final NumbersInfo target) {
+        target.setTotalGroups(source.getTotalGroups());
+        target.getGroupsByRealm().putAll(source.getGroupsByRealm());
+    }
+
+    private void anyObjects(final NumbersInfo numbersInfo) {
+        Map<AnyType, Integer> anyObjectNumbers = anyObjectDAO.countByType();
+        int i = 0;
+        for (Iterator<Map.Entry<AnyType, Integer>> itor = anyObjectNumbers.entrySet().iterator();
+                i < 2 && itor.hasNext(); i++) {
+
+            Map.Entry<AnyType, Integer> entry = itor.next();
+            if (i == 0) {
+                numbersInfo.setAnyType1(entry.getKey().getKey());
+                numbersInfo.setTotalAny1(entry.getValue());
+                numbersInfo.getAny1ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
+            } else if (i == 1) {
+                numbersInfo.setAnyType2(entry.getKey().getKey());
+                numbersInfo.setTotalAny2(entry.getValue());
+                numbersInfo.getAny2ByRealm().putAll(anyObjectDAO.countByRealm(entry.getKey()));
+            }
+        }
+    }
+
+    private static void copyAnyObjects(final NumbersInfo source, final NumbersInfo target) {
+        target.setAnyType1(source.getAnyType1());
+        target.setTotalAny1(source.getTotalAny1());
+        target.getAny1ByRealm().putAll(source.getAny1ByRealm());
+        target.setAnyType2(source.getAnyType2());
+        target.setTotalAny2(source.getTotalAny2());
+        target.getAny2ByRealm().putAll(source.getAny2ByRealm());
+    }
+
+    private void conf(final NumbersInfo numbersInfo) {
+        numbersInfo.setTotalResources(resourceDAO.count());
+
+        numbersInfo.setTotalRoles(roleDAO.count());
+
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.RESOURCE.name(), numbersInfo.getTotalResources() > 0);
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.ACCOUNT_POLICY.name(), !policyDAO.find(AccountPolicy.class).isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.PASSWORD_POLICY.name(), !policyDAO.find(PasswordPolicy.class).isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.NOTIFICATION.name(), !notificationDAO.findAll().isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.PULL_TASK.name(), !taskDAO.findAll(TaskType.PULL).isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.VIR_SCHEMA.name(), !virSchemaDAO.findAll().isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.SECURITY_QUESTION.name(), !securityQuestionDAO.findAll().isEmpty());
+        numbersInfo.getConfCompleteness().put(
+                NumbersInfo.ConfItem.ROLE.name(), numbersInfo.getTotalRoles() > 0);
+    }
+
+    private static void copyConf(final NumbersInfo source, final NumbersInfo target) {
+        target.setTotalResources(source.getTotalResources());
+        target.setTotalRoles(source.getTotalRoles());
+        target.getConfCompleteness().putAll(source.getConfCompleteness());
+    }
+}
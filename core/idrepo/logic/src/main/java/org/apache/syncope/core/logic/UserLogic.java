@@ -18,30 +18,39 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.request.AttrPatch;
 import org.apache.syncope.common.lib.request.BooleanReplacePatchItem;
 import org.apache.syncope.common.lib.request.PasswordPatch;
 import org.apache.syncope.common.lib.request.StatusR;
 import org.apache.syncope.common.lib.request.StringPatchItem;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.BulkAttrResult;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
@@ -51,13 +60,17 @@ import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.BulkAttrHandler;
 import org.apache.syncope.core.provisioning.api.LogicActions;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -87,6 +100,15 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
     @Autowired
     protected SyncopeLogic syncopeLogic;
 
+    @Autowired
+    protected BulkAttrHandler bulkAttrHandler;
+
+    @Autowired
+    protected PropagationTaskExecutor taskExecutor;
+
+    @Value("${bulkAttr.batchSize:100}")
+    protected int bulkAttrBatchSize;
+
     @PreAuthorize("isAuthenticated() and not(hasRole('" + IdRepoEntitlement.MUST_CHANGE_PASSWORD + "'))")
     @Transactional(readOnly = true)
     public Pair<String, UserTO> selfRead() {
@@ -126,6 +148,51 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Triple<Integer, List<UserTO>, List<String>> searchAfter(
+            final SearchCond searchCond,
+            final List<String> after, final int size, final List<OrderByClause> orderBy,
+            final String realm,
+            final boolean details) {
+
+        return doSearchAfter(
+                searchDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm),
+                Optional.ofNullable(searchCond).orElseGet(() -> userDAO.getAllMatchingCond()),
+                AnyTypeKind.USER,
+                after,
+                size,
+                orderBy,
+                (User user) -> binder.returnUserTO(binder.getUserTO(user, details)));
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public void export(
+            final SearchCond searchCond,
+            final String realm,
+            final List<String> attributes,
+            final AnyExportFormat format,
+            final int batchSize,
+            final OutputStream os) {
+
+        doExport(
+                searchDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm),
+                Optional.ofNullable(searchCond).orElseGet(() -> userDAO.getAllMatchingCond()),
+                AnyTypeKind.USER,
+                (User user) -> binder.returnUserTO(binder.getUserTO(user, attributes.isEmpty())),
+                attributes,
+                format,
+                batchSize,
+                os);
+    }
+
     @PreAuthorize("isAnonymous() or hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public ProvisioningResult<UserTO> selfCreate(final UserCR createReq, final boolean nullPriorityAsync) {
         return doCreate(createReq, true, nullPriorityAsync);
@@ -498,13 +565,82 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         return result;
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_UPDATE + "')")
+    public BulkAttrResult updateAttrs(
+            final SearchCond searchCond,
+            final String realm,
+            final AttrPatch attrPatch,
+            final boolean nullPriorityAsync) {
+
+        Set<String> effectiveRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_UPDATE), realm);
+        SearchCond effectiveCond = Optional.ofNullable(searchCond).orElseGet(() -> userDAO.getAllMatchingCond());
+
+        // logic actions would be bypassed: reject if any is configured where matching users might be found
+        Set<String> basePaths = effectiveRealms.stream().allMatch(path -> path.startsWith(SyncopeConstants.ROOT_REALM))
+                ? effectiveRealms
+                : Set.of(SyncopeConstants.ROOT_REALM);
+        basePaths.stream().map(realmDAO::findByFullPath).filter(Objects::nonNull).
+                flatMap(base -> realmDAO.findDescendants(base).stream()).
+                filter(descendant -> !descendant.getActions().isEmpty()).
+                findFirst().ifPresent(withActions -> {
+                    SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidRequest);
+                    sce.getElements().add("Logic actions configured on realm " + withActions.getFullPath());
+                    throw sce;
+                });
+
+        BulkAttrResult result = new BulkAttrResult();
+
+        String lastKey = null;
+        List<User> batch;
+        do {
+            batch = searchDAO.searchAfter(effectiveRealms, effectiveCond, lastKey, bulkAttrBatchSize, AnyTypeKind.USER);
+            if (!batch.isEmpty()) {
+                List<String> keys = batch.stream().map(User::getKey).collect(Collectors.toList());
+                lastKey = keys.get(keys.size() - 1);
+                result.setMatching(result.getMatching() + keys.size());
+
+                // users for which mandatory conditions would not be met are excluded, then the batch is retried
+                Map<String, List<PropagationTaskInfo>> tasks = null;
+                while (tasks == null) {
+                    try {
+                        tasks = bulkAttrHandler.update(keys, attrPatch);
+                    } catch (SyncopeClientException e) {
+                        if (e.getType() != ClientExceptionType.RequiredValuesMissing) {
+                            throw e;
+                        }
+                        result.getRequiredValuesMissing().addAll(e.getElements());
+                        keys.removeAll(e.getElements());
+                    }
+                }
+                result.setUpdated(result.getUpdated() + tasks.size());
+
+                // propagate only once the batch is committed
+                tasks.forEach((key, taskInfos) -> {
+                    List<PropagationStatus> statuses = taskExecutor.execute(taskInfos, nullPriorityAsync).getStatuses();
+                    if (statuses.stream().anyMatch(status -> status.getStatus() == ExecStatus.FAILURE
+                            || status.getStatus() == ExecStatus.NOT_ATTEMPTED)) {
+
+                        result.getPropagationFailures().add(key);
+                    }
+                });
+            }
+
+            searchDAO.clear();
+        } while (batch.size() == bulkAttrBatchSize);
+
+        return result;
+    }
+
     @Override
     protected UserTO resolveReference(final Method method, final Object... args) throws UnresolvedReferenceException {
         String key = null;
 
         if ("requestPasswordReset".equals(method.getName())) {
             key = userDAO.findKey((String) args[0]);
-        } else if (!"confirmPasswordReset".equals(method.getName()) && ArrayUtils.isNotEmpty(args)) {
+        } else if (!"confirmPasswordReset".equals(method.getName()) && !"updateAttrs".equals(method.getName())
+                && ArrayUtils.isNotEmpty(args)) {
+
             for (int i = 0; key == null && i < args.length; i++) {
                 if (args[i] instanceof String) {
                     key = (String) args[i];
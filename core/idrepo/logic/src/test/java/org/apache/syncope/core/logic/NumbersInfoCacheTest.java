@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class NumbersInfoCacheTest {
+
+    private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<>();
+
+    private NumbersInfoCache cache;
+
+    /**
+     * Builds a DAO returning empty results and counting the invocations of each method.
+     */
+    private <T> T dao(final Class<T> reference) {
+        return reference.cast(Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { reference },
+                (proxy, method, args) -> {
+                    invocations.computeIfAbsent(
+                            reference.getSimpleName() + '.' + method.getName(), k -> new AtomicInteger()).
+                            incrementAndGet();
+
+                    if (int.class.equals(method.getReturnType())) {
+                        return 0;
+                    }
+                    if (Map.class.isAssignableFrom(method.getReturnType())) {
+                        return Map.of();
+                    }
+                    if (List.class.isAssignableFrom(method.getReturnType())) {
+                        return List.of();
+                    }
+                    return null;
+                }));
+    }
+
+    private int invocations(final String method) {
+        return invocations.getOrDefault(method, new AtomicInteger()).get();
+    }
+
+    @BeforeEach
+    public void before() {
+        invocations.clear();
+
+        cache = new NumbersInfoCache();
+        ReflectionTestUtils.setField(cache, "userDAO", dao(UserDAO.class));
+        ReflectionTestUtils.setField(cache, "groupDAO", dao(GroupDAO.class));
+        ReflectionTestUtils.setField(cache, "anyObjectDAO", dao(AnyObjectDAO.class));
+        ReflectionTestUtils.setField(cache, "resourceDAO", dao(ExternalResourceDAO.class));
+        ReflectionTestUtils.setField(cache, "policyDAO", dao(PolicyDAO.class));
+        ReflectionTestUtils.setField(cache, "notificationDAO", dao(NotificationDAO.class));
+        ReflectionTestUtils.setField(cache, "taskDAO", dao(TaskDAO.class));
+        ReflectionTestUtils.setField(cache, "virSchemaDAO", dao(VirSchemaDAO.class));
+        ReflectionTestUtils.setField(cache, "roleDAO", dao(RoleDAO.class));
+        ReflectionTestUtils.setField(cache, "securityQuestionDAO", dao(SecurityQuestionDAO.class));
+        ReflectionTestUtils.setField(cache, "refreshSeconds", 0L);
+        ReflectionTestUtils.setField(cache, "reconcileSeconds", 300L);
+    }
+
+    @Test
+    public void cached() {
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(1, invocations("UserDAO.count"));
+        assertEquals(1, invocations("ExternalResourceDAO.count"));
+
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(1, invocations("UserDAO.count"));
+        assertEquals(1, invocations("GroupDAO.count"));
+        assertEquals(1, invocations("ExternalResourceDAO.count"));
+    }
+
+    @Test
+    public void anyChanged() {
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+
+        cache.after(new AnyDeletedEvent(this, AnyTypeKind.USER, "key", "name", SyncopeConstants.MASTER_DOMAIN));
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(2, invocations("UserDAO.count"));
+        assertEquals(1, invocations("GroupDAO.count"));
+        assertEquals(1, invocations("ExternalResourceDAO.count"));
+        assertEquals(1, invocations("RoleDAO.count"));
+    }
+
+    @Test
+    public void confChanged() {
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+
+        cache.after(new EntityChangedEvent(this, ExternalResource.class, "key", SyncopeConstants.MASTER_DOMAIN));
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(1, invocations("UserDAO.count"));
+        assertEquals(2, invocations("ExternalResourceDAO.count"));
+        assertEquals(2, invocations("RoleDAO.count"));
+
+        // propagation tasks do not affect configuration figures
+        cache.after(new EntityChangedEvent(this, PropagationTask.class, "key", SyncopeConstants.MASTER_DOMAIN));
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(2, invocations("ExternalResourceDAO.count"));
+    }
+
+    @Test
+    public void otherDomain() {
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+
+        cache.after(new EntityChangedEvent(this, ExternalResource.class, "key", "Two"));
+        cache.get(SyncopeConstants.MASTER_DOMAIN);
+        assertEquals(1, invocations("ExternalResourceDAO.count"));
+    }
+}
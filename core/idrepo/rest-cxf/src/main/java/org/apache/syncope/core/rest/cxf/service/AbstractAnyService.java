@@ -18,15 +18,24 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriBuilder;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyUR;
@@ -38,6 +47,8 @@ import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceAssociationAction;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
@@ -46,6 +57,7 @@ import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.batch.BatchPayloadGenerator;
 import org.apache.syncope.common.rest.api.batch.BatchResponseItem;
+import org.apache.syncope.common.rest.api.beans.AnyExportQuery;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.AnyService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
@@ -129,6 +141,22 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
 
+        if (anyQuery.getCursor() != null) {
+            Triple<Integer, List<TO>, List<String>> result = getAnyLogic().searchAfter(
+                    searchCond,
+                    decodeCursor(anyQuery.getCursor()),
+                    anyQuery.getSize(),
+                    getOrderByClauses(anyQuery.getOrderBy()),
+                    isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
+                    anyQuery.getDetails());
+
+            return buildCursorPagedResult(
+                    result.getMiddle(),
+                    anyQuery.getSize(),
+                    result.getLeft(),
+                    Optional.ofNullable(result.getRight()).map(AbstractAnyService::encodeCursor).orElse(null));
+        }
+
         Pair<Integer, List<TO>> result = getAnyLogic().search(
                 searchCond,
                 anyQuery.getPage(),
@@ -140,6 +168,75 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
     }
 
+    protected static String encodeCursor(final List<String> values) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.join("\u0000", values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static List<String> decodeCursor(final String cursor) {
+        if (AnyQuery.FIRST_CURSOR.equals(cursor)) {
+            return List.of();
+        }
+
+        try {
+            return Arrays.asList(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).
+                    split("\u0000", -1));
+        } catch (IllegalArgumentException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+            sce.getElements().add("Invalid cursor: " + cursor);
+            throw sce;
+        }
+    }
+
+    protected PagedResult<TO> buildCursorPagedResult(
+            final List<TO> list, final int size, final int totalCount, final String cursor) {
+
+        PagedResult<TO> result = new PagedResult<>();
+        result.getResult().addAll(list);
+
+        result.setSize(result.getResult().size());
+        result.setTotalCount(totalCount);
+        result.setCursor(cursor);
+
+        if (cursor != null) {
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+            queryParams.forEach((key, value) -> builder.queryParam(key, value.toArray()));
+
+            result.setNext(builder.
+                    replaceQueryParam(PARAM_CURSOR, cursor).
+                    replaceQueryParam(PARAM_SIZE, size).
+                    build());
+        }
+
+        return result;
+    }
+
+    @Override
+    public Response export(final AnyExportQuery exportQuery) {
+        String realm = StringUtils.prependIfMissing(exportQuery.getRealm(), SyncopeConstants.ROOT_REALM);
+
+        SearchCond searchCond = StringUtils.isBlank(exportQuery.getFiql())
+                ? null
+                : getSearchCond(exportQuery.getFiql(), realm);
+
+        StreamingOutput sout = (os) -> getAnyLogic().export(
+                searchCond,
+                realm,
+                exportQuery.getAttributes(),
+                exportQuery.getFormat(),
+                exportQuery.getBatchSize(),
+                os);
+
+        return Response.ok(sout).
+                type(exportQuery.getFormat() == AnyExportFormat.CSV
+                        ? RESTHeaders.TEXT_CSV
+                        : RESTHeaders.APPLICATION_NDJSON).
+                header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=export." + exportQuery.getFormat().name().toLowerCase()).
+                build();
+    }
+
     protected Date findLastChange(final String key) {
         Date lastChange = getAnyDAO().findLastChange(key);
         if (lastChange == null) {
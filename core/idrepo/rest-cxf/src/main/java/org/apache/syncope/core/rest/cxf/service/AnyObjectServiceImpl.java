@@ -28,6 +28,7 @@ import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.rest.api.beans.AnyExportQuery;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.AnyObjectService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
@@ -73,16 +74,25 @@ public class AnyObjectServiceImpl extends AbstractAnyService<AnyObjectTO, AnyObj
         return doUpdate(updateReq);
     }
 
-    @Override
-    public PagedResult<AnyObjectTO> search(final AnyQuery anyQuery) {
-        if (StringUtils.isBlank(anyQuery.getFiql())
-                || -1 == anyQuery.getFiql().indexOf(SpecialAttr.TYPE.toString())) {
-
+    private static void checkType(final String fiql) {
+        if (StringUtils.isBlank(fiql) || -1 == fiql.indexOf(SpecialAttr.TYPE.toString())) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
             sce.getElements().add(SpecialAttr.TYPE.toString() + " is required in the FIQL string");
             throw sce;
         }
+    }
+
+    @Override
+    public PagedResult<AnyObjectTO> search(final AnyQuery anyQuery) {
+        checkType(anyQuery.getFiql());
 
         return super.search(anyQuery);
     }
+
+    @Override
+    public Response export(final AnyExportQuery exportQuery) {
+        checkType(exportQuery.getFiql());
+
+        return super.export(exportQuery);
+    }
 }
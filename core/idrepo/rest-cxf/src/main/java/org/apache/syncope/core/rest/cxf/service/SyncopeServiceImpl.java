@@ -66,6 +66,8 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
 
     private static final String CONTENT_XML = "Content.xml";
 
+    private static final String CONTENT_ZIP = "Content.zip";
+
     @Resource(name = "batchExecutor")
     private ThreadPoolTaskExecutor batchExecutor;
 
@@ -203,13 +205,16 @@ public class SyncopeServiceImpl extends AbstractServiceImpl implements SyncopeSe
     }
 
     @Override
-    public Response exportInternalStorageContent() {
-        StreamingOutput sout = (os) -> logic.exportInternalStorageContent(os);
+    public Response exportInternalStorageContent(final int threads) {
+        // the exporter may cap the requested threads: format and headers follow the number actually used
+        int effectiveThreads = logic.getEffectiveExportThreads(threads);
+        StreamingOutput sout = (os) -> logic.exportInternalStorageContent(effectiveThreads, os);
 
         return Response.ok(sout).
-                type(MediaType.TEXT_XML).
+                type(effectiveThreads > 1 ? "application/zip" : MediaType.TEXT_XML).
                 header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=" + AuthContextUtils.getDomain() + CONTENT_XML).
+                        "attachment; filename=" + AuthContextUtils.getDomain()
+                        + (effectiveThreads > 1 ? CONTENT_ZIP : CONTENT_XML)).
                 build();
     }
 }
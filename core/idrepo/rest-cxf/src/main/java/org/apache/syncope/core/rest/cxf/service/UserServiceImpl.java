@@ -20,9 +20,13 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import java.util.Date;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.request.BulkAttrUR;
 import org.apache.syncope.common.lib.request.StatusR;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.BulkAttrResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.rest.api.service.UserService;
@@ -30,6 +34,7 @@ import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.logic.UserLogic;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -76,4 +81,14 @@ public class UserServiceImpl extends AbstractAnyService<UserTO, UserCR, UserUR>
         ProvisioningResult<UserTO> updated = logic.status(statusR, isNullPriorityAsync());
         return modificationResponse(updated);
     }
+
+    @Override
+    public BulkAttrResult updateAttrs(final BulkAttrUR updateReq) {
+        String realm = StringUtils.prependIfMissing(updateReq.getRealm(), SyncopeConstants.ROOT_REALM);
+        SearchCond searchCond = StringUtils.isBlank(updateReq.getFiql())
+                ? null
+                : getSearchCond(updateReq.getFiql(), realm);
+
+        return logic.updateAttrs(searchCond, realm, updateReq.getAttrPatch(), isNullPriorityAsync());
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.content;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import javax.xml.transform.TransformerConfigurationException;
 import org.xml.sax.SAXException;
@@ -25,11 +26,51 @@ import org.xml.sax.SAXException;
 @FunctionalInterface
 public interface ContentExporter extends ContentDealer {
 
+    /**
+     * Exports the internal storage content of the given domain.
+     *
+     * @param domain domain
+     * @param threads when greater than 1, tables are exported in parallel as separate XML documents into a ZIP
+     * archive - which cannot be loaded as content, hence export only; otherwise a single XML document is written;
+     * capped as per {@link #getEffectiveThreads(String, int)}
+     * @param output output stream
+     * @param uwfPrefix prefix of user workflow tables to be excluded, if any
+     * @param gwfPrefix prefix of group workflow tables to be excluded, if any
+     * @param awfPrefix prefix of any object workflow tables to be excluded, if any
+     * @throws SAXException if XML could not be written
+     * @throws TransformerConfigurationException if XML could not be written
+     * @throws IOException if output could not be written
+     */
     void export(
             String domain,
+            int threads,
             OutputStream output,
             String uwfPrefix,
             String gwfPrefix,
             String awfPrefix)
-            throws SAXException, TransformerConfigurationException;
+            throws SAXException, TransformerConfigurationException, IOException;
+
+    /**
+     * Returns the number of threads that {@link #export(String, int, OutputStream, String, String, String)} will
+     * actually use for the given domain when the given number is requested, hence whether a ZIP archive or a single
+     * XML document will be written.
+     *
+     * @param domain domain
+     * @param threads requested number of threads
+     * @return number of threads to export with
+     */
+    default int getEffectiveThreads(String domain, int threads) {
+        return Math.max(1, threads);
+    }
+
+    default void export(
+            String domain,
+            OutputStream output,
+            String uwfPrefix,
+            String gwfPrefix,
+            String awfPrefix)
+            throws SAXException, TransformerConfigurationException, IOException {
+
+        export(domain, 1, output, uwfPrefix, gwfPrefix, awfPrefix);
+    }
 }
@@ -18,7 +18,10 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 
@@ -28,6 +31,14 @@ public interface AccessTokenDAO extends DAO<AccessToken> {
 
     AccessToken findByOwner(String username);
 
+    /**
+     * Returns the expiry time of the access tokens, among the given ones, which still exist.
+     *
+     * @param keys access token keys
+     * @return expiry time of the existing access tokens, by key
+     */
+    Map<String, Date> findExpiryTimes(Collection<String> keys);
+
     int count();
 
     List<AccessToken> findAll(int page, int itemsPerPage, List<OrderByClause> orderByClauses);
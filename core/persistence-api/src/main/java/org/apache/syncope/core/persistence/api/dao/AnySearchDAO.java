@@ -65,4 +65,55 @@ public interface AnySearchDAO extends DAO<Any<?>> {
     <T extends Any<?>> List<T> search(
             Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
             List<OrderByClause> orderBy, AnyTypeKind kind);
+
+    /**
+     * Keyset-based paging: differently from offset-based paging, cost does not depend on how deep the requested
+     * page is, and results are not affected by entities being added or removed in already visited pages.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param lastKey key of the last any object returned by previous invocation, null to start from the beginning
+     * @param itemsPerPage number of results per page
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition and whose key follows the given one,
+     * sorted by key
+     */
+    <T extends Any<?>> List<T> searchAfter(
+            Set<String> adminRealms, SearchCond searchCondition, String lastKey, int itemsPerPage, AnyTypeKind kind);
+
+    /**
+     * Cursor-based paging: results are sorted by the given ordering clauses followed by key, and start right after
+     * the any object whose values for such fields are given; differently from offset-based paging, cost does not
+     * depend on how deep the requested page is, and results are not affected by entities being added or removed in
+     * already visited pages.
+     * Ordering is only allowed by fields which cannot be null, e.g. {@code key}, {@code username} or {@code name}.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param orderBy list of ordering clauses, to be followed by key
+     * @param after values for ordering fields, then key, of the last any object returned by previous invocation,
+     * empty to start from the beginning
+     * @param itemsPerPage number of results per page
+     * @param kind any object
+     * @param <T> any
+     * @return the list of any objects matching the given search condition and following the given values
+     */
+    <T extends Any<?>> List<T> searchAfter(
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            List<OrderByClause> orderBy,
+            List<String> after,
+            int itemsPerPage,
+            AnyTypeKind kind);
+
+    /**
+     * Returns the values of the given ordering fields, followed by key, for the given any object, as expected by
+     * {@link #searchAfter(Set, SearchCond, List, List, int, AnyTypeKind)}.
+     *
+     * @param any any object
+     * @param orderBy list of ordering clauses
+     * @return values of the given ordering fields, followed by key
+     */
+    List<String> cursorValues(Any<?> any, List<OrderByClause> orderBy);
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
@@ -38,6 +39,8 @@ public interface DynRealmDAO extends DAO<DynRealm> {
 
     void refreshDynMemberships(Any<?> any);
 
+    void refreshDynMemberships(Collection<? extends Any<?>> anys);
+
     void removeDynMemberships(String anyKey);
 
 }
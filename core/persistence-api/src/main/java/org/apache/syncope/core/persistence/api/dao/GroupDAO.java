@@ -90,6 +90,15 @@ public interface GroupDAO extends AnyDAO<Group> {
      */
     Pair<Set<String>, Set<String>> refreshDynMemberships(User user);
 
+    /**
+     * Evaluates all the dynamic group membership conditions against the given users at once (invoked during bulk
+     * save): current memberships are read with a single query.
+     *
+     * @param users users being saved
+     * @return pair of groups dynamically assigned before and after refresh, by user key
+     */
+    Map<String, Pair<Set<String>, Set<String>>> refreshDynMemberships(Collection<User> users);
+
     /**
      * Removes the dynamic group memberships of the given anyObject (invoked during delete).
      *
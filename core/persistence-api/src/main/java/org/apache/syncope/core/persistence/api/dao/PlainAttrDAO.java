@@ -18,7 +18,11 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public interface PlainAttrDAO extends DAO<PlainAttr<?>> {
 
@@ -29,4 +33,32 @@ public interface PlainAttrDAO extends DAO<PlainAttr<?>> {
      * @param attr plain attribute
      */
     <T extends PlainAttr<?>> void delete(T attr);
+
+    /**
+     * Sets, via a single statement, the given value for the attributes of the given single-valued, non-unique plain
+     * schema owned by the given any objects, not related to any membership; any objects not owning such attribute
+     * are left unchanged.
+     * Entities already loaded in the persistence context are not refreshed; lookup values of indexed plain schemas
+     * are not updated.
+     *
+     * @param anyTypeKind any type kind
+     * @param schema single-valued, non-unique plain schema
+     * @param value value to set
+     * @param anyKeys any object keys
+     * @return number of values set, or {@code -1} if not supported by the underlying storage
+     */
+    int replaceValues(AnyTypeKind anyTypeKind, PlainSchema schema, PlainAttrValue value, Collection<String> anyKeys);
+
+    /**
+     * Deletes, via set-based statements, the attributes of the given plain schema owned by the given any objects,
+     * not related to any membership.
+     * Entities already loaded in the persistence context are not refreshed; lookup values of indexed plain schemas
+     * are not updated.
+     *
+     * @param anyTypeKind any type kind
+     * @param schema plain schema
+     * @param anyKeys any object keys
+     * @return number of attributes deleted, or {@code -1} if not supported by the underlying storage
+     */
+    int deleteAttrs(AnyTypeKind anyTypeKind, PlainSchema schema, Collection<String> anyKeys);
 }
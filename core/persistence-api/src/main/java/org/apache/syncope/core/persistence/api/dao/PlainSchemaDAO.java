@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -28,4 +29,19 @@ public interface PlainSchemaDAO extends SchemaDAO<PlainSchema> {
     <T extends PlainAttr<?>> List<T> findAttrs(PlainSchema schema, Class<T> reference);
 
     List<PlainSchema> findByValidator(Implementation validator);
+
+    /**
+     * Aligns the lookup values of the plain schemas flagged as indexed with the current attributes of the given
+     * any object; nothing is done if no plain schema is flagged as indexed.
+     *
+     * @param any any object just saved
+     */
+    void indexAttrs(Any<?> any);
+
+    /**
+     * Removes the lookup values of the given any object, about to be deleted.
+     *
+     * @param any any object
+     */
+    void unindexAttrs(Any<?> any);
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
 import org.apache.syncope.core.persistence.api.entity.Privilege;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -50,6 +51,8 @@ public interface RoleDAO extends DAO<Role> {
 
     void refreshDynMemberships(User user);
 
+    void refreshDynMemberships(Collection<User> users);
+
     void removeDynMemberships(String key);
 
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.Date;
 import java.util.List;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
@@ -32,6 +33,8 @@ public interface TaskExecDAO extends DAO<TaskExec> {
 
     <T extends Task> TaskExec findLatestStarted(T task);
 
+    <T extends Task> TaskExec findLatestStarted(T task, String status);
+
     <T extends Task> TaskExec findLatestEnded(T task);
 
     int count(String taskKey);
@@ -41,6 +44,38 @@ public interface TaskExecDAO extends DAO<TaskExec> {
     <T extends Task> List<TaskExec> findAll(
             T task, Date startedBefore, Date startedAfter, Date endedBefore, Date endedAfter);
 
+    /**
+     * Counts executions of tasks with given type, ended before the given date.
+     *
+     * @param type task type
+     * @param status execution status, or null to match any status
+     * @param endedBefore only executions ended before this date are counted
+     * @return number of executions of tasks with given type, ended before the given date
+     */
+    int countEndedBefore(TaskType type, String status, Date endedBefore);
+
+    /**
+     * Finds the keys of executions of tasks with given type, ended before the given date, oldest first.
+     *
+     * @param type task type
+     * @param status execution status, or null to match any status
+     * @param endedBefore only executions ended before this date are returned
+     * @param max maximum number of keys returned
+     * @return keys of executions of tasks with given type, ended before the given date
+     */
+    List<String> findKeysEndedBefore(TaskType type, String status, Date endedBefore, int max);
+
+    /**
+     * Finds executions of tasks with given type, ended before the given date, oldest first.
+     *
+     * @param type task type
+     * @param status execution status, or null to match any status
+     * @param endedBefore only executions ended before this date are returned
+     * @param max maximum number of executions returned
+     * @return executions of tasks with given type, ended before the given date
+     */
+    List<TaskExec> findEndedBefore(TaskType type, String status, Date endedBefore, int max);
+
     TaskExec save(TaskExec execution);
 
     void saveAndAdd(String taskKey, TaskExec execution);
@@ -48,4 +83,13 @@ public interface TaskExecDAO extends DAO<TaskExec> {
     void delete(String key);
 
     void delete(TaskExec execution);
+
+    /**
+     * Deletes the executions with given keys, in a dedicated transaction; propagation tasks left without any
+     * execution are deleted as well.
+     *
+     * @param keys execution keys
+     * @return number of deleted executions
+     */
+    int purge(List<String> keys);
 }
@@ -61,4 +61,12 @@ public interface UserDAO extends AnyDAO<User> {
     Pair<Boolean, Boolean> enforcePolicies(User user);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(User user);
+
+    /**
+     * Saves the given users, then refreshes their dynamic memberships at once.
+     *
+     * @param users users to save
+     * @return pair of groups dynamically assigned before and after refresh, by user key
+     */
+    Map<String, Pair<Set<String>, Set<String>>> saveAndGetDynGroupMembs(Collection<User> users);
 }
@@ -61,4 +61,7 @@ public interface PlainSchema extends Schema {
 
     void setUniqueConstraint(boolean uniquevalue);
 
+    boolean isIndexed();
+
+    void setIndexed(boolean indexed);
 }
@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -82,6 +83,10 @@ public interface ExternalResource extends ProvidedKeyEntity {
 
     void setProvisioningTraceLevel(TraceLevel provisioningTraceLevel);
 
+    PropagationReadMode getPropagationReadMode();
+
+    void setPropagationReadMode(PropagationReadMode propagationReadMode);
+
     boolean add(Implementation propagationAction);
 
     List<? extends Implementation> getPropagationActions();
@@ -29,6 +29,22 @@ public interface PushTask extends ProvisioningTask {
 
     void setSourceRealm(Realm sourceRealm);
 
+    Integer getConcurrency();
+
+    void setConcurrency(Integer concurrency);
+
+    boolean isPreloadRemoteKeys();
+
+    void setPreloadRemoteKeys(boolean preloadRemoteKeys);
+
+    boolean isSkipUnchanged();
+
+    void setSkipUnchanged(boolean skipUnchanged);
+
+    boolean isChangedSinceLastExec();
+
+    void setChangedSinceLastExec(boolean changedSinceLastExec);
+
     boolean add(PushTaskAnyFilter filter);
 
     Optional<? extends PushTaskAnyFilter> getFilter(AnyType anyType);
@@ -18,9 +18,13 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collection;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class JPAJSONPlainAttrDAO extends AbstractDAO<PlainAttr<?>> implements PlainAttrDAO {
 
@@ -31,4 +35,25 @@ public class JPAJSONPlainAttrDAO extends AbstractDAO<PlainAttr<?>> implements Pl
             ((Any<T>) plainAttr.getOwner()).remove(plainAttr);
         }
     }
+
+    /**
+     * Plain attributes are stored as JSON within their owner: changes are to be performed via entities.
+     */
+    @Override
+    public int replaceValues(
+            final AnyTypeKind anyTypeKind,
+            final PlainSchema schema,
+            final PlainAttrValue value,
+            final Collection<String> anyKeys) {
+
+        return -1;
+    }
+
+    /**
+     * Plain attributes are stored as JSON within their owner: changes are to be performed via entities.
+     */
+    @Override
+    public int deleteAttrs(final AnyTypeKind anyTypeKind, final PlainSchema schema, final Collection<String> anyKeys) {
+        return -1;
+    }
 }
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
@@ -34,4 +35,19 @@ public class JPAJSONPlainSchemaDAO extends JPAPlainSchemaDAO {
     protected void deleteAttrs(final PlainSchema schema) {
         // nothing to do
     }
+
+    @Override
+    protected void reindex(final PlainSchema schema) {
+        // lookup tables not used, values are held by JSON columns
+    }
+
+    @Override
+    public void indexAttrs(final Any<?> any) {
+        // lookup tables not used, values are held by JSON columns
+    }
+
+    @Override
+    public void unindexAttrs(final Any<?> any) {
+        // lookup tables not used, values are held by JSON columns
+    }
 }
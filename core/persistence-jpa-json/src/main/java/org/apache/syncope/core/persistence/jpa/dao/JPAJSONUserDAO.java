@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
@@ -76,7 +78,7 @@ public class JPAJSONUserDAO extends JPAUserDAO {
     }
 
     @Override
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected User doMerge(final User user) {
         // 1. save clear password value before save
         String clearPwd = user.getClearPassword();
 
@@ -99,11 +101,7 @@ public class JPAJSONUserDAO extends JPAUserDAO {
 
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
-        roleDAO.refreshDynMemberships(merged);
-        Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
-        dynRealmDAO.refreshDynMemberships(merged);
-
-        return Pair.of(merged, dynGroupMembs);
+        return merged;
     }
 
     @Override
@@ -117,4 +115,10 @@ public class JPAJSONUserDAO extends JPAUserDAO {
         anyDAO().checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user);
         return super.saveAndGetDynGroupMembs(user);
     }
+
+    @Override
+    public Map<String, Pair<Set<String>, Set<String>>> saveAndGetDynGroupMembs(final Collection<User> users) {
+        users.forEach(user -> anyDAO().checkBeforeSave(JPAJSONUser.TABLE, anyUtils(), user));
+        return super.saveAndGetDynGroupMembs(users);
+    }
 }
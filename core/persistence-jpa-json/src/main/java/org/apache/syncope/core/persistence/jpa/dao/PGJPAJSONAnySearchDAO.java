@@ -22,6 +22,7 @@ import java.text.ParseException;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
@@ -96,6 +97,20 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
             final PlainSchema schema,
             final String fieldName) {
 
+        if (PGJPAJSONPlainSchemaDAO.isIndexed(schema)) {
+            // sort by the indexed expression, without unnesting the plainAttrs column
+            SearchSupport.SearchView view = new SearchSupport.SearchView(
+                    "svo" + obs.views.size(),
+                    "(SELECT id AS any_id, " + PGJPAJSONPlainSchemaDAO.valueExpression(schema, "plainAttrs")
+                    + " AS " + fieldName + " FROM " + svs.table().name + ')');
+            obs.views.add(view);
+
+            item.select = view.alias + '.' + fieldName;
+            item.where = StringUtils.EMPTY;
+            item.orderBy = fieldName + " " + clause.getDirection().name();
+            return;
+        }
+
         // keep track of involvement of non-mandatory schemas in the order by clauses
         obs.nonMandatorySchemas = !"true".equals(schema.getMandatoryCondition());
 
@@ -106,6 +121,68 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
         item.orderBy = fieldName + " " + clause.getDirection().name();
     }
 
+    /**
+     * Builds, for single-valued schemas, conditions on the same expressions indexed by
+     * {@link PGJPAJSONPlainSchemaDAO}.
+     *
+     * @param query query to fill
+     * @param schema single-valued plain schema
+     * @param cond attribute condition
+     * @param not whether the condition is negated
+     * @param parameters query parameters
+     * @param svs search support
+     * @return whether the query could be built
+     */
+    private boolean fillIndexedAttrQuery(
+            final StringBuilder query,
+            final PlainSchema schema,
+            final AttributeCond cond,
+            final boolean not,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        boolean text = schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum;
+        boolean lower = cond.getType() == AttributeCond.Type.IEQ || cond.getType() == AttributeCond.Type.ILIKE;
+        if (!text && (lower || cond.getType() == AttributeCond.Type.LIKE)) {
+            return false;
+        }
+
+        Object value;
+        try {
+            switch (schema.getType()) {
+                case Long:
+                    value = Long.valueOf(cond.getExpression());
+                    break;
+
+                case Date:
+                    value = DATE_FORMAT.parse(cond.getExpression()).getTime();
+                    break;
+
+                case Double:
+                    value = Double.valueOf(cond.getExpression());
+                    break;
+
+                default:
+                    value = cond.getExpression();
+            }
+        } catch (NumberFormatException | ParseException e) {
+            LOG.debug("Could not convert {} for {}", cond.getExpression(), schema.getType(), e);
+            return false;
+        }
+
+        query.append("SELECT id AS any_id FROM ").append(svs.table().name).append(" WHERE ").
+                append(lower ? "LOWER(" : "").
+                append(PGJPAJSONPlainSchemaDAO.valueExpression(schema, "plainAttrs")).
+                append(lower ? ")" : "");
+
+        appendOp(query, cond.getType(), not);
+
+        query.append(lower ? "LOWER(" : "").
+                append("?").append(setParameter(parameters, value)).
+                append(lower ? ")" : "");
+        return true;
+    }
+
     private void fillAttrQuery(
             final AnyUtils anyUtils,
             final StringBuilder query,
@@ -209,6 +286,15 @@ public class PGJPAJSONAnySearchDAO extends AbstractJPAJSONAnySearchDAO {
                 break;
 
             default:
+                if (!(cond instanceof AnyCond) && PGJPAJSONPlainSchemaDAO.isIndexed(checked.getLeft())
+                        && (not || cond.getType() != AttributeCond.Type.EQ)) {
+
+                    StringBuilder indexed = new StringBuilder();
+                    if (fillIndexedAttrQuery(indexed, checked.getLeft(), cond, not, parameters, svs)) {
+                        return indexed.toString();
+                    }
+                }
+
                 if (not && !(cond instanceof AnyCond) && checked.getLeft().isMultivalue()) {
                     query = new StringBuilder("SELECT DISTINCT id AS any_id FROM ").append(svs.table().name).
                             append(" WHERE ");
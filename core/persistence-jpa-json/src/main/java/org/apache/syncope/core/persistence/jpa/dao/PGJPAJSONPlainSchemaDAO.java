@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Manages, for each single-valued plain schema flagged as indexed, the PostgreSQL expression indexes on the values
+ * held by the JSONB {@code plainAttrs} columns, which serve equality, range, case-insensitive and ordering conditions.
+ * Indexes are created or dropped concurrently, after the transaction saving or deleting the plain schema commits; at
+ * startup, the function extracting values is (re)defined for each domain and missing or invalid indexes are
+ * (re)created.
+ */
+public class PGJPAJSONPlainSchemaDAO extends JPAJSONPlainSchemaDAO implements SyncopeCoreLoader {
+
+    protected static final List<String> TABLES = List.of(JPAUser.TABLE, JPAGroup.TABLE, JPAAnyObject.TABLE);
+
+    protected static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    /**
+     * Immutable function extracting the first value for a given schema from a {@code plainAttrs} column.
+     */
+    protected static final String VALUE_FUNCTION = "plainAttrValue";
+
+    /**
+     * Definition of {@link #VALUE_FUNCTION}: being immutable, it can be used by expression indexes.
+     */
+    protected static final String VALUE_FUNCTION_DDL = "CREATE OR REPLACE FUNCTION " + VALUE_FUNCTION
+            + "(attrs JSONB, attrSchema TEXT, valueKey TEXT) RETURNS TEXT AS $$ "
+            + "SELECT COALESCE(attr -> 'uniqueValue', attr -> 'values' -> 0) ->> valueKey "
+            + "FROM jsonb_array_elements(attrs) attr "
+            + "WHERE attr ->> 'schema' = attrSchema "
+            + "LIMIT 1 "
+            + "$$ LANGUAGE SQL IMMUTABLE";
+
+    protected static final String INVALID_INDEX_QUERY = "SELECT 1 FROM pg_index i, pg_class c "
+            + "WHERE i.indexrelid = c.oid AND c.relname = ? AND NOT i.indisvalid";
+
+    private static final ExecutorService INDEX_EXECUTOR;
+
+    static {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("PlainSchemaIndex-");
+        threadFactory.setDaemon(true);
+        INDEX_EXECUTOR = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * Tells whether values for the given plain schema can be served by expression indexes.
+     *
+     * @param schema plain schema
+     * @return whether values for the given plain schema can be served by expression indexes
+     */
+    public static boolean isIndexable(final PlainSchema schema) {
+        return !schema.isMultivalue() && isIndexable(schema.getType());
+    }
+
+    protected static boolean isIndexable(final AttrSchemaType type) {
+        switch (type) {
+            case String:
+            case Enum:
+            case Long:
+            case Double:
+            case Date:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Tells whether values for the given plain schema are served by expression indexes, e.g. whether it is flagged
+     * as indexed and its values can be served by expression indexes.
+     *
+     * @param schema plain schema
+     * @return whether values for the given plain schema are served by expression indexes
+     */
+    public static boolean isIndexed(final PlainSchema schema) {
+        return schema.isIndexed() && isIndexable(schema);
+    }
+
+    /**
+     * Returns the SQL expression extracting the value of the given single-valued plain schema from the given
+     * {@code plainAttrs} column, cast to the matching SQL type; the same expression is used by the managed indexes.
+     *
+     * @param schema single-valued plain schema
+     * @param column {@code plainAttrs} column, possibly qualified
+     * @return SQL expression extracting the value of the given plain schema
+     */
+    public static String valueExpression(final PlainSchema schema, final String column) {
+        return valueExpression(schema.getKey(), schema.getType(), column);
+    }
+
+    protected static String valueExpression(final String schema, final AttrSchemaType type, final String column) {
+        String valueKey;
+        String cast;
+        switch (type) {
+            case Long:
+                valueKey = "longValue";
+                cast = "::bigint";
+                break;
+
+            case Date:
+                valueKey = "dateValue";
+                cast = "::bigint";
+                break;
+
+            case Double:
+                valueKey = "doubleValue";
+                cast = "::float8";
+                break;
+
+            default:
+                valueKey = "stringValue";
+                cast = "";
+        }
+
+        return "(" + VALUE_FUNCTION + "(" + column + ", '" + schema + "', '" + valueKey + "')" + cast + ')';
+    }
+
+    protected static String indexName(final String table, final String schema, final String suffix) {
+        String name = table + '_' + schema + '_' + suffix;
+        if (name.length() > MAX_IDENTIFIER_LENGTH) {
+            name = table + '_' + Integer.toHexString(schema.hashCode()) + '_' + suffix;
+        }
+        return name;
+    }
+
+    /**
+     * Returns the statements dropping the indexes for the given plain schema.
+     *
+     * @param schema plain schema key
+     * @return statements dropping the indexes, by index name
+     */
+    protected static Map<String, String> dropIndexes(final String schema) {
+        Map<String, String> statements = new LinkedHashMap<>();
+        TABLES.forEach(table -> List.of("idx", "lidx", "tidx").forEach(suffix -> {
+            String name = indexName(table, schema, suffix);
+            statements.put(name, "DROP INDEX CONCURRENTLY IF EXISTS \"" + name + '"');
+        }));
+        return statements;
+    }
+
+    /**
+     * Returns the statements creating the indexes for the given plain schema, unless already existing.
+     *
+     * @param schema plain schema key
+     * @param type plain schema type
+     * @param trigram whether the pg_trgm extension is available
+     * @return statements creating the indexes, by index name
+     */
+    protected static Map<String, String> createIndexes(
+            final String schema, final AttrSchemaType type, final boolean trigram) {
+
+        Map<String, String> statements = new LinkedHashMap<>();
+
+        String expression = valueExpression(schema, type, "plainAttrs");
+        boolean text = type == AttrSchemaType.String || type == AttrSchemaType.Enum;
+
+        TABLES.forEach(table -> {
+            // equality, range and ordering
+            String name = indexName(table, schema, "idx");
+            statements.put(name, "CREATE INDEX CONCURRENTLY IF NOT EXISTS \"" + name + '"'
+                    + " ON " + table + " (" + expression + ')');
+
+            if (text) {
+                // case-insensitive equality and prefix matching
+                name = indexName(table, schema, "lidx");
+                statements.put(name, "CREATE INDEX CONCURRENTLY IF NOT EXISTS \"" + name + '"'
+                        + " ON " + table + " ((LOWER(" + expression + ")) text_pattern_ops)");
+
+                // case-insensitive infix and suffix matching, when available
+                if (trigram) {
+                    name = indexName(table, schema, "tidx");
+                    statements.put(name, "CREATE INDEX CONCURRENTLY IF NOT EXISTS \"" + name + '"'
+                            + " ON " + table + " USING gin ((LOWER(" + expression + ")) gin_trgm_ops)");
+                }
+            }
+        });
+
+        return statements;
+    }
+
+    @Autowired
+    private DomainHolder domainHolder;
+
+    @Override
+    public int getOrder() {
+        // after XMLContentLoader, which might have defined plain schemas
+        return 410;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(datasource);
+        try {
+            jdbcTemplate.execute(VALUE_FUNCTION_DDL);
+        } catch (DataAccessException e) {
+            LOG.error("While defining function {} in domain {}", VALUE_FUNCTION, domain, e);
+            return;
+        }
+
+        try {
+            jdbcTemplate.query(
+                    "SELECT id, type FROM " + JPAPlainSchema.TABLE + " WHERE indexed = ? AND multivalue = ?",
+                    rs -> {
+                        AttrSchemaType type = AttrSchemaType.valueOf(rs.getString(2));
+                        if (isIndexable(type)) {
+                            String schema = rs.getString(1);
+                            INDEX_EXECUTOR.submit(() -> manageIndexes(datasource, domain, schema, type));
+                        }
+                    },
+                    Boolean.TRUE, Boolean.FALSE);
+        } catch (DataAccessException e) {
+            LOG.error("While reading indexed plain schemas in domain {}", domain, e);
+        }
+    }
+
+    protected static boolean isInvalid(final Connection conn, final String index) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INVALID_INDEX_QUERY)) {
+            stmt.setString(1, index);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Creates the indexes for the given plain schema, unless existing; as failed concurrent creations leave indexes
+     * marked as invalid, these are dropped and created again.
+     * Drops the indexes for the given plain schema, if {@code type} is null.
+     *
+     * @param dataSource domain DataSource
+     * @param domain domain
+     * @param schema plain schema key
+     * @param type plain schema type, or {@code null} to drop indexes
+     */
+    protected void manageIndexes(
+            final DataSource dataSource, final String domain, final String schema, final AttrSchemaType type) {
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(true);
+
+            if (type == null) {
+                for (String statement : dropIndexes(schema).values()) {
+                    LOG.debug("Executing {}", statement);
+                    stmt.execute(statement);
+                }
+
+                LOG.info("Indexes dropped for plain schema {} in domain {}", schema, domain);
+            } else {
+                boolean trigram;
+                try (ResultSet rs = stmt.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+                    trigram = rs.next();
+                }
+
+                for (Map.Entry<String, String> entry : createIndexes(schema, type, trigram).entrySet()) {
+                    if (isInvalid(conn, entry.getKey())) {
+                        LOG.warn("Index {} is invalid, dropping and creating again", entry.getKey());
+                        stmt.execute("DROP INDEX CONCURRENTLY IF EXISTS \"" + entry.getKey() + '"');
+                    }
+
+                    LOG.debug("Executing {}", entry.getValue());
+                    stmt.execute(entry.getValue());
+                }
+
+                LOG.info("Indexes created for plain schema {} in domain {}", schema, domain);
+            }
+        } catch (SQLException e) {
+            LOG.error("While managing indexes for plain schema {} in domain {}", schema, domain, e);
+        }
+    }
+
+    protected void afterCommit(final PlainSchema schema, final boolean create) {
+        String domain = AuthContextUtils.getDomain();
+        String key = schema.getKey();
+        AttrSchemaType type = create ? schema.getType() : null;
+        Runnable task = () -> INDEX_EXECUTOR.submit(() -> {
+            DataSource dataSource = domainHolder.getDomains().get(domain);
+            if (dataSource == null) {
+                LOG.error("Could not find DataSource for domain {}", domain);
+            } else {
+                manageIndexes(dataSource, domain, key, type);
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @Override
+    public PlainSchema save(final PlainSchema schema) {
+        PlainSchema merged = super.save(schema);
+
+        afterCommit(merged, isIndexed(merged));
+
+        return merged;
+    }
+
+    @Override
+    public void delete(final String key) {
+        PlainSchema schema = find(key);
+        if (schema == null) {
+            return;
+        }
+
+        super.delete(key);
+
+        afterCommit(schema, false);
+    }
+}
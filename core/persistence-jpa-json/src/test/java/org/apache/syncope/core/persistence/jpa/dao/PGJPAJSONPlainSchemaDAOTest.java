@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.junit.jupiter.api.Test;
+
+public class PGJPAJSONPlainSchemaDAOTest {
+
+    private static JPAPlainSchema schema(final String key, final AttrSchemaType type) {
+        JPAPlainSchema schema = new JPAPlainSchema();
+        schema.setKey(key);
+        schema.setType(type);
+        return schema;
+    }
+
+    @Test
+    public void isIndexed() {
+        JPAPlainSchema schema = schema("fullname", AttrSchemaType.String);
+        assertTrue(PGJPAJSONPlainSchemaDAO.isIndexable(schema));
+        assertFalse(PGJPAJSONPlainSchemaDAO.isIndexed(schema));
+
+        schema.setIndexed(true);
+        assertTrue(PGJPAJSONPlainSchemaDAO.isIndexed(schema));
+
+        schema.setMultivalue(true);
+        assertFalse(PGJPAJSONPlainSchemaDAO.isIndexed(schema));
+
+        schema = schema("photo", AttrSchemaType.Binary);
+        schema.setIndexed(true);
+        assertFalse(PGJPAJSONPlainSchemaDAO.isIndexed(schema));
+    }
+
+    @Test
+    public void valueExpression() {
+        assertEquals("(plainAttrValue(plainAttrs, 'loginDate', 'dateValue')::bigint)",
+                PGJPAJSONPlainSchemaDAO.valueExpression(schema("loginDate", AttrSchemaType.Date), "plainAttrs"));
+        assertEquals("(plainAttrValue(u.plainAttrs, 'fullname', 'stringValue'))",
+                PGJPAJSONPlainSchemaDAO.valueExpression(schema("fullname", AttrSchemaType.String), "u.plainAttrs"));
+    }
+
+    @Test
+    public void valueFunction() {
+        assertTrue(PGJPAJSONPlainSchemaDAO.VALUE_FUNCTION_DDL.startsWith(
+                "CREATE OR REPLACE FUNCTION " + PGJPAJSONPlainSchemaDAO.VALUE_FUNCTION + '('));
+        assertTrue(PGJPAJSONPlainSchemaDAO.VALUE_FUNCTION_DDL.endsWith("IMMUTABLE"));
+    }
+
+    @Test
+    public void createIndexes() {
+        Map<String, String> text = PGJPAJSONPlainSchemaDAO.createIndexes("fullname", AttrSchemaType.String, true);
+        assertEquals(9, text.size());
+        assertEquals("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"SyncopeUser_fullname_lidx\" ON SyncopeUser "
+                + "((LOWER((plainAttrValue(plainAttrs, 'fullname', 'stringValue')))) text_pattern_ops)",
+                text.get("SyncopeUser_fullname_lidx"));
+
+        assertEquals(6, PGJPAJSONPlainSchemaDAO.createIndexes("fullname", AttrSchemaType.String, false).size());
+
+        Map<String, String> numeric = PGJPAJSONPlainSchemaDAO.createIndexes("age", AttrSchemaType.Long, true);
+        assertEquals(3, numeric.size());
+        assertEquals("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"SyncopeGroup_age_idx\" ON SyncopeGroup "
+                + "((plainAttrValue(plainAttrs, 'age', 'longValue')::bigint))",
+                numeric.get("SyncopeGroup_age_idx"));
+
+        // drop statements cover the same index names
+        assertTrue(PGJPAJSONPlainSchemaDAO.dropIndexes("fullname").keySet().containsAll(text.keySet()));
+    }
+
+    @Test
+    public void indexName() {
+        String key = "aVeryLongPlainSchemaKeyWhichWouldExceedTheMaximumIdentifierLength";
+        String name = PGJPAJSONPlainSchemaDAO.indexName("SyncopeUser", key, "idx");
+        assertTrue(name.length() <= PGJPAJSONPlainSchemaDAO.MAX_IDENTIFIER_LENGTH);
+        assertEquals("SyncopeUser_" + Integer.toHexString(key.hashCode()) + "_idx", name);
+    }
+}
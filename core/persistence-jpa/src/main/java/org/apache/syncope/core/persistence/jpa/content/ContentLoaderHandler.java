@@ -18,42 +18,107 @@
  */
 package org.apache.syncope.core.persistence.jpa.content;
 
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.Types;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import javax.xml.bind.DatatypeConverter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * SAX handler for generating SQL INSERT statements out of given XML file.
+ *
+ * Rows are sent via JDBC batches of the given size, one prepared statement for each run of rows with the same table
+ * and column set; when an executor is provided, batches for tables not depending on each other via foreign keys are
+ * loaded in parallel, while batches for the same table are always loaded in document order.
  */
 public class ContentLoaderHandler extends DefaultHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentLoaderHandler.class);
 
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final long PROGRESS_INTERVAL = 10000;
+
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Each batch runs in its own transaction, so that nothing is left behind by a failed batch before retrying its
+     * rows one by one - as drivers might have executed part of the batch, under auto-commit.
+     */
+    private final TransactionTemplate batchTransaction;
+
     private final String rootElement;
 
     private final boolean continueOnError;
 
-    public ContentLoaderHandler(final DataSource dataSource, final String rootElement, final boolean continueOnError) {
+    private final int batchSize;
+
+    private final ExecutorService executor;
+
+    private final Map<String, Map<String, Integer>> colTypes = new HashMap<>();
+
+    private final Map<String, Pair<String, int[]>> inserts = new HashMap<>();
+
+    private Map<String, Set<String>> parentTables;
+
+    private final Map<String, CompletableFuture<Void>> loading = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final AtomicReference<DataAccessException> failure = new AtomicReference<>();
+
+    private final AtomicLong loaded = new AtomicLong();
+
+    private long start;
+
+    private String currentTable;
+
+    private List<Pair<String, Object[]>> batch = new ArrayList<>();
+
+    public ContentLoaderHandler(
+            final DataSource dataSource,
+            final String rootElement,
+            final boolean continueOnError,
+            final int batchSize,
+            final ExecutorService executor) {
+
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.rootElement = rootElement;
         this.continueOnError = continueOnError;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = executor;
     }
 
-    private Object[] getParameters(final String tableName, final Attributes attrs) {
-        Map<String, Integer> colTypes = jdbcTemplate.query(
+    private Map<String, Integer> getColTypes(final String tableName) {
+        return colTypes.computeIfAbsent(tableName, k -> jdbcTemplate.query(
                 "SELECT * FROM " + tableName + " WHERE 0=1", rs -> {
                     Map<String, Integer> colTypes1 = new HashMap<>();
                     for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
@@ -61,15 +126,53 @@ public class ContentLoaderHandler extends DefaultHandler {
                                 rs.getMetaData().getColumnName(i).toUpperCase(), rs.getMetaData().getColumnType(i));
                     }
                     return colTypes1;
-                });
+                }));
+    }
 
-        Object[] parameters = new Object[attrs.getLength()];
+    /**
+     * Returns INSERT statement and column types for the given table and column set, computed only once.
+     *
+     * @param tableName table name
+     * @param attrs XML attributes
+     * @return INSERT statement and column types
+     */
+    private Pair<String, int[]> getInsert(final String tableName, final Attributes attrs) {
+        StringBuilder key = new StringBuilder(tableName);
         for (int i = 0; i < attrs.getLength(); i++) {
-            Integer colType = colTypes.get(attrs.getQName(i).toUpperCase());
-            if (colType == null) {
-                LOG.warn("No column type found for {}", attrs.getQName(i).toUpperCase());
-                colType = Types.VARCHAR;
+            key.append(',').append(attrs.getQName(i));
+        }
+
+        return inserts.computeIfAbsent(key.toString(), k -> {
+            Map<String, Integer> tableColTypes = getColTypes(tableName);
+
+            StringBuilder query = new StringBuilder("INSERT INTO ").append(tableName).append('(');
+            StringBuilder values = new StringBuilder();
+            int[] types = new int[attrs.getLength()];
+            for (int i = 0; i < attrs.getLength(); i++) {
+                query.append(attrs.getQName(i));
+                values.append('?');
+                if (i < attrs.getLength() - 1) {
+                    query.append(',');
+                    values.append(',');
+                }
+
+                Integer colType = tableColTypes.get(attrs.getQName(i).toUpperCase());
+                if (colType == null) {
+                    LOG.warn("No column type found for {}", attrs.getQName(i).toUpperCase());
+                    colType = Types.VARCHAR;
+                }
+                types[i] = colType;
             }
+            query.append(") VALUES (").append(values).append(')');
+
+            return Pair.of(query.toString(), types);
+        });
+    }
+
+    private static Object[] getParameters(final int[] colTypes, final Attributes attrs) {
+        Object[] parameters = new Object[attrs.getLength()];
+        for (int i = 0; i < attrs.getLength(); i++) {
+            int colType = colTypes[i];
 
             switch (colType) {
                 case Types.INTEGER:
@@ -158,6 +261,121 @@ public class ContentLoaderHandler extends DefaultHandler {
         return parameters;
     }
 
+    /**
+     * Reads foreign key dependencies among all tables, only once.
+     *
+     * @return for each table, the set of tables it refers to via foreign keys
+     */
+    private Map<String, Set<String>> getParentTables() {
+        if (parentTables == null) {
+            parentTables = jdbcTemplate.execute((ConnectionCallback<Map<String, Set<String>>>) conn -> {
+                Map<String, Set<String>> parents = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+                DatabaseMetaData meta = conn.getMetaData();
+                Set<String> tableNames = new HashSet<>();
+                try (ResultSet rs = meta.getTables(conn.getCatalog(), null, null, new String[] { "TABLE" })) {
+                    while (rs.next()) {
+                        tableNames.add(rs.getString("TABLE_NAME"));
+                    }
+                }
+                for (String tableName : tableNames) {
+                    try (ResultSet rs = meta.getImportedKeys(conn.getCatalog(), null, tableName)) {
+                        while (rs.next()) {
+                            String pkTableName = rs.getString("PKTABLE_NAME");
+                            if (!tableName.equalsIgnoreCase(pkTableName)) {
+                                parents.computeIfAbsent(tableName, k -> new HashSet<>()).add(pkTableName);
+                            }
+                        }
+                    }
+                }
+
+                return parents;
+            });
+        }
+        return parentTables;
+    }
+
+    private void await(final CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            LOG.debug("Loading failed", e);
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        DataAccessException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    private void load(final String tableName, final List<Pair<String, Object[]>> rows) {
+        int from = 0;
+        while (from < rows.size()) {
+            String query = rows.get(from).getLeft();
+            int to = from + 1;
+            while (to < rows.size() && query.equals(rows.get(to).getLeft())) {
+                to++;
+            }
+
+            List<Object[]> parameters = rows.subList(from, to).stream().
+                    map(Pair::getRight).collect(Collectors.toList());
+            try {
+                batchTransaction.execute(status -> jdbcTemplate.batchUpdate(query, parameters));
+            } catch (DataAccessException e) {
+                if (!continueOnError) {
+                    LOG.error("While trying to perform {} in batch", query, e);
+                    failure.compareAndSet(null, e);
+                    throw e;
+                }
+
+                LOG.debug("Batch failed and rolled back for {}, now trying row by row", tableName, e);
+                parameters.forEach(params -> {
+                    try {
+                        jdbcTemplate.update(query, params);
+                    } catch (DataAccessException ex) {
+                        LOG.error("While trying to perform {} with params {}", query, Arrays.toString(params), ex);
+                    }
+                });
+            }
+
+            from = to;
+        }
+
+        long total = loaded.addAndGet(rows.size());
+        if (total / PROGRESS_INTERVAL != (total - rows.size()) / PROGRESS_INTERVAL) {
+            LOG.info("{} rows loaded, {} rows/s", total, rate(total));
+        }
+    }
+
+    private long rate(final long total) {
+        return total * 1000 / Math.max(1, System.currentTimeMillis() - start);
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        String tableName = currentTable;
+        List<Pair<String, Object[]>> rows = batch;
+        batch = new ArrayList<>();
+
+        if (executor == null) {
+            load(tableName, rows);
+        } else {
+            loading.put(tableName, loading.getOrDefault(tableName, CompletableFuture.completedFuture(null)).
+                    thenRunAsync(() -> load(tableName, rows), executor));
+        }
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+        start = System.currentTimeMillis();
+    }
+
     @Override
     public void startElement(final String uri, final String localName, final String qName, final Attributes atts)
             throws SAXException {
@@ -167,27 +385,34 @@ public class ContentLoaderHandler extends DefaultHandler {
             return;
         }
 
-        StringBuilder query = new StringBuilder("INSERT INTO ").append(qName).append('(');
+        checkFailure();
 
-        StringBuilder values = new StringBuilder();
+        if (!qName.equals(currentTable)) {
+            flush();
+            currentTable = qName;
 
-        for (int i = 0; i < atts.getLength(); i++) {
-            query.append(atts.getQName(i));
-            values.append('?');
-            if (i < atts.getLength() - 1) {
-                query.append(',');
-                values.append(',');
+            // wait for rows this table might refer to
+            if (executor != null) {
+                getParentTables().getOrDefault(qName, Set.of()).stream().
+                        map(loading::get).
+                        filter(future -> future != null).
+                        forEach(this::await);
             }
         }
-        query.append(") VALUES (").append(values).append(')');
 
-        try {
-            jdbcTemplate.update(query.toString(), getParameters(qName, atts));
-        } catch (DataAccessException e) {
-            LOG.error("While trying to perform {} with params {}", query, getParameters(qName, atts), e);
-            if (!continueOnError) {
-                throw e;
-            }
+        Pair<String, int[]> insert = getInsert(qName, atts);
+        batch.add(Pair.of(insert.getLeft(), getParameters(insert.getRight(), atts)));
+        if (batch.size() >= batchSize) {
+            flush();
         }
     }
+
+    @Override
+    public void endDocument() throws SAXException {
+        flush();
+        loading.values().forEach(this::await);
+        checkFailure();
+
+        LOG.info("{} rows loaded, {} rows/s", loaded.get(), rate(loaded.get()));
+    }
 }
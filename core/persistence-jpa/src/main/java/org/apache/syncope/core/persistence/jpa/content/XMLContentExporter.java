@@ -18,10 +18,13 @@
  */
 package org.apache.syncope.core.persistence.jpa.content;
 
+import com.zaxxer.hikari.HikariDataSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Blob;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -31,16 +34,29 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import javax.sql.DataSource;
 import javax.xml.bind.DatatypeConverter;
 import javax.xml.XMLConstants;
@@ -51,13 +67,12 @@ import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 
-import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
-import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
@@ -77,7 +92,9 @@ import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -91,7 +108,7 @@ public class XMLContentExporter implements ContentExporter {
 
     private static final Logger LOG = LoggerFactory.getLogger(XMLContentExporter.class);
 
-    private static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = SetUtils.hashSet(
+    private static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(
         "QRTZ_", "LOGGING", JPAReportExec.TABLE, JPATaskExec.TABLE,
         JPAUser.TABLE, JPAUPlainAttr.TABLE, JPAUPlainAttrValue.TABLE, JPAUPlainAttrUniqueValue.TABLE,
         JPAURelationship.TABLE, JPAUMembership.TABLE,
@@ -105,17 +122,67 @@ public class XMLContentExporter implements ContentExporter {
     private static final Map<String, Set<String>> COLUMNS_TO_BE_NULLIFIED =
             Map.of("SYNCOPEGROUP", Set.of("USEROWNER_ID"));
 
+    /**
+     * Rows fetched per round-trip, so that tables are read via cursor rather than all at once.
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * Time given to table exports still running after a failure to notice interruption and clean up.
+     */
+    private static final long TERMINATION_TIMEOUT_SECONDS = 10;
+
     @Autowired
     private DomainHolder domainHolder;
 
-    @Autowired
-    private RealmDAO realmDAO;
+    /**
+     * Maximum number of threads - each with its own connection - to export tables with.
+     */
+    @Value("${content.exporter.maxThreads:4}")
+    private int maxThreads;
 
-    private boolean isTableAllowed(final String tableName) {
-        return TABLE_PREFIXES_TO_BE_EXCLUDED.stream().
+    private static boolean isTableAllowed(final Set<String> tablePrefixesToBeExcluded, final String tableName) {
+        return tablePrefixesToBeExcluded.stream().
                 allMatch(prefix -> !tableName.toUpperCase().startsWith(prefix.toUpperCase()));
     }
 
+    private static String getIgnoreCase(final Map<String, String> row, final String columnName) {
+        return row.entrySet().stream().
+                filter(entry -> columnName.equalsIgnoreCase(entry.getKey())).
+                map(Map.Entry::getValue).
+                findFirst().orElse(null);
+    }
+
+    /**
+     * Sorts realm rows so that each parent comes before its children, breadth-first.
+     *
+     * @param rows realm rows
+     * @return sorted realm rows
+     */
+    private static List<Map<String, String>> sortRealms(final List<Map<String, String>> rows) {
+        Map<String, List<Map<String, String>>> children = new HashMap<>();
+        Set<String> ids = new HashSet<>();
+        rows.forEach(row -> {
+            ids.add(getIgnoreCase(row, "ID"));
+            children.computeIfAbsent(
+                    StringUtils.defaultString(getIgnoreCase(row, "PARENT_ID")), k -> new ArrayList<>()).add(row);
+        });
+
+        List<Map<String, String>> sorted = new ArrayList<>(rows.size());
+        Deque<Map<String, String>> queue = new ArrayDeque<>(children.getOrDefault(StringUtils.EMPTY, List.of()));
+        // dangling parent references should not happen, but realms referring to them are exported anyway
+        children.entrySet().stream().
+                filter(entry -> !entry.getKey().isEmpty() && !ids.contains(entry.getKey())).
+                forEach(entry -> queue.addAll(entry.getValue()));
+        while (!queue.isEmpty()) {
+            Map<String, String> row = queue.poll();
+            sorted.add(row);
+            queue.addAll(children.getOrDefault(getIgnoreCase(row, "ID"), List.of()));
+        }
+
+        return sorted;
+    }
+
     private List<String> sortByForeignKeys(final String dbSchema, final Connection conn, final Set<String> tableNames)
             throws SQLException {
 
@@ -237,6 +304,18 @@ public class XMLContentExporter implements ContentExporter {
         return res;
     }
 
+    private static void writeRow(
+            final TransformerHandler handler,
+            final String tableName,
+            final Map<String, String> row) throws SAXException {
+
+        AttributesImpl attrs = new AttributesImpl();
+        row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+
+        handler.startElement("", "", tableName, attrs);
+        handler.endElement("", "", tableName);
+    }
+
     private void exportTable(
             final TransformerHandler handler,
             final Connection conn,
@@ -285,49 +364,48 @@ public class XMLContentExporter implements ContentExporter {
             if (orderBy.length() > 0) {
                 query.append(" ORDER BY ").append(orderBy);
             }
-            stmt = conn.prepareStatement(query.toString());
-
-            List<Map<String, String>> rows = new ArrayList<>();
+            stmt = conn.prepareStatement(query.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(FETCH_SIZE);
 
             rs = stmt.executeQuery();
-            while (rs.next()) {
-                Map<String, String> row = new HashMap<>();
-                rows.add(row);
 
-                ResultSetMetaData rsMeta = rs.getMetaData();
-                for (int i = 0; i < rsMeta.getColumnCount(); i++) {
-                    String columnName = rsMeta.getColumnName(i + 1);
-                    Integer columnType = rsMeta.getColumnType(i + 1);
+            ResultSetMetaData rsMeta = rs.getMetaData();
+            String[] columnNames = new String[rsMeta.getColumnCount()];
+            int[] columnTypes = new int[rsMeta.getColumnCount()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = rsMeta.getColumnName(i + 1);
+                columnTypes[i] = rsMeta.getColumnType(i + 1);
+            }
+            Set<String> columnsToBeNullified = COLUMNS_TO_BE_NULLIFIED.getOrDefault(tableName, Set.of());
 
-                    // Retrieve value taking care of binary values.
-                    String value = getValues(rs, columnName, columnType);
-                    if (value != null && (!COLUMNS_TO_BE_NULLIFIED.containsKey(tableName)
-                            || !COLUMNS_TO_BE_NULLIFIED.get(tableName).contains(columnName))) {
+            // realms are few and need to be sorted parent-first: all other tables are streamed row by row
+            boolean realm = tableName.equalsIgnoreCase(JPARealm.TABLE);
+            List<Map<String, String>> realmRows = new ArrayList<>();
 
-                        row.put(columnName, value);
-                        LOG.debug("Add for table {}: {}=\"{}\"", tableName, columnName, value);
-                    }
+            while (rs.next()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new SAXException("Interrupted while exporting table " + tableName);
                 }
-            }
 
-            if (tableName.equalsIgnoreCase(JPARealm.TABLE)) {
-                List<Map<String, String>> realmRows = new ArrayList<>(rows);
-                rows.clear();
-                realmDAO.findAll().forEach(realm -> realmRows.stream().filter(row -> {
-                    String id = row.get("ID");
-                    if (id == null) {
-                        id = row.get("id");
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < columnNames.length; i++) {
+                    // Retrieve value taking care of binary values.
+                    String value = getValues(rs, columnNames[i], columnTypes[i]);
+                    if (value != null && !columnsToBeNullified.contains(columnNames[i])) {
+                        row.put(columnNames[i], value);
+                        LOG.trace("Add for table {}: {}=\"{}\"", tableName, columnNames[i], value);
                     }
-                    return realm.getKey().equals(id);
-                }).findFirst().ifPresent(rows::add));
-            }
+                }
 
-            for (Map<String, String> row : rows) {
-                AttributesImpl attrs = new AttributesImpl();
-                row.forEach((key, value) -> attrs.addAttribute("", "", key, "CDATA", value));
+                if (realm) {
+                    realmRows.add(row);
+                } else {
+                    writeRow(handler, tableName, row);
+                }
+            }
 
-                handler.startElement("", "", tableName, attrs);
-                handler.endElement("", "", tableName);
+            for (Map<String, String> row : sortRealms(realmRows)) {
+                writeRow(handler, tableName, row);
             }
         } finally {
             if (rs != null) {
@@ -347,25 +425,9 @@ public class XMLContentExporter implements ContentExporter {
         }
     }
 
-    @Override
-    public void export(
-            final String domain,
-            final OutputStream os,
-            final String uwfPrefix,
-            final String gwfPrefix,
-            final String awfPrefix)
+    private static TransformerHandler startDocument(final OutputStream os)
             throws SAXException, TransformerConfigurationException {
 
-        if (StringUtils.isNotBlank(uwfPrefix)) {
-            TABLE_PREFIXES_TO_BE_EXCLUDED.add(uwfPrefix);
-        }
-        if (StringUtils.isNotBlank(gwfPrefix)) {
-            TABLE_PREFIXES_TO_BE_EXCLUDED.add(gwfPrefix);
-        }
-        if (StringUtils.isNotBlank(awfPrefix)) {
-            TABLE_PREFIXES_TO_BE_EXCLUDED.add(awfPrefix);
-        }
-
         StreamResult streamResult = new StreamResult(os);
         SAXTransformerFactory transformerFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
         transformerFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -378,46 +440,59 @@ public class XMLContentExporter implements ContentExporter {
         handler.startDocument();
         handler.startElement("", "", ROOT_ELEMENT, new AttributesImpl());
 
-        DataSource dataSource = domainHolder.getDomains().get(domain);
-        if (dataSource == null) {
-            throw new IllegalArgumentException("Could not find DataSource for domain " + domain);
+        return handler;
+    }
+
+    private static void endDocument(final TransformerHandler handler) throws SAXException {
+        handler.endElement("", "", ROOT_ELEMENT);
+        handler.endDocument();
+    }
+
+    /**
+     * Some drivers (PostgreSQL, for example) only honor fetch size outside of auto-commit mode.
+     *
+     * @param conn connection
+     * @return previous auto-commit value
+     * @throws SQLException if auto-commit could not be read or changed
+     */
+    private static boolean disableAutoCommit(final Connection conn) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        if (autoCommit) {
+            conn.setAutoCommit(false);
         }
+        return autoCommit;
+    }
 
-        String schema = ApplicationContextProvider.getBeanFactory().containsBean(domain + "DatabaseSchema")
-                ? ApplicationContextProvider.getBeanFactory().getBean(domain + "DatabaseSchema", String.class)
-                : null;
+    private static void restoreAutoCommit(final Connection conn, final boolean autoCommit) {
+        if (autoCommit) {
+            try {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOG.error("While restoring auto-commit", e);
+            }
+        }
+    }
+
+    private List<String> getTableNames(
+            final String schema,
+            final Connection conn,
+            final Set<String> tablePrefixesToBeExcluded) throws SQLException {
+
+        Set<String> tableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
-        Connection conn = null;
         ResultSet rs = null;
         try {
-            conn = DataSourceUtils.getConnection(dataSource);
-            final DatabaseMetaData meta = conn.getMetaData();
-
-            rs = meta.getTables(null, StringUtils.isBlank(schema) ? null : schema, null,
+            rs = conn.getMetaData().getTables(null, StringUtils.isBlank(schema) ? null : schema, null,
                     new String[] { "TABLE" });
 
-            final Set<String> tableNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-
             while (rs.next()) {
                 String tableName = rs.getString("TABLE_NAME");
                 LOG.debug("Found table {}", tableName);
-                if (isTableAllowed(tableName)) {
+                if (isTableAllowed(tablePrefixesToBeExcluded, tableName)) {
                     tableNames.add(tableName);
                 }
             }
-
-            LOG.debug("Tables to be exported {}", tableNames);
-
-            // then sort tables based on foreign keys and dump
-            for (String tableName : sortByForeignKeys(schema, conn, tableNames)) {
-                try {
-                    exportTable(handler, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()));
-                } catch (Exception e) {
-                    LOG.error("Failure exporting table {}", tableName, e);
-                }
-            }
-        } catch (SQLException e) {
-            LOG.error("While exporting database content", e);
         } finally {
             if (rs != null) {
                 try {
@@ -426,20 +501,222 @@ public class XMLContentExporter implements ContentExporter {
                     LOG.error("While closing tables result set", e);
                 }
             }
+        }
 
+        LOG.debug("Tables to be exported {}", tableNames);
+
+        // then sort tables based on foreign keys
+        return sortByForeignKeys(schema, conn, tableNames);
+    }
+
+    private void exportTables(
+            final DataSource dataSource,
+            final List<String> tableNames,
+            final OutputStream os) throws SAXException, TransformerConfigurationException {
+
+        TransformerHandler handler = startDocument(os);
+
+        Connection conn = null;
+        try {
+            conn = DataSourceUtils.getConnection(dataSource);
+            boolean autoCommit = disableAutoCommit(conn);
+            try {
+                for (int i = 0; i < tableNames.size() && !Thread.currentThread().isInterrupted(); i++) {
+                    String tableName = tableNames.get(i);
+                    try {
+                        exportTable(handler, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()));
+                    } catch (Exception e) {
+                        LOG.error("Failure exporting table {}", tableName, e);
+                    }
+                }
+            } finally {
+                restoreAutoCommit(conn, autoCommit);
+            }
+        } catch (SQLException e) {
+            LOG.error("While exporting database content", e);
+        } finally {
             DataSourceUtils.releaseConnection(conn, dataSource);
-            if (conn != null) {
+        }
+
+        endDocument(handler);
+    }
+
+    private Path exportTable(final DataSource dataSource, final String tableName) throws IOException {
+        Path file = Files.createTempFile(tableName, ".xml");
+        try (OutputStream out = Files.newOutputStream(file); Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = disableAutoCommit(conn);
+            try {
+                TransformerHandler handler = startDocument(out);
+                exportTable(handler, conn, tableName, TABLES_TO_BE_FILTERED.get(tableName.toUpperCase()));
+                endDocument(handler);
+            } finally {
+                restoreAutoCommit(conn, autoCommit);
+            }
+
+            return file;
+        } catch (Exception e) {
+            LOG.error("Failure exporting table {}", tableName, e);
+
+            Files.deleteIfExists(file);
+            return null;
+        }
+    }
+
+    /**
+     * Exports each table as a separate XML document into a ZIP archive, using the given number of threads, each with
+     * its own connection; entry names are prefixed by the table position in foreign key order, so that importing
+     * them in name order is safe.
+     *
+     * @param dataSource data source
+     * @param tableNames tables to export, sorted by foreign keys
+     * @param threads number of threads
+     * @param os output stream
+     * @throws IOException if the ZIP archive could not be written
+     */
+    private void exportTables(
+            final DataSource dataSource,
+            final List<String> tableNames,
+            final int threads,
+            final OutputStream os) throws IOException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                threads, new CustomizableThreadFactory("XMLContentExporter-"));
+        CompletionService<Pair<String, Path>> completion = new ExecutorCompletionService<>(executor);
+        List<Path> files = new ArrayList<>();
+        try {
+            for (int i = 0; i < tableNames.size(); i++) {
+                String tableName = tableNames.get(i);
+                String entryName = String.format("%04d_%s.xml", i, tableName);
+                completion.submit(() -> Pair.of(entryName, exportTable(dataSource, tableName)));
+            }
+
+            ZipOutputStream zos = new ZipOutputStream(os);
+            for (int i = 0; i < tableNames.size(); i++) {
+                Pair<String, Path> exported = completion.take().get();
+                if (exported.getRight() != null) {
+                    files.add(exported.getRight());
+
+                    zos.putNextEntry(new ZipEntry(exported.getLeft()));
+                    Files.copy(exported.getRight(), zos);
+                    zos.closeEntry();
+
+                    Files.deleteIfExists(exported.getRight());
+                }
+            }
+            zos.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting database content", e);
+        } catch (ExecutionException e) {
+            throw new IOException("While exporting database content", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            try {
+                if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOG.warn("Some tables are still being exported, their temporary files may be left behind");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // also collect the tables exported but not written to the ZIP archive because of a failure
+            Future<Pair<String, Path>> done;
+            while ((done = completion.poll()) != null) {
                 try {
-                    if (!conn.isClosed()) {
-                        conn.close();
-                    }
-                } catch (SQLException e) {
-                    LOG.error("While releasing connection", e);
+                    Optional.ofNullable(done.get().getRight()).ifPresent(files::add);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    LOG.debug("Table export failed", e.getCause());
+                }
+            }
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    LOG.error("Could not delete temporary file {}", file, e);
                 }
             }
         }
+    }
 
-        handler.endElement("", "", ROOT_ELEMENT);
-        handler.endDocument();
+    /**
+     * Caps the requested number of threads to the configured maximum, and to the connection pool size minus one, so
+     * that a single export cannot exhaust the connection pool.
+     *
+     * @param domain domain
+     * @param threads requested number of threads
+     * @return number of threads to export tables with
+     */
+    @Override
+    public int getEffectiveThreads(final String domain, final int threads) {
+        DataSource dataSource = domainHolder.getDomains().get(domain);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Could not find DataSource for domain " + domain);
+        }
+
+        int max = maxThreads;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                max = Math.min(max, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() - 1);
+            }
+        } catch (SQLException e) {
+            LOG.debug("Could not find out connection pool size", e);
+        }
+
+        int effective = Math.max(1, Math.min(threads, max));
+        if (effective < threads) {
+            LOG.info("Exporting with {} threads rather than {} as requested", effective, threads);
+        }
+        return effective;
+    }
+
+    @Override
+    public void export(
+            final String domain,
+            final int threads,
+            final OutputStream os,
+            final String uwfPrefix,
+            final String gwfPrefix,
+            final String awfPrefix)
+            throws SAXException, TransformerConfigurationException, IOException {
+
+        Set<String> tablePrefixesToBeExcluded = new HashSet<>(TABLE_PREFIXES_TO_BE_EXCLUDED);
+        if (StringUtils.isNotBlank(uwfPrefix)) {
+            tablePrefixesToBeExcluded.add(uwfPrefix);
+        }
+        if (StringUtils.isNotBlank(gwfPrefix)) {
+            tablePrefixesToBeExcluded.add(gwfPrefix);
+        }
+        if (StringUtils.isNotBlank(awfPrefix)) {
+            tablePrefixesToBeExcluded.add(awfPrefix);
+        }
+
+        DataSource dataSource = domainHolder.getDomains().get(domain);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Could not find DataSource for domain " + domain);
+        }
+
+        String schema = ApplicationContextProvider.getBeanFactory().containsBean(domain + "DatabaseSchema")
+                ? ApplicationContextProvider.getBeanFactory().getBean(domain + "DatabaseSchema", String.class)
+                : null;
+
+        List<String> tableNames = List.of();
+        Connection conn = null;
+        try {
+            conn = DataSourceUtils.getConnection(dataSource);
+            tableNames = getTableNames(schema, conn, tablePrefixesToBeExcluded);
+        } catch (SQLException e) {
+            LOG.error("While reading database tables", e);
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+
+        int effectiveThreads = getEffectiveThreads(domain, threads);
+        if (effectiveThreads > 1) {
+            exportTables(dataSource, tableNames, effectiveThreads, os);
+        } else {
+            exportTables(dataSource, tableNames, os);
+        }
     }
 }
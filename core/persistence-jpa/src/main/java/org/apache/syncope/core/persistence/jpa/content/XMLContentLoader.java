@@ -20,23 +20,40 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Resource;
 import javax.sql.DataSource;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
+import org.apache.syncope.core.persistence.jpa.dao.JPAPlainSchemaDAO;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 
@@ -48,12 +65,20 @@ public class XMLContentLoader implements ContentLoader {
 
     private static final Logger LOG = LoggerFactory.getLogger(XMLContentLoader.class);
 
+    private static final Pattern INDEX_TABLE = Pattern.compile("\\sON\\s+(\\w+)\\s*\\(", Pattern.CASE_INSENSITIVE);
+
     @Resource(name = "viewsXML")
     private ResourceWithFallbackLoader viewsXML;
 
     @Resource(name = "indexesXML")
     private ResourceWithFallbackLoader indexesXML;
 
+    @Value("${content.loader.batchSize:" + ContentLoaderHandler.DEFAULT_BATCH_SIZE + "}")
+    private int batchSize;
+
+    @Value("${content.loader.threads:1}")
+    private int threads;
+
     @Override
     public int getOrder() {
         return 400;
@@ -78,6 +103,12 @@ public class XMLContentLoader implements ContentLoader {
 
         if (existingData) {
             LOG.info("[{}] Data found in the database, leaving untouched", domain);
+
+            try {
+                createMissingIndexes(domain, datasource);
+            } catch (IOException e) {
+                LOG.error("[{}] While creating missing indexes", domain, e);
+            }
         } else {
             LOG.info("[{}] Empty database found, loading default content", domain);
 
@@ -107,10 +138,17 @@ public class XMLContentLoader implements ContentLoader {
 
         SAXParserFactory factory = SAXParserFactory.newInstance();
         factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, Boolean.TRUE);
+        ExecutorService executor = threads > 1
+                ? Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("XMLContentLoader-"))
+                : null;
         try (contentXML) {
             SAXParser parser = factory.newSAXParser();
-            parser.parse(contentXML, new ContentLoaderHandler(dataSource, ROOT_ELEMENT, true));
+            parser.parse(contentXML, new ContentLoaderHandler(dataSource, ROOT_ELEMENT, true, batchSize, executor));
             LOG.debug("[{}] Default content successfully loaded", domain);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
     }
 
@@ -149,4 +187,57 @@ public class XMLContentLoader implements ContentLoader {
 
         LOG.debug("Indexes created");
     }
+
+    /**
+     * Creates the indexes on the lookup tables for indexed plain schemas, when not found: such tables might have been
+     * added to an existing database by OpenJPA, which does not create indexes.
+     *
+     * @param domain domain
+     * @param dataSource domain datasource
+     * @throws IOException if indexes definition could not be read
+     */
+    private void createMissingIndexes(final String domain, final DataSource dataSource) throws IOException {
+        Set<String> lookupTables = Stream.of(AnyTypeKind.values()).map(JPAPlainSchemaDAO::indexTable).
+                collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Pair<Set<String>, Set<String>> found = jdbcTemplate.execute(
+                (ConnectionCallback<Pair<Set<String>, Set<String>>>) conn -> {
+                    DatabaseMetaData meta = conn.getMetaData();
+
+                    Set<String> tables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+                    try (ResultSet rs = meta.getTables(conn.getCatalog(), null, null, new String[] { "TABLE" })) {
+                        while (rs.next()) {
+                            if (lookupTables.contains(rs.getString("TABLE_NAME"))) {
+                                tables.add(rs.getString("TABLE_NAME"));
+                            }
+                        }
+                    }
+
+                    Set<String> indexes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+                    for (String table : tables) {
+                        try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, table, false, true)) {
+                            while (rs.next()) {
+                                Optional.ofNullable(rs.getString("INDEX_NAME")).ifPresent(indexes::add);
+                            }
+                        }
+                    }
+
+                    return Pair.of(tables, indexes);
+                });
+
+        Properties indexes = PropertiesLoaderUtils.loadProperties(indexesXML.getResource());
+        indexes.stringPropertyNames().stream().sorted().forEachOrdered(idx -> {
+            Matcher matcher = INDEX_TABLE.matcher(indexes.getProperty(idx));
+            if (matcher.find() && found.getLeft().contains(matcher.group(1)) && !found.getRight().contains(idx)) {
+                LOG.info("[{}] Creating missing index {}", domain, indexes.get(idx).toString());
+                try {
+                    jdbcTemplate.execute(indexes.getProperty(idx));
+                } catch (DataAccessException e) {
+                    LOG.error("[{}] Could not create index", domain, e);
+                }
+            }
+        });
+    }
 }
@@ -42,6 +42,7 @@ import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
@@ -87,6 +88,10 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
     @Lazy
     protected DynRealmDAO dynRealmDAO;
 
+    @Autowired
+    @Lazy
+    protected PushFingerprintDAO pushFingerprintDAO;
+
     private AnyUtils anyUtils;
 
     protected abstract AnyUtils init();
@@ -506,7 +511,9 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
 
     @Override
     public A save(final A any) {
-        return entityManager().merge(any);
+        A merged = entityManager().merge(any);
+        plainSchemaDAO.indexAttrs(merged);
+        return merged;
     }
 
     @Override
@@ -28,12 +28,15 @@ import java.util.stream.Collectors;
 import javax.validation.ValidationException;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
@@ -61,6 +64,8 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 
 public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO {
@@ -354,4 +359,95 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
 
         return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
     }
+
+    @Override
+    public <T extends Any<?>> List<T> searchAfter(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String lastKey,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        return searchAfter(
+                adminRealms,
+                cond,
+                List.of(),
+                Optional.ofNullable(lastKey).map(List::of).orElseGet(List::of),
+                itemsPerPage,
+                kind);
+    }
+
+    protected static OrderByClause keyClause() {
+        OrderByClause keyClause = new OrderByClause();
+        keyClause.setField("key");
+        keyClause.setDirection(OrderByClause.Direction.ASC);
+        return keyClause;
+    }
+
+    /**
+     * Only string fields which cannot be null are allowed for cursor-based paging, as null values would be compared
+     * differently by each underlying storage.
+     *
+     * @param orderBy list of ordering clauses
+     * @param kind any type kind
+     */
+    protected void checkCursorOrderBy(final List<OrderByClause> orderBy, final AnyTypeKind kind) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(kind);
+
+        orderBy.forEach(clause -> {
+            Field field = anyUtils.getField(clause.getField());
+            if (field == null || !String.class.equals(field.getType())
+                    || (!"key".equals(clause.getField()) && field.getAnnotation(NotNull.class) == null)) {
+
+                SyncopeClientException invalidSearch =
+                        SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+                invalidSearch.getElements().add("Order by " + clause.getField() + " is not allowed with cursor");
+                throw invalidSearch;
+            }
+        });
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> searchAfter(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<OrderByClause> orderBy,
+            final List<String> after,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        List<OrderByClause> effectiveOrderBy = new ArrayList<>(orderBy);
+        effectiveOrderBy.add(keyClause());
+        checkCursorOrderBy(effectiveOrderBy, kind);
+
+        if (!after.isEmpty() && after.size() != effectiveOrderBy.size()) {
+            SyncopeClientException invalidSearch =
+                    SyncopeClientException.build(ClientExceptionType.InvalidSearchExpression);
+            invalidSearch.getElements().add("Cursor does not match ordering clauses");
+            throw invalidSearch;
+        }
+
+        return doSearchAfter(adminRealms, cond, effectiveOrderBy, after, itemsPerPage, kind);
+    }
+
+    protected abstract <T extends Any<?>> List<T> doSearchAfter(
+            Set<String> adminRealms,
+            SearchCond cond,
+            List<OrderByClause> orderBy,
+            List<String> after,
+            int itemsPerPage,
+            AnyTypeKind kind);
+
+    @Override
+    public List<String> cursorValues(final Any<?> any, final List<OrderByClause> orderBy) {
+        List<OrderByClause> effectiveOrderBy = new ArrayList<>(orderBy);
+        effectiveOrderBy.add(keyClause());
+
+        checkCursorOrderBy(effectiveOrderBy, any.getType().getKind());
+
+        BeanWrapper anyWrapper = new BeanWrapperImpl(any);
+        return effectiveOrderBy.stream().
+                map(clause -> (String) anyWrapper.getPropertyValue(clause.getField())).
+                collect(Collectors.toList());
+    }
 }
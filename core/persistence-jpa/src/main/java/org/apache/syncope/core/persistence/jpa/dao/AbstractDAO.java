@@ -18,7 +18,14 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.dao.DAO;
@@ -44,6 +51,36 @@ public abstract class AbstractDAO<E extends Entity> implements DAO<E> {
         return entityManager;
     }
 
+    /**
+     * Reads with a single query the rows of the given dynamic membership table for the given any objects, users or
+     * groups.
+     *
+     * @param table dynamic membership table
+     * @param column column referring to the group, role or dynamic realm
+     * @param anyKeys keys of any objects, users or groups
+     * @return pairs of any key and group, role or dynamic realm key
+     */
+    @SuppressWarnings("unchecked")
+    protected Set<Pair<String, String>> findDynMemberships(
+            final String table, final String column, final Collection<String> anyKeys) {
+
+        if (anyKeys.isEmpty()) {
+            return Set.of();
+        }
+
+        Query query = entityManager().createNativeQuery(
+                "SELECT any_id, " + column + " FROM " + table
+                + " WHERE any_id IN (" + StringUtils.repeat("?", ",", anyKeys.size()) + ')');
+        int index = 1;
+        for (String key : anyKeys) {
+            query.setParameter(index++, key);
+        }
+
+        return ((List<Object[]>) query.getResultList()).stream().
+                map(row -> Pair.of((String) row[0], (String) row[1])).
+                collect(Collectors.toSet());
+    }
+
     @Override
     public void refresh(final E entity) {
         entityManager().refresh(entity);
@@ -18,8 +18,12 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
@@ -28,6 +32,10 @@ import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
+import org.apache.syncope.core.provisioning.api.event.AccessTokenChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
@@ -35,6 +43,11 @@ import org.springframework.util.ReflectionUtils;
 @Repository
 public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements AccessTokenDAO {
 
+    protected static final int MAX_IN_PARAMS = 500;
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Transactional(readOnly = true)
     @Override
     public AccessToken find(final String key) {
@@ -59,6 +72,26 @@ public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements Acces
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, Date> findExpiryTimes(final Collection<String> keys) {
+        Map<String, Date> result = new HashMap<>(keys.size());
+
+        List<String> keyList = new ArrayList<>(keys);
+        for (int i = 0; i < keyList.size(); i += MAX_IN_PARAMS) {
+            Query query = entityManager().createQuery(
+                    "SELECT e.id, e.expiryTime FROM " + JPAAccessToken.class.getSimpleName() + " e "
+                    + "WHERE e.id IN :keys");
+            query.setParameter("keys", keyList.subList(i, Math.min(i + MAX_IN_PARAMS, keyList.size())));
+
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = query.getResultList();
+            rows.forEach(row -> result.put((String) row[0], (Date) row[1]));
+        }
+
+        return result;
+    }
+
     private StringBuilder buildFindAllQuery() {
         return new StringBuilder("SELECT e FROM ").
                 append(JPAAccessToken.class.getSimpleName()).
@@ -112,7 +145,9 @@ public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements Acces
     @Transactional(rollbackFor = Throwable.class)
     @Override
     public AccessToken save(final AccessToken accessToken) {
-        return entityManager().merge(accessToken);
+        AccessToken merged = entityManager().merge(accessToken);
+        publisher.publishEvent(new AccessTokenChangedEvent(this, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Transactional(rollbackFor = Throwable.class)
@@ -129,6 +164,7 @@ public class JPAAccessTokenDAO extends AbstractDAO<AccessToken> implements Acces
     @Override
     public void delete(final AccessToken accessToken) {
         entityManager().remove(accessToken);
+        publisher.publishEvent(new AccessTokenChangedEvent(this, accessToken.getKey(), AuthContextUtils.getDomain()));
     }
 
     @Override
@@ -257,6 +257,8 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
             entityManager().remove(relationship);
         });
 
+        plainSchemaDAO.unindexAttrs(anyObject);
+        pushFingerprintDAO.deleteByAny(anyObject.getKey());
         entityManager().remove(anyObject);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.ANY_OBJECT, anyObject.getKey(), anyObject.getName(), AuthContextUtils.getDomain()));
@@ -149,7 +149,6 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected <T extends Any<?>> List<T> doSearch(
             final Set<String> adminRealms,
             final SearchCond cond,
@@ -158,6 +157,32 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             final List<OrderByClause> orderBy,
             final AnyTypeKind kind) {
 
+        return doSearch(
+                adminRealms, cond, orderBy, List.of(), itemsPerPage * (page <= 0 ? 0 : page - 1), itemsPerPage, kind);
+    }
+
+    @Override
+    protected <T extends Any<?>> List<T> doSearchAfter(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<OrderByClause> orderBy,
+            final List<String> after,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        return doSearch(adminRealms, cond, orderBy, after, 0, itemsPerPage, kind);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Any<?>> List<T> doSearch(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<OrderByClause> orderBy,
+            final List<String> after,
+            final int firstResult,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
         try {
             List<Object> parameters = new ArrayList<>();
 
@@ -182,9 +207,11 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 queryString.insert(0, buildSelect(obs).append('('));
                 queryString.append(')').append(buildWhere(svs, queryInfo.getRight(), obs));
             }
-            queryString.
-                    append(filter.getLeft()).
-                    append(buildOrderBy(obs));
+            queryString.append(filter.getLeft());
+            if (!after.isEmpty()) {
+                queryString.append(" AND ").append(buildSeek(svs, orderBy, after, parameters));
+            }
+            queryString.append(buildOrderBy(obs));
 
             LOG.debug("Query with auth and order by statements: {}, parameters: {}", queryString, parameters);
 
@@ -192,7 +219,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             Query query = entityManager().createNativeQuery(queryString.toString());
 
             // 4. page starts from 1, while setFirtResult() starts from 0
-            query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
+            query.setFirstResult(firstResult);
 
             if (itemsPerPage >= 0) {
                 query.setMaxResults(itemsPerPage);
@@ -309,6 +336,54 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return where;
     }
 
+    /**
+     * Builds the predicate matching rows following the given values, according to the given ordering clauses:
+     * {@code (f1 > v1) OR (f1 = v1 AND f2 > v2) OR ...}, with {@code <} replacing {@code >} for descending clauses.
+     * Fields are compared as columns of the any view joined by the main query, so that the predicate can be served
+     * by the indexes on the underlying table.
+     *
+     * @param svs search support
+     * @param orderBy ordering clauses, ending with key
+     * @param after values for ordering fields
+     * @param parameters query parameters
+     * @return predicate matching rows following the given values
+     */
+    private StringBuilder buildSeek(
+            final SearchSupport svs,
+            final List<OrderByClause> orderBy,
+            final List<String> after,
+            final List<Object> parameters) {
+
+        StringBuilder seek = new StringBuilder("(");
+        for (int i = 0; i < orderBy.size(); i++) {
+            if (i > 0) {
+                seek.append(" OR ");
+            }
+            seek.append('(');
+            for (int j = 0; j < i; j++) {
+                seek.append(svs.field().alias).append('.').append(column(orderBy.get(j).getField())).
+                        append("=?").append(setParameter(parameters, after.get(j))).append(" AND ");
+            }
+            seek.append(svs.field().alias).append('.').append(column(orderBy.get(i).getField())).
+                    append(orderBy.get(i).getDirection() == OrderByClause.Direction.DESC ? "<" : ">").
+                    append('?').append(setParameter(parameters, after.get(i))).
+                    append(')');
+        }
+        return seek.append(')');
+    }
+
+    private static String column(final String field) {
+        // Manage difference among external key attribute and internal JPA @Id
+        String column = "key".equals(field) ? "id" : field;
+
+        // Adjust field name to column name
+        if (ArrayUtils.contains(RELATIONSHIP_FIELDS, column)) {
+            column += "_id";
+        }
+
+        return column;
+    }
+
     private StringBuilder buildOrderBy(final OrderBySupport obs) {
         StringBuilder orderBy = new StringBuilder();
 
@@ -321,6 +396,23 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         return orderBy;
     }
 
+    /**
+     * Returns the view holding the values of the given plain schema: the lookup table if the schema is flagged as
+     * indexed, otherwise the view for unique or non-unique values.
+     *
+     * @param svs search support
+     * @param schema plain schema
+     * @return view holding the values of the given plain schema
+     */
+    protected SearchSupport.SearchView attrView(final SearchSupport svs, final PlainSchema schema) {
+        if (schema.isIndexed()) {
+            return svs.asSearchViewSupport().indexedAttr();
+        }
+        return schema.isUniqueConstraint()
+                ? svs.asSearchViewSupport().uniqueAttr()
+                : svs.asSearchViewSupport().attr();
+    }
+
     protected String key(final AttrSchemaType schemaType) {
         String key;
         switch (schemaType) {
@@ -362,28 +454,34 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         // keep track of involvement of non-mandatory schemas in the order by clauses
         obs.nonMandatorySchemas = !"true".equals(schema.getMandatoryCondition());
 
-        if (schema.isUniqueConstraint()) {
-            obs.views.add(svs.asSearchViewSupport().uniqueAttr());
-
-            item.select = new StringBuilder().
-                    append(svs.asSearchViewSupport().uniqueAttr().alias).append('.').
-                    append(key(schema.getType())).
-                    append(" AS ").append(fieldName).toString();
-            item.where = new StringBuilder().
-                    append(svs.asSearchViewSupport().uniqueAttr().alias).
-                    append(".schema_id='").append(fieldName).append("'").toString();
-            item.orderBy = fieldName + " " + clause.getDirection().name();
-        } else {
-            obs.views.add(svs.asSearchViewSupport().attr());
-
-            item.select = new StringBuilder().
-                    append(svs.asSearchViewSupport().attr().alias).append('.').append(key(schema.getType())).
-                    append(" AS ").append(fieldName).toString();
-            item.where = new StringBuilder().
-                    append(svs.asSearchViewSupport().attr().alias).
-                    append(".schema_id='").append(fieldName).append("'").toString();
+        if (schema.isIndexed()) {
+            // sort by the values in lookup table for the given schema, null for who has none
+            String table = svs.asSearchViewSupport().indexedAttr().name;
+            SearchSupport.SearchView view = new SearchSupport.SearchView(
+                    "svo" + obs.views.size(),
+                    "(SELECT any_id, " + key(schema.getType()) + " AS " + fieldName
+                    + " FROM " + table + " WHERE schema_id='" + fieldName + "'"
+                    + " UNION SELECT any_id, null AS " + fieldName + " FROM " + svs.field().name
+                    + " WHERE any_id NOT IN (SELECT any_id FROM " + table
+                    + " WHERE schema_id='" + fieldName + "'))");
+            obs.views.add(view);
+
+            item.select = view.alias + '.' + fieldName;
+            item.where = StringUtils.EMPTY;
             item.orderBy = fieldName + " " + clause.getDirection().name();
+            return;
         }
+
+        SearchSupport.SearchView attrView = attrView(svs, schema);
+        obs.views.add(attrView);
+
+        item.select = new StringBuilder().
+                append(attrView.alias).append('.').append(key(schema.getType())).
+                append(" AS ").append(fieldName).toString();
+        item.where = new StringBuilder().
+                append(attrView.alias).
+                append(".schema_id='").append(fieldName).append("'").toString();
+        item.orderBy = fieldName + " " + clause.getDirection().name();
     }
 
     private OrderBySupport parseOrderBy(
@@ -419,13 +517,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                     parseOrderByForPlainSchema(svs, obs, item, clause, schema, clause.getField());
                 }
             } else {
-                // Manage difference among external key attribute and internal JPA @Id
-                String fieldName = "key".equals(clause.getField()) ? "id" : clause.getField();
-
-                // Adjust field name to column name
-                if (ArrayUtils.contains(RELATIONSHIP_FIELDS, fieldName)) {
-                    fieldName += "_id";
-                }
+                String fieldName = column(clause.getField());
 
                 obs.views.add(svs.field());
 
@@ -855,12 +947,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 && !(cond instanceof AnyCond)
                 && cond.getType() != AttributeCond.Type.ISNULL && cond.getType() != AttributeCond.Type.ISNOTNULL) {
 
-            query.append("any_id NOT IN (SELECT DISTINCT any_id FROM ");
-            if (schema.isUniqueConstraint()) {
-                query.append(svs.asSearchViewSupport().uniqueAttr().name);
-            } else {
-                query.append(svs.asSearchViewSupport().attr().name);
-            }
+            query.append("any_id NOT IN (SELECT DISTINCT any_id FROM ").append(attrView(svs, schema).name);
             query.append(" WHERE schema_id='").append(schema.getKey());
             fillAttrQuery(query, attrValue, schema, cond, false, parameters, svs);
             query.append(")");
@@ -989,9 +1076,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
         StringBuilder query = new StringBuilder("SELECT DISTINCT any_id FROM ");
         switch (cond.getType()) {
             case ISNOTNULL:
-                query.append(checked.getLeft().isUniqueConstraint()
-                        ? svs.asSearchViewSupport().uniqueAttr().name
-                        : svs.asSearchViewSupport().attr().name).
+                query.append(attrView(svs, checked.getLeft()).name).
                         append(" WHERE schema_id=").append("'").append(checked.getLeft().getKey()).append("'");
                 break;
 
@@ -1000,9 +1085,7 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                         append(" WHERE any_id NOT IN ").
                         append("(").
                         append("SELECT DISTINCT any_id FROM ").
-                        append(checked.getLeft().isUniqueConstraint()
-                                ? svs.asSearchViewSupport().uniqueAttr().name
-                                : svs.asSearchViewSupport().attr().name).
+                        append(attrView(svs, checked.getLeft()).name).
                         append(" WHERE schema_id=").append("'").append(checked.getLeft().getKey()).append("'").
                         append(")");
                 break;
@@ -1011,12 +1094,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 if (not && !(cond instanceof AnyCond) && checked.getLeft().isMultivalue()) {
                     query.append(svs.field().name).append(" WHERE ");
                 } else {
-                    if (checked.getLeft().isUniqueConstraint()) {
-                        query.append(svs.asSearchViewSupport().uniqueAttr().name);
-                    } else {
-                        query.append(svs.asSearchViewSupport().attr().name);
-                    }
-                    query.append(" WHERE schema_id='").append(checked.getLeft().getKey());
+                    query.append(attrView(svs, checked.getLeft()).name).
+                            append(" WHERE schema_id='").append(checked.getLeft().getKey());
                 }
                 fillAttrQuery(query, checked.getRight(), checked.getLeft(), cond, not, parameters, svs);
         }
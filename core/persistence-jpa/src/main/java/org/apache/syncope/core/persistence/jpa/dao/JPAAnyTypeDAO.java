@@ -26,13 +26,19 @@ import org.apache.syncope.core.persistence.api.dao.RemediationDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPAAnyTypeDAO extends AbstractDAO<AnyType> implements AnyTypeDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     private RemediationDAO remediationDAO;
 
@@ -73,7 +79,10 @@ public class JPAAnyTypeDAO extends AbstractDAO<AnyType> implements AnyTypeDAO {
 
     @Override
     public AnyType save(final AnyType anyType) {
-        return entityManager().merge(anyType);
+        AnyType merged = entityManager().merge(anyType);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, AnyType.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -93,6 +102,8 @@ public class JPAAnyTypeDAO extends AbstractDAO<AnyType> implements AnyTypeDAO {
         });
 
         entityManager().remove(anyType);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, AnyType.class, anyType.getKey(), AuthContextUtils.getDomain()));
     }
 
 }
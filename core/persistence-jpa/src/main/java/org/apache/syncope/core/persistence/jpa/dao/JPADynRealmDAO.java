@@ -18,9 +18,13 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -134,6 +138,32 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
         }));
     }
 
+    @Transactional
+    @Override
+    public void refreshDynMemberships(final Collection<? extends Any<?>> anys) {
+        Set<Pair<String, String>> existing = findDynMemberships(
+                DYNMEMB_TABLE, "dynRealm_id", anys.stream().map(Any::getKey).collect(Collectors.toList()));
+
+        findAll().forEach(dynRealm -> anys.forEach(any -> dynRealm.getDynMembership(any.getType()).ifPresent(memb -> {
+            boolean matches = anyMatchDAO.matches(any, SearchCondConverter.convert(memb.getFIQLCond()));
+            boolean before = existing.contains(Pair.of(any.getKey(), dynRealm.getKey()));
+
+            if (matches && !before) {
+                Query insert = entityManager().
+                        createNativeQuery("INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+                insert.setParameter(1, any.getKey());
+                insert.setParameter(2, dynRealm.getKey());
+                insert.executeUpdate();
+            } else if (!matches && before) {
+                Query delete = entityManager().createNativeQuery(
+                        "DELETE FROM " + DYNMEMB_TABLE + " WHERE dynRealm_id=? AND any_id=?");
+                delete.setParameter(1, dynRealm.getKey());
+                delete.setParameter(2, any.getKey());
+                delete.executeUpdate();
+            }
+        })));
+    }
+
     @Override
     public void removeDynMemberships(final String anyKey) {
         Query delete = entityManager().createNativeQuery("DELETE FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
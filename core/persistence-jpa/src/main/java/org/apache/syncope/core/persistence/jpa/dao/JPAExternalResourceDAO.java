@@ -32,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceHistoryConfDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
@@ -52,15 +53,20 @@ import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResour
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAMapping;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAProvision;
 import org.apache.syncope.core.provisioning.api.ConnectorRegistry;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implements ExternalResourceDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     private ConnectorRegistry connRegistry;
 
@@ -88,6 +94,9 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
     @Autowired
     private ExternalResourceHistoryConfDAO externalResourceHistoryConfDAO;
 
+    @Autowired
+    private PushFingerprintDAO pushFingerprintDAO;
+
     @Override
     public int count() {
         Query query = entityManager().createQuery(
@@ -202,6 +211,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         } catch (NotFoundException e) {
             LOG.error("While registering connector for resource", e);
         }
+        publisher.publishEvent(new EntityChangedEvent(
+                this, ExternalResource.class, merged.getKey(), AuthContextUtils.getDomain()));
         return merged;
     }
 
@@ -266,6 +277,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
 
         externalResourceHistoryConfDAO.deleteByEntity(resource);
 
+        pushFingerprintDAO.deleteByResource(resource);
+
         if (resource.getConnector() != null && resource.getConnector().getResources() != null
                 && !resource.getConnector().getResources().isEmpty()) {
 
@@ -274,5 +287,7 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         resource.setConnector(null);
 
         entityManager().remove(resource);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, ExternalResource.class, resource.getKey(), AuthContextUtils.getDomain()));
     }
 }
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -340,6 +341,8 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         clearUDynMembers(group);
         clearADynMembers(group);
 
+        plainSchemaDAO.unindexAttrs(group);
+        pushFingerprintDAO.deleteByAny(group.getKey());
         entityManager().remove(group);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.GROUP, group.getKey(), group.getName(), AuthContextUtils.getDomain()));
@@ -576,6 +579,47 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return Pair.of(before, after);
     }
 
+    @Transactional
+    @Override
+    public Map<String, Pair<Set<String>, Set<String>>> refreshDynMemberships(final Collection<User> users) {
+        Set<Pair<String, String>> existing = findDynMemberships(
+                UDYNMEMB_TABLE, "group_id", users.stream().map(User::getKey).collect(Collectors.toList()));
+
+        Map<String, Pair<Set<String>, Set<String>>> result = new LinkedHashMap<>();
+        users.forEach(user -> result.put(user.getKey(), Pair.of(new HashSet<>(), new HashSet<>())));
+        existing.forEach(memb -> result.get(memb.getLeft()).getLeft().add(memb.getRight()));
+
+        findWithUDynMemberships().forEach(memb -> {
+            SearchCond cond = buildDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm());
+
+            users.forEach(user -> {
+                boolean matches = anyMatchDAO.matches(user, cond);
+                if (matches) {
+                    result.get(user.getKey()).getRight().add(memb.getGroup().getKey());
+                }
+
+                boolean before = existing.contains(Pair.of(user.getKey(), memb.getGroup().getKey()));
+                if (matches && !before) {
+                    Query insert = entityManager().createNativeQuery(
+                            "INSERT INTO " + UDYNMEMB_TABLE + " VALUES(?, ?)");
+                    insert.setParameter(1, user.getKey());
+                    insert.setParameter(2, memb.getGroup().getKey());
+                    insert.executeUpdate();
+                } else if (!matches && before) {
+                    Query delete = entityManager().createNativeQuery(
+                            "DELETE FROM " + UDYNMEMB_TABLE + " WHERE group_id=? AND any_id=?");
+                    delete.setParameter(1, memb.getGroup().getKey());
+                    delete.setParameter(2, user.getKey());
+                    delete.executeUpdate();
+                }
+            });
+
+            publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, memb.getGroup(), AuthContextUtils.getDomain()));
+        });
+
+        return result;
+    }
+
     @Override
     public Set<String> removeDynMemberships(final User user) {
         List<Group> dynGroups = userDAO.findDynGroups(user.getKey());
@@ -28,13 +28,19 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.MailTemplate;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.jpa.entity.JPANotification;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPANotificationDAO extends AbstractDAO<Notification> implements NotificationDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     private TaskDAO taskDAO;
 
@@ -74,7 +80,10 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
 
     @Override
     public Notification save(final Notification notification) {
-        return entityManager().merge(notification);
+        Notification merged = entityManager().merge(notification);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, Notification.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -89,5 +98,7 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
                 stream().map(Entity::getKey).forEach(this::delete);
 
         entityManager().remove(notification);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, Notification.class, notification.getKey(), AuthContextUtils.getDomain()));
     }
 }
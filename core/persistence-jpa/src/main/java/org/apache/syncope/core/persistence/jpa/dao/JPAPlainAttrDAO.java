@@ -18,16 +18,37 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import javax.persistence.Cache;
+import javax.persistence.Query;
+import javax.persistence.TemporalType;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.group.GPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 
 public class JPAPlainAttrDAO extends AbstractDAO<PlainAttr<?>> implements PlainAttrDAO {
 
@@ -52,4 +73,156 @@ public class JPAPlainAttrDAO extends AbstractDAO<PlainAttr<?>> implements PlainA
 
         entityManager().remove(plainAttr);
     }
+
+    /**
+     * Returns the column and the actual value to store, for the given plain schema.
+     *
+     * @param schema plain schema
+     * @param value plain attribute value
+     * @return column and value
+     */
+    protected static Pair<String, Object> column(final PlainSchema schema, final PlainAttrValue value) {
+        switch (schema.getType()) {
+            case Boolean:
+                return Pair.of("booleanValue", value.getBooleanValue());
+
+            case Long:
+                return Pair.of("longValue", value.getLongValue());
+
+            case Double:
+                return Pair.of("doubleValue", value.getDoubleValue());
+
+            case Date:
+                return Pair.of("dateValue", value.getDateValue());
+
+            case Binary:
+                return Pair.of("binaryValue", value.getBinaryValue());
+
+            case String:
+            case Enum:
+            case Encrypted:
+            default:
+                return Pair.of("stringValue", value.getStringValue());
+        }
+    }
+
+    protected int executeUpdate(final String statement, final List<?> parameters) {
+        Query query = entityManager().createNativeQuery(statement);
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i) instanceof Date) {
+                query.setParameter(i + 1, (Date) parameters.get(i), TemporalType.TIMESTAMP);
+            } else if (parameters.get(i) instanceof Boolean) {
+                query.setParameter(i + 1, ((Boolean) parameters.get(i))
+                        ? 1
+                        : 0);
+            } else {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Builds the condition selecting the attributes for a given plain schema, owned by the given number of any
+     * objects and not related to any membership; parameters are the plain schema key followed by any object keys.
+     *
+     * @param anyTypeKind any type kind
+     * @param size number of any objects
+     * @return SQL condition
+     */
+    protected static String ownedAttrs(final AnyTypeKind anyTypeKind, final int size) {
+        return "schema_id=?"
+                + (anyTypeKind == AnyTypeKind.GROUP ? "" : " AND membership_id IS NULL")
+                + " AND owner_id IN (" + StringUtils.repeat("?", ",", size) + ')';
+    }
+
+    /**
+     * Evicts from cache the plain attributes and values of the given kind, as well as the given any objects, after
+     * their statement-based update.
+     *
+     * @param anyTypeKind any type kind
+     * @param anyKeys any object keys
+     */
+    protected void evict(final AnyTypeKind anyTypeKind, final Collection<String> anyKeys) {
+        Cache cache = entityManager().getEntityManagerFactory().getCache();
+        switch (anyTypeKind) {
+            case ANY_OBJECT:
+                cache.evict(JPAAPlainAttrValue.class);
+                cache.evict(JPAAPlainAttrUniqueValue.class);
+                cache.evict(JPAAPlainAttr.class);
+                anyKeys.forEach(key -> cache.evict(JPAAnyObject.class, key));
+                break;
+
+            case GROUP:
+                cache.evict(JPAGPlainAttrValue.class);
+                cache.evict(JPAGPlainAttrUniqueValue.class);
+                cache.evict(JPAGPlainAttr.class);
+                anyKeys.forEach(key -> cache.evict(JPAGroup.class, key));
+                break;
+
+            case USER:
+            default:
+                cache.evict(JPAUPlainAttrValue.class);
+                cache.evict(JPAUPlainAttrUniqueValue.class);
+                cache.evict(JPAUPlainAttr.class);
+                anyKeys.forEach(key -> cache.evict(JPAUser.class, key));
+        }
+    }
+
+    @Override
+    public int replaceValues(
+            final AnyTypeKind anyTypeKind,
+            final PlainSchema schema,
+            final PlainAttrValue value,
+            final Collection<String> anyKeys) {
+
+        if (schema.isMultivalue() || schema.isUniqueConstraint()) {
+            throw new IllegalArgumentException("Only single-valued, non-unique plain schemas are supported");
+        }
+        if (anyKeys.isEmpty()) {
+            return 0;
+        }
+
+        Pair<String, Object> column = column(schema, value);
+
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(column.getRight());
+        parameters.add(schema.getKey());
+        parameters.addAll(anyKeys);
+
+        int replaced = executeUpdate(
+                "UPDATE " + JPAPlainSchemaDAO.attrTables(anyTypeKind).getMiddle()
+                + " SET " + column.getLeft() + "=?"
+                + " WHERE attribute_id IN (SELECT id FROM " + JPAPlainSchemaDAO.attrTables(anyTypeKind).getLeft()
+                + " WHERE " + ownedAttrs(anyTypeKind, anyKeys.size()) + ')',
+                parameters);
+
+        evict(anyTypeKind, anyKeys);
+        return replaced;
+    }
+
+    @Override
+    public int deleteAttrs(final AnyTypeKind anyTypeKind, final PlainSchema schema, final Collection<String> anyKeys) {
+        if (anyKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(schema.getKey());
+        parameters.addAll(anyKeys);
+
+        String attrTable = JPAPlainSchemaDAO.attrTables(anyTypeKind).getLeft();
+        for (String valueTable : List.of(
+                JPAPlainSchemaDAO.attrTables(anyTypeKind).getMiddle(),
+                JPAPlainSchemaDAO.attrTables(anyTypeKind).getRight())) {
+
+            executeUpdate("DELETE FROM " + valueTable + " WHERE attribute_id IN (SELECT id FROM " + attrTable
+                    + " WHERE " + ownedAttrs(anyTypeKind, anyKeys.size()) + ')', parameters);
+        }
+        int deleted = executeUpdate(
+                "DELETE FROM " + attrTable + " WHERE " + ownedAttrs(anyTypeKind, anyKeys.size()), parameters);
+
+        evict(anyTypeKind, anyKeys);
+        return deleted;
+    }
 }
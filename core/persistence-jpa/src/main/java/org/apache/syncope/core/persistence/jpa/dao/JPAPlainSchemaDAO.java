@@ -18,13 +18,19 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import javax.persistence.FlushModeType;
+import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -32,11 +38,63 @@ import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrIndex;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrIndex;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrIndex;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 
 public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements PlainSchemaDAO {
 
+    /**
+     * Returns the lookup table holding the values of indexed plain schemas for the given kind.
+     *
+     * @param anyTypeKind any type kind
+     * @return lookup table name
+     */
+    public static String indexTable(final AnyTypeKind anyTypeKind) {
+        switch (anyTypeKind) {
+            case ANY_OBJECT:
+                return JPAAPlainAttrIndex.TABLE;
+
+            case GROUP:
+                return JPAGPlainAttrIndex.TABLE;
+
+            case USER:
+            default:
+                return JPAUPlainAttrIndex.TABLE;
+        }
+    }
+
+    /**
+     * Returns attribute, value and unique value tables for the given kind.
+     *
+     * @param anyTypeKind any type kind
+     * @return attribute, value and unique value tables
+     */
+    protected static Triple<String, String, String> attrTables(final AnyTypeKind anyTypeKind) {
+        switch (anyTypeKind) {
+            case ANY_OBJECT:
+                return Triple.of(JPAAPlainAttr.TABLE, JPAAPlainAttrValue.TABLE, JPAAPlainAttrUniqueValue.TABLE);
+
+            case GROUP:
+                return Triple.of(JPAGPlainAttr.TABLE, JPAGPlainAttrValue.TABLE, JPAGPlainAttrUniqueValue.TABLE);
+
+            case USER:
+            default:
+                return Triple.of(JPAUPlainAttr.TABLE, JPAUPlainAttrValue.TABLE, JPAUPlainAttrUniqueValue.TABLE);
+        }
+    }
+
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
@@ -103,16 +161,123 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
         return query.getResultList();
     }
 
+    /**
+     * Returns the keys of plain schemas flagged as indexed, as currently stored; pending changes are not flushed, to
+     * leave unaffected whoever is not relying on lookup tables.
+     *
+     * @return keys of plain schemas flagged as indexed
+     */
+    protected List<String> findIndexedKeys() {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + JPAPlainSchema.class.getSimpleName()
+                + " e WHERE e.indexed=:indexed", String.class);
+        query.setParameter("indexed", Boolean.TRUE);
+        query.setFlushMode(FlushModeType.COMMIT);
+        return query.getResultList();
+    }
+
+    protected int executeUpdate(final String statement, final List<?> parameters) {
+        Query query = entityManager().createNativeQuery(statement);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Copies into the lookup table for the given kind all the values matching the given condition, expressed on the
+     * attribute table aliased as {@code a}.
+     *
+     * @param anyTypeKind any type kind
+     * @param condition SQL condition on attributes
+     * @param parameters values for the positional parameters in condition
+     * @return number of values copied
+     */
+    protected int copyValues(final AnyTypeKind anyTypeKind, final String condition, final List<?> parameters) {
+        Triple<String, String, String> tables = attrTables(anyTypeKind);
+
+        int copied = 0;
+        for (String valueTable : List.of(tables.getMiddle(), tables.getRight())) {
+            copied += executeUpdate("INSERT INTO " + indexTable(anyTypeKind)
+                    + " (id, any_id, schema_id, booleanValue, dateValue, doubleValue, longValue, stringValue)"
+                    + " SELECT v.id, a.owner_id, a.schema_id,"
+                    + " v.booleanValue, v.dateValue, v.doubleValue, v.longValue, v.stringValue"
+                    + " FROM " + valueTable + " v, " + tables.getLeft() + " a"
+                    + " WHERE v.attribute_id=a.id AND " + condition,
+                    parameters);
+        }
+        return copied;
+    }
+
+    /**
+     * Rebuilds or clears the lookup values for the given plain schema, according to its indexed flag.
+     *
+     * @param schema plain schema
+     */
+    protected void reindex(final PlainSchema schema) {
+        for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
+            executeUpdate("DELETE FROM " + indexTable(anyTypeKind) + " WHERE schema_id=?", List.of(schema.getKey()));
+            if (schema.isIndexed()) {
+                int copied = copyValues(anyTypeKind, "a.schema_id=?", List.of(schema.getKey()));
+                LOG.debug("Indexed {} {} values for plain schema {}", copied, anyTypeKind, schema.getKey());
+            }
+        }
+    }
+
+    @Override
+    public void indexAttrs(final Any<?> any) {
+        List<String> indexed = findIndexedKeys();
+        if (indexed.isEmpty()) {
+            return;
+        }
+
+        // make pending attribute changes visible to the statements below
+        entityManager().flush();
+
+        AnyTypeKind anyTypeKind = anyUtilsFactory.getInstance(any).anyTypeKind();
+        executeUpdate("DELETE FROM " + indexTable(anyTypeKind) + " WHERE any_id=?", List.of(any.getKey()));
+
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(any.getKey());
+        parameters.addAll(indexed);
+        copyValues(
+                anyTypeKind,
+                "a.owner_id=? AND a.schema_id IN (" + StringUtils.repeat("?", ",", indexed.size()) + ')',
+                parameters);
+    }
+
+    @Override
+    public void unindexAttrs(final Any<?> any) {
+        if (!findIndexedKeys().isEmpty()) {
+            executeUpdate("DELETE FROM " + indexTable(anyUtilsFactory.getInstance(any).anyTypeKind())
+                    + " WHERE any_id=?", List.of(any.getKey()));
+        }
+    }
+
     @Override
     public PlainSchema save(final PlainSchema schema) {
-        return entityManager().merge(schema);
+        // queries see the pending indexed flag of managed schemas, hence the one stored cannot be told: reindex anyway
+        boolean wasIndexed = entityManager().contains(schema) || findIndexedKeys().contains(schema.getKey());
+
+        PlainSchema merged = entityManager().merge(schema);
+        if (wasIndexed || merged.isIndexed()) {
+            reindex(merged);
+        }
+        return merged;
     }
 
     protected void deleteAttrs(final PlainSchema schema) {
+        boolean indexed = findIndexedKeys().contains(schema.getKey());
+
         for (AnyTypeKind anyTypeKind : AnyTypeKind.values()) {
             AnyUtils anyUtils = anyUtilsFactory.getInstance(anyTypeKind);
 
             findAttrs(schema, anyUtils.plainAttrClass()).forEach(attr -> plainAttrDAO.delete(attr));
+
+            if (indexed) {
+                executeUpdate("DELETE FROM " + indexTable(anyTypeKind) + " WHERE schema_id=?",
+                        List.of(schema.getKey()));
+            }
         }
     }
 
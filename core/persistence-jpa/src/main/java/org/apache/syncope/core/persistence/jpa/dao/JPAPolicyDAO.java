@@ -37,13 +37,19 @@ import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPasswordPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPullPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPushCorrelationRuleEntity;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPushPolicy;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JPAPolicyDAO extends AbstractDAO<Policy> implements PolicyDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     @Lazy
     private RealmDAO realmDAO;
@@ -137,7 +143,10 @@ public class JPAPolicyDAO extends AbstractDAO<Policy> implements PolicyDAO {
 
     @Override
     public <T extends Policy> T save(final T policy) {
-        return entityManager().merge(policy);
+        T merged = entityManager().merge(policy);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, Policy.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -163,5 +172,7 @@ public class JPAPolicyDAO extends AbstractDAO<Policy> implements PolicyDAO {
         });
 
         entityManager().remove(policy);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, Policy.class, policy.getKey(), AuthContextUtils.getDomain()));
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.List;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
+import org.apache.syncope.core.persistence.jpa.entity.resource.JPAPushFingerprint;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+@Repository
+public class JPAPushFingerprintDAO extends AbstractDAO<PushFingerprint> implements PushFingerprintDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public PushFingerprint find(final String anyKey, final ExternalResource resource) {
+        TypedQuery<PushFingerprint> query = entityManager().createQuery(
+                "SELECT e FROM " + JPAPushFingerprint.class.getSimpleName() + " e "
+                + "WHERE e.anyKey=:anyKey AND e.resource=:resource", PushFingerprint.class);
+        query.setParameter("anyKey", anyKey);
+        query.setParameter("resource", resource);
+
+        List<PushFingerprint> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    @Override
+    public PushFingerprint save(final PushFingerprint fingerprint) {
+        return entityManager().merge(fingerprint);
+    }
+
+    @Override
+    public void delete(final String anyKey, final ExternalResource resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPushFingerprint.class.getSimpleName() + " e "
+                + "WHERE e.anyKey=:anyKey AND e.resource=:resource");
+        query.setParameter("anyKey", anyKey);
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteByAny(final String anyKey) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPushFingerprint.class.getSimpleName() + " e WHERE e.anyKey=:anyKey");
+        query.setParameter("anyKey", anyKey);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteByResource(final ExternalResource resource) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPAPushFingerprint.class.getSimpleName() + " e WHERE e.resource=:resource");
+        query.setParameter("resource", resource);
+        query.executeUpdate();
+    }
+}
@@ -19,14 +19,19 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Privilege;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
@@ -34,6 +39,7 @@ import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
@@ -92,7 +98,9 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     @Override
     public Role save(final Role role) {
-        return entityManager().merge(role);
+        Role merged = entityManager().merge(role);
+        publisher.publishEvent(new EntityChangedEvent(this, Role.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -132,6 +140,7 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         clearDynMembers(role);
 
         entityManager().remove(role);
+        publisher.publishEvent(new EntityChangedEvent(this, Role.class, role.getKey(), AuthContextUtils.getDomain()));
     }
 
     @Override
@@ -201,6 +210,35 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
         });
     }
 
+    @Override
+    public void refreshDynMemberships(final Collection<User> users) {
+        Set<Pair<String, String>> existing = findDynMemberships(
+                DYNMEMB_TABLE, "role_id", users.stream().map(User::getKey).collect(Collectors.toList()));
+
+        findAll().stream().filter(role -> role.getDynMembership() != null).forEach(role -> {
+            SearchCond cond = SearchCondConverter.convert(role.getDynMembership().getFIQLCond());
+
+            users.forEach(user -> {
+                boolean matches = anyMatchDAO.matches(user, cond);
+                boolean before = existing.contains(Pair.of(user.getKey(), role.getKey()));
+
+                if (matches && !before) {
+                    Query insert = entityManager().createNativeQuery(
+                            "INSERT INTO " + DYNMEMB_TABLE + " VALUES(?, ?)");
+                    insert.setParameter(1, user.getKey());
+                    insert.setParameter(2, role.getKey());
+                    insert.executeUpdate();
+                } else if (!matches && before) {
+                    Query delete = entityManager().createNativeQuery(
+                            "DELETE FROM " + DYNMEMB_TABLE + " WHERE role_id=? AND any_id=?");
+                    delete.setParameter(1, role.getKey());
+                    delete.setParameter(2, user.getKey());
+                    delete.executeUpdate();
+                }
+            });
+        });
+    }
+
     @Override
     public void removeDynMemberships(final String key) {
         Query delete = entityManager().createNativeQuery("DELETE FROM " + DYNMEMB_TABLE + " WHERE any_id=?");
@@ -24,12 +24,18 @@ import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.user.SecurityQuestion;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPASecurityQuestion;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JPASecurityQuestionDAO extends AbstractDAO<SecurityQuestion> implements SecurityQuestionDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     private UserDAO userDAO;
 
@@ -47,7 +53,10 @@ public class JPASecurityQuestionDAO extends AbstractDAO<SecurityQuestion> implem
 
     @Override
     public SecurityQuestion save(final SecurityQuestion securityQuestion) {
-        return entityManager().merge(securityQuestion);
+        SecurityQuestion merged = entityManager().merge(securityQuestion);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, SecurityQuestion.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -64,5 +73,7 @@ public class JPASecurityQuestionDAO extends AbstractDAO<SecurityQuestion> implem
         });
 
         entityManager().remove(securityQuestion);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, SecurityQuestion.class, securityQuestion.getKey(), AuthContextUtils.getDomain()));
     }
 }
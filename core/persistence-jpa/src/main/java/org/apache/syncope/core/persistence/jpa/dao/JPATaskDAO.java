@@ -47,7 +47,10 @@ import org.apache.syncope.core.persistence.jpa.entity.task.JPASchedTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPAPullTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.AbstractTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
@@ -55,6 +58,9 @@ import org.springframework.util.ReflectionUtils;
 @Repository
 public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     private RemediationDAO remediationDAO;
 
@@ -435,7 +441,12 @@ public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
     @Transactional(rollbackFor = { Throwable.class })
     @Override
     public <T extends Task> T save(final T task) {
-        return entityManager().merge(task);
+        T merged = entityManager().merge(task);
+        if (merged instanceof PullTask) {
+            publisher.publishEvent(new EntityChangedEvent(
+                    this, PullTask.class, merged.getKey(), AuthContextUtils.getDomain()));
+        }
+        return merged;
     }
 
     @Override
@@ -455,6 +466,11 @@ public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
         }
 
         entityManager().remove(task);
+
+        if (task instanceof PullTask) {
+            publisher.publishEvent(new EntityChangedEvent(
+                    this, PullTask.class, task.getKey(), AuthContextUtils.getDomain()));
+        }
     }
 
     @Override
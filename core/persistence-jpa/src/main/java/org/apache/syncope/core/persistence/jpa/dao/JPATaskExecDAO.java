@@ -18,18 +18,24 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import javax.persistence.DiscriminatorValue;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.jpa.entity.task.AbstractTask;
+import org.apache.syncope.core.persistence.jpa.entity.task.JPAPropagationTask;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
@@ -54,11 +60,16 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
         return query.getResultList();
     }
 
-    private <T extends Task> TaskExec findLatest(final T task, final String field) {
+    private <T extends Task> TaskExec findLatest(final T task, final String field, final String status) {
         TypedQuery<TaskExec> query = entityManager().createQuery(
                 "SELECT e FROM " + JPATaskExec.class.getSimpleName() + " e "
-                + "WHERE e.task=:task ORDER BY e." + field + " DESC", TaskExec.class);
+                + "WHERE e.task=:task "
+                + (status == null ? "" : "AND e.status=:status ")
+                + "ORDER BY e." + field + " DESC", TaskExec.class);
         query.setParameter("task", task);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
         query.setMaxResults(1);
 
         List<TaskExec> result = query.getResultList();
@@ -69,12 +80,17 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
 
     @Override
     public <T extends Task> TaskExec findLatestStarted(final T task) {
-        return findLatest(task, "start");
+        return findLatest(task, "start", null);
+    }
+
+    @Override
+    public <T extends Task> TaskExec findLatestStarted(final T task, final String status) {
+        return findLatest(task, "start", status);
     }
 
     @Override
     public <T extends Task> TaskExec findLatestEnded(final T task) {
-        return findLatest(task, "end");
+        return findLatest(task, "end", null);
     }
 
     @Override
@@ -164,6 +180,62 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
         return query.getResultList();
     }
 
+    private Query endedBeforeQuery(
+            final String select,
+            final String orderBy,
+            final TaskType type,
+            final String status,
+            final Date endedBefore) {
+
+        Query query = entityManager().createNativeQuery(
+                "SELECT " + select + " FROM " + JPATaskExec.TABLE + " e, " + AbstractTask.TABLE + " t "
+                + "WHERE e.task_id=t.id AND t.DTYPE=?1 AND e.endDate < ?2"
+                + (status == null ? "" : " AND e.status=?3")
+                + orderBy);
+        query.setParameter(1, taskDAO.getEntityReference(type).getAnnotation(DiscriminatorValue.class).value());
+        query.setParameter(2, endedBefore);
+        if (status != null) {
+            query.setParameter(3, status);
+        }
+        return query;
+    }
+
+    @Override
+    public int countEndedBefore(final TaskType type, final String status, final Date endedBefore) {
+        return ((Number) endedBeforeQuery("COUNT(e.id)", "", type, status, endedBefore).
+                getSingleResult()).intValue();
+    }
+
+    @Override
+    public List<String> findKeysEndedBefore(
+            final TaskType type, final String status, final Date endedBefore, final int max) {
+
+        Query query = endedBeforeQuery("e.id", " ORDER BY e.endDate ASC", type, status, endedBefore);
+        query.setMaxResults(max);
+
+        List<String> result = new ArrayList<>();
+        for (Object key : query.getResultList()) {
+            result.add(key instanceof Object[] ? (String) ((Object[]) key)[0] : (String) key);
+        }
+        return result;
+    }
+
+    @Override
+    public List<TaskExec> findEndedBefore(
+            final TaskType type, final String status, final Date endedBefore, final int max) {
+
+        List<String> keys = findKeysEndedBefore(type, status, endedBefore, max);
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        TypedQuery<TaskExec> query = entityManager().createQuery(
+                "SELECT e FROM " + JPATaskExec.class.getSimpleName() + " e "
+                + "WHERE e.id IN :keys ORDER BY e.end ASC", TaskExec.class);
+        query.setParameter("keys", keys);
+        return query.getResultList();
+    }
+
     @Override
     public TaskExec save(final TaskExec execution) {
         return entityManager().merge(execution);
@@ -195,4 +267,40 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
 
         entityManager().remove(execution);
     }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = { Throwable.class })
+    @Override
+    public int purge(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        TypedQuery<String> taskQuery = entityManager().createQuery(
+                "SELECT DISTINCT e.task.id FROM " + JPATaskExec.class.getSimpleName() + " e "
+                + "WHERE e.id IN :keys", String.class);
+        taskQuery.setParameter("keys", keys);
+        List<String> taskKeys = taskQuery.getResultList();
+
+        Query delete = entityManager().createQuery(
+                "DELETE FROM " + JPATaskExec.class.getSimpleName() + " e WHERE e.id IN :keys");
+        delete.setParameter("keys", keys);
+        int deleted = delete.executeUpdate();
+
+        if (!taskKeys.isEmpty()) {
+            TypedQuery<String> orphanQuery = entityManager().createQuery(
+                    "SELECT t.id FROM " + JPAPropagationTask.class.getSimpleName() + " t "
+                    + "WHERE t.id IN :taskKeys AND t.executions IS EMPTY", String.class);
+            orphanQuery.setParameter("taskKeys", taskKeys);
+            List<String> orphans = orphanQuery.getResultList();
+
+            if (!orphans.isEmpty()) {
+                Query deleteOrphans = entityManager().createQuery(
+                        "DELETE FROM " + JPAPropagationTask.class.getSimpleName() + " t WHERE t.id IN :orphans");
+                deleteOrphans.setParameter("orphans", orphans);
+                deleteOrphans.executeUpdate();
+            }
+        }
+
+        return deleted;
+    }
 }
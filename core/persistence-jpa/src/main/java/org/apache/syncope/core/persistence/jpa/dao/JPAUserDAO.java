@@ -377,7 +377,7 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return ImmutablePair.of(suspend, propagateSuspension);
     }
 
-    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+    protected User doMerge(final User user) {
         // 1. save clear password value before save
         String clearPwd = user.getClearPassword();
 
@@ -397,6 +397,12 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
 
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
+        return merged;
+    }
+
+    protected Pair<User, Pair<Set<String>, Set<String>>> doSave(final User user) {
+        User merged = doMerge(user);
+
         roleDAO.refreshDynMemberships(merged);
         Pair<Set<String>, Set<String>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
         dynRealmDAO.refreshDynMemberships(merged);
@@ -414,6 +420,17 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return doSave(user).getRight();
     }
 
+    @Override
+    public Map<String, Pair<Set<String>, Set<String>>> saveAndGetDynGroupMembs(final Collection<User> users) {
+        List<User> merged = users.stream().map(this::doMerge).collect(Collectors.toList());
+
+        roleDAO.refreshDynMemberships(merged);
+        Map<String, Pair<Set<String>, Set<String>>> dynGroupMembs = groupDAO.refreshDynMemberships(merged);
+        dynRealmDAO.refreshDynMemberships(merged);
+
+        return dynGroupMembs;
+    }
+
     @Override
     public void delete(final User user) {
         roleDAO.removeDynMemberships(user.getKey());
@@ -425,6 +442,8 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
             accessTokenDAO.delete(accessToken);
         }
 
+        plainSchemaDAO.unindexAttrs(user);
+        pushFingerprintDAO.deleteByAny(user.getKey());
         entityManager().remove(user);
         publisher.publishEvent(new AnyDeletedEvent(
                 this, AnyTypeKind.USER, user.getKey(), user.getUsername(), AuthContextUtils.getDomain()));
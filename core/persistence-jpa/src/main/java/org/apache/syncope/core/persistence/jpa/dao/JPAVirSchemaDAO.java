@@ -38,13 +38,19 @@ import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPullPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResource;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAMapping;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAProvision;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JPAVirSchemaDAO extends AbstractDAO<VirSchema> implements VirSchemaDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Autowired
     @Lazy
     private ExternalResourceDAO resourceDAO;
@@ -119,7 +125,10 @@ public class JPAVirSchemaDAO extends AbstractDAO<VirSchema> implements VirSchema
 
     @Override
     public VirSchema save(final VirSchema virSchema) {
-        return entityManager().merge(virSchema);
+        VirSchema merged = entityManager().merge(virSchema);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, VirSchema.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -138,5 +147,7 @@ public class JPAVirSchemaDAO extends AbstractDAO<VirSchema> implements VirSchema
         }
 
         entityManager().remove(schema);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, VirSchema.class, schema.getKey(), AuthContextUtils.getDomain()));
     }
 }
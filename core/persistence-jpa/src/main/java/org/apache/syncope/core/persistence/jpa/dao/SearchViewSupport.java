@@ -33,4 +33,8 @@ public class SearchViewSupport extends SearchSupport {
     public SearchView uniqueAttr() {
         return new SearchView("svua", field().name + "_unique_attr");
     }
+
+    public SearchView indexedAttr() {
+        return new SearchView("svia", JPAPlainSchemaDAO.indexTable(anyTypeKind));
+    }
 }
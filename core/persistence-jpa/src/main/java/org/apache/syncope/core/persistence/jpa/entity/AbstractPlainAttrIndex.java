@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import java.util.Date;
+import java.util.Optional;
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+/**
+ * Lookup row for a value of a plain schema flagged as indexed, keyed by the value it mirrors.
+ * Rows are maintained via SQL by {@link org.apache.syncope.core.persistence.jpa.dao.JPAPlainSchemaDAO} and only
+ * read by native search queries; this mapping is there to have the table created with the proper column types.
+ */
+@MappedSuperclass
+public abstract class AbstractPlainAttrIndex extends AbstractProvidedKeyEntity {
+
+    private static final long serialVersionUID = 3357186471290716813L;
+
+    @Column(name = "any_id", nullable = false)
+    private String anyKey;
+
+    @Column(name = "schema_id", nullable = false)
+    private String schemaKey;
+
+    private String stringValue;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date dateValue;
+
+    private Boolean booleanValue;
+
+    private Long longValue;
+
+    private Double doubleValue;
+
+    public String getAnyKey() {
+        return anyKey;
+    }
+
+    public String getSchemaKey() {
+        return schemaKey;
+    }
+
+    public String getStringValue() {
+        return stringValue;
+    }
+
+    public Date getDateValue() {
+        return Optional.ofNullable(dateValue).map(value -> new Date(value.getTime())).orElse(null);
+    }
+
+    public Boolean getBooleanValue() {
+        return booleanValue;
+    }
+
+    public Long getLongValue() {
+        return longValue;
+    }
+
+    public Double getDoubleValue() {
+        return doubleValue;
+    }
+}
@@ -127,9 +127,11 @@ import org.apache.syncope.core.persistence.api.entity.Privilege;
 import org.apache.syncope.core.persistence.api.entity.Remediation;
 import org.apache.syncope.core.persistence.api.entity.SchemaLabel;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResourceHistoryConf;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnitItem;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAPullCorrelationRuleEntity;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResourceHistoryConf;
+import org.apache.syncope.core.persistence.jpa.entity.resource.JPAPushFingerprint;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAOrgUnitItem;
 import org.apache.syncope.core.persistence.api.entity.policy.PullCorrelationRuleEntity;
 import org.apache.syncope.core.persistence.api.entity.policy.PushCorrelationRuleEntity;
@@ -202,6 +204,8 @@ public class JPAEntityFactory implements EntityFactory {
             result = (E) new JPAExternalResource();
         } else if (reference.equals(ExternalResourceHistoryConf.class)) {
             result = (E) new JPAExternalResourceHistoryConf();
+        } else if (reference.equals(PushFingerprint.class)) {
+            result = (E) new JPAPushFingerprint();
         } else if (reference.equals(Provision.class)) {
             result = (E) new JPAProvision();
         } else if (reference.equals(OrgUnit.class)) {
@@ -66,6 +66,8 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
 
     private Boolean readonly = false;
 
+    private Boolean indexed = false;
+
     @Column(nullable = true)
     private String conversionPattern;
 
@@ -154,6 +156,17 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
         this.readonly = readonly;
     }
 
+    @Override
+    public boolean isIndexed() {
+        // null when the column was added to an existing table
+        return indexed != null && indexed;
+    }
+
+    @Override
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+    }
+
     public Validator validator() {
         if (validatorImpl != null) {
             return validatorImpl;
@@ -45,6 +45,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
@@ -124,6 +125,12 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
     @NotNull
     private TraceLevel provisioningTraceLevel = TraceLevel.FAILURES;
 
+    /**
+     * How the remote object is read when propagating; {@link PropagationReadMode#FULL} when not set.
+     */
+    @Enumerated(EnumType.STRING)
+    private PropagationReadMode propagationReadMode;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private JPAPasswordPolicy passwordPolicy;
 
@@ -285,6 +292,16 @@ public class JPAExternalResource extends AbstractProvidedKeyEntity implements Ex
         this.provisioningTraceLevel = provisioningTraceLevel;
     }
 
+    @Override
+    public PropagationReadMode getPropagationReadMode() {
+        return Optional.ofNullable(propagationReadMode).orElse(PropagationReadMode.FULL);
+    }
+
+    @Override
+    public void setPropagationReadMode(final PropagationReadMode propagationReadMode) {
+        this.propagationReadMode = propagationReadMode;
+    }
+
     @Override
     public AccountPolicy getAccountPolicy() {
         return accountPolicy;
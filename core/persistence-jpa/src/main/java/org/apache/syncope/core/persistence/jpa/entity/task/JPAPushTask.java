@@ -32,6 +32,8 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
 import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.Min;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
 import org.apache.syncope.core.persistence.api.entity.Realm;
@@ -62,6 +64,15 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER, mappedBy = "pushTask")
     private List<JPAPushTaskAnyFilter> filters = new ArrayList<>();
 
+    @Min(1)
+    private Integer concurrency;
+
+    private Boolean preloadRemoteKeys;
+
+    private Boolean skipUnchanged;
+
+    private Boolean changedSinceLastExec;
+
     @Override
     public JPARealm getSourceRealm() {
         return sourceRealm;
@@ -85,6 +96,46 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
         return actions;
     }
 
+    @Override
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    @Override
+    public void setConcurrency(final Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public boolean isPreloadRemoteKeys() {
+        return BooleanUtils.isTrue(preloadRemoteKeys);
+    }
+
+    @Override
+    public void setPreloadRemoteKeys(final boolean preloadRemoteKeys) {
+        this.preloadRemoteKeys = preloadRemoteKeys;
+    }
+
+    @Override
+    public boolean isSkipUnchanged() {
+        return BooleanUtils.isTrue(skipUnchanged);
+    }
+
+    @Override
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    @Override
+    public boolean isChangedSinceLastExec() {
+        return BooleanUtils.isTrue(changedSinceLastExec);
+    }
+
+    @Override
+    public void setChangedSinceLastExec(final boolean changedSinceLastExec) {
+        this.changedSinceLastExec = changedSinceLastExec;
+    }
+
     @Override
     public boolean add(final PushTaskAnyFilter filter) {
         checkType(filter, JPAPushTaskAnyFilter.class);
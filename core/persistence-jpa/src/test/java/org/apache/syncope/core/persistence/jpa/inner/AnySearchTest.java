@@ -21,17 +21,20 @@ package org.apache.syncope.core.persistence.jpa.inner;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
@@ -48,6 +51,7 @@ import org.apache.syncope.core.persistence.api.dao.search.PrivilegeCond;
 import org.apache.syncope.core.persistence.api.dao.search.RelationshipTypeCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
@@ -75,6 +79,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private RealmDAO realmDAO;
 
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
     @Test
     public void searchWithLikeCondition() {
         AttributeCond fullnameLeafCond = new AttributeCond(AttributeCond.Type.LIKE);
@@ -486,6 +493,43 @@ public class AnySearchTest extends AbstractTest {
                 groups.size());
     }
 
+    @Test
+    public void searchAfter() {
+        AnyCond notNullCond = new AnyCond(AttributeCond.Type.ISNOTNULL);
+        notNullCond.setSchema("username");
+        SearchCond searchCondition = SearchCond.getLeafCond(notNullCond);
+
+        OrderByClause orderByClause = new OrderByClause();
+        orderByClause.setField("username");
+        orderByClause.setDirection(OrderByClause.Direction.DESC);
+        List<OrderByClause> orderBy = List.of(orderByClause);
+
+        List<User> all = searchDAO.search(
+                SyncopeConstants.FULL_ADMIN_REALMS, searchCondition, 1, 100, orderBy, AnyTypeKind.USER);
+
+        List<User> paged = new ArrayList<>();
+        List<String> after = List.of();
+        List<User> page;
+        do {
+            page = searchDAO.searchAfter(
+                    SyncopeConstants.FULL_ADMIN_REALMS, searchCondition, orderBy, after, 2, AnyTypeKind.USER);
+            paged.addAll(page);
+            if (!page.isEmpty()) {
+                after = searchDAO.cursorValues(page.get(page.size() - 1), orderBy);
+                assertEquals(List.of(page.get(page.size() - 1).getUsername(), page.get(page.size() - 1).getKey()),
+                        after);
+            }
+        } while (page.size() == 2);
+
+        assertEquals(all, paged);
+
+        OrderByClause nullable = new OrderByClause();
+        nullable.setField("lastLoginDate");
+        assertThrows(SyncopeClientException.class, () -> searchDAO.searchAfter(
+                SyncopeConstants.FULL_ADMIN_REALMS, searchCondition, List.of(nullable), List.of(), 2,
+                AnyTypeKind.USER));
+    }
+
     @Test
     public void assignable() {
         AssignableCond assignableCond = new AssignableCond();
@@ -739,4 +783,54 @@ public class AnySearchTest extends AbstractTest {
         assertNotNull(users);
         assertEquals(4, users.size());
     }
+
+    private List<String> searchKeys(final SearchCond cond, final List<OrderByClause> orderBy) {
+        return searchDAO.<User>search(cond, orderBy, AnyTypeKind.USER).stream().
+                map(Entity::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    public void searchByIndexedSchema() {
+        AttributeCond loginDateCond = new AttributeCond(AttributeCond.Type.EQ);
+        loginDateCond.setSchema("loginDate");
+        loginDateCond.setExpression("2009-05-26");
+
+        AttributeCond fullnameCond = new AttributeCond(AttributeCond.Type.LIKE);
+        fullnameCond.setSchema("fullname");
+        fullnameCond.setExpression("%o%");
+
+        AttributeCond ctypeCond = new AttributeCond(AttributeCond.Type.ISNULL);
+        ctypeCond.setSchema("ctype");
+
+        List<SearchCond> conds = List.of(
+                SearchCond.getLeafCond(loginDateCond),
+                SearchCond.getNotLeafCond(loginDateCond),
+                SearchCond.getLeafCond(fullnameCond),
+                SearchCond.getLeafCond(ctypeCond),
+                SearchCond.getAndCond(SearchCond.getLeafCond(fullnameCond), SearchCond.getNotLeafCond(ctypeCond)));
+
+        List<List<OrderByClause>> orderBy = List.of("fullname", "ctype", "loginDate").stream().map(field -> {
+            OrderByClause orderByClause = new OrderByClause();
+            orderByClause.setField(field);
+            orderByClause.setDirection(OrderByClause.Direction.DESC);
+            return List.of(orderByClause);
+        }).collect(Collectors.toList());
+
+        List<List<String>> before = new ArrayList<>();
+        conds.forEach(cond -> orderBy.forEach(clauses -> before.add(searchKeys(cond, clauses))));
+        assertEquals(1, before.get(0).size());
+        assertEquals(4, before.get(3).size());
+
+        List.of("loginDate", "fullname", "ctype").forEach(key -> {
+            PlainSchema schema = plainSchemaDAO.find(key);
+            assertFalse(schema.isIndexed());
+            schema.setIndexed(true);
+            plainSchemaDAO.save(schema);
+        });
+        entityManager().flush();
+
+        List<List<String>> after = new ArrayList<>();
+        conds.forEach(cond -> orderBy.forEach(clauses -> after.add(searchKeys(cond, clauses))));
+        assertEquals(before, after);
+    }
 }
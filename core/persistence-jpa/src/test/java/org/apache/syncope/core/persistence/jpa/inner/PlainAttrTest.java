@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Random;
 import javax.validation.ValidationException;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -37,6 +38,7 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.spring.security.Encryptor;
@@ -265,4 +267,29 @@ public class PlainAttrTest extends AbstractTest {
         PlainSchema schema = plainSchemaDAO.find(attrSchemaName);
         assertNotNull(schema);
     }
+
+    @Tag("plainAttrTable")
+    @Test
+    public void replaceValuesAndDeleteAttrs() {
+        List<String> keys = List.of("1417acbe-cbf6-4277-9372-e75e04f97000", "74cd8ece-715a-44a4-a736-e17b46c4e7e6");
+
+        UPlainAttrValue value = entityFactory.newEntity(UPlainAttrValue.class);
+        value.setStringValue("Bulk");
+        assertEquals(2, plainAttrDAO.replaceValues(
+                AnyTypeKind.USER, plainSchemaDAO.find("firstname"), value, keys));
+
+        assertEquals(2, plainAttrDAO.deleteAttrs(AnyTypeKind.USER, plainSchemaDAO.find("surname"), keys));
+
+        userDAO.clear();
+
+        keys.forEach(key -> {
+            User user = userDAO.find(key);
+            assertEquals(List.of("Bulk"), user.getPlainAttr("firstname").get().getValuesAsStrings());
+            assertTrue(user.getPlainAttr("surname").isEmpty());
+        });
+        assertEquals(
+                List.of("Antonio"),
+                userDAO.find("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").getPlainAttr("firstname").get().
+                        getValuesAsStrings());
+    }
 }
@@ -34,9 +34,13 @@ import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.group.GPlainAttr;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrIndex;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +55,15 @@ public class PlainSchemaTest extends AbstractTest {
     @Autowired
     private ImplementationDAO implementationDAO;
 
+    @Autowired
+    private UserDAO userDAO;
+
+    private int countIndexed(final User user) {
+        return ((Number) entityManager().createNativeQuery(
+                "SELECT COUNT(*) FROM " + JPAUPlainAttrIndex.TABLE + " WHERE any_id=?1").
+                setParameter(1, user.getKey()).getSingleResult()).intValue();
+    }
+
     @Test
     public void findAll() {
         List<PlainSchema> schemas = plainSchemaDAO.findAll();
@@ -171,4 +184,46 @@ public class PlainSchemaTest extends AbstractTest {
             assertTrue(e.hasViolation(EntityViolationType.InvalidKey));
         }
     }
+
+    @Test
+    public void indexedKeysFollowFlag() {
+        User user = userDAO.findByUsername("rossini");
+        assertTrue(user.getPlainAttr("fullname").isPresent());
+
+        // with no schema flagged, saving does not index anything
+        user = userDAO.save(user);
+        entityManager().flush();
+        assertEquals(0, countIndexed(user));
+
+        PlainSchema fullname = plainSchemaDAO.find("fullname");
+        fullname.setIndexed(true);
+        plainSchemaDAO.save(fullname);
+        entityManager().flush();
+        assertEquals(1, countIndexed(user));
+
+        // once flagged, saving indexes again
+        entityManager().createNativeQuery("DELETE FROM " + JPAUPlainAttrIndex.TABLE + " WHERE any_id=?1").
+                setParameter(1, user.getKey()).executeUpdate();
+        assertEquals(0, countIndexed(user));
+        user = userDAO.save(user);
+        entityManager().flush();
+        assertEquals(1, countIndexed(user));
+
+        // once unflagged, saving does not index any more
+        fullname.setIndexed(false);
+        plainSchemaDAO.save(fullname);
+        entityManager().flush();
+        assertEquals(0, countIndexed(user));
+        user = userDAO.save(user);
+        entityManager().flush();
+        assertEquals(0, countIndexed(user));
+
+        // flag changes not made via this DAO, as by other nodes, are followed as well
+        entityManager().createNativeQuery("UPDATE " + JPAPlainSchema.TABLE + " SET indexed=?1 WHERE id=?2").
+                setParameter(1, Boolean.TRUE).setParameter(2, fullname.getKey()).executeUpdate();
+        entityManager().refresh(fullname);
+        user = userDAO.save(user);
+        entityManager().flush();
+        assertEquals(1, countIndexed(user));
+    }
 }
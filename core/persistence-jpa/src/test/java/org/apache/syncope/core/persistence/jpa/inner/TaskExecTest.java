@@ -19,12 +19,17 @@
 package org.apache.syncope.core.persistence.jpa.inner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
@@ -67,6 +72,33 @@ public class TaskExecTest extends AbstractTest {
         assertEquals("e58ca1c7-178a-4012-8a71-8aa14eaf0655", latestStarted.getKey());
     }
 
+    @Test
+    public void findEndedBefore() {
+        Date now = new Date();
+
+        List<TaskExec> execs = taskExecDAO.findEndedBefore(TaskType.PROPAGATION, null, now, 100);
+        assertFalse(execs.isEmpty());
+        assertTrue(execs.stream().allMatch(exec -> exec.getTask() instanceof PropagationTask
+                && exec.getEnd().before(now)));
+        for (int i = 1; i < execs.size(); i++) {
+            assertFalse(execs.get(i).getEnd().before(execs.get(i - 1).getEnd()));
+        }
+
+        assertEquals(1, taskExecDAO.findEndedBefore(TaskType.PROPAGATION, null, now, 1).size());
+
+        assertTrue(taskExecDAO.findEndedBefore(
+                TaskType.PROPAGATION, ExecStatus.SUCCESS.name(), now, 100).stream().
+                allMatch(exec -> ExecStatus.SUCCESS.name().equals(exec.getStatus())));
+
+        assertTrue(taskExecDAO.findEndedBefore(TaskType.PROPAGATION, "UNEXISTING", now, 100).isEmpty());
+
+        assertEquals(
+                execs.stream().map(TaskExec::getKey).collect(Collectors.toSet()),
+                new HashSet<>(taskExecDAO.findKeysEndedBefore(TaskType.PROPAGATION, null, now, 100)));
+        assertEquals(execs.size(), taskExecDAO.countEndedBefore(TaskType.PROPAGATION, null, now));
+        assertEquals(0, taskExecDAO.countEndedBefore(TaskType.PROPAGATION, "UNEXISTING", now));
+    }
+
     @Test
     public void issueSYNCOPE214() {
         PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.entity.AccessToken;
@@ -54,6 +56,10 @@ public class AccessTokenTest extends AbstractTest {
         assertNotNull(accessToken);
         assertEquals("bellini", accessToken.getOwner());
 
+        Map<String, Date> expiryTimes = accessTokenDAO.findExpiryTimes(
+                List.of(accessToken.getKey(), UUID.randomUUID().toString()));
+        assertEquals(Map.of(accessToken.getKey(), accessToken.getExpiryTime()), expiryTimes);
+
         accessTokenDAO.deleteExpired();
 
         entityManager().flush();
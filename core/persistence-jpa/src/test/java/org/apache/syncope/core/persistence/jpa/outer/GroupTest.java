@@ -29,9 +29,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Query;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
@@ -267,6 +269,50 @@ public class GroupTest extends AbstractTest {
         assertTrue(dynGroupMemberships.isEmpty());
     }
 
+    @Test
+    public void udynMembershipsRefreshedInBatch() {
+        // 0. create group with dynamic membership: only 'bellini' matches
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("new");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("cool==true");
+        dynMembership.setGroup(group);
+
+        group.setUDynMembership(dynMembership);
+
+        group = groupDAO.saveAndRefreshDynMemberships(group);
+
+        entityManager().flush();
+
+        // 1. make 'rossini' match and 'bellini' not match any more, then save both at once
+        User rossini = userDAO.findByUsername("rossini");
+        rossini.add(anyTypeClassDAO.find("other"));
+
+        UPlainAttr attr = entityFactory.newEntity(UPlainAttr.class);
+        attr.setOwner(rossini);
+        attr.setSchema(plainSchemaDAO.find("cool"));
+        attr.add("true", anyUtilsFactory.getInstance(AnyTypeKind.USER));
+        rossini.add(attr);
+
+        User bellini = userDAO.findByUsername("bellini");
+        bellini.remove(bellini.getPlainAttr("cool").get());
+
+        Map<String, Pair<Set<String>, Set<String>>> dynGroupMembs =
+                userDAO.saveAndGetDynGroupMembs(List.of(rossini, bellini));
+
+        entityManager().flush();
+
+        // 2. verify that dynamic memberships before and after are reported for each user
+        assertEquals(List.of(rossini.getKey(), bellini.getKey()), new ArrayList<>(dynGroupMembs.keySet()));
+        assertEquals(Pair.of(Set.of(), Set.of(group.getKey())), dynGroupMembs.get(rossini.getKey()));
+        assertEquals(Pair.of(Set.of(group.getKey()), Set.of()), dynGroupMembs.get(bellini.getKey()));
+
+        // 3. verify that dynamic memberships were updated
+        assertEquals(List.of(rossini.getKey()), groupDAO.findUDynMembers(groupDAO.find(group.getKey())));
+    }
+
     /**
      * Static copy of {@link org.apache.syncope.core.persistence.jpa.dao.JPAAnyObjectDAO} method with same signature:
      * required for avoiding creating of a new transaction - good for general use case but bad for the way how
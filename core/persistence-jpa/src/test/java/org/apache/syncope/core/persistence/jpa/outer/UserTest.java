@@ -32,11 +32,15 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
@@ -68,15 +72,33 @@ public class UserTest extends AbstractTest {
     @Autowired
     private DerSchemaDAO derSchemaDAO;
 
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private PushFingerprintDAO pushFingerprintDAO;
+
     @Test
     public void delete() {
         List<UMembership> memberships = groupDAO.findUMemberships(groupDAO.findByName("managingDirector"));
         assertFalse(memberships.isEmpty());
 
+        ExternalResource resource = resourceDAO.find("ws-target-resource-1");
+        PushFingerprint fingerprint = entityFactory.newEntity(PushFingerprint.class);
+        fingerprint.setAnyKey("c9b2dec2-00a7-4855-97c0-d854842b4b24");
+        fingerprint.setResource(resource);
+        fingerprint.setFingerprint("fingerprint");
+        pushFingerprintDAO.save(fingerprint);
+
+        entityManager().flush();
+        assertNotNull(pushFingerprintDAO.find("c9b2dec2-00a7-4855-97c0-d854842b4b24", resource));
+
         userDAO.delete("c9b2dec2-00a7-4855-97c0-d854842b4b24");
 
         entityManager().flush();
 
+        assertNull(pushFingerprintDAO.find("c9b2dec2-00a7-4855-97c0-d854842b4b24", resource));
+
         assertNull(userDAO.findByUsername("bellini"));
         assertNull(findPlainAttr(UUID.randomUUID().toString(), UPlainAttr.class));
         assertNull(findPlainAttrValue(UUID.randomUUID().toString(), UPlainAttrValue.class));
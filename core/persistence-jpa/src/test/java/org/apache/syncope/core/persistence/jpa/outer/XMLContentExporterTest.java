@@ -19,11 +19,17 @@
 package org.apache.syncope.core.persistence.jpa.outer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.StringUtils;
@@ -31,6 +37,8 @@ import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional("Master")
@@ -62,4 +70,46 @@ public class XMLContentExporterTest extends AbstractTest {
         assertTrue(StringUtils.containsIgnoreCase(realms.get(2), "NAME=\"even\""));
         assertTrue(StringUtils.containsIgnoreCase(realms.get(3), "NAME=\"two\""));
     }
+
+    @Test
+    public void parallel() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        exporter.export("Master", 2, baos, null, null, null);
+
+        List<String> entries = new ArrayList<>();
+        List<String> realms = new ArrayList<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entries.add(entry.getName());
+
+                IOUtils.readLines(zis, StandardCharsets.UTF_8).stream().
+                        filter(row -> StringUtils.startsWithIgnoreCase(row.trim(), "<REALM ")).
+                        forEach(realms::add);
+            }
+        }
+
+        assertFalse(entries.isEmpty());
+        assertTrue(entries.stream().allMatch(entry -> entry.matches("\\d{4}_.+\\.xml")));
+        assertTrue(entries.stream().anyMatch(entry -> StringUtils.endsWithIgnoreCase(entry, "_REALM.xml")));
+
+        assertEquals(4, realms.size());
+        assertTrue(StringUtils.containsIgnoreCase(realms.get(0), "NAME=\"/\""));
+    }
+
+    @Test
+    public void effectiveThreads() {
+        assertEquals(1, exporter.getEffectiveThreads("Master", 1));
+        assertTrue(exporter.getEffectiveThreads("Master", 1000) <= 4);
+
+        Object target = AopTestUtils.getTargetObject(exporter);
+        Object maxThreads = ReflectionTestUtils.getField(target, "maxThreads");
+        ReflectionTestUtils.setField(target, "maxThreads", 1);
+        try {
+            assertEquals(1, exporter.getEffectiveThreads("Master", 2));
+        } finally {
+            ReflectionTestUtils.setField(target, "maxThreads", maxThreads);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.ResultSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.content.ContentLoader;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class XMLContentLoaderTest extends AbstractTest {
+
+    @Autowired
+    private DomainHolder domainHolder;
+
+    @Autowired
+    private ContentLoader contentLoader;
+
+    private static Set<String> indexes(final JdbcTemplate jdbcTemplate, final String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) conn -> {
+            Set<String> indexes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            try (ResultSet rs = conn.getMetaData().getIndexInfo(conn.getCatalog(), null, table, false, true)) {
+                while (rs.next()) {
+                    if (rs.getString("INDEX_NAME") != null) {
+                        indexes.add(rs.getString("INDEX_NAME"));
+                    }
+                }
+            }
+            return indexes;
+        });
+    }
+
+    @Test
+    public void createMissingIndexes() {
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        String table = JPAUPlainAttrIndex.TABLE.toUpperCase();
+        assertTrue(indexes(jdbcTemplate, table).contains("UPAttrIdx_strIndex"));
+
+        // as for a database created before the lookup indexes were defined
+        jdbcTemplate.execute("DROP INDEX UPAttrIdx_strIndex");
+        assertFalse(indexes(jdbcTemplate, table).contains("UPAttrIdx_strIndex"));
+
+        // data is found, hence only missing indexes are created
+        contentLoader.load(SyncopeConstants.MASTER_DOMAIN, dataSource);
+        assertTrue(indexes(jdbcTemplate, table).contains("UPAttrIdx_strIndex"));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+
+/**
+ * Applies the same plain attribute patch to several users at once, bypassing workflow and logic actions.
+ */
+public interface BulkAttrHandler {
+
+    /**
+     * Applies the given plain attribute patch to the given users, within a new transaction: values are replaced or
+     * removed via set-based statements, where supported by the underlying storage; then mandatory conditions are
+     * checked and dynamic memberships are refreshed, for each user actually updated.
+     * Should mandatory conditions not be met for some users, no change is kept and a
+     * {@link org.apache.syncope.common.lib.SyncopeClientException} of type {@code RequiredValuesMissing} is thrown,
+     * reporting the keys of such users.
+     *
+     * @param userKeys user keys
+     * @param attrPatch plain attribute patch
+     * @return propagation tasks for each user actually updated, to be executed once the transaction is committed
+     */
+    Map<String, List<PropagationTaskInfo>> update(Collection<String> userKeys, AttrPatch attrPatch);
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.event;
 
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.springframework.context.ApplicationEvent;
 
@@ -27,11 +28,14 @@ public class AnyCreatedUpdatedEvent<A extends Any<?>> extends ApplicationEvent {
 
     private final A any;
 
+    private final AnyTypeKind anyTypeKind;
+
     private final String domain;
 
     public AnyCreatedUpdatedEvent(final Object source, final A any, final String domain) {
         super(source);
         this.any = any;
+        this.anyTypeKind = any.getType().getKind();
         this.domain = domain;
     }
 
@@ -39,6 +43,14 @@ public class AnyCreatedUpdatedEvent<A extends Any<?>> extends ApplicationEvent {
         return any;
     }
 
+    /**
+     * @return kind of the any type, as read when the event was published: to be used by listeners running after
+     * transaction completion, when lazy associations of {@link #getAny()} cannot be loaded any more
+     */
+    public AnyTypeKind getAnyTypeKind() {
+        return anyTypeKind;
+    }
+
     public String getDomain() {
         return domain;
     }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.propagation;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.Attr;
@@ -89,6 +90,18 @@ public interface PropagationManager {
             Collection<Attr> vAttrs,
             Collection<String> noPropResourceKeys);
 
+    /**
+     * Create the update tasks for each of the given users or any objects, with a single call: meant for bulk
+     * operations, as the same persistence context is used for all the entities involved.
+     *
+     * @param kind any object type kind
+     * @param propByRes operation to be performed per resource, by user or any object key
+     * @return propagation tasks, by user or any object key, following the order of the given map
+     */
+    Map<String, List<PropagationTaskInfo>> getUpdateTasks(
+            AnyTypeKind kind,
+            Map<String, PropagationByResource> propByRes);
+
     /**
      * Create the update tasks for the user on each resource associated, unless in {@code noPropResourceKeys}.
      *
@@ -126,6 +139,23 @@ public interface PropagationManager {
             PropagationByResource propByRes,
             Collection<String> noPropResourceKeys);
 
+    /**
+     * Create the tasks to provision - or deprovision - each of the given users or any objects onto the given
+     * resources, as user and any object provisioning managers do one at a time, but with a single call: meant for
+     * bulk operations, as entities and resources are loaded once within the same persistence context.
+     *
+     * @param kind any type kind, either USER or ANY_OBJECT
+     * @param keys user or any object keys
+     * @param resourceKeys external resource keys
+     * @param deprovision whether entities should be deprovisioned rather than provisioned
+     * @return propagation tasks, by user or any object key, following the order of the given keys
+     */
+    Map<String, List<PropagationTaskInfo>> getProvisionTasks(
+            AnyTypeKind kind,
+            Collection<String> keys,
+            Collection<String> resourceKeys,
+            boolean deprovision);
+
     /**
      * Create the needed tasks for the realm for each resource associated, unless in {@code noPropResourceKeys}.
      *
@@ -18,6 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
-public interface AnyObjectPushResultHandler extends SyncopePushResultHandler {
+public interface AnyObjectPushResultHandler extends AnyPushResultHandler {
 
 }
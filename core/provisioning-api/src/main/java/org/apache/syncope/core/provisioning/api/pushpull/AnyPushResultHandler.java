@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+public interface AnyPushResultHandler extends SyncopePushResultHandler {
+
+    /**
+     * Same as {@link #handle(String)}, but meant for worker threads: the push task is reloaded within the handling
+     * transaction, rather than taken from the profile, as entities are bound to the persistence context which
+     * loaded them.
+     *
+     * @param anyKey key of the entity to push
+     * @param taskKey key of the push task
+     * @return whether handling was successful
+     */
+    boolean handle(String anyKey, String taskKey);
+}
@@ -18,6 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
-public interface GroupPushResultHandler extends SyncopePushResultHandler {
+public interface GroupPushResultHandler extends AnyPushResultHandler {
 
 }
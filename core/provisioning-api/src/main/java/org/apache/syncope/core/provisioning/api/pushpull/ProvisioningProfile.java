@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
@@ -30,17 +31,35 @@ public class ProvisioningProfile<T extends ProvisioningTask, A extends Provision
 
     private final T task;
 
-    private final List<ProvisioningReport> results = new ArrayList<>();
+    private final List<ProvisioningReport> results;
 
     private boolean dryRun;
 
     private ConflictResolutionAction conflictResolutionAction;
 
-    private final List<A> actions = new ArrayList<>();
+    private final List<A> actions;
 
     public ProvisioningProfile(final Connector connector, final T task) {
         this.connector = connector;
         this.task = task;
+        this.results = Collections.synchronizedList(new ArrayList<>());
+        this.actions = new ArrayList<>();
+    }
+
+    /**
+     * Builds a profile sharing connector, results, actions and settings with the given profile, but for the given
+     * task instance - typically the same task, loaded by another persistence context.
+     *
+     * @param profile profile to share with
+     * @param task task
+     */
+    public ProvisioningProfile(final ProvisioningProfile<T, A> profile, final T task) {
+        this.connector = profile.connector;
+        this.task = task;
+        this.results = profile.results;
+        this.actions = profile.actions;
+        this.dryRun = profile.dryRun;
+        this.conflictResolutionAction = profile.conflictResolutionAction;
     }
 
     public Connector getConnector() {
@@ -18,6 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
-public interface UserPushResultHandler extends SyncopePushResultHandler {
+public interface UserPushResultHandler extends AnyPushResultHandler {
 
 }
@@ -0,0 +1,418 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidPlainAttrValueException;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainAttrValueDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.Item;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.BulkAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class BulkAttrHandlerImpl implements BulkAttrHandler {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(BulkAttrHandler.class);
+
+    @Autowired
+    protected PlainSchemaDAO plainSchemaDAO;
+
+    @Autowired
+    protected PlainAttrDAO plainAttrDAO;
+
+    @Autowired
+    protected PlainAttrValueDAO plainAttrValueDAO;
+
+    @Autowired
+    protected UserDAO userDAO;
+
+    @Autowired
+    protected GroupDAO groupDAO;
+
+    @Autowired
+    protected AnyUtilsFactory anyUtilsFactory;
+
+    @Autowired
+    protected MappingManager mappingManager;
+
+    @Autowired
+    protected IntAttrNameParser intAttrNameParser;
+
+    @Autowired
+    protected PropagationManager propagationManager;
+
+    protected PlainSchema getPlainSchema(final AttrPatch attrPatch) {
+        PlainSchema schema = attrPatch.getAttr() == null ? null : plainSchemaDAO.find(attrPatch.getAttr().getSchema());
+        if (schema == null) {
+            throw new NotFoundException("Plain schema "
+                    + Optional.ofNullable(attrPatch.getAttr()).map(attr -> attr.getSchema()).orElse(null));
+        }
+        if (schema.isUniqueConstraint() || schema.isReadonly()) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidPlainSchema);
+            sce.getElements().add(schema.getKey() + " is unique or read-only");
+            throw sce;
+        }
+        return schema;
+    }
+
+    protected IntAttrName parse(final Item item) {
+        try {
+            return intAttrNameParser.parse(item.getIntAttrName(), AnyTypeKind.USER);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}', ignoring", item.getIntAttrName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns, for each external resource the given user is assigned to, the connector object key and the attributes
+     * as prepared for propagation; password and virtual attributes are not considered, as not affected by plain
+     * attribute changes.
+     *
+     * @param user user
+     * @return connector object key and attributes to propagate, for each external resource
+     */
+    protected Map<String, Pair<String, Set<Attribute>>> getPropagationValues(final User user) {
+        Map<String, Pair<String, Set<Attribute>>> values = new HashMap<>();
+
+        userDAO.findAllResources(user).forEach(resource -> resource.getProvision(user.getType()).
+                filter(provision -> provision.getMapping() != null).
+                ifPresent(provision -> {
+                    Set<Attribute> attrs = new HashSet<>();
+                    MappingUtils.getPropagationItems(provision.getMapping().getItems()).stream().
+                            filter(item -> !item.isPassword()).
+                            filter(item -> Optional.ofNullable(parse(item)).
+                            map(intAttrName -> intAttrName.getSchemaType() != SchemaType.VIRTUAL).orElse(false)).
+                            map(item -> mappingManager.prepareAttr(provision, item, user, null)).
+                            filter(prepared -> prepared != null && prepared.getRight() != null).
+                            forEach(prepared -> attrs.add(prepared.getRight()));
+
+                    values.put(resource.getKey(), Pair.of(
+                            mappingManager.getConnObjectKeyValue(user, provision).orElse(null), attrs));
+                }));
+
+        return values;
+    }
+
+    /**
+     * Returns the mandatory plain schemas and mapping items for which the given user has no values, as checked on
+     * ordinary updates.
+     *
+     * @param user user
+     * @return mandatory plain schemas and mapping items for which the given user has no values
+     */
+    protected Set<String> getRequiredValuesMissing(final User user) {
+        Set<String> missing = new LinkedHashSet<>();
+
+        AllowedSchemas<PlainSchema> allowedPlainSchemas = userDAO.findAllowedSchemas(user, PlainSchema.class);
+        allowedPlainSchemas.getForSelf().stream().
+                filter(schema -> user.getPlainAttr(schema.getKey()).isEmpty()
+                && !schema.isReadonly()
+                && JexlUtils.evaluateMandatoryCondition(schema.getMandatoryCondition(), user)).
+                forEach(schema -> missing.add(schema.getKey()));
+        allowedPlainSchemas.getForMemberships().forEach((group, schemas) -> {
+            UMembership membership = user.getMembership(group.getKey()).orElse(null);
+            schemas.stream().
+                    filter(schema -> user.getPlainAttr(schema.getKey(), membership).isEmpty()
+                    && !schema.isReadonly()
+                    && JexlUtils.evaluateMandatoryCondition(schema.getMandatoryCondition(), user)).
+                    forEach(schema -> missing.add(schema.getKey()));
+        });
+
+        userDAO.findAllResources(user).stream().
+                filter(ExternalResource::isEnforceMandatoryCondition).
+                forEach(resource -> resource.getProvision(user.getType()).
+                filter(provision -> provision.getMapping() != null).
+                ifPresent(provision -> MappingUtils.getPropagationItems(provision.getMapping().getItems()).
+                forEach(item -> {
+                    IntAttrName intAttrName = parse(item);
+                    if (intAttrName != null && intAttrName.getSchema() != null
+                            && getIntValues(provision, item, intAttrName, user).isEmpty()
+                            && JexlUtils.evaluateMandatoryCondition(item.getMandatoryCondition(), user)) {
+
+                        missing.add(item.getIntAttrName());
+                    }
+                })));
+
+        return missing;
+    }
+
+    protected List<PlainAttrValue> getIntValues(
+            final Provision provision, final Item item, final IntAttrName intAttrName, final User user) {
+
+        AttrSchemaType schemaType = intAttrName.getSchema() instanceof PlainSchema
+                ? ((PlainSchema) intAttrName.getSchema()).getType()
+                : AttrSchemaType.String;
+        return mappingManager.getIntValues(provision, item, intAttrName, schemaType, user).getRight();
+    }
+
+    /**
+     * Builds a transient plain attribute with the values to set, validated; no values means removal.
+     *
+     * @param schema plain schema
+     * @param attrPatch plain attribute patch
+     * @param anyUtils any utils
+     * @return transient plain attribute with the values to set
+     */
+    protected PlainAttr<?> getTemplate(final PlainSchema schema, final AttrPatch attrPatch, final AnyUtils anyUtils) {
+        PlainAttr<?> template = anyUtils.newPlainAttr();
+        template.setSchema(schema);
+
+        if (attrPatch.getOperation() == PatchOperation.DELETE) {
+            return template;
+        }
+
+        // if schema is multivalue, all values are considered for addition;
+        // otherwise only the fist one - if provided - is considered
+        List<String> values = attrPatch.getAttr().getValues().stream().
+                filter(StringUtils::isNotBlank).collect(Collectors.toList());
+        if (!schema.isMultivalue() && !values.isEmpty()) {
+            values = List.of(values.get(0));
+        }
+
+        SyncopeClientException invalidValues = SyncopeClientException.build(ClientExceptionType.InvalidValues);
+        values.forEach(value -> {
+            try {
+                template.add(value, anyUtils);
+            } catch (InvalidPlainAttrValueException e) {
+                String valueToPrint = value.length() > 40
+                        ? value.substring(0, 20) + "..."
+                        : value;
+                LOG.warn("Invalid value for attribute " + schema.getKey() + ": " + valueToPrint, e);
+
+                invalidValues.getElements().add(schema.getKey() + ": " + valueToPrint + " - " + e.getMessage());
+            }
+        });
+        if (!invalidValues.isEmpty()) {
+            throw invalidValues;
+        }
+
+        return template;
+    }
+
+    protected void setValues(final User user, final PlainSchema schema, final List<String> values) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(AnyTypeKind.USER);
+
+        UPlainAttr attr = user.getPlainAttr(schema.getKey()).orElse(null);
+        if (values.isEmpty()) {
+            if (attr != null) {
+                plainAttrDAO.delete(attr);
+            }
+            return;
+        }
+
+        if (attr == null) {
+            attr = anyUtils.newPlainAttr();
+            attr.setOwner(user);
+            attr.setSchema(schema);
+            user.add(attr);
+        } else {
+            plainAttrValueDAO.deleteAll(attr, anyUtils);
+        }
+        for (String value : values) {
+            attr.add(value, anyUtils);
+        }
+    }
+
+    protected PropagationByResource getPropByRes(
+            final Map<String, Pair<String, Set<Attribute>>> before,
+            final Map<String, Pair<String, Set<Attribute>>> after,
+            final Pair<Set<String>, Set<String>> dynGroupMembs) {
+
+        PropagationByResource propByRes = new PropagationByResource();
+
+        // update resources for which values to propagate were changed, as well as the connector object key
+        after.forEach((resource, values) -> {
+            Pair<String, Set<Attribute>> previous = before.get(resource);
+            if (previous != null && !values.equals(previous)) {
+                propByRes.add(ResourceOperation.UPDATE, resource);
+
+                if (previous.getLeft() != null && !previous.getLeft().equals(values.getLeft())) {
+                    propByRes.addOldConnObjectKey(resource, previous.getLeft());
+                }
+            }
+        });
+
+        // check if any resource assignment is to be processed due to dynamic group membership change
+        dynGroupMembs.getLeft().stream().
+                filter(group -> !dynGroupMembs.getRight().contains(group)).
+                forEach(delete -> groupDAO.find(delete).getResources().stream().
+                filter(resource -> !propByRes.contains(resource.getKey())).
+                forEach(resource -> propByRes.add(ResourceOperation.DELETE, resource.getKey())));
+        dynGroupMembs.getRight().stream().
+                filter(group -> !dynGroupMembs.getLeft().contains(group)).
+                forEach(create -> groupDAO.find(create).getResources().stream().
+                filter(resource -> !propByRes.contains(resource.getKey())).
+                forEach(resource -> propByRes.add(ResourceOperation.CREATE, resource.getKey())));
+
+        return propByRes;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public Map<String, List<PropagationTaskInfo>> update(final Collection<String> userKeys, final AttrPatch attrPatch) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(AnyTypeKind.USER);
+
+        PlainSchema schema = getPlainSchema(attrPatch);
+        PlainAttr<?> template = getTemplate(schema, attrPatch, anyUtils);
+        List<String> values = template.getValuesAsStrings();
+
+        // 1. find out which users are to be updated, and how, and what is currently propagated for them
+        Set<String> viaStatement = new LinkedHashSet<>();
+        Set<String> viaEntity = new LinkedHashSet<>();
+        Map<String, Map<String, Pair<String, Set<Attribute>>>> before = new HashMap<>();
+        for (String key : userKeys) {
+            User user = userDAO.find(key);
+            if (user == null) {
+                LOG.debug("User {} not found, ignoring", key);
+                continue;
+            }
+
+            Optional<? extends UPlainAttr> attr = user.getPlainAttr(schema.getKey());
+            if (values.equals(attr.map(PlainAttr::getValuesAsStrings).orElse(List.of()))) {
+                continue;
+            }
+
+            if (attr.isPresent()) {
+                if (values.isEmpty() || !schema.isMultivalue()) {
+                    viaStatement.add(key);
+                } else {
+                    viaEntity.add(key);
+                }
+            } else if (userDAO.findAllowedSchemas(user, PlainSchema.class).forSelfContains(schema)) {
+                viaEntity.add(key);
+            } else {
+                LOG.debug("Plain schema {} not allowed for user {}, ignoring", schema.getKey(), key);
+                continue;
+            }
+            before.put(key, getPropagationValues(user));
+        }
+
+        // 2. replace or remove existing values at once
+        if (!viaStatement.isEmpty()) {
+            int count = values.isEmpty()
+                    ? plainAttrDAO.deleteAttrs(AnyTypeKind.USER, schema, viaStatement)
+                    : plainAttrDAO.replaceValues(AnyTypeKind.USER, schema, template.getValues().get(0), viaStatement);
+            if (count < 0) {
+                viaEntity.addAll(viaStatement);
+            } else {
+                LOG.debug("Updated {} values of plain schema {} for {} users",
+                        count, schema.getKey(), viaStatement.size());
+
+                // reload users as updated above
+                userDAO.clear();
+                schema = plainSchemaDAO.find(schema.getKey());
+            }
+        }
+
+        // 3. set values not updated above, then check mandatory conditions: if not met, nothing is kept
+        Map<String, User> updated = new LinkedHashMap<>();
+        SyncopeClientException requiredValuesMissing =
+                SyncopeClientException.build(ClientExceptionType.RequiredValuesMissing);
+        for (String key : userKeys) {
+            if (!viaStatement.contains(key) && !viaEntity.contains(key)) {
+                continue;
+            }
+
+            User user = userDAO.find(key);
+            if (viaEntity.contains(key)) {
+                setValues(user, schema, values);
+            }
+
+            Set<String> missing = getRequiredValuesMissing(user);
+            if (missing.isEmpty()) {
+                updated.put(key, user);
+            } else {
+                LOG.error("Mandatory {} not provided with values for user {}", missing, key);
+                requiredValuesMissing.getElements().add(key);
+            }
+        }
+        if (!requiredValuesMissing.isEmpty()) {
+            throw requiredValuesMissing;
+        }
+
+        // 4. refresh dynamic memberships and lookup values at once, then prepare propagation at once
+        Date now = new Date();
+        updated.values().forEach(user -> {
+            user.setLastModifier(AuthContextUtils.getUsername());
+            user.setLastChangeDate(now);
+        });
+
+        Map<String, Pair<Set<String>, Set<String>>> dynGroupMembs =
+                userDAO.saveAndGetDynGroupMembs(updated.values());
+
+        Map<String, PropagationByResource> propByRes = new LinkedHashMap<>();
+        updated.keySet().forEach(key -> propByRes.put(key, getPropByRes(
+                before.get(key), getPropagationValues(userDAO.find(key)), dynGroupMembs.get(key))));
+
+        Map<String, List<PropagationTaskInfo>> tasks = propagationManager.getUpdateTasks(AnyTypeKind.USER, propByRes);
+        return tasks;
+    }
+}
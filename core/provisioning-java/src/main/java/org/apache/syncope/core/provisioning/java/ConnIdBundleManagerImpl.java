@@ -29,6 +29,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.commons.lang3.StringUtils;
@@ -65,6 +69,18 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
      */
     private final Map<URI, ConnectorInfoManager> connInfoManagers = Collections.synchronizedMap(new LinkedHashMap<>());
 
+    /**
+     * Local ConnectorInfoManager instances discovered so far, with the fingerprint of the bundles they were built
+     * from: kept across {@link #resetConnManagers()} so that local bundle directories are not processed again unless
+     * changed; remote connector servers are not cached, as they are always discovered again.
+     */
+    private final Map<URI, Pair<String, ConnectorInfoManager>> discovered = new ConcurrentHashMap<>();
+
+    /**
+     * ConnectorInfo instances found so far, by location and connector key.
+     */
+    private final Map<Pair<URI, ConnectorKey>, ConnectorInfo> connectorInfos = new ConcurrentHashMap<>();
+
     @Override
     public List<URI> getLocations() {
         init();
@@ -77,7 +93,7 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
         this.stringLocations = stringLocations;
     }
 
-    private void init() {
+    private synchronized void init() {
         if (locations == null) {
             locations = new ArrayList<>();
             for (String location : StringUtils.isBlank(stringLocations) ? new String[0] : stringLocations.split(",")) {
@@ -113,16 +129,39 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
         if (bundleFileURLs.isEmpty()) {
             LOG.warn("No connector bundles found in {}", location);
         }
+
+        // 2. Reuse the connector info manager previously discovered, unless bundles have changed meanwhile
+        String fingerprint = Stream.of(bundleFiles).sorted().
+                map(file -> new File(bundleDirectory, file)).
+                map(file -> file.getName() + ':' + file.lastModified() + ':' + file.length()).
+                collect(Collectors.joining(","));
+        Pair<String, ConnectorInfoManager> cached = discovered.get(location);
+        if (cached != null && fingerprint.equals(cached.getLeft())) {
+            LOG.debug("Reusing local connector server for {}", location);
+            connInfoManagers.put(location, cached.getRight());
+            return;
+        }
+        if (cached != null) {
+            LOG.info("Connector bundles changed in {}, discovering again", location);
+            ConnectorInfoManagerFactory.getInstance().clearLocalCache();
+        }
+
         LOG.debug("Configuring local connector server:"
                 + "\n\tFiles: {}", bundleFileURLs);
 
-        // 2. Get connector info manager
+        // 3. Get connector info manager
         ConnectorInfoManager manager = ConnectorInfoManagerFactory.getInstance().getLocalManager(
                 bundleFileURLs.toArray(new URL[bundleFileURLs.size()]));
         if (manager == null) {
             throw new NotFoundException("Local ConnectorInfoManager");
         }
 
+        discovered.put(location, Pair.of(fingerprint, manager));
+        discovered(location, manager);
+    }
+
+    private void discovered(final URI location, final ConnectorInfoManager manager) {
+        connectorInfos.keySet().removeIf(key -> key.getLeft().equals(location));
         connInfoManagers.put(location, manager);
     }
 
@@ -181,34 +220,29 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
             throw new NotFoundException("Remote ConnectorInfoManager");
         }
 
-        connInfoManagers.put(location, manager);
+        discovered(location, manager);
     }
 
+    /**
+     * Clears the current connector info managers and connector info instances: at next access, local bundle
+     * directories are checked again for changes, while remote connector servers are discovered again.
+     */
     @Override
     public void resetConnManagers() {
-        connInfoManagers.clear();
+        synchronized (connInfoManagers) {
+            connInfoManagers.clear();
+            connectorInfos.clear();
+        }
     }
 
     @Override
     public Map<URI, ConnectorInfoManager> getConnManagers() {
         init();
 
-        if (connInfoManagers.isEmpty()) {
-            locations.forEach(location -> {
-                try {
-                    if ("file".equals(location.getScheme())) {
-                        LOG.debug("Local initialization: {}", location);
-                        initLocal(location);
-                    } else if (location.getScheme().startsWith("connid")) {
-                        LOG.debug("Remote initialization: {}", location);
-                        initRemote(location);
-                    } else {
-                        LOG.warn("Unsupported scheme: {}", location);
-                    }
-                } catch (Exception e) {
-                    LOG.error("Could not process {}", location, e);
-                }
-            });
+        synchronized (connInfoManagers) {
+            if (connInfoManagers.isEmpty()) {
+                initConnManagers();
+            }
         }
 
         if (LOG.isDebugEnabled()) {
@@ -222,6 +256,24 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
         return connInfoManagers;
     }
 
+    private void initConnManagers() {
+        locations.forEach(location -> {
+            try {
+                if ("file".equals(location.getScheme())) {
+                    LOG.debug("Local initialization: {}", location);
+                    initLocal(location);
+                } else if (location.getScheme().startsWith("connid")) {
+                    LOG.debug("Remote initialization: {}", location);
+                    initRemote(location);
+                } else {
+                    LOG.warn("Unsupported scheme: {}", location);
+                }
+            } catch (Exception e) {
+                LOG.error("Could not process {}", location, e);
+            }
+        });
+    }
+
     @Override
     public Pair<URI, ConnectorInfo> getConnectorInfo(final ConnInstance connInstance) {
         // check ConnIdLocation
@@ -243,15 +295,16 @@ public class ConnIdBundleManagerImpl implements ConnIdBundleManager {
         }
 
         // get the specified connector
-        ConnectorInfo info = null;
-        if (getConnManagers().containsKey(uriLocation)) {
-            info = getConnManagers().get(uriLocation).findConnectorInfo(key);
-        }
+        URI location = uriLocation;
+        ConnectorInfo info = Optional.ofNullable(getConnManagers().get(location)).
+                map(manager -> connectorInfos.computeIfAbsent(
+                Pair.of(location, key), k -> manager.findConnectorInfo(key))).
+                orElse(null);
         if (info == null) {
             throw new NotFoundException("ConnectorInfo for location " + connInstance.getLocation() + " and key " + key);
         }
 
-        return Pair.of(uriLocation, info);
+        return Pair.of(location, info);
     }
 
     @Override
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs connector calls on a bounded pool of dedicated threads, waiting for their results up to the given timeout.
+ * When all threads are busy, calls are queued up to the configured capacity - time spent in queue counts towards the
+ * timeout - and rejected beyond that, so that a slow Identity Store cannot make threads pile up.
+ */
+@Component
+public class ConnectorCallExecutor implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorCallExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+
+    public ConnectorCallExecutor(
+            @Value("${connectorCallExecutor.poolSize:50}") final int poolSize,
+            @Value("${connectorCallExecutor.queueCapacity:500}") final int queueCapacity) {
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ConnectorCall-");
+        threadFactory.setDaemon(true);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new LinkedBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS, queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        // idle threads are released, as connector calls may come in bursts
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs the given connector call, waiting for its result up to the given timeout; the call is reported as timed
+     * out only if no result came back in the meanwhile, otherwise such result is returned.
+     *
+     * @param <T> call result type
+     * @param call connector call
+     * @param timeoutSeconds timeout, in seconds
+     * @return call result
+     * @throws TimeoutException if the call did not complete within the given timeout
+     * @throws RejectedExecutionException if all threads are busy and the queue is full
+     */
+    public <T> T call(final Callable<T> call, final int timeoutSeconds) {
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            LOG.error("Connector request rejected: {} running, {} queued",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new RejectedExecutionException("Too many concurrent connector requests, please retry later", e);
+        }
+
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            if (future.cancel(true)) {
+                // frees the queue slot, if the call did not even start
+                executor.remove((Runnable) future);
+                throw new TimeoutException("Request timeout");
+            }
+
+            // the call completed right after the timeout expired
+            return result(future);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private static <T> T result(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private static RuntimeException failure(final ExecutionException e) {
+        LOG.error("Connector request execution failure", e);
+        return e.getCause() instanceof RuntimeException
+                ? (RuntimeException) e.getCause()
+                : new RuntimeException(e.getCause());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
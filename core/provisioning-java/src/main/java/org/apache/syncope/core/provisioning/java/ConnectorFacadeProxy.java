@@ -22,8 +22,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
@@ -31,7 +30,6 @@ import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.utils.ConnPoolConfUtils;
 import org.apache.syncope.core.provisioning.api.Connector;
-import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -50,12 +48,14 @@ import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.OperationOptionsBuilder;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.SortKey;
+import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,7 +81,10 @@ public class ConnectorFacadeProxy implements Connector {
     private final ConnInstance connInstance;
 
     @Autowired
-    private AsyncConnectorFacade asyncFacade;
+    private ConnectorCallExecutor executor;
+
+    @Autowired
+    private ConnectorResultPipeline pipeline;
 
     /**
      * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls.
@@ -132,26 +135,24 @@ public class ConnectorFacadeProxy implements Connector {
         connector.validate();
     }
 
+    /**
+     * Runs the given connector call, within the configured request timeout.
+     *
+     * @param <T> call result type
+     * @param call connector call
+     * @return call result
+     */
+    private <T> T call(final Callable<T> call) {
+        return executor.call(call, connInstance.getConnRequestTimeout());
+    }
+
     @Override
     public Uid authenticate(final String username, final String password, final OperationOptions options) {
         Uid result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call(() -> connector.authenticate(ObjectClass.ACCOUNT, username,
+                    new GuardedString(password.toCharArray()), options));
         } else {
             LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -172,20 +173,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call(() -> connector.create(objectClass, attrs, options));
         } else {
             LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -207,21 +195,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call(() -> connector.update(objectClass, uid, attrs, options));
         } else {
             LOG.info("Update for {} was attempted, although the "
                     + "connector only has these capabilities: {}. No action.",
@@ -241,21 +215,10 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
-
-            try {
-                future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            call(() -> {
+                connector.delete(objectClass, uid, options);
+                return uid;
+            });
         } else {
             LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
                     uid.getUidValue(), connInstance.getCapabilities());
@@ -268,7 +231,11 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options) {
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            connector.sync(objectClass, token, handler, options);
+            pipeline.<SyncDelta>run(
+                    "Sync of " + objectClass + " from " + connInstance.getDisplayName(),
+                    connInstance.getConnRequestTimeout(),
+                    sink -> connector.sync(objectClass, token, sink::test, options),
+                    handler::handle);
         } else {
             LOG.info("Sync was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -280,21 +247,7 @@ public class ConnectorFacadeProxy implements Connector {
         SyncToken result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call(() -> connector.getLatestSyncToken(objectClass));
         } else {
             LOG.info("getLatestSyncToken was attempted, although the "
                     + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
@@ -321,83 +274,59 @@ public class ConnectorFacadeProxy implements Connector {
             final SyncResultsHandler handler,
             final OperationOptions options) {
 
-        Filter filter = null;
-        OperationOptions actualOptions = options;
-        if (filterBuilder != null) {
-            filter = filterBuilder.build();
-            actualOptions = filterBuilder.build(actualOptions);
-        }
+        Filter filter = filterBuilder == null ? null : filterBuilder.build();
+        OperationOptions actualOptions = filterBuilder == null ? options : filterBuilder.build(options);
 
-        search(objectClass, filter, new SearchResultsHandler() {
+        pipeline.<ConnectorObject>run(
+                "Reconciliation of " + objectClass + " from " + connInstance.getDisplayName(),
+                connInstance.getConnRequestTimeout(),
+                sink -> search(objectClass, filter, new SearchResultsHandler() {
 
-            @Override
-            public void handleResult(final SearchResult result) {
-                // nothing to do
-            }
+                    @Override
+                    public void handleResult(final SearchResult result) {
+                        // nothing to do
+                    }
 
-            @Override
-            public boolean handle(final ConnectorObject object) {
-                return handler.handle(new SyncDeltaBuilder().
+                    @Override
+                    public boolean handle(final ConnectorObject object) {
+                        return sink.test(object);
+                    }
+                }, actualOptions),
+                object -> handler.handle(new SyncDeltaBuilder().
                         setObject(object).
                         setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
                         setToken(new SyncToken("")).
-                        build());
-            }
-        }, actualOptions);
+                        build()));
     }
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
+        return call(() -> {
+            Set<ObjectClassInfo> result = Set.of();
+            try {
+                result = connector.schema().getObjectClassInfo();
+            } catch (Exception e) {
+                // catch exception in order to manage unpredictable behaviors
+                LOG.debug("While reading schema on connector {}", connector, e);
             }
-        }
+            return result;
+        });
     }
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        call(() -> {
+            connector.test();
+            return null;
+        });
     }
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        call(() -> {
+            connector.test();
+            return null;
+        });
     }
 
     @Override
@@ -407,28 +336,35 @@ public class ConnectorFacadeProxy implements Connector {
             final boolean ignoreCaseMatch,
             final OperationOptions options) {
 
-        Future<ConnectorObject> future = null;
+        ConnectorObject result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, connObjectKey, ignoreCaseMatch, options);
+            ConnectorObject[] objects = new ConnectorObject[1];
+            call(() -> connector.search(
+                    objectClass,
+                    ignoreCaseMatch
+                            ? FilterBuilder.equalsIgnoreCase(connObjectKey)
+                            : FilterBuilder.equalTo(connObjectKey),
+                    new SearchResultsHandler() {
+
+                @Override
+                public boolean handle(final ConnectorObject connectorObject) {
+                    objects[0] = connectorObject;
+                    return false;
+                }
+
+                @Override
+                public void handleResult(final SearchResult sr) {
+                    // do nothing
+                }
+            }, options));
+            result = objects[0];
         } else {
             LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
         }
 
-        try {
-            return future == null ? null : future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        return result;
     }
 
     @Override
@@ -18,12 +18,20 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
@@ -44,7 +52,9 @@ import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,6 +76,29 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
     @Autowired
     private ConnInstanceDataBinder connInstanceDataBinder;
 
+    /**
+     * Number of threads used by {@link #load()} to register connectors; 1 means sequential registration.
+     */
+    @Value("${connectorManager.loadPoolSize:1}")
+    private int loadPoolSize;
+
+    /**
+     * When {@code true}, {@link #load()} does not register connectors, which are rather registered on first use.
+     */
+    @Value("${connectorManager.lazyLoad:false}")
+    private boolean lazyLoad;
+
+    /**
+     * When loading lazily, whether {@link #load()} shall anyway look up the ConnId bundles of all connectors.
+     */
+    @Value("${connectorManager.warmUp:true}")
+    private boolean warmUp;
+
+    /**
+     * Locks guarding on-demand connector registration, striped by bean name so that their number is bounded.
+     */
+    private final Object[] registrationLocks = Stream.generate(Object::new).limit(32).toArray();
+
     private EntityFactory entityFactory;
 
     private String getBeanName(final ExternalResource resource) {
@@ -76,11 +109,16 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
     @Override
     public Connector getConnector(final ExternalResource resource) {
         // Try to re-create connector bean from underlying resource (useful for managing failover scenarios)
-        if (!ApplicationContextProvider.getBeanFactory().containsBean(getBeanName(resource))) {
-            registerConnector(resource);
+        String beanName = getBeanName(resource);
+        if (!ApplicationContextProvider.getBeanFactory().containsBean(beanName)) {
+            synchronized (registrationLocks[Math.floorMod(beanName.hashCode(), registrationLocks.length)]) {
+                if (!ApplicationContextProvider.getBeanFactory().containsBean(beanName)) {
+                    registerConnector(resource);
+                }
+            }
         }
 
-        return ApplicationContextProvider.getBeanFactory().getBean(getBeanName(resource), Connector.class);
+        return ApplicationContextProvider.getBeanFactory().getBean(beanName, Connector.class);
     }
 
     @Override
@@ -147,17 +185,22 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
         return connector;
     }
 
-    @Override
-    public void registerConnector(final ExternalResource resource) {
-        ConnInstance connInstance = buildConnInstanceOverride(
+    private ConnInstance buildConnInstance(final ExternalResource resource) {
+        return buildConnInstanceOverride(
                 connInstanceDataBinder.getConnInstanceTO(resource.getConnector()),
                 resource.getConfOverride(),
                 resource.isOverrideCapabilities() ? resource.getCapabilitiesOverride() : null);
+    }
+
+    @Override
+    public void registerConnector(final ExternalResource resource) {
+        registerConnector(getBeanName(resource), buildConnInstance(resource));
+    }
+
+    private void registerConnector(final String beanName, final ConnInstance connInstance) {
         Connector connector = createConnector(connInstance);
         LOG.debug("Connector to be registered: {}", connector);
 
-        String beanName = getBeanName(resource);
-
         if (ApplicationContextProvider.getBeanFactory().containsSingleton(beanName)) {
             unregisterConnector(beanName);
         }
@@ -171,6 +214,62 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
         ApplicationContextProvider.getBeanFactory().destroySingleton(id);
     }
 
+    private static boolean timed(final String description, final Runnable task) {
+        // ConnId locale is thread-bound: see load()
+        CurrentLocale.set(Locale.ENGLISH);
+
+        long start = System.currentTimeMillis();
+        try {
+            task.run();
+            LOG.info("{}: completed in {} ms", description, System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            LOG.error("{}: failed after {} ms", description, System.currentTimeMillis() - start, e);
+            return false;
+        }
+    }
+
+    /**
+     * Runs the given tasks with up to {@link #loadPoolSize} threads, reporting the time taken by each.
+     *
+     * @param tasks tasks to run, by description
+     * @return number of tasks successfully completed
+     */
+    private int run(final Map<String, Runnable> tasks) {
+        int completed = 0;
+
+        int threads = Math.min(loadPoolSize, tasks.size());
+        if (threads <= 1) {
+            for (Map.Entry<String, Runnable> task : tasks.entrySet()) {
+                if (timed(task.getKey(), task.getValue())) {
+                    completed++;
+                }
+            }
+            return completed;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                threads, new CustomizableThreadFactory("ConnectorManager-"));
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(tasks.size());
+            tasks.forEach((description, task) -> results.add(executor.submit(() -> timed(description, task))));
+
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    completed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            LOG.error("Interrupted while waiting for tasks to complete", e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.error("While waiting for tasks to complete", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return completed;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public void load() {
@@ -178,22 +277,44 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory {
         CurrentLocale.set(Locale.ENGLISH);
 
         // Load all connector bundles
+        long start = System.currentTimeMillis();
         connIdBundleManager.getConnManagers();
+        LOG.info("Connector bundles loaded in {} ms", System.currentTimeMillis() - start);
 
-        // Load all resource-specific connectors
-        int connectors = 0;
+        // Prepare all resource-specific connectors, within the current transaction
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        Map<String, ConnInstance> connInstances = new LinkedHashMap<>();
         for (ExternalResource resource : resourceDAO.findAll()) {
-            LOG.info("Registering resource-connector pair {}-{}", resource, resource.getConnector());
+            String description = "Registering resource-connector pair "
+                    + resource.getKey() + '-' + resource.getConnector().getKey();
             try {
-                registerConnector(resource);
+                String beanName = getBeanName(resource);
+                ConnInstance connInstance = buildConnInstance(resource);
 
-                connectors++;
+                tasks.put(description, () -> registerConnector(beanName, connInstance));
+                connInstances.putIfAbsent(resource.getConnector().getKey(), connInstance);
             } catch (Exception e) {
-                LOG.error("While registering resource-connector pair {}-{}", resource, resource.getConnector(), e);
+                LOG.error("While preparing resource-connector pair {}-{}", resource, resource.getConnector(), e);
             }
         }
 
-        LOG.info("Done loading {} connectors", connectors);
+        if (lazyLoad) {
+            if (warmUp) {
+                // Look up ConnId bundles of all connectors, which will be registered on first use
+                Map<String, Runnable> lookups = new LinkedHashMap<>();
+                connInstances.forEach((key, connInstance) -> lookups.put(
+                        "Looking up bundle for connector " + key,
+                        () -> connIdBundleManager.getConnectorInfo(connInstance)));
+                LOG.info("Done looking up bundles for {} connectors", run(lookups));
+            }
+
+            LOG.info("Connectors for {} resources will be registered on first use", tasks.size());
+        } else {
+            // Register all resource-specific connectors
+            LOG.info("Done loading {} connectors", run(tasks));
+        }
+
+        LOG.info("Connectors loaded in {} ms", System.currentTimeMillis() - start);
     }
 
     @Transactional(readOnly = true)
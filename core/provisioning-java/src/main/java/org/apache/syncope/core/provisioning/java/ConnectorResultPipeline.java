@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.common.serializer.SerializerUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decouples fetching results from a connector and handling them: the connector call is run by a worker thread,
+ * filling a bounded queue which is drained by the calling thread - hence within its transaction - via the given
+ * handler.
+ * When the queue is full, the connector call is held (back-pressure) or, if enabled, results are spilled to disk, so
+ * that the connector call can complete without keeping resources - as paged search cursors - open on the remote
+ * system while results are handled.
+ * Results are always handled in the same order as they were fetched.
+ */
+@Component
+public class ConnectorResultPipeline implements DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorResultPipeline.class);
+
+    /**
+     * Fetch and handling statistics for a single run.
+     */
+    public static class Stats {
+
+        private long fetched;
+
+        private long handled;
+
+        private long spilled;
+
+        private long fetchNanos;
+
+        private long heldNanos;
+
+        private long handleNanos;
+
+        public long getFetched() {
+            return fetched;
+        }
+
+        public long getHandled() {
+            return handled;
+        }
+
+        public long getSpilled() {
+            return spilled;
+        }
+
+        /**
+         * @return time spent waiting for the connector, excluding the time it was held because of back-pressure
+         */
+        public long getFetchMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(fetchNanos - heldNanos);
+        }
+
+        public long getHeldMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(heldNanos);
+        }
+
+        public long getHandleMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(handleNanos);
+        }
+
+        private static long rate(final long count, final long nanos) {
+            return nanos <= 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "fetched " + fetched + " results in " + getFetchMillis() + " ms ("
+                    + rate(fetched, fetchNanos - heldNanos) + "/s), "
+                    + "handled " + handled + " results in " + getHandleMillis() + " ms ("
+                    + rate(handled, handleNanos) + "/s), "
+                    + "connector held for " + getHeldMillis() + " ms, "
+                    + spilled + " results spilled to disk";
+        }
+    }
+
+    /**
+     * Bounded, ordered buffer between a single producer and a single consumer; items exceeding capacity are
+     * written to disk in segments of capacity size, up to the given maximum.
+     *
+     * @param <T> item type
+     */
+    private static final class Buffer<T> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition notEmpty = lock.newCondition();
+
+        private final Condition notFull = lock.newCondition();
+
+        private final int capacity;
+
+        private final long maxSpill;
+
+        private final Stats stats;
+
+        private final Deque<T> memory = new ArrayDeque<>();
+
+        private final List<T> tail = new ArrayList<>();
+
+        private final Deque<Path> segments = new ArrayDeque<>();
+
+        private long spilled;
+
+        private boolean done;
+
+        private boolean stopped;
+
+        private Throwable failure;
+
+        Buffer(final int capacity, final long maxSpill, final Stats stats) {
+            this.capacity = capacity;
+            this.maxSpill = maxSpill;
+            this.stats = stats;
+        }
+
+        private void writeSegment() {
+            try {
+                Path segment = Files.createTempFile("syncope-connector-", ".spill");
+                Files.write(segment, SerializerUtil.serializeBinaryObject(new ArrayList<>(tail)));
+                segments.add(segment);
+                tail.clear();
+            } catch (IOException e) {
+                throw new UncheckedIOException("While spilling connector results", e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readSegment() {
+            Path segment = segments.poll();
+            try {
+                List<T> items = (List<T>) SerializerUtil.deserializeBinaryObject(Files.readAllBytes(segment));
+                memory.addAll(items);
+                spilled -= items.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException("While reading spilled connector results", e);
+            } finally {
+                delete(segment);
+            }
+        }
+
+        private static void delete(final Path segment) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                LOG.warn("Could not delete {}", segment, e);
+            }
+        }
+
+        /**
+         * Adds the given item, waiting for room if needed.
+         *
+         * @param item item
+         * @return whether more items are expected
+         */
+        boolean put(final T item) {
+            lock.lock();
+            try {
+                while (!stopped) {
+                    if (segments.isEmpty() && tail.isEmpty() && memory.size() < capacity) {
+                        memory.add(item);
+                        stats.fetched++;
+                        notEmpty.signal();
+                        return true;
+                    }
+
+                    if (spilled < maxSpill) {
+                        tail.add(item);
+                        spilled++;
+                        stats.spilled++;
+                        stats.fetched++;
+                        if (tail.size() >= capacity) {
+                            writeSegment();
+                        }
+                        notEmpty.signal();
+                        return true;
+                    }
+
+                    long start = System.nanoTime();
+                    try {
+                        notFull.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    } finally {
+                        stats.heldNanos += System.nanoTime() - start;
+                    }
+                }
+
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Takes the next item, waiting for it if needed.
+         *
+         * @param timeoutNanos maximum time to wait for the next item, not enforced if not greater than {@code 0}
+         * @return next item, or {@code null} if no more items are available
+         * @throws InterruptedException if interrupted while waiting
+         * @throws TimeoutException if no item was available within the given timeout
+         */
+        T take(final long timeoutNanos) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                long remaining = timeoutNanos;
+                while (true) {
+                    if (memory.isEmpty()) {
+                        if (!segments.isEmpty()) {
+                            readSegment();
+                        } else if (!tail.isEmpty()) {
+                            memory.addAll(tail);
+                            spilled -= tail.size();
+                            tail.clear();
+                        }
+                    }
+
+                    if (!memory.isEmpty()) {
+                        T item = memory.poll();
+                        notFull.signal();
+                        return item;
+                    }
+
+                    if (done) {
+                        return null;
+                    }
+                    if (timeoutNanos > 0) {
+                        if (remaining <= 0) {
+                            throw new TimeoutException("Request timeout");
+                        }
+                        remaining = notEmpty.awaitNanos(remaining);
+                    } else {
+                        notEmpty.await();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete(final Throwable failure) {
+            lock.lock();
+            try {
+                this.done = true;
+                this.failure = failure;
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            lock.lock();
+            try {
+                stopped = true;
+                memory.clear();
+                tail.clear();
+                segments.forEach(Buffer::delete);
+                segments.clear();
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Throwable getFailure() {
+            lock.lock();
+            try {
+                return failure;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final int capacity;
+
+    private final long maxSpill;
+
+    private final ExecutorService executor;
+
+    public ConnectorResultPipeline(
+            @Value("${connectorPipeline.capacity:1000}") final int capacity,
+            @Value("${connectorPipeline.maxSpill:0}") final long maxSpill) {
+
+        this.capacity = capacity;
+        this.maxSpill = maxSpill;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ConnectorResultPipeline-");
+        threadFactory.setDaemon(true);
+        executor = Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * @return whether connector calls are run by worker threads; otherwise, they are run by the calling thread
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    private static void rethrow(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    /**
+     * Runs the given fetch by a worker thread, while the calling thread hands each result to the given handler.
+     * The fetch is notified to stop as soon as the handler returns {@code false}; any fetch failure is thrown only
+     * after all results fetched before were handled.
+     * The given timeout applies to each result - hence to each page read from the connector: whenever the handler
+     * waits longer than that for the next result, the fetch is cancelled. Time spent handling results, or with the
+     * fetch put on hold by back-pressure, does not count.
+     *
+     * @param <T> result type
+     * @param name run name, for logging
+     * @param timeoutSeconds maximum time to wait for each result, in seconds; not enforced if not greater than
+     * {@code 0} or if the pipeline is not enabled
+     * @param fetch connector call, delivering each result to the provided sink until the sink returns {@code false}
+     * @param handler result handler, returning whether more results are wanted
+     * @return statistics
+     * @throws TimeoutException if the connector did not deliver the next result within the given timeout
+     */
+    public <T> Stats run(
+            final String name,
+            final int timeoutSeconds,
+            final Consumer<Predicate<T>> fetch,
+            final Predicate<T> handler) {
+
+        Stats stats = new Stats();
+
+        if (!isEnabled()) {
+            long start = System.nanoTime();
+            fetch.accept(item -> {
+                stats.fetched++;
+                long handleStart = System.nanoTime();
+                try {
+                    return handler.test(item);
+                } finally {
+                    stats.handled++;
+                    stats.handleNanos += System.nanoTime() - handleStart;
+                }
+            });
+            stats.fetchNanos = System.nanoTime() - start - stats.handleNanos;
+            LOG.debug("{}: {}", name, stats);
+            return stats;
+        }
+
+        Buffer<T> buffer = new Buffer<>(capacity, maxSpill, stats);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Future<?> future = executor.submit(() -> {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            long start = System.nanoTime();
+            try {
+                fetch.accept(buffer::put);
+                buffer.complete(null);
+            } catch (Throwable t) {
+                buffer.complete(t);
+            } finally {
+                stats.fetchNanos = System.nanoTime() - start;
+                Thread.currentThread().setContextClassLoader(null);
+            }
+        });
+
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        boolean cancelled = false;
+        try {
+            for (T item = buffer.take(timeoutNanos); item != null; item = buffer.take(timeoutNanos)) {
+                long start = System.nanoTime();
+                boolean more;
+                try {
+                    more = handler.test(item);
+                } finally {
+                    stats.handled++;
+                    stats.handleNanos += System.nanoTime() - start;
+                }
+
+                if (!more) {
+                    buffer.stop();
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelled = true;
+            buffer.stop();
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + ": interrupted while waiting for connector results", e);
+        } catch (TimeoutException e) {
+            LOG.error("{}: no result from connector within {} seconds", name, timeoutSeconds);
+            cancelled = true;
+            buffer.stop();
+            future.cancel(true);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            buffer.stop();
+            throw e;
+        } finally {
+            if (!cancelled) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    future.cancel(true);
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    LOG.error("{}: unexpected failure", name, e);
+                }
+            }
+            buffer.stop();
+
+            LOG.info("{}: {}", name, stats);
+        }
+
+        if (buffer.getFailure() != null) {
+            rethrow(buffer.getFailure());
+        }
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
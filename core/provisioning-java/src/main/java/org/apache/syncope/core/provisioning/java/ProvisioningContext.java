@@ -94,24 +94,23 @@ public class ProvisioningContext implements EnvironmentAware, SchedulingConfigur
     }
 
     /**
-     * Used by {@link AsyncConnectorFacade}.
-     * Annotated as {@code @Primary} because it will be used by {@code @Async} in {@link AsyncConnectorFacade}.
+     * Annotated as {@code @Primary} because it will be used by {@code @Async} and by scheduled tasks.
      *
      * @return executor
      */
     @Bean
     @Primary
-    public Executor asyncConnectorFacadeExecutor() {
-        ThreadPoolTaskScheduler batchExecutor = new ThreadPoolTaskScheduler();
-        batchExecutor.setPoolSize(env.getProperty("asyncConnectorFacadeExecutor.poolSize", Integer.class));
-        batchExecutor.setThreadNamePrefix("AsyncConnectorFacade-");
-        batchExecutor.initialize();
-        return batchExecutor;
+    public Executor taskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(env.getProperty("taskScheduler.poolSize", Integer.class));
+        taskScheduler.setThreadNamePrefix("TaskScheduler-");
+        taskScheduler.initialize();
+        return taskScheduler;
     }
 
     @Override
     public void configureTasks(final ScheduledTaskRegistrar taskRegistrar) {
-        taskRegistrar.setScheduler(asyncConnectorFacadeExecutor());
+        taskRegistrar.setScheduler(taskScheduler());
     }
 
     /**
@@ -41,6 +41,7 @@ import org.apache.syncope.common.lib.to.ResourceHistoryConfTO;
 import org.apache.syncope.common.lib.to.ResourceTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.MappingPurpose;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
@@ -72,6 +73,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnitItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.provisioning.java.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.java.propagation.RemoteStateCache;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.data.ResourceDataBinder;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -119,6 +121,9 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
     @Autowired
     private IntAttrNameParser intAttrNameParser;
 
+    @Autowired
+    private RemoteStateCache remoteStateCache;
+
     @Override
     public ExternalResource create(final ResourceTO resourceTO) {
         return update(entityFactory.newEntity(ExternalResource.class), resourceTO);
@@ -376,6 +381,16 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
         resource.setUpdateTraceLevel(resourceTO.getUpdateTraceLevel());
         resource.setDeleteTraceLevel(resourceTO.getDeleteTraceLevel());
         resource.setProvisioningTraceLevel(resourceTO.getProvisioningTraceLevel());
+        if (resourceTO.getPropagationReadMode() == PropagationReadMode.CACHED
+                && resource.getPropagationReadMode() != PropagationReadMode.CACHED
+                && remoteStateCache.isClustered()) {
+
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidExternalResource);
+            sce.getElements().add(PropagationReadMode.CACHED + " propagation read mode is not available "
+                    + "when more than one Core instance is running");
+            throw sce;
+        }
+        resource.setPropagationReadMode(resourceTO.getPropagationReadMode());
 
         resource.setPasswordPolicy(resourceTO.getPasswordPolicy() == null
                 ? null : (PasswordPolicy) policyDAO.find(resourceTO.getPasswordPolicy()));
@@ -693,6 +708,7 @@ public class ResourceDataBinderImpl implements ResourceDataBinder {
         resourceTO.setUpdateTraceLevel(resource.getUpdateTraceLevel());
         resourceTO.setDeleteTraceLevel(resource.getDeleteTraceLevel());
         resourceTO.setProvisioningTraceLevel(resource.getProvisioningTraceLevel());
+        resourceTO.setPropagationReadMode(resource.getPropagationReadMode());
 
         resourceTO.setPasswordPolicy(resource.getPasswordPolicy() == null
                 ? null : resource.getPasswordPolicy().getKey());
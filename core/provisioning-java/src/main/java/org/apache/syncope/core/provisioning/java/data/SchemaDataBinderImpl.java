@@ -126,6 +126,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schema.setMimeType(schemaTO.getMimeType());
         schema.setMultivalue(schemaTO.isMultivalue());
         schema.setReadonly(schemaTO.isReadonly());
+        schema.setIndexed(schemaTO.isIndexed());
         schema.setSecretKey(schemaTO.getSecretKey());
         schema.setUniqueConstraint(schemaTO.isUniqueConstraint());
 
@@ -220,6 +221,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schemaTO.setMimeType(schema.getMimeType());
         schemaTO.setMultivalue(schema.isMultivalue());
         schemaTO.setReadonly(schema.isReadonly());
+        schemaTO.setIndexed(schema.isIndexed());
         schemaTO.setSecretKey(schema.getSecretKey());
         schemaTO.setUniqueConstraint(schema.isUniqueConstraint());
 
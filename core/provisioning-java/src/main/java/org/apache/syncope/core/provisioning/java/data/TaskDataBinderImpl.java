@@ -133,6 +133,10 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                     ? MatchingRule.LINK : pushTaskTO.getMatchingRule());
             pushTask.setUnmatchingRule(pushTaskTO.getUnmatchingRule() == null
                     ? UnmatchingRule.ASSIGN : pushTaskTO.getUnmatchingRule());
+            pushTask.setConcurrency(pushTaskTO.getConcurrency());
+            pushTask.setPreloadRemoteKeys(pushTaskTO.isPreloadRemoteKeys());
+            pushTask.setSkipUnchanged(pushTaskTO.isSkipUnchanged());
+            pushTask.setChangedSinceLastExec(pushTaskTO.isChangedSinceLastExec());
 
             pushTaskTO.getFilters().forEach((type, fiql) -> {
                 AnyType anyType = anyTypeDAO.find(type);
@@ -441,6 +445,10 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                         ? MatchingRule.LINK : pushTask.getMatchingRule());
                 pushTaskTO.setUnmatchingRule(pushTask.getUnmatchingRule() == null
                         ? UnmatchingRule.ASSIGN : pushTask.getUnmatchingRule());
+                pushTaskTO.setConcurrency(pushTask.getConcurrency());
+                pushTaskTO.setPreloadRemoteKeys(pushTask.isPreloadRemoteKeys());
+                pushTaskTO.setSkipUnchanged(pushTask.isSkipUnchanged());
+                pushTaskTO.setChangedSinceLastExec(pushTask.isChangedSinceLastExec());
 
                 pushTask.getFilters().
                         forEach(filter -> pushTaskTO.getFilters().
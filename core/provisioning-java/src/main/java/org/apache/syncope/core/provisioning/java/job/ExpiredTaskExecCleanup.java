@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.TaskExecDAO;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Deletes task executions older than configured by {@code taskExecRetention.policies}, as comma-separated list of
+ * {@code TASK_TYPE[:STATUS]:DAYS} entries, e.g. {@code PROPAGATION:SUCCESS:7,PROPAGATION:30,PULL:90}; propagation tasks
+ * left without executions are deleted as well.
+ * Executions are deleted in chunks of {@code taskExecRetention.batchSize}, each in its own transaction; when
+ * {@code taskExecRetention.archiveDir} is set, deleted executions are first archived there as GZIP-compressed JSON
+ * lines.
+ */
+public class ExpiredTaskExecCleanup extends AbstractSchedTaskJobDelegate {
+
+    private static final FastDateFormat ARCHIVE_DATE_FORMAT = FastDateFormat.getInstance("yyyyMMddHHmmss");
+
+    protected static final class RetentionPolicy {
+
+        private final TaskType type;
+
+        private final String status;
+
+        private final int days;
+
+        RetentionPolicy(final TaskType type, final String status, final int days) {
+            this.type = type;
+            this.status = status;
+            this.days = days;
+        }
+
+        @Override
+        public String toString() {
+            return type + (status == null ? "" : ":" + status) + ":" + days;
+        }
+    }
+
+    protected static List<RetentionPolicy> parse(final String policies) {
+        List<RetentionPolicy> result = new ArrayList<>();
+
+        for (String policy : StringUtils.split(StringUtils.defaultString(policies), ',')) {
+            String[] items = StringUtils.split(policy.trim(), ':');
+            try {
+                if (items.length == 2) {
+                    result.add(new RetentionPolicy(TaskType.valueOf(items[0]), null, Integer.parseInt(items[1])));
+                } else if (items.length == 3) {
+                    result.add(new RetentionPolicy(
+                            TaskType.valueOf(items[0]), items[1], Integer.parseInt(items[2])));
+                } else {
+                    LOG.error("Invalid task execution retention policy: {}", policy);
+                }
+            } catch (IllegalArgumentException e) {
+                LOG.error("Invalid task execution retention policy: {}", policy, e);
+            }
+        }
+
+        return result;
+    }
+
+    @Autowired
+    private TaskExecDAO taskExecDAO;
+
+    @Autowired
+    private TaskDataBinder taskDataBinder;
+
+    @Value("${taskExecRetention.policies:}")
+    private String policies;
+
+    @Value("${taskExecRetention.batchSize:1000}")
+    private int batchSize;
+
+    @Value("${taskExecRetention.archiveDir:}")
+    private String archiveDir;
+
+    private Writer archive(final Date now) throws IOException {
+        Path dir = Paths.get(archiveDir);
+        Files.createDirectories(dir);
+
+        Path file = dir.resolve(
+                AuthContextUtils.getDomain() + "-TaskExec-" + ARCHIVE_DATE_FORMAT.format(now) + ".json.gz");
+        return new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        Date now = new Date();
+        StringBuilder result = new StringBuilder();
+
+        List<RetentionPolicy> retentionPolicies = parse(policies);
+        if (retentionPolicies.isEmpty()) {
+            return result.append("No task execution retention policy configured").toString();
+        }
+
+        Writer archive = null;
+        try {
+            if (!dryRun && StringUtils.isNotBlank(archiveDir)) {
+                archive = archive(now);
+            }
+
+            for (int i = 0; i < retentionPolicies.size() && !interrupt; i++) {
+                RetentionPolicy policy = retentionPolicies.get(i);
+                Date endedBefore = new Date(now.getTime() - TimeUnit.DAYS.toMillis(policy.days));
+
+                if (dryRun) {
+                    result.append(policy).append(": ").
+                            append(taskExecDAO.countEndedBefore(policy.type, policy.status, endedBefore)).
+                            append(" executions to delete\n");
+                    continue;
+                }
+
+                int deleted = 0;
+                List<String> keys;
+                do {
+                    if (archive == null) {
+                        keys = taskExecDAO.findKeysEndedBefore(policy.type, policy.status, endedBefore, batchSize);
+                    } else {
+                        List<TaskExec> execs =
+                                taskExecDAO.findEndedBefore(policy.type, policy.status, endedBefore, batchSize);
+                        for (TaskExec exec : execs) {
+                            archive.write(POJOHelper.serialize(taskDataBinder.getExecTO(exec)));
+                            archive.write('\n');
+                        }
+                        archive.flush();
+
+                        keys = execs.stream().map(Entity::getKey).collect(Collectors.toList());
+                    }
+
+                    deleted += taskExecDAO.purge(keys);
+                    taskExecDAO.clear();
+
+                    status.set(policy + ": " + deleted + " executions deleted");
+                } while (keys.size() == batchSize && !interrupt);
+
+                LOG.debug("{}: {} executions deleted", policy, deleted);
+                result.append(policy).append(": ").append(deleted).append(" executions deleted\n");
+            }
+        } catch (IOException e) {
+            throw new JobExecutionException("While archiving task executions to " + archiveDir, e);
+        } finally {
+            if (archive != null) {
+                try {
+                    archive.close();
+                } catch (IOException e) {
+                    LOG.error("While closing task executions archive", e);
+                }
+            }
+        }
+
+        if (interrupt) {
+            LOG.debug("Task execution cleanup interrupted");
+            interrupted = true;
+            result.append("\n*** Task execution cleanup interrupted ***\n");
+        }
+
+        return result.toString();
+    }
+
+    @Override
+    protected boolean hasToBeRegistered(final TaskExec execution) {
+        return true;
+    }
+}
@@ -18,9 +18,19 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ProvisionAction;
@@ -28,17 +38,26 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
-import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
-import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * (De)provisions all members of a group from the group's resources.
+ * Members are read page by page via keyset paging, and propagation tasks are generated for each page at once; such
+ * tasks are then executed by a bounded pool of workers, so that neither members nor tasks are held in memory beyond
+ * the current page.
+ */
 public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDelegate {
 
     public static final String ACTION_JOBDETAIL_KEY = "action";
@@ -52,10 +71,16 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
     private AnySearchDAO searchDAO;
 
     @Autowired
-    private UserProvisioningManager userProvisioningManager;
+    private PropagationManager propagationManager;
 
     @Autowired
-    private AnyObjectProvisioningManager anyObjectProvisioningManager;
+    private PropagationTaskExecutor taskExecutor;
+
+    @Value("${groupMemberProvision.batchSize:100}")
+    private int batchSize;
+
+    @Value("${groupMemberProvision.concurrency:4}")
+    private int concurrency;
 
     private String groupKey;
 
@@ -72,32 +97,10 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
         super.execute(taskKey, dryRun, context);
     }
 
-    @Override
-    protected String doExecute(final boolean dryRun) throws JobExecutionException {
-        Group group = groupDAO.authFind(groupKey);
-
-        StringBuilder result = new StringBuilder("Group ").append(group.getName()).append(" members ");
-        if (action == ProvisionAction.DEPROVISION) {
-            result.append("de");
-        }
-        result.append("provision\n\n");
-
-        status.set(result.toString());
-
-        MembershipCond membershipCond = new MembershipCond();
-        membershipCond.setGroup(groupKey);
-        List<User> users = searchDAO.search(SearchCond.getLeafCond(membershipCond), AnyTypeKind.USER);
-        Collection<String> groupResourceKeys = groupDAO.findAllResourceKeys(groupKey);
-        status.set("About to "
-                + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
-                + users.size() + " users from " + groupResourceKeys);
-
-        for (int i = 0; i < users.size() && !interrupt; i++) {
-            List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
-                    ? userProvisioningManager.deprovision(users.get(i).getKey(), groupResourceKeys, false)
-                    : userProvisioningManager.provision(users.get(i).getKey(), true, null, groupResourceKeys, false);
+    private void report(final StringBuilder result, final String member, final List<PropagationStatus> statuses) {
+        synchronized (result) {
             for (PropagationStatus propagationStatus : statuses) {
-                result.append("User ").append(users.get(i).getKey()).append('\t').
+                result.append(member).append('\t').
                         append("Resource ").append(propagationStatus.getResource()).append('\t').
                         append(propagationStatus.getStatus());
                 if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
@@ -107,36 +110,139 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
             }
             result.append("\n");
         }
-        if (interrupt) {
-            LOG.debug("Group assignment interrupted");
-            interrupted = true;
-            return result.append("\n*** Group assignment interrupted ***\n").toString();
-        }
+    }
+
+    /**
+     * Reads the members of the given kind page by page, generates the propagation tasks for each page and submits
+     * them to workers, blocking whenever the maximum number of in-flight members is reached.
+     *
+     * @param kind any type kind
+     * @param groupResourceKeys group's resources
+     * @param executor workers
+     * @param inFlight bounds the number of members submitted to workers and not yet (de)provisioned
+     * @param result execution result
+     * @throws JobExecutionException if interrupted while waiting for workers to become available
+     */
+    private void provision(
+            final AnyTypeKind kind,
+            final Collection<String> groupResourceKeys,
+            final ExecutorService executor,
+            final Semaphore inFlight,
+            final StringBuilder result)
+            throws JobExecutionException {
+
+        String domain = AuthContextUtils.getDomain();
+        String what = kind == AnyTypeKind.USER ? "users" : "any objects";
 
-        membershipCond = new MembershipCond();
+        MembershipCond membershipCond = new MembershipCond();
         membershipCond.setGroup(groupKey);
-        List<AnyObject> anyObjects = searchDAO.search(SearchCond.getLeafCond(membershipCond), AnyTypeKind.ANY_OBJECT);
+        SearchCond cond = SearchCond.getLeafCond(membershipCond);
+
+        int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, kind);
+        AtomicInteger done = new AtomicInteger();
         status.set("About to "
                 + (action == ProvisionAction.DEPROVISION ? "de" : "") + "provision "
-                + anyObjects.size() + " any objects from " + groupResourceKeys);
+                + total + ' ' + what + " from " + groupResourceKeys);
 
-        for (int i = 0; i < anyObjects.size() && !interrupt; i++) {
-            List<PropagationStatus> statuses = action == ProvisionAction.DEPROVISION
-                    ? anyObjectProvisioningManager.deprovision(anyObjects.get(i).getKey(), groupResourceKeys, false)
-                    : anyObjectProvisioningManager.provision(anyObjects.get(i).getKey(), groupResourceKeys, false);
+        String lastKey = null;
+        List<Any<?>> page;
+        do {
+            page = searchDAO.searchAfter(SyncopeConstants.FULL_ADMIN_REALMS, cond, lastKey, batchSize, kind);
 
-            for (PropagationStatus propagationStatus : statuses) {
-                result.append(anyObjects.get(i).getType().getKey()).append(' ').
-                        append(anyObjects.get(i).getKey()).append('\t').
-                        append("Resource ").append(propagationStatus.getResource()).append('\t').
-                        append(propagationStatus.getStatus());
-                if (StringUtils.isNotBlank(propagationStatus.getFailureReason())) {
-                    result.append('\n').append(propagationStatus.getFailureReason()).append('\n');
+            Map<String, String> members = new LinkedHashMap<>(page.size());
+            for (Any<?> member : page) {
+                members.put(member.getKey(), kind == AnyTypeKind.USER
+                        ? "User " + member.getKey()
+                        : member.getType().getKey() + ' ' + member.getKey());
+            }
+            if (!page.isEmpty()) {
+                lastKey = page.get(page.size() - 1).getKey();
+            }
+
+            // tasks for the whole page at once; only plain values cross thread boundaries, as entities are bound to
+            // the current persistence context
+            List<Pair<String, List<PropagationTaskInfo>>> tasks = new ArrayList<>(members.size());
+            if (!members.isEmpty()) {
+                try {
+                    propagationManager.getProvisionTasks(
+                            kind, members.keySet(), groupResourceKeys, action == ProvisionAction.DEPROVISION).
+                            forEach((key, memberTasks) -> tasks.add(Pair.of(members.get(key), memberTasks)));
+                } catch (Exception e) {
+                    LOG.error("While generating propagation tasks for {}", members.values(), e);
+                    synchronized (result) {
+                        members.values().forEach(member -> result.append(member).append('\t').
+                                append(e.getMessage()).append("\n\n"));
+                    }
+                    done.addAndGet(members.size());
                 }
-                result.append("\n");
             }
-            result.append("\n");
+            searchDAO.clear();
+
+            for (int i = 0; i < tasks.size() && !interrupt; i++) {
+                Pair<String, List<PropagationTaskInfo>> memberTasks = tasks.get(i);
+
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JobExecutionException("Interrupted while provisioning group " + groupKey + " members", e);
+                }
+
+                executor.submit(() -> {
+                    try {
+                        List<PropagationStatus> statuses = AuthContextUtils.callAsAdmin(domain,
+                                () -> taskExecutor.execute(memberTasks.getRight(), false).getStatuses());
+                        report(result, memberTasks.getLeft(), statuses);
+                    } catch (Exception e) {
+                        LOG.error("While provisioning {}", memberTasks.getLeft(), e);
+                        synchronized (result) {
+                            result.append(memberTasks.getLeft()).append('\t').append(e.getMessage()).append("\n\n");
+                        }
+                    } finally {
+                        status.set((action == ProvisionAction.DEPROVISION ? "Deprovisioned " : "Provisioned ")
+                                + done.incrementAndGet() + '/' + total + ' ' + what + " from " + groupResourceKeys);
+                        inFlight.release();
+                    }
+                });
+            }
+        } while (page.size() == batchSize && !interrupt);
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        Group group = groupDAO.authFind(groupKey);
+
+        StringBuilder result = new StringBuilder("Group ").append(group.getName()).append(" members ");
+        if (action == ProvisionAction.DEPROVISION) {
+            result.append("de");
+        }
+        result.append("provision\n\n");
+
+        status.set(result.toString());
+
+        Collection<String> groupResourceKeys = groupDAO.findAllResourceKeys(groupKey);
+
+        int workers = Math.max(1, concurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(
+                workers, new CustomizableThreadFactory("GroupMemberProvision-" + groupKey + '-'));
+        Semaphore inFlight = new Semaphore(workers * 2);
+        try {
+            provision(AnyTypeKind.USER, groupResourceKeys, executor, inFlight, result);
+            if (!interrupt) {
+                provision(AnyTypeKind.ANY_OBJECT, groupResourceKeys, executor, inFlight, result);
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    LOG.debug("Waiting for group {} members provisioning to complete", groupKey);
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
         }
+
         if (interrupt) {
             LOG.debug("Group assignment interrupted");
             interrupted = true;
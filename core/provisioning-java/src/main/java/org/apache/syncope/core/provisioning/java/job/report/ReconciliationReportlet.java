@@ -18,15 +18,22 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -34,7 +41,6 @@ import org.apache.syncope.common.lib.report.ReconciliationReportletConf;
 import org.apache.syncope.common.lib.report.ReconciliationReportletConf.Feature;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -49,6 +55,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.user.User;
@@ -59,9 +66,17 @@ import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.OperationalAttributes;
+import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.Uid;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -73,7 +88,10 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(ReconciliationReportletConf.class)
 public class ReconciliationReportlet extends AbstractReportlet {
 
-    private static final int PAGE_SIZE = 10;
+    /**
+     * Number of connector object key values to search for with a single connector call.
+     */
+    private static final int FILTER_SIZE = 100;
 
     @Autowired
     private UserDAO userDAO;
@@ -96,6 +114,12 @@ public class ReconciliationReportlet extends AbstractReportlet {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
+    @Value("${reconciliationReport.batchSize:500}")
+    private int batchSize;
+
+    @Value("${reconciliationReport.concurrency:4}")
+    private int concurrency;
+
     private ReconciliationReportletConf conf;
 
     private String getAnyElementName(final AnyTypeKind anyTypeKind) {
@@ -264,15 +288,135 @@ public class ReconciliationReportlet extends AbstractReportlet {
         return values;
     }
 
-    private void doExtract(final ContentHandler handler, final List<? extends Any<?>> anys)
-            throws SAXException, ReportException {
+    private static String normalize(final Object connObjectKeyValue, final boolean ignoreCaseMatch) {
+        return ignoreCaseMatch ? connObjectKeyValue.toString().toLowerCase() : connObjectKeyValue.toString();
+    }
 
-        final Set<Missing> missing = new HashSet<>();
-        final Set<Misaligned> misaligned = new HashSet<>();
+    /**
+     * Searches the given connector for all the given connector object key values at once; invoked by worker threads,
+     * hence not accessing any persistent entity.
+     *
+     * @param connector connector
+     * @param objectClass object class
+     * @param extAttrName external attribute name for connector object key
+     * @param ignoreCaseMatch whether connector object key values shall be matched ignoring case
+     * @param connObjectKeyValues connector object key values
+     * @param options ConnId's OperationOptions
+     * @return connector objects found, by (normalized) connector object key value
+     */
+    private static Map<String, ConnectorObject> search(
+            final Connector connector,
+            final ObjectClass objectClass,
+            final String extAttrName,
+            final boolean ignoreCaseMatch,
+            final List<String> connObjectKeyValues,
+            final OperationOptions options) {
+
+        List<Filter> filters = connObjectKeyValues.stream().map(value -> {
+            Attribute connObjectKey = AttributeBuilder.build(extAttrName, value);
+            return ignoreCaseMatch
+                    ? FilterBuilder.equalsIgnoreCase(connObjectKey)
+                    : FilterBuilder.equalTo(connObjectKey);
+        }).collect(Collectors.toList());
+
+        Map<String, ConnectorObject> found = new HashMap<>();
+        connector.search(
+                objectClass,
+                filters.size() == 1 ? filters.get(0) : FilterBuilder.or(filters),
+                new SearchResultsHandler() {
+
+            @Override
+            public boolean handle(final ConnectorObject connectorObject) {
+                Attribute connObjectKey = connectorObject.getAttributeByName(extAttrName);
+                if (connObjectKey != null && connObjectKey.getValue() != null) {
+                    connObjectKey.getValue().stream().filter(Objects::nonNull).
+                            forEach(value -> found.putIfAbsent(normalize(value, ignoreCaseMatch), connectorObject));
+                }
+                return true;
+            }
+
+            @Override
+            public void handleResult(final SearchResult result) {
+                // do nothing
+            }
+        }, options);
+
+        return found;
+    }
 
+    private void compare(
+            final Any<?> any,
+            final Check check,
+            final Set<Missing> missing,
+            final Set<Misaligned> misaligned) {
+
+        if (check.connectorObject == null) {
+            // 2. not found on resource?
+            LOG.error("Object {} with class {} not found on resource {}",
+                    check.connObjectKeyValue, check.provision.getObjectClass(), check.resource);
+
+            missing.add(new Missing(check.resource.getKey(), check.connObjectKeyValue));
+            return;
+        }
+
+        // 3. found but misaligned?
+        Pair<String, Set<Attribute>> preparedAttrs =
+                mappingManager.prepareAttrs(any, null, false, null, check.provision);
+        preparedAttrs.getRight().add(AttributeBuilder.build(
+                Uid.NAME, preparedAttrs.getLeft()));
+        preparedAttrs.getRight().add(AttributeBuilder.build(
+                check.connObjectKeyItem.getExtAttrName(), preparedAttrs.getLeft()));
+
+        final Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
+        preparedAttrs.getRight().forEach(attr -> syncopeAttrs.put(attr.getName(), getValues(attr)));
+
+        final Map<String, Set<Object>> resourceAttrs = new HashMap<>();
+        check.connectorObject.getAttributes().stream().
+                filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
+                forEachOrdered(attr -> resourceAttrs.put(attr.getName(), getValues(attr)));
+
+        syncopeAttrs.keySet().stream().
+                filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
+                forEach(name -> misaligned.add(new Misaligned(
+                check.resource.getKey(),
+                check.connObjectKeyValue,
+                name,
+                syncopeAttrs.get(name),
+                Set.of())));
+
+        resourceAttrs.forEach((key, values) -> {
+            if (syncopeAttrs.containsKey(key)) {
+                if (!Objects.equals(syncopeAttrs.get(key), values)) {
+                    misaligned.add(new Misaligned(
+                            check.resource.getKey(),
+                            check.connObjectKeyValue,
+                            key,
+                            syncopeAttrs.get(key),
+                            values));
+                }
+            } else {
+                misaligned.add(new Misaligned(
+                        check.resource.getKey(),
+                        check.connObjectKeyValue,
+                        key,
+                        Set.of(),
+                        values));
+            }
+        });
+    }
+
+    private void doExtract(
+            final ContentHandler handler,
+            final List<? extends Any<?>> anys,
+            final ExecutorService executor)
+            throws SAXException, ReportException {
+
+        // 1. collect the connector objects to check for each any, grouped by resource and any type
+        List<Pair<Any<?>, List<Check>>> checks = new ArrayList<>(anys.size());
+        Map<Pair<String, String>, List<Check>> byProvision = new LinkedHashMap<>();
         for (Any<?> any : anys) {
-            missing.clear();
-            misaligned.clear();
+            List<Check> anyChecks = new ArrayList<>();
 
             AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
             anyUtils.getAllResources(any).forEach(resource -> {
@@ -282,72 +426,78 @@ public class ReconciliationReportlet extends AbstractReportlet {
                         ? mappingManager.getConnObjectKeyValue(any, provision).get()
                         : StringUtils.EMPTY;
                 if (provision != null && connObjectKeyItem.isPresent() && StringUtils.isNotBlank(connObjectKeyValue)) {
-                    // 1. read from the underlying connector
-                    Connector connector = connFactory.getConnector(resource);
-                    ConnectorObject connectorObject = connector.getObject(
-                            provision.getObjectClass(),
-                            AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
-                            provision.isIgnoreCaseMatch(),
-                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
-
-                    if (connectorObject == null) {
-                        // 2. not found on resource?
-                        LOG.error("Object {} with class {} not found on resource {}",
-                                connObjectKeyValue, provision.getObjectClass(), resource);
-
-                        missing.add(new Missing(resource.getKey(), connObjectKeyValue));
-                    } else {
-                        // 3. found but misaligned?
-                        Pair<String, Set<Attribute>> preparedAttrs =
-                                mappingManager.prepareAttrs(any, null, false, null, provision);
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                Uid.NAME, preparedAttrs.getLeft()));
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                connObjectKeyItem.get().getExtAttrName(), preparedAttrs.getLeft()));
-
-                        final Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
-                        preparedAttrs.getRight().forEach(attr -> syncopeAttrs.put(attr.getName(), getValues(attr)));
-
-                        final Map<String, Set<Object>> resourceAttrs = new HashMap<>();
-                        connectorObject.getAttributes().stream().
-                                filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
-                                && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
-                                forEachOrdered(attr -> resourceAttrs.put(attr.getName(), getValues(attr)));
-
-                        syncopeAttrs.keySet().stream().
-                                filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
-                                forEach(name -> misaligned.add(new Misaligned(
-                                resource.getKey(),
-                                connObjectKeyValue,
-                                name,
-                                syncopeAttrs.get(name),
-                                Set.of())));
-
-                        resourceAttrs.forEach((key, values) -> {
-                            if (syncopeAttrs.containsKey(key)) {
-                                if (!Objects.equals(syncopeAttrs.get(key), values)) {
-                                    misaligned.add(new Misaligned(
-                                            resource.getKey(),
-                                            connObjectKeyValue,
-                                            key,
-                                            syncopeAttrs.get(key),
-                                            values));
-                                }
-                            } else {
-                                misaligned.add(new Misaligned(
-                                        resource.getKey(),
-                                        connObjectKeyValue,
-                                        key,
-                                        Set.of(),
-                                        values));
-                            }
-                        });
-                    }
+                    Check check = new Check(resource, provision, connObjectKeyItem.get(), connObjectKeyValue);
+                    anyChecks.add(check);
+                    byProvision.computeIfAbsent(
+                            Pair.of(resource.getKey(), any.getType().getKey()), k -> new ArrayList<>()).add(check);
                 }
             });
 
+            checks.add(Pair.of(any, anyChecks));
+        }
+
+        // 2. read from the underlying connectors, searching for several connector object key values at once
+        List<Pair<List<Check>, Future<Map<String, ConnectorObject>>>> fetches = new ArrayList<>();
+        byProvision.values().forEach(provisionChecks -> {
+            Check first = provisionChecks.get(0);
+
+            Connector connector = connFactory.getConnector(first.resource);
+            ObjectClass objectClass = first.provision.getObjectClass();
+            String extAttrName = first.connObjectKeyItem.getExtAttrName();
+            boolean ignoreCaseMatch = first.provision.isIgnoreCaseMatch();
+            OperationOptions options =
+                    MappingUtils.buildOperationOptions(first.provision.getMapping().getItems().iterator());
+
+            for (int i = 0; i < provisionChecks.size(); i += FILTER_SIZE) {
+                List<Check> chunk = provisionChecks.subList(i, Math.min(i + FILTER_SIZE, provisionChecks.size()));
+                List<String> connObjectKeyValues = chunk.stream().
+                        map(check -> check.connObjectKeyValue).collect(Collectors.toList());
+
+                fetches.add(Pair.of(chunk, executor.submit(() -> search(
+                        connector, objectClass, extAttrName, ignoreCaseMatch, connObjectKeyValues, options))));
+            }
+        });
+
+        for (Pair<List<Check>, Future<Map<String, ConnectorObject>>> fetch : fetches) {
+            Map<String, ConnectorObject> found;
+            try {
+                found = fetch.getRight().get();
+            } catch (InterruptedException e) {
+                fetches.forEach(pending -> pending.getRight().cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ReportException(e);
+            } catch (ExecutionException e) {
+                LOG.error("While searching on resource {}, reverting to single reads",
+                        fetch.getLeft().get(0).resource.getKey(), e.getCause());
+                found = Map.of();
+            }
+
+            for (Check check : fetch.getLeft()) {
+                check.connectorObject = found.get(
+                        normalize(check.connObjectKeyValue, check.provision.isIgnoreCaseMatch()));
+                if (check.connectorObject == null) {
+                    // the resource might report connector object key values differently than requested
+                    check.connectorObject = connFactory.getConnector(check.resource).getObject(
+                            check.provision.getObjectClass(),
+                            AttributeBuilder.build(check.connObjectKeyItem.getExtAttrName(), check.connObjectKeyValue),
+                            check.provision.isIgnoreCaseMatch(),
+                            MappingUtils.buildOperationOptions(check.provision.getMapping().getItems().iterator()));
+                }
+            }
+        }
+
+        // 3. compare and report, in the same order as anys were provided
+        final Set<Missing> missing = new HashSet<>();
+        final Set<Misaligned> misaligned = new HashSet<>();
+
+        for (Pair<Any<?>, List<Check>> anyChecks : checks) {
+            missing.clear();
+            misaligned.clear();
+
+            anyChecks.getRight().forEach(check -> compare(anyChecks.getLeft(), check, missing, misaligned));
+
             if (!missing.isEmpty() || !misaligned.isEmpty()) {
-                doExtract(handler, any, missing, misaligned);
+                doExtract(handler, anyChecks.getLeft(), missing, misaligned);
             }
         }
     }
@@ -365,122 +515,156 @@ public class ReconciliationReportlet extends AbstractReportlet {
             throw new ReportException(new IllegalArgumentException("Invalid configuration provided"));
         }
 
-        AttributesImpl atts = new AttributesImpl();
-
-        if (StringUtils.isBlank(this.conf.getUserMatchingCond())) {
-            int total = userDAO.count();
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            status.set("Processing " + total + " users in " + pages + " pages");
-
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
-
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
-
-                doExtract(handler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
-        } else {
-            SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, concurrency), new CustomizableThreadFactory("ReconciliationReport-"));
+        try {
+            AttributesImpl atts = new AttributesImpl();
 
-            int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+            if (StringUtils.isBlank(this.conf.getUserMatchingCond())) {
+                int total = userDAO.count();
+                int pages = (total / batchSize) + 1;
 
-            status.set("Processing " + total + " users in " + pages + " pages");
+                status.set("Processing " + total + " users in " + pages + " pages");
 
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
+                atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+                handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " users: page " + page + " of " + pages);
+                for (int page = 1; page <= pages; page++) {
+                    status.set("Processing " + total + " users: page " + page + " of " + pages);
 
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.USER));
-            }
-        }
-        handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + "s");
+                    doExtract(handler, userDAO.findAll(page, batchSize), executor);
+                }
+            } else {
+                SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
-        atts.clear();
-        if (StringUtils.isBlank(this.conf.getGroupMatchingCond())) {
-            int total = groupDAO.count();
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+                int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
+                int pages = (total / batchSize) + 1;
 
-            status.set("Processing " + total + " groups in " + pages + " pages");
+                status.set("Processing " + total + " users in " + pages + " pages");
 
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
+                atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+                handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
+                for (int page = 1; page <= pages; page++) {
+                    status.set("Processing " + total + " users: page " + page + " of " + pages);
 
-                doExtract(handler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
+                    doExtract(handler, searchDAO.search(
+                            SyncopeConstants.FULL_ADMIN_REALMS,
+                            cond,
+                            page,
+                            batchSize,
+                            List.of(),
+                            AnyTypeKind.USER), executor);
+                }
             }
-        } else {
-            SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
-
-            int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.GROUP);
-            int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+            handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + "s");
 
-            status.set("Processing " + total + " groups in " + pages + " pages");
+            atts.clear();
+            if (StringUtils.isBlank(this.conf.getGroupMatchingCond())) {
+                int total = groupDAO.count();
+                int pages = (total / batchSize) + 1;
 
-            atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-            handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
+                status.set("Processing " + total + " groups in " + pages + " pages");
 
-            for (int page = 1; page <= pages; page++) {
-                status.set("Processing " + total + " groups: page " + page + " of " + pages);
+                atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+                handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-                doExtract(handler, searchDAO.search(
-                        SyncopeConstants.FULL_ADMIN_REALMS,
-                        cond,
-                        page,
-                        PAGE_SIZE,
-                        List.of(),
-                        AnyTypeKind.GROUP));
-            }
-        }
-        handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s");
+                for (int page = 1; page <= pages; page++) {
+                    status.set("Processing " + total + " groups: page " + page + " of " + pages);
 
-        for (AnyType anyType : anyTypeDAO.findAll()) {
-            if (!anyType.equals(anyTypeDAO.findUser()) && !anyType.equals(anyTypeDAO.findGroup())) {
-                AnyTypeCond anyTypeCond = new AnyTypeCond();
-                anyTypeCond.setAnyTypeKey(anyType.getKey());
-                SearchCond cond = StringUtils.isBlank(this.conf.getAnyObjectMatchingCond())
-                        ? SearchCond.getLeafCond(anyTypeCond)
-                        : SearchCond.getAndCond(
-                                SearchCond.getLeafCond(anyTypeCond),
-                                SearchCondConverter.convert(this.conf.getAnyObjectMatchingCond()));
+                    doExtract(handler, groupDAO.findAll(page, batchSize), executor);
+                }
+            } else {
+                SearchCond cond = SearchCondConverter.convert(this.conf.getGroupMatchingCond());
 
-                int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.ANY_OBJECT);
-                int pages = (total / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
+                int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.GROUP);
+                int pages = (total / batchSize) + 1;
 
-                status.set("Processing " + total + " any objects " + anyType.getKey() + " in " + pages + " pages");
+                status.set("Processing " + total + " groups in " + pages + " pages");
 
-                atts.clear();
-                atts.addAttribute("", "", "type", ReportXMLConst.XSD_STRING, anyType.getKey());
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
-                handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s", atts);
+                handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
                 for (int page = 1; page <= pages; page++) {
-                    status.set("Processing " + total + " any objects " + anyType.getKey()
-                            + ": page " + page + " of " + pages);
+                    status.set("Processing " + total + " groups: page " + page + " of " + pages);
 
                     doExtract(handler, searchDAO.search(
                             SyncopeConstants.FULL_ADMIN_REALMS,
                             cond,
                             page,
-                            PAGE_SIZE,
+                            batchSize,
                             List.of(),
-                            AnyTypeKind.ANY_OBJECT));
+                            AnyTypeKind.GROUP), executor);
                 }
+            }
+            handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s");
+
+            for (AnyType anyType : anyTypeDAO.findAll()) {
+                if (!anyType.equals(anyTypeDAO.findUser()) && !anyType.equals(anyTypeDAO.findGroup())) {
+                    AnyTypeCond anyTypeCond = new AnyTypeCond();
+                    anyTypeCond.setAnyTypeKey(anyType.getKey());
+                    SearchCond cond = StringUtils.isBlank(this.conf.getAnyObjectMatchingCond())
+                            ? SearchCond.getLeafCond(anyTypeCond)
+                            : SearchCond.getAndCond(
+                                    SearchCond.getLeafCond(anyTypeCond),
+                                    SearchCondConverter.convert(this.conf.getAnyObjectMatchingCond()));
+
+                    int total = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.ANY_OBJECT);
+                    int pages = (total / batchSize) + 1;
+
+                    status.set("Processing " + total + " any objects " + anyType.getKey() + " in " + pages + " pages");
+
+                    atts.clear();
+                    atts.addAttribute("", "", "type", ReportXMLConst.XSD_STRING, anyType.getKey());
+                    atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(total));
+                    handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s", atts);
+
+                    for (int page = 1; page <= pages; page++) {
+                        status.set("Processing " + total + " any objects " + anyType.getKey()
+                                + ": page " + page + " of " + pages);
+
+                        doExtract(handler, searchDAO.search(
+                                SyncopeConstants.FULL_ADMIN_REALMS,
+                                cond,
+                                page,
+                                batchSize,
+                                List.of(),
+                                AnyTypeKind.ANY_OBJECT), executor);
+                    }
 
-                handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s");
+                    handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s");
+                }
             }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Connector object to check on the given resource for a given any.
+     */
+    private static class Check {
+
+        private final ExternalResource resource;
+
+        private final Provision provision;
+
+        private final MappingItem connObjectKeyItem;
+
+        private final String connObjectKeyValue;
+
+        private ConnectorObject connectorObject;
+
+        Check(
+                final ExternalResource resource,
+                final Provision provision,
+                final MappingItem connObjectKeyItem,
+                final String connObjectKeyValue) {
+
+            this.resource = resource;
+            this.provision = provision;
+            this.connObjectKeyItem = connObjectKeyItem;
+            this.connObjectKeyValue = connObjectKeyValue;
         }
     }
 
@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.java.propagation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
 import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -54,6 +56,7 @@ import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
@@ -81,6 +84,7 @@ import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationalAttributes;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -134,6 +138,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
     @Autowired
     protected VirSchemaDAO virSchemaDAO;
 
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
     /**
      * Notification Manager.
      */
@@ -164,6 +171,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
     @Autowired
     protected VirAttrCache virAttrCache;
 
+    @Autowired
+    protected RemoteStateCache remoteStateCache;
+
     protected List<PropagationActions> getPropagationActions(final ExternalResource resource) {
         List<PropagationActions> result = new ArrayList<>();
 
@@ -332,6 +342,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
                 connector.delete(beforeObj.getObjectClass(), beforeObj.getUid(), null, propagationAttempted);
                 result = beforeObj.getUid();
+
+                // next push will need to send everything again
+                if (task.getEntityKey() != null) {
+                    pushFingerprintDAO.delete(task.getEntityKey(), task.getResource());
+                }
             } else {
                 result = createOrUpdate(task, beforeObj, connector, propagationAttempted);
             }
@@ -371,6 +386,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
         String resource = task.getResource().getKey();
 
+        PropagationReadMode readMode = task.getResource().getPropagationReadMode();
+        String connObjectKey = task.getConnObjectKey();
+
         Date start = new Date();
 
         TaskExec execution = entityFactory.newEntity(TaskExec.class);
@@ -396,12 +414,20 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             connector = connFactory.getConnector(task.getResource());
 
             if (taskInfo.getBeforeObj() == null) {
-                // Try to read remote object BEFORE any actual operation
-                beforeObj = provision == null && orgUnit == null
-                        ? null
-                        : orgUnit == null
-                                ? getRemoteObject(task, connector, provision, false)
-                                : getRemoteObject(task, connector, orgUnit, false);
+                if (readMode == PropagationReadMode.CACHED) {
+                    beforeObj = remoteStateCache.get(
+                            resource,
+                            task.getObjectClassName(),
+                            task.getOldConnObjectKey() == null ? connObjectKey : task.getOldConnObjectKey());
+                }
+                if (beforeObj == null) {
+                    // Try to read remote object BEFORE any actual operation
+                    beforeObj = provision == null && orgUnit == null
+                            ? null
+                            : orgUnit == null
+                                    ? getRemoteObject(task, connector, provision, false)
+                                    : getRemoteObject(task, connector, orgUnit, false);
+                }
             } else if (taskInfo.getBeforeObj().isPresent()) {
                 beforeObj = taskInfo.getBeforeObj().get();
             }
@@ -464,24 +490,32 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 if (uid != null) {
                     task.setConnObjectKey(uid.getUidValue());
                 }
-                try {
-                    afterObj = provision == null && orgUnit == null
-                            ? null
-                            : orgUnit == null
-                                    ? getRemoteObject(task, connector, provision, true)
-                                    : getRemoteObject(task, connector, orgUnit, true);
-                } catch (Exception ignore) {
-                    // ignore exception
-                    LOG.error("Error retrieving after object", ignore);
+                if (readMode == PropagationReadMode.FULL) {
+                    try {
+                        afterObj = provision == null && orgUnit == null
+                                ? null
+                                : orgUnit == null
+                                        ? getRemoteObject(task, connector, provision, true)
+                                        : getRemoteObject(task, connector, orgUnit, true);
+                    } catch (Exception ignore) {
+                        // ignore exception
+                        LOG.error("Error retrieving after object", ignore);
+                    }
                 }
             }
 
             if (task.getOperation() != ResourceOperation.DELETE && afterObj == null && uid != null) {
-                afterObj = new ConnectorObjectBuilder().
-                        setObjectClass(new ObjectClass(task.getObjectClassName())).
-                        setUid(uid).
-                        setName(AttributeUtil.getNameFromAttributes(task.getAttributes())).
-                        build();
+                afterObj = readMode == PropagationReadMode.FULL
+                        ? new ConnectorObjectBuilder().
+                                setObjectClass(new ObjectClass(task.getObjectClassName())).
+                                setUid(uid).
+                                setName(AttributeUtil.getNameFromAttributes(task.getAttributes())).
+                                build()
+                        : buildAfterObj(task, beforeObj, uid);
+            }
+
+            if (readMode == PropagationReadMode.CACHED) {
+                updateRemoteState(task, connObjectKey, execution, afterObj);
             }
 
             execution.setStart(start);
@@ -570,6 +604,73 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         return reporter;
     }
 
+    /**
+     * Build the remote object after propagation from the object before, if available, and the propagated
+     * attributes, without reading from the connector.
+     *
+     * @param task current propagation task
+     * @param beforeObj remote object before propagation, if available
+     * @param uid uid returned by propagation
+     * @return remote object after propagation
+     */
+    protected ConnectorObject buildAfterObj(
+            final PropagationTask task,
+            final ConnectorObject beforeObj,
+            final Uid uid) {
+
+        Map<String, Attribute> attrs = new HashMap<>();
+        if (beforeObj != null) {
+            beforeObj.getAttributes().forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+        }
+        task.getAttributes().stream().
+                filter(attr -> !OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                && !OperationalAttributes.CURRENT_PASSWORD_NAME.equals(attr.getName())
+                && !MANDATORY_MISSING_ATTR_NAME.equals(attr.getName())
+                && !MANDATORY_NULL_OR_EMPTY_ATTR_NAME.equals(attr.getName())).
+                forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+        attrs.remove(Uid.NAME.toUpperCase());
+
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder().
+                setObjectClass(new ObjectClass(task.getObjectClassName())).
+                addAttributes(attrs.values()).
+                setUid(uid);
+        if (!attrs.containsKey(Name.NAME.toUpperCase())) {
+            builder.setName(uid.getUidValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Keep track of the remote object after propagation, for later usage in place of reading it before next
+     * propagation; whenever the remote state cannot be told for sure, any previous information is discarded.
+     *
+     * @param task current propagation task
+     * @param connObjectKey connector object key, as computed from mapping
+     * @param execution propagation task execution
+     * @param afterObj remote object after propagation
+     */
+    protected void updateRemoteState(
+            final PropagationTask task,
+            final String connObjectKey,
+            final TaskExec execution,
+            final ConnectorObject afterObj) {
+
+        String resource = task.getResource().getKey();
+
+        if (task.getOldConnObjectKey() != null) {
+            remoteStateCache.expire(resource, task.getObjectClassName(), task.getOldConnObjectKey());
+        }
+
+        if (task.getOperation() != ResourceOperation.DELETE
+                && afterObj != null
+                && ExecStatus.valueOf(execution.getStatus()) != ExecStatus.FAILURE) {
+
+            remoteStateCache.put(resource, task.getObjectClassName(), connObjectKey, afterObj);
+        } else {
+            remoteStateCache.expire(resource, task.getObjectClassName(), connObjectKey);
+        }
+    }
+
     /**
      * Check whether an execution has to be stored, for a given task.
      *
@@ -19,10 +19,14 @@
 package org.apache.syncope.core.provisioning.java.propagation;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.request.PasswordPatch;
+import org.apache.syncope.common.lib.request.StringPatchItem;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -61,6 +65,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -190,6 +195,16 @@ public class PropagationManagerImpl implements PropagationManager {
         return getUpdateTasks(dao(kind).authFind(key), null, changePwd, enable, propByRes, vAttrs, noPropResourceKeys);
     }
 
+    @Override
+    public Map<String, List<PropagationTaskInfo>> getUpdateTasks(
+            final AnyTypeKind kind,
+            final Map<String, PropagationByResource> propByRes) {
+
+        Map<String, List<PropagationTaskInfo>> tasks = new LinkedHashMap<>(propByRes.size());
+        propByRes.forEach((key, byRes) -> tasks.put(key, getUpdateTasks(kind, key, false, null, byRes, null, null)));
+        return tasks;
+    }
+
     @Override
     public List<PropagationTaskInfo> getUserUpdateTasks(
             final WorkflowResult<Pair<UserUR, Boolean>> wfResult,
@@ -310,6 +325,55 @@ public class PropagationManagerImpl implements PropagationManager {
         return createTasks(any, null, false, false, true, propByRes, null);
     }
 
+    @Override
+    public Map<String, List<PropagationTaskInfo>> getProvisionTasks(
+            final AnyTypeKind kind,
+            final Collection<String> keys,
+            final Collection<String> resourceKeys,
+            final boolean deprovision) {
+
+        Map<String, List<PropagationTaskInfo>> tasks = new LinkedHashMap<>(keys.size());
+        for (String key : keys) {
+            PropagationByResource propByRes = new PropagationByResource();
+
+            if (deprovision) {
+                propByRes.set(ResourceOperation.DELETE, resourceKeys);
+
+                tasks.put(key, getDeleteTasks(
+                        kind,
+                        key,
+                        propByRes,
+                        dao(kind).findAllResourceKeys(key).stream().
+                                filter(resource -> !resourceKeys.contains(resource)).
+                                collect(Collectors.toList())));
+            } else if (kind == AnyTypeKind.USER) {
+                UserUR userUR = new UserUR();
+                userUR.setKey(key);
+                userUR.getResources().addAll(resourceKeys.stream().map(resource
+                        -> new StringPatchItem.Builder().operation(PatchOperation.ADD_REPLACE).value(resource).build()).
+                        collect(Collectors.toSet()));
+
+                PasswordPatch passwordPatch = new PasswordPatch();
+                passwordPatch.setOnSyncope(false);
+                passwordPatch.getResources().addAll(resourceKeys);
+                userUR.setPassword(passwordPatch);
+
+                propByRes.addAll(ResourceOperation.UPDATE, resourceKeys);
+
+                tasks.put(key, getUserUpdateTasks(
+                        new WorkflowResult<>(ImmutablePair.of(userUR, (Boolean) null), propByRes, "update"),
+                        true,
+                        null));
+            } else {
+                propByRes.addAll(ResourceOperation.UPDATE, resourceKeys);
+
+                tasks.put(key, getUpdateTasks(kind, key, false, null, propByRes, null, null));
+            }
+        }
+
+        return tasks;
+    }
+
     /**
      * Create propagation tasks.
      *
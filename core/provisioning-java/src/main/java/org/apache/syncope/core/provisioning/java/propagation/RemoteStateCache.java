@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Last known state of remote objects, as left by the latest propagation, for external resources configured with
+ * {@link org.apache.syncope.common.lib.types.PropagationReadMode#CACHED}.
+ * Entries are local to the current node and expire after {@code propagation.remoteStateCache.ttl} seconds, hence
+ * this is meant for external resources which are not written by other parties.
+ * As other nodes would not invalidate such entries when propagating to the same remote objects, the cache is only
+ * enabled while a single Core instance is registered with Keymaster; otherwise, remote objects are always read.
+ */
+@Component
+public class RemoteStateCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteStateCache.class);
+
+    private static final long CLUSTER_CHECK_INTERVAL = 60000L;
+
+    private static final class Key {
+
+        private final String domain;
+
+        private final String resource;
+
+        private final String objectClass;
+
+        private final String connObjectKey;
+
+        Key(final String resource, final String objectClass, final String connObjectKey) {
+            this.domain = AuthContextUtils.getDomain();
+            this.resource = resource;
+            this.objectClass = objectClass;
+            this.connObjectKey = connObjectKey;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(domain, resource, objectClass, connObjectKey);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(domain, other.domain)
+                    && Objects.equals(resource, other.resource)
+                    && Objects.equals(objectClass, other.objectClass)
+                    && Objects.equals(connObjectKey, other.connObjectKey);
+        }
+    }
+
+    private static final class State {
+
+        private final ConnectorObject connObject;
+
+        private final long created = System.currentTimeMillis();
+
+        State(final ConnectorObject connObject) {
+            this.connObject = connObject;
+        }
+    }
+
+    @Value("${propagation.remoteStateCache.ttl:300}")
+    private long ttl;
+
+    @Value("${propagation.remoteStateCache.maxSize:10000}")
+    private int maxSize;
+
+    @Autowired
+    private ServiceOps serviceOps;
+
+    private final Map<Key, State> cache = new ConcurrentHashMap<>();
+
+    private volatile boolean clustered;
+
+    private volatile long clusterChecked;
+
+    /**
+     * Whether more than one Core instance is registered with Keymaster, re-checked every minute; when Keymaster
+     * cannot be reached, this is assumed to be the case.
+     *
+     * @return whether more than one Core instance is registered with Keymaster
+     */
+    public boolean isClustered() {
+        long now = System.currentTimeMillis();
+        if (now - clusterChecked >= CLUSTER_CHECK_INTERVAL) {
+            boolean current;
+            try {
+                current = serviceOps.list(NetworkService.Type.CORE).size() > 1;
+            } catch (Exception e) {
+                LOG.warn("Could not list Core instances, disabling remote state cache", e);
+                current = true;
+            }
+            if (current) {
+                cache.clear();
+            }
+
+            clustered = current;
+            clusterChecked = now;
+        }
+        return clustered;
+    }
+
+    private boolean isValid(final State value) {
+        return value != null && System.currentTimeMillis() - value.created < ttl * 1000;
+    }
+
+    public ConnectorObject get(final String resource, final String objectClass, final String connObjectKey) {
+        if (connObjectKey == null || isClustered()) {
+            return null;
+        }
+
+        Key key = new Key(resource, objectClass, connObjectKey);
+        State value = cache.get(key);
+        if (isValid(value)) {
+            return value.connObject;
+        }
+        if (value != null) {
+            cache.remove(key, value);
+        }
+        return null;
+    }
+
+    public void put(
+            final String resource,
+            final String objectClass,
+            final String connObjectKey,
+            final ConnectorObject connObject) {
+
+        if (connObjectKey == null || connObject == null || isClustered()) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            free();
+        }
+        cache.put(new Key(resource, objectClass, connObjectKey), new State(connObject));
+    }
+
+    public void expire(final String resource, final String objectClass, final String connObjectKey) {
+        if (connObjectKey != null) {
+            cache.remove(new Key(resource, objectClass, connObjectKey));
+        }
+    }
+
+    /**
+     * Removes expired entries; if none, removes entries until below max size.
+     */
+    private void free() {
+        cache.values().removeIf(value -> !isValid(value));
+
+        for (Iterator<Key> itor = cache.keySet().iterator(); cache.size() >= maxSize && itor.hasNext();) {
+            itor.next();
+            itor.remove();
+        }
+    }
+}
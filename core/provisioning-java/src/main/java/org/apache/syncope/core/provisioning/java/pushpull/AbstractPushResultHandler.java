@@ -38,11 +38,18 @@ import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReport;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
@@ -50,7 +57,6 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
-import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -62,7 +68,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHandler<PushTask, PushActions>
-        implements SyncopePushResultHandler {
+        implements AnyPushResultHandler {
 
     @Autowired
     protected PushUtils pushUtils;
@@ -82,11 +88,63 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected MappingManager mappingManager;
 
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
+    @Autowired
+    protected EntityFactory entityFactory;
+
     @Autowired
     protected SchedulerFactoryBean scheduler;
 
+    @Autowired
+    protected TaskDAO taskDAO;
+
+    /**
+     * Set while handling on worker threads: profile with the push task reloaded within the current transaction.
+     */
+    private final ThreadLocal<ProvisioningProfile<PushTask, PushActions>> workerProfile = new ThreadLocal<>();
+
+    private final Object connObjectKeyIndexLock = new Object();
+
+    private Optional<ConnObjectKeyIndex> connObjectKeyIndex;
+
     protected abstract String getName(Any<?> any);
 
+    protected Optional<ConnObjectKeyIndex> getConnObjectKeyIndex(final Provision provision) {
+        synchronized (connObjectKeyIndexLock) {
+            if (connObjectKeyIndex == null) {
+                connObjectKeyIndex = profile().getTask().isPreloadRemoteKeys()
+                        ? pushUtils.buildConnObjectKeyIndex(profile().getConnector(), provision)
+                        : Optional.empty();
+            }
+            return connObjectKeyIndex;
+        }
+    }
+
+    protected void updateFingerprint(final Any<?> any, final ResourceOperation operation, final String fingerprint) {
+        switch (operation) {
+            case CREATE:
+            case UPDATE:
+                PushFingerprint pushFingerprint = pushFingerprintDAO.find(
+                        any.getKey(), profile().getTask().getResource());
+                if (pushFingerprint == null) {
+                    pushFingerprint = entityFactory.newEntity(PushFingerprint.class);
+                    pushFingerprint.setAnyKey(any.getKey());
+                    pushFingerprint.setResource(profile().getTask().getResource());
+                }
+                pushFingerprint.setFingerprint(fingerprint);
+                pushFingerprintDAO.save(pushFingerprint);
+                break;
+
+            case DELETE:
+                pushFingerprintDAO.delete(any.getKey(), profile().getTask().getResource());
+                break;
+
+            default:
+        }
+    }
+
     protected void reportPropagation(final ProvisioningReport result, final PropagationReporter reporter) {
         if (!reporter.getStatuses().isEmpty()) {
             result.setStatus(toProvisioningReportStatus(reporter.getStatuses().get(0).getStatus()));
@@ -105,11 +163,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                 map(Entity::getKey).collect(Collectors.toList());
 
         List<String> noPropResources = new ArrayList<>(ownedResources);
-        noPropResources.remove(profile.getTask().getResource().getKey());
+        noPropResources.remove(profile().getTask().getResource().getKey());
 
         PropagationByResource propByRes = new PropagationByResource();
-        propByRes.add(ResourceOperation.UPDATE, profile.getTask().getResource().getKey());
-        propByRes.addOldConnObjectKey(profile.getTask().getResource().getKey(), beforeObj.getUid().getUidValue());
+        propByRes.add(ResourceOperation.UPDATE, profile().getTask().getResource().getKey());
+        propByRes.addOldConnObjectKey(profile().getTask().getResource().getKey(), beforeObj.getUid().getUidValue());
 
         List<PropagationTaskInfo> taskInfos = propagationManager.getUpdateTasks(
                 any.getType().getKind(),
@@ -131,11 +189,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         AnyTO before = getAnyTO(any.getKey());
 
         List<String> noPropResources = new ArrayList<>(before.getResources());
-        noPropResources.remove(profile.getTask().getResource().getKey());
+        noPropResources.remove(profile().getTask().getResource().getKey());
 
         PropagationByResource propByRes = new PropagationByResource();
-        propByRes.add(ResourceOperation.DELETE, profile.getTask().getResource().getKey());
-        propByRes.addOldConnObjectKey(profile.getTask().getResource().getKey(), beforeObj.getUid().getUidValue());
+        propByRes.add(ResourceOperation.DELETE, profile().getTask().getResource().getKey());
+        propByRes.addOldConnObjectKey(profile().getTask().getResource().getKey(), beforeObj.getUid().getUidValue());
 
         List<PropagationTaskInfo> taskInfos = propagationManager.getDeleteTasks(
                 any.getType().getKind(),
@@ -154,10 +212,10 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         AnyTO before = getAnyTO(any.getKey());
 
         List<String> noPropResources = new ArrayList<>(before.getResources());
-        noPropResources.remove(profile.getTask().getResource().getKey());
+        noPropResources.remove(profile().getTask().getResource().getKey());
 
         PropagationByResource propByRes = new PropagationByResource();
-        propByRes.add(ResourceOperation.CREATE, profile.getTask().getResource().getKey());
+        propByRes.add(ResourceOperation.CREATE, profile().getTask().getResource().getKey());
 
         List<PropagationTaskInfo> taskInfos = propagationManager.getCreateTasks(
                 any.getType().getKind(),
@@ -178,7 +236,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         AnyUR req = getAnyUtils().newAnyUR(any.getKey());
         req.getResources().add(new StringPatchItem.Builder().
                 operation(unlink ? PatchOperation.DELETE : PatchOperation.ADD_REPLACE).
-                value(profile.getTask().getResource().getKey()).build());
+                value(profile().getTask().getResource().getKey()).build());
 
         update(req);
 
@@ -189,7 +247,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         AnyUR req = getAnyUtils().newAnyUR(any.getKey());
         req.getResources().add(new StringPatchItem.Builder().
                 operation(PatchOperation.DELETE).
-                value(profile.getTask().getResource().getKey()).build());
+                value(profile().getTask().getResource().getKey()).build());
 
         update(req);
 
@@ -200,13 +258,34 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         AnyUR req = getAnyUtils().newAnyUR(any.getKey());
         req.getResources().add(new StringPatchItem.Builder().
                 operation(PatchOperation.ADD_REPLACE).
-                value(profile.getTask().getResource().getKey()).build());
+                value(profile().getTask().getResource().getKey()).build());
 
         update(req);
 
         provision(any, enabled, result);
     }
 
+    protected ProvisioningProfile<PushTask, PushActions> profile() {
+        return Optional.ofNullable(workerProfile.get()).orElse(profile);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public boolean handle(final String anyKey, final String taskKey) {
+        PushTask task = taskDAO.find(taskKey);
+        if (task == null) {
+            throw new NotFoundException("Task " + taskKey);
+        }
+
+        ProvisioningProfile<PushTask, PushActions> reloaded = new ProvisioningProfile<>(profile, task);
+        workerProfile.set(reloaded);
+        try {
+            return handle(anyKey);
+        } finally {
+            workerProfile.remove();
+        }
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String anyKey) {
@@ -214,25 +293,30 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         try {
             any = getAnyUtils().dao().authFind(anyKey);
 
-            Provision provision = profile.getTask().getResource().getProvision(any.getType()).orElse(null);
+            Provision provision = profile().getTask().getResource().getProvision(any.getType()).orElse(null);
             if (provision == null) {
-                throw new JobExecutionException("No provision found on " + profile.getTask().getResource() + " for "
+                throw new JobExecutionException("No provision found on " + profile().getTask().getResource() + " for "
                         + any.getType().getKey());
             }
 
             doHandle(any, provision);
             return true;
         } catch (IgnoreProvisionException e) {
-            ProvisioningReport ignoreResult = profile.getResults().stream().
-                    filter(report -> anyKey.equalsIgnoreCase(report.getKey())).
-                    findFirst().
-                    orElse(null);
-            if (ignoreResult == null) {
-                ignoreResult = new ProvisioningReport();
-                ignoreResult.setKey(anyKey);
-                ignoreResult.setAnyType(Optional.ofNullable(any).map(any1 -> any1.getType().getKey()).orElse(null));
-
-                profile.getResults().add(ignoreResult);
+            ProvisioningReport ignoreResult;
+            // results might be concurrently updated when pushing in parallel
+            synchronized (profile().getResults()) {
+                ignoreResult = profile().getResults().stream().
+                        filter(report -> anyKey.equalsIgnoreCase(report.getKey())).
+                        findFirst().
+                        orElse(null);
+                if (ignoreResult == null) {
+                    ignoreResult = new ProvisioningReport();
+                    ignoreResult.setKey(anyKey);
+                    ignoreResult.setAnyType(
+                            Optional.ofNullable(any).map(any1 -> any1.getType().getKey()).orElse(null));
+
+                    profile().getResults().add(ignoreResult);
+                }
             }
 
             ignoreResult.setOperation(ResourceOperation.NONE);
@@ -249,21 +333,46 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
 
     protected void doHandle(final Any<?> any, final Provision provision) throws JobExecutionException {
         ProvisioningReport result = new ProvisioningReport();
-        profile.getResults().add(result);
+        profile().getResults().add(result);
 
         result.setKey(any.getKey());
         result.setAnyType(any.getType().getKey());
         result.setName(getName(any));
 
         LOG.debug("Propagating {} with key {} towards {}",
-                any.getType().getKind(), any.getKey(), profile.getTask().getResource());
+                any.getType().getKind(), any.getKey(), profile().getTask().getResource());
+
+        Boolean enable = any instanceof User && profile().getTask().isSyncStatus()
+                ? ((User) any).isSuspended()
+                ? Boolean.FALSE
+                : Boolean.TRUE
+                : null;
+
+        // Compare with what was last pushed BEFORE contacting the connector
+        String fingerprint = null;
+        if (profile().getTask().isSkipUnchanged()) {
+            fingerprint = pushUtils.fingerprint(any, enable, provision);
+
+            PushFingerprint last = pushFingerprintDAO.find(any.getKey(), profile().getTask().getResource());
+            if (last != null && fingerprint.equals(last.getFingerprint())) {
+                LOG.debug("{} unchanged since last pushed towards {}", any, profile().getTask().getResource());
+
+                result.setOperation(ResourceOperation.NONE);
+                result.setStatus(ProvisioningReport.Status.IGNORE);
+                result.setMessage("Unchanged since last push");
+                return;
+            }
+        }
 
         // Try to read remote object BEFORE any actual operation
-        List<ConnectorObject> connObjs = pushUtils.match(profile.getConnector(), any, provision);
+        Optional<ConnObjectKeyIndex> index = getConnObjectKeyIndex(provision);
+        List<ConnectorObject> connObjs = index.isPresent()
+                ? pushUtils.match(index.get(), any, provision)
+                : pushUtils.match(profile().getConnector(), any, provision);
         LOG.debug("Match(es) found for {} as {}: {}", any, provision.getObjectClass(), connObjs);
 
         if (connObjs.size() > 1) {
-            switch (profile.getConflictResolutionAction()) {
+            switch (profile().getConflictResolutionAction()) {
                 case IGNORE:
                     throw new IgnoreProvisionException("More than one match found for "
                             + any.getKey() + ": " + connObjs);
@@ -284,46 +393,40 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         Object output = null;
         Result resultStatus = null;
 
-        Boolean enable = any instanceof User && profile.getTask().isSyncStatus()
-                ? ((User) any).isSuspended()
-                ? Boolean.FALSE
-                : Boolean.TRUE
-                : null;
-
-        if (profile.isDryRun()) {
+        if (profile().isDryRun()) {
             if (beforeObj == null) {
-                result.setOperation(toResourceOperation(profile.getTask().getUnmatchingRule()));
+                result.setOperation(toResourceOperation(profile().getTask().getUnmatchingRule()));
             } else {
-                result.setOperation(toResourceOperation(profile.getTask().getMatchingRule()));
+                result.setOperation(toResourceOperation(profile().getTask().getMatchingRule()));
             }
             result.setStatus(ProvisioningReport.Status.SUCCESS);
         } else {
             String operation = beforeObj == null
-                    ? UnmatchingRule.toEventName(profile.getTask().getUnmatchingRule())
-                    : MatchingRule.toEventName(profile.getTask().getMatchingRule());
+                    ? UnmatchingRule.toEventName(profile().getTask().getUnmatchingRule())
+                    : MatchingRule.toEventName(profile().getTask().getMatchingRule());
 
             boolean notificationsAvailable = notificationManager.notificationsAvailable(
                     AuditElements.EventCategoryType.PUSH,
                     any.getType().getKind().name().toLowerCase(),
-                    profile.getTask().getResource().getKey(),
+                    profile().getTask().getResource().getKey(),
                     operation);
             boolean auditRequested = auditManager.auditRequested(
                     AuthContextUtils.getUsername(),
                     AuditElements.EventCategoryType.PUSH,
                     any.getType().getKind().name().toLowerCase(),
-                    profile.getTask().getResource().getKey(),
+                    profile().getTask().getResource().getKey(),
                     operation);
             try {
                 if (beforeObj == null) {
-                    result.setOperation(toResourceOperation(profile.getTask().getUnmatchingRule()));
+                    result.setOperation(toResourceOperation(profile().getTask().getUnmatchingRule()));
 
-                    switch (profile.getTask().getUnmatchingRule()) {
+                    switch (profile().getTask().getUnmatchingRule()) {
                         case ASSIGN:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeAssign(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeAssign(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformCreate()) {
+                            if (!profile().getTask().isPerformCreate()) {
                                 LOG.debug("PushTask not configured for create");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -332,11 +435,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case PROVISION:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeProvision(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeProvision(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformCreate()) {
+                            if (!profile().getTask().isPerformCreate()) {
                                 LOG.debug("PushTask not configured for create");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -345,11 +448,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case UNLINK:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeUnlink(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeUnlink(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformUpdate()) {
+                            if (!profile().getTask().isPerformUpdate()) {
                                 LOG.debug("PushTask not configured for update");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -366,14 +469,14 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                         // do nothing
                     }
                 } else {
-                    result.setOperation(toResourceOperation(profile.getTask().getMatchingRule()));
+                    result.setOperation(toResourceOperation(profile().getTask().getMatchingRule()));
 
-                    switch (profile.getTask().getMatchingRule()) {
+                    switch (profile().getTask().getMatchingRule()) {
                         case UPDATE:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeUpdate(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeUpdate(profile(), any);
                             }
-                            if (!profile.getTask().isPerformUpdate()) {
+                            if (!profile().getTask().isPerformUpdate()) {
                                 LOG.debug("PushTask not configured for update");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -382,11 +485,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case DEPROVISION:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeDeprovision(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeDeprovision(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformDelete()) {
+                            if (!profile().getTask().isPerformDelete()) {
                                 LOG.debug("PushTask not configured for delete");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -395,11 +498,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case UNASSIGN:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeUnassign(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeUnassign(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformDelete()) {
+                            if (!profile().getTask().isPerformDelete()) {
                                 LOG.debug("PushTask not configured for delete");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -408,11 +511,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case LINK:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeLink(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeLink(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformUpdate()) {
+                            if (!profile().getTask().isPerformUpdate()) {
                                 LOG.debug("PushTask not configured for update");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -421,11 +524,11 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             break;
 
                         case UNLINK:
-                            for (PushActions action : profile.getActions()) {
-                                action.beforeUnlink(profile, any);
+                            for (PushActions action : profile().getActions()) {
+                                action.beforeUnlink(profile(), any);
                             }
 
-                            if (!profile.getTask().isPerformUpdate()) {
+                            if (!profile().getTask().isPerformUpdate()) {
                                 LOG.debug("PushTask not configured for update");
                                 result.setStatus(ProvisioningReport.Status.IGNORE);
                             } else {
@@ -444,17 +547,21 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                     }
                 }
 
-                for (PushActions action : profile.getActions()) {
-                    action.after(profile, any, result);
+                for (PushActions action : profile().getActions()) {
+                    action.after(profile(), any, result);
                 }
 
                 if (result.getStatus() == null) {
                     result.setStatus(ProvisioningReport.Status.SUCCESS);
                 }
 
+                if (fingerprint != null && result.getStatus() == ProvisioningReport.Status.SUCCESS) {
+                    updateFingerprint(any, result.getOperation(), fingerprint);
+                }
+
                 if (notificationsAvailable || auditRequested) {
                     resultStatus = AuditElements.Result.SUCCESS;
-                    output = pushUtils.findByConnObjectKey(profile.getConnector(), any, provision);
+                    output = pushUtils.findByConnObjectKey(profile().getConnector(), any, provision);
                 }
             } catch (IgnoreProvisionException e) {
                 throw e;
@@ -467,10 +574,10 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                     output = e;
                 }
 
-                LOG.warn("Error pushing {} towards {}", any, profile.getTask().getResource(), e);
+                LOG.warn("Error pushing {} towards {}", any, profile().getTask().getResource(), e);
 
-                for (PushActions action : profile.getActions()) {
-                    action.onError(profile, any, result, e);
+                for (PushActions action : profile().getActions()) {
+                    action.onError(profile(), any, result, e);
                 }
 
                 throw new JobExecutionException(e);
@@ -481,7 +588,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             AuthContextUtils.getUsername(),
                             AuditElements.EventCategoryType.PUSH,
                             any.getType().getKind().name().toLowerCase(),
-                            profile.getTask().getResource().getKey(),
+                            profile().getTask().getResource().getKey(),
                             operation,
                             resultStatus,
                             beforeObj,
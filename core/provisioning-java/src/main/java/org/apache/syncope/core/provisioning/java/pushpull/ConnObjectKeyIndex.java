@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+
+/**
+ * Compact, in-memory view of the connector objects found on an external resource for a given object class, indexed
+ * by connector object key value; only {@code __UID__} and {@code __NAME__} are retained for each object.
+ */
+public class ConnObjectKeyIndex {
+
+    private final ObjectClass objectClass;
+
+    private final boolean ignoreCase;
+
+    private final Map<String, String[]> entries = new HashMap<>();
+
+    public ConnObjectKeyIndex(final ObjectClass objectClass, final boolean ignoreCase) {
+        this.objectClass = objectClass;
+        this.ignoreCase = ignoreCase;
+    }
+
+    private String normalize(final String connObjectKeyValue) {
+        return ignoreCase ? connObjectKeyValue.toLowerCase() : connObjectKeyValue;
+    }
+
+    public void add(final String connObjectKeyValue, final ConnectorObject obj) {
+        String uid = obj.getUid().getUidValue();
+        String name = obj.getName().getNameValue();
+        entries.putIfAbsent(normalize(connObjectKeyValue), new String[] { uid, uid.equals(name) ? uid : name });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a connector object carrying only {@code __UID__} and {@code __NAME__} for the given key value, if
+     * found on the external resource when this index was built.
+     *
+     * @param connObjectKeyValue connector object key value
+     * @return connector object with {@code __UID__} and {@code __NAME__} only, if found
+     */
+    public Optional<ConnectorObject> find(final String connObjectKeyValue) {
+        return Optional.ofNullable(entries.get(normalize(connObjectKeyValue))).
+                map(entry -> new ConnectorObjectBuilder().
+                setObjectClass(objectClass).
+                setUid(entry[0]).
+                setName(entry[1]).
+                build());
+    }
+}
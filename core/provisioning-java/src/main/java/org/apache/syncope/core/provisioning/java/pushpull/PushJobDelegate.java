@@ -19,21 +19,30 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.MutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -47,16 +56,19 @@ import org.apache.syncope.core.persistence.api.entity.task.PushTaskAnyFilter;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.pushpull.AnyObjectPushResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.GroupPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.RealmPushResultHandler;
-import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
+import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.spring.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
 
@@ -74,16 +86,32 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
 
     protected ProvisioningProfile<PushTask, PushActions> profile;
 
-    protected final Map<String, MutablePair<Integer, String>> handled = new HashMap<>();
+    /**
+     * Number of entities handled and name of the latest one, by type: updated by worker threads when pushing
+     * concurrently.
+     */
+    protected final Map<String, Pair<AtomicInteger, AtomicReference<String>>> handled = new ConcurrentHashMap<>();
+
+    /**
+     * Set when pushing concurrently: worker threads.
+     */
+    protected ExecutorService executor;
+
+    /**
+     * Set when pushing concurrently: bounds the number of entities submitted to workers and not yet handled.
+     */
+    protected Semaphore inFlight;
+
+    /**
+     * Set when pushing concurrently: first failure reported by any worker.
+     */
+    protected final AtomicReference<Exception> failure = new AtomicReference<>();
 
     protected void reportHandled(final String anyType, final String key) {
-        MutablePair<Integer, String> pair = handled.get(anyType);
-        if (pair == null) {
-            pair = MutablePair.of(0, null);
-            handled.put(anyType, pair);
-        }
-        pair.setLeft(pair.getLeft() + 1);
-        pair.setRight(key);
+        Pair<AtomicInteger, AtomicReference<String>> pair = handled.computeIfAbsent(
+                anyType, k -> Pair.of(new AtomicInteger(), new AtomicReference<>()));
+        pair.getLeft().incrementAndGet();
+        pair.getRight().set(key);
     }
 
     @Override
@@ -91,9 +119,9 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         synchronized (status) {
             if (!handled.isEmpty()) {
                 StringBuilder builder = new StringBuilder("Processed:\n");
-                handled.forEach((key, value) -> builder.append(' ').append(value.getLeft()).append('\t').
+                handled.forEach((key, value) -> builder.append(' ').append(value.getLeft().get()).append('\t').
                         append(key).
-                        append(" / latest: ").append(value.getRight()).
+                        append(" / latest: ").append(value.getRight().get()).
                         append('\n'));
                 status.set(builder.toString());
             }
@@ -101,22 +129,29 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         return status.get();
     }
 
+    protected static String getName(final Any<?> any) {
+        return any instanceof User
+                ? ((User) any).getUsername()
+                : any instanceof Group
+                        ? ((Group) any).getName()
+                        : ((AnyObject) any).getName();
+    }
+
     protected void doHandle(
             final List<? extends Any<?>> anys,
-            final SyncopePushResultHandler handler,
+            final AnyPushResultHandler handler,
             final ExternalResource resource)
             throws JobExecutionException {
 
+        if (executor != null) {
+            doHandleConcurrently(anys, handler, resource);
+            return;
+        }
+
         for (int i = 0; i < anys.size() && !interrupt; i++) {
             try {
                 handler.handle(anys.get(i).getKey());
-                reportHandled(
-                        anys.get(i).getType().getKey(),
-                        (anys.get(i) instanceof User
-                        ? ((User) anys.get(i)).getUsername()
-                        : anys.get(i) instanceof Group
-                        ? ((Group) anys.get(i)).getName()
-                        : ((AnyObject) anys.get(i)).getName()));
+                reportHandled(anys.get(i).getType().getKey(), getName(anys.get(i)));
             } catch (Exception e) {
                 LOG.warn("Failure pushing '{}' on '{}'", anys.get(i), resource, e);
                 throw new JobExecutionException("While pushing " + anys.get(i) + " on " + resource, e);
@@ -124,6 +159,80 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         }
     }
 
+    /**
+     * Submits the given entities to worker threads, blocking whenever the maximum number of in-flight entities is
+     * reached; stops submitting as soon as interrupted or any worker reported a failure.
+     *
+     * @param anys entities to push
+     * @param handler push result handler
+     * @param resource external resource
+     * @throws JobExecutionException if interrupted while waiting for workers to become available
+     */
+    protected void doHandleConcurrently(
+            final List<? extends Any<?>> anys,
+            final AnyPushResultHandler handler,
+            final ExternalResource resource)
+            throws JobExecutionException {
+
+        String domain = AuthContextUtils.getDomain();
+        // workers are given keys, and reload the push task within their own transaction
+        String taskKey = profile.getTask().getKey();
+        String resourceKey = resource.getKey();
+
+        for (int i = 0; i < anys.size() && !interrupt && failure.get() == null; i++) {
+            String key = anys.get(i).getKey();
+            String anyType = anys.get(i).getType().getKey();
+            String name = getName(anys.get(i));
+
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JobExecutionException("Interrupted while pushing on " + resource, e);
+            }
+
+            executor.submit(() -> {
+                try {
+                    AuthContextUtils.callAsAdmin(domain, () -> handler.handle(key, taskKey));
+                    reportHandled(anyType, name);
+                } catch (Exception e) {
+                    LOG.warn("Failure pushing '{}' on '{}'", key, resourceKey, e);
+                    failure.compareAndSet(null, new JobExecutionException(
+                            "While pushing " + anyType + " " + key + " on " + resourceKey, e));
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Waits for all entities submitted to worker threads to be handled, then shuts workers down.
+     *
+     * @param resource external resource
+     * @throws JobExecutionException if any worker reported a failure, or if interrupted while waiting
+     */
+    protected void awaitConcurrentHandling(final ExternalResource resource) throws JobExecutionException {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                LOG.debug("Waiting for concurrent push on {} to complete", resource);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("Interrupted while pushing on " + resource, e);
+        } finally {
+            executor = null;
+        }
+
+        if (failure.get() != null) {
+            throw failure.get() instanceof JobExecutionException
+                    ? (JobExecutionException) failure.get()
+                    : new JobExecutionException(failure.get());
+        }
+    }
+
     protected RealmPushResultHandler buildRealmHandler() {
         return (RealmPushResultHandler) ApplicationContextProvider.getBeanFactory().
                 createBean(DefaultRealmPushResultHandler.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
@@ -144,6 +253,21 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
                 createBean(DefaultGroupPushResultHandler.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
     }
 
+    protected static SearchCond getChangedSinceCond(final Date since) {
+        String expression = FormatUtils.format(since);
+
+        AnyCond lastChangeDateCond = new AnyCond(AttributeCond.Type.GE);
+        lastChangeDateCond.setSchema("lastChangeDate");
+        lastChangeDateCond.setExpression(expression);
+
+        AnyCond creationDateCond = new AnyCond(AttributeCond.Type.GE);
+        creationDateCond.setSchema("creationDate");
+        creationDateCond.setExpression(expression);
+
+        return SearchCond.getOrCond(
+                SearchCond.getLeafCond(lastChangeDateCond), SearchCond.getLeafCond(creationDateCond));
+    }
+
     @Override
     protected String doExecuteProvisioning(
             final PushTask pushTask,
@@ -198,48 +322,88 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         }
 
         // ...then provisions for any types
-        for (Provision provision : pushTask.getResource().getProvisions()) {
-            if (provision.getMapping() != null) {
-                status.set("Pushing " + provision.getAnyType().getKey());
-
-                AnyDAO<?> anyDAO = anyUtilsFactory.getInstance(provision.getAnyType().getKind()).dao();
+        Optional<SearchCond> changedSinceCond = Optional.empty();
+        if (pushTask.isChangedSinceLastExec()) {
+            changedSinceCond = Optional.ofNullable(
+                    taskExecDAO.findLatestStarted(pushTask, ExecStatus.SUCCESS.name())).
+                    map(exec -> getChangedSinceCond(exec.getStart()));
+            LOG.debug("Pushing on {} only what changed since latest successful execution: {}",
+                    pushTask.getResource(), changedSinceCond.isPresent());
+        }
 
-                SyncopePushResultHandler handler;
-                switch (provision.getAnyType().getKind()) {
-                    case USER:
-                        handler = buildUserHandler();
-                        break;
+        int concurrency = Optional.ofNullable(pushTask.getConcurrency()).orElse(1);
+        if (concurrency > 1) {
+            LOG.debug("Pushing on {} with {} concurrent workers", pushTask.getResource(), concurrency);
 
-                    case GROUP:
-                        handler = buildGroupHandler();
-                        break;
+            executor = Executors.newFixedThreadPool(
+                    concurrency, new CustomizableThreadFactory("PushJobDelegate-" + pushTask.getKey() + "-"));
+            inFlight = new Semaphore(concurrency * 2);
+        }
 
-                    case ANY_OBJECT:
-                    default:
-                        handler = buildAnyObjectHandler();
+        try {
+            for (Provision provision : pushTask.getResource().getProvisions()) {
+                // no need to read any further after a worker failure
+                if (failure.get() != null) {
+                    break;
                 }
-                handler.setProfile(profile);
-
-                Optional<? extends PushTaskAnyFilter> anyFilter = pushTask.getFilter(provision.getAnyType());
-                String filter = anyFilter.map(PushTaskAnyFilter::getFIQLCond).orElse(null);
-                SearchCond cond = StringUtils.isBlank(filter)
-                        ? anyDAO.getAllMatchingCond()
-                        : SearchCondConverter.convert(filter);
-                int count = searchDAO.count(
-                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        provision.getAnyType().getKind());
-                for (int page = 1; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1 && !interrupt; page++) {
-                    List<? extends Any<?>> anys = searchDAO.search(
-                            Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                            cond,
-                            page,
-                            AnyDAO.DEFAULT_PAGE_SIZE,
-                            List.of(),
-                            provision.getAnyType().getKind());
-                    doHandle(anys, handler, pushTask.getResource());
+
+                if (provision.getMapping() != null) {
+                    status.set("Pushing " + provision.getAnyType().getKey());
+
+                    AnyDAO<?> anyDAO = anyUtilsFactory.getInstance(provision.getAnyType().getKind()).dao();
+
+                    AnyPushResultHandler handler;
+                    switch (provision.getAnyType().getKind()) {
+                        case USER:
+                            handler = buildUserHandler();
+                            break;
+
+                        case GROUP:
+                            handler = buildGroupHandler();
+                            break;
+
+                        case ANY_OBJECT:
+                        default:
+                            handler = buildAnyObjectHandler();
+                    }
+                    handler.setProfile(profile);
+
+                    Optional<? extends PushTaskAnyFilter> anyFilter = pushTask.getFilter(provision.getAnyType());
+                    String filter = anyFilter.map(PushTaskAnyFilter::getFIQLCond).orElse(null);
+                    SearchCond cond = StringUtils.isBlank(filter)
+                            ? anyDAO.getAllMatchingCond()
+                            : SearchCondConverter.convert(filter);
+                    if (changedSinceCond.isPresent()) {
+                        cond = SearchCond.getAndCond(cond, changedSinceCond.get());
+                    }
+                    // keyset paging: not affected by entities being changed while pushing
+                    String lastKey = null;
+                    List<? extends Any<?>> anys;
+                    do {
+                        anys = searchDAO.searchAfter(
+                                Set.of(profile.getTask().getSourceRealm().getFullPath()),
+                                cond,
+                                lastKey,
+                                AnyDAO.DEFAULT_PAGE_SIZE,
+                                provision.getAnyType().getKind());
+                        if (!anys.isEmpty()) {
+                            lastKey = anys.get(anys.size() - 1).getKey();
+                        }
+
+                        doHandle(anys, handler, pushTask.getResource());
+                    } while (anys.size() == AnyDAO.DEFAULT_PAGE_SIZE && !interrupt && failure.get() == null);
                 }
             }
+
+            if (executor != null) {
+                awaitConcurrentHandling(pushTask.getResource());
+            }
+        } finally {
+            // only reached with running workers if something went wrong while submitting
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
         }
 
         if (!profile.isDryRun() && !interrupt) {
@@ -18,9 +18,18 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.dao.PushCorrelationRule;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.policy.PushCorrelationRuleEntity;
@@ -31,9 +40,17 @@ import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.ImplementationManager;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.common.security.GuardedByteArray;
+import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.Name;
+import org.identityconnectors.framework.common.objects.OperationalAttributes;
+import org.identityconnectors.framework.common.objects.OperationOptionsBuilder;
 import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.common.objects.Uid;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +67,130 @@ public class PushUtils {
     @Autowired
     private MappingManager mappingManager;
 
+    private static String toFingerprintValue(final Object value) {
+        if (value instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) value);
+        }
+        // guarded values cannot be compared without revealing them
+        if (value instanceof GuardedString || value instanceof GuardedByteArray) {
+            return StringUtils.EMPTY;
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Computes a digest of the attributes that would be propagated for the given any object according to the given
+     * provision, regardless of their ordering; password is not considered.
+     *
+     * @param any any object
+     * @param enable whether the any object shall be enabled, disabled or neither on the external resource
+     * @param provision provision
+     * @return Base64-encoded SHA-256 digest
+     */
+    public String fingerprint(final Any<?> any, final Boolean enable, final Provision provision) {
+        Pair<String, Set<Attribute>> prepared = mappingManager.prepareAttrs(any, null, false, enable, provision);
+
+        StringBuilder input = new StringBuilder(StringUtils.defaultString(prepared.getLeft()));
+        prepared.getRight().stream().
+                filter(attr -> !OperationalAttributes.PASSWORD_NAME.equals(attr.getName())).
+                sorted(Comparator.comparing(Attribute::getName)).
+                forEach(attr -> {
+                    input.append('\n').append(attr.getName()).append('=');
+                    Optional.ofNullable(attr.getValue()).orElse(List.of()).stream().
+                            map(PushUtils::toFingerprintValue).
+                            sorted().
+                            forEach(value -> input.append(value).append('\0'));
+                });
+
+        try {
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").
+                    digest(input.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean hasPushCorrelationRule(final Provision provision) {
+        return provision.getResource().getPushPolicy() != null
+                && provision.getResource().getPushPolicy().getCorrelationRule(provision.getAnyType()).isPresent();
+    }
+
+    /**
+     * Reads, via paged search, the keys of all connector objects available on the external resource for the given
+     * provision, so that matching can be performed later on without further remote calls.
+     * No index is built if matching is driven by a push correlation rule, if no connector object key is mapped, if
+     * the connector is not capable of searching or if the search fails: in such cases, callers are expected to revert
+     * to {@link #match(Connector, Any, Provision)}.
+     *
+     * @param connector connector
+     * @param provision provision
+     * @return index of connector object keys, if available
+     */
+    public Optional<ConnObjectKeyIndex> buildConnObjectKeyIndex(
+            final Connector connector,
+            final Provision provision) {
+
+        Optional<? extends MappingItem> connObjectKey = MappingUtils.getConnObjectKeyItem(provision);
+        if (hasPushCorrelationRule(provision)
+                || connObjectKey.isEmpty()
+                || !connector.getConnInstance().getCapabilities().contains(ConnectorCapability.SEARCH)) {
+
+            return Optional.empty();
+        }
+
+        String extAttrName = connObjectKey.get().getExtAttrName();
+        ConnObjectKeyIndex index = new ConnObjectKeyIndex(provision.getObjectClass(), provision.isIgnoreCaseMatch());
+        try {
+            connector.search(provision.getObjectClass(), null, new SearchResultsHandler() {
+
+                @Override
+                public void handleResult(final SearchResult result) {
+                    // nothing to do
+                }
+
+                @Override
+                public boolean handle(final ConnectorObject connectorObject) {
+                    Attribute keyAttr = connectorObject.getAttributeByName(extAttrName);
+                    if (keyAttr != null) {
+                        Object value = AttributeUtil.getSingleValue(keyAttr);
+                        if (value != null) {
+                            index.add(value.toString(), connectorObject);
+                        }
+                    }
+                    return true;
+                }
+            }, new OperationOptionsBuilder().setAttributesToGet(Set.of(Uid.NAME, Name.NAME, extAttrName)).build());
+        } catch (RuntimeException e) {
+            LOG.error("Could not read connector object keys for {} on {}, reverting to single matching",
+                    provision.getObjectClass(), provision.getResource(), e);
+            return Optional.empty();
+        }
+
+        LOG.debug("Read {} connector object keys for {} on {}",
+                index.size(), provision.getObjectClass(), provision.getResource());
+        return Optional.of(index);
+    }
+
+    /**
+     * Same as {@link #match(Connector, Any, Provision)}, but relying on the given index rather than on the
+     * connector; returned objects only carry {@code __UID__} and {@code __NAME__}.
+     *
+     * @param index connector object key index, as built by {@link #buildConnObjectKeyIndex(Connector, Provision)}
+     * @param any any object
+     * @param provision provision
+     * @return matching connector objects
+     */
+    public List<ConnectorObject> match(
+            final ConnObjectKeyIndex index,
+            final Any<?> any,
+            final Provision provision) {
+
+        return mappingManager.getConnObjectKeyValue(any, provision).
+                flatMap(index::find).
+                map(List::of).
+                orElseGet(List::of);
+    }
+
     public List<ConnectorObject> match(
             final Connector connector,
             final Any<?> any,
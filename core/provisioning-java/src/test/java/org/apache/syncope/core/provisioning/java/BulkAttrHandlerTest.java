@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class BulkAttrHandlerTest extends AbstractTest {
+
+    private static final String VIVALDI = "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee";
+
+    private static final String VERDI = "74cd8ece-715a-44a4-a736-e17b46c4e7e6";
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    /**
+     * Runs the handler within the test transaction, rather than in a new one.
+     */
+    private Map<String, List<PropagationTaskInfo>> update(final List<String> keys, final AttrPatch attrPatch) {
+        BulkAttrHandlerImpl handler = new BulkAttrHandlerImpl();
+        beanFactory.autowireBean(handler);
+
+        return AuthContextUtils.callAs(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                List.of(IdRepoEntitlement.USER_READ),
+                () -> handler.update(keys, attrPatch));
+    }
+
+    @Test
+    public void propagateDerived() {
+        Map<String, List<PropagationTaskInfo>> tasks = update(
+                List.of(VIVALDI),
+                new AttrPatch.Builder(new Attr.Builder("firstname").value("Toni").build()).build());
+
+        assertEquals(Set.of(VIVALDI), tasks.keySet());
+        assertEquals(List.of("Toni"), userDAO.find(VIVALDI).getPlainAttr("firstname").get().getValuesAsStrings());
+
+        // ws-target-resource-2 does not map firstname, but the derived cn
+        assertTrue(tasks.get(VIVALDI).stream().anyMatch(task -> "ws-target-resource-2".equals(task.getResource())
+                && task.getOperation() == ResourceOperation.UPDATE));
+    }
+
+    @Test
+    public void requiredValuesMissing() {
+        SyncopeClientException e = assertThrows(SyncopeClientException.class, () -> update(
+                List.of(VIVALDI, VERDI),
+                new AttrPatch.Builder(new Attr.Builder("surname").build()).operation(PatchOperation.DELETE).build()));
+        assertEquals(ClientExceptionType.RequiredValuesMissing, e.getType());
+        assertEquals(Set.of(VIVALDI, VERDI), Set.copyOf(e.getElements()));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorCallExecutorTest {
+
+    private static final ConnectorCallExecutor EXECUTOR = new ConnectorCallExecutor(2, 0);
+
+    @AfterAll
+    public static void shutdown() {
+        EXECUTOR.destroy();
+    }
+
+    @Test
+    public void complete() {
+        assertEquals("OK", EXECUTOR.call(() -> "OK", 1));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void timeout() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        assertThrows(TimeoutException.class, () -> EXECUTOR.call(() -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return "OK";
+        }, 1));
+
+        assertTrue(cancelled.await(1, TimeUnit.SECONDS));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void failure() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> EXECUTOR.call(() -> {
+            throw new IllegalStateException("KO");
+        }, 1));
+        assertEquals("KO", e.getMessage());
+    }
+
+    @Test
+    public void rejected() throws InterruptedException {
+        ConnectorCallExecutor executor = new ConnectorCallExecutor(1, 0);
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread caller = new Thread(() -> executor.call(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }, 5));
+            caller.start();
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            // the only thread is busy and no call can be queued
+            assertThrows(RejectedExecutionException.class, () -> executor.call(() -> "OK", 1));
+
+            release.countDown();
+            caller.join();
+            assertEquals("OK", executor.call(() -> "OK", 1));
+        } finally {
+            executor.destroy();
+        }
+    }
+}
@@ -19,10 +19,15 @@
 package org.apache.syncope.core.provisioning.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
 
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,11 +46,15 @@ public class ConnectorManagerTest extends AbstractTest {
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private ConnInstanceDataBinder connInstanceDataBinder;
+
     @BeforeEach
     public void before() {
         connManager = new ConnectorManager();
         ReflectionTestUtils.setField(connManager, "connIdBundleManager", connIdBundleManager);
         ReflectionTestUtils.setField(connManager, "resourceDAO", resourceDAO);
+        ReflectionTestUtils.setField(connManager, "connInstanceDataBinder", connInstanceDataBinder);
 
         // Remove any other connector instance bean set up by standard ConnectorManager.load()
         connManager.unload();
@@ -63,4 +72,34 @@ public class ConnectorManagerTest extends AbstractTest {
                 ApplicationContextProvider.getBeanFactory().
                         getBeanNamesForType(Connector.class, false, true).length);
     }
+
+    @Test
+    public void parallelLoad() {
+        ReflectionTestUtils.setField(connManager, "loadPoolSize", 4);
+        load();
+    }
+
+    @Test
+    public void lazyLoad() {
+        ReflectionTestUtils.setField(connManager, "lazyLoad", true);
+        ReflectionTestUtils.setField(connManager, "warmUp", false);
+        connManager.load();
+
+        // no connector registered until first use
+        assertEquals(0, ApplicationContextProvider.getBeanFactory().
+                getBeanNamesForType(Connector.class, false, true).length);
+    }
+
+    @Test
+    public void reset() {
+        connManager.load();
+        assertFalse(connIdBundleManager.getConnInfoManagers().isEmpty());
+
+        connManager.unload();
+        assertTrue(connIdBundleManager.getConnInfoManagers().isEmpty());
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(connIdBundleManager, "connectorInfos")).isEmpty());
+
+        // local connector bundles are not discovered again, unless changed
+        assertFalse(((Map<?, ?>) ReflectionTestUtils.getField(connIdBundleManager, "discovered")).isEmpty());
+    }
 }
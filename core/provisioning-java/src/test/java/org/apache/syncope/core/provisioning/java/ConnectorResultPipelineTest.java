@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorResultPipelineTest {
+
+    private static ConnectorObject object(final int i) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid("uid" + i).
+                setName("name" + i).
+                addAttribute("index", i).
+                build();
+    }
+
+    private static Consumer<Predicate<ConnectorObject>> fetch(final int count, final AtomicInteger fetched) {
+        return sink -> {
+            for (int i = 0; i < count; i++) {
+                fetched.incrementAndGet();
+                if (!sink.test(object(i))) {
+                    return;
+                }
+            }
+        };
+    }
+
+    private static List<String> uids(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> "uid" + i).collect(Collectors.toList());
+    }
+
+    @Test
+    public void backPressure() {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(5, 0);
+        try {
+            AtomicInteger fetched = new AtomicInteger();
+            AtomicInteger maxAhead = new AtomicInteger();
+            AtomicReference<Thread> fetchThread = new AtomicReference<>();
+            List<String> handled = new ArrayList<>();
+
+            ConnectorResultPipeline.Stats stats = pipeline.<ConnectorObject>run("test", 0, sink -> {
+                fetchThread.set(Thread.currentThread());
+                fetch(100, fetched).accept(sink);
+            }, object -> {
+                handled.add(object.getUid().getUidValue());
+                maxAhead.accumulateAndGet(fetched.get() - handled.size(), Math::max);
+                return true;
+            });
+
+            assertEquals(uids(100), handled);
+            assertEquals(100, stats.getFetched());
+            assertEquals(100, stats.getHandled());
+            assertEquals(0, stats.getSpilled());
+            // queued results plus the one being offered
+            assertTrue(maxAhead.get() <= 6);
+            assertNotEquals(Thread.currentThread(), fetchThread.get());
+        } finally {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    public void spill() {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(5, 1000);
+        try {
+            AtomicInteger fetched = new AtomicInteger();
+            List<String> handled = new ArrayList<>();
+
+            ConnectorResultPipeline.Stats stats = pipeline.<ConnectorObject>run("test", 0, fetch(100, fetched), object -> {
+                if (handled.isEmpty()) {
+                    // let the connector complete meanwhile
+                    try {
+                        Thread.sleep(500);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                handled.add(object.getUid().getUidValue());
+                assertEquals(handled.size() - 1, object.getAttributeByName("index").getValue().get(0));
+                return true;
+            });
+
+            assertEquals(uids(100), handled);
+            assertEquals(100, stats.getHandled());
+            assertTrue(stats.getSpilled() > 0);
+            assertEquals(0, stats.getHeldMillis());
+        } finally {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    public void stop() {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(5, 0);
+        try {
+            AtomicInteger fetched = new AtomicInteger();
+            List<String> handled = new ArrayList<>();
+
+            pipeline.<ConnectorObject>run("test", 0, fetch(100, fetched), object -> {
+                handled.add(object.getUid().getUidValue());
+                return handled.size() < 10;
+            });
+
+            assertEquals(uids(10), handled);
+            assertTrue(fetched.get() < 100);
+        } finally {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    public void fetchFailure() {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(5, 0);
+        try {
+            List<String> handled = new ArrayList<>();
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> pipeline.<ConnectorObject>run("test", 0, sink -> {
+                        fetch(20, new AtomicInteger()).accept(sink);
+                        throw new IllegalStateException("connector failure");
+                    }, object -> handled.add(object.getUid().getUidValue())));
+
+            assertEquals("connector failure", e.getMessage());
+            assertEquals(uids(20), handled);
+        } finally {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    public void disabled() {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(0, 0);
+        try {
+            AtomicReference<Thread> fetchThread = new AtomicReference<>();
+            List<String> handled = new ArrayList<>();
+
+            pipeline.<ConnectorObject>run("test", 0, sink -> {
+                fetchThread.set(Thread.currentThread());
+                fetch(10, new AtomicInteger()).accept(sink);
+            }, object -> handled.add(object.getUid().getUidValue()));
+
+            assertEquals(uids(10), handled);
+            assertEquals(Thread.currentThread(), fetchThread.get());
+        } finally {
+            pipeline.destroy();
+        }
+    }
+
+    @Test
+    public void timeout() throws InterruptedException {
+        ConnectorResultPipeline pipeline = new ConnectorResultPipeline(5, 0);
+        try {
+            CountDownLatch cancelled = new CountDownLatch(1);
+            List<String> handled = new ArrayList<>();
+
+            assertThrows(TimeoutException.class, () -> pipeline.<ConnectorObject>run("test", 1, sink -> {
+                fetch(10, new AtomicInteger()).accept(sink);
+                // next page never comes
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                }
+            }, object -> {
+                // slow handling does not count towards the timeout
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return handled.add(object.getUid().getUidValue());
+            }));
+
+            assertEquals(uids(10), handled);
+            assertTrue(cancelled.await(1, TimeUnit.SECONDS));
+        } finally {
+            pipeline.destroy();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.common.lib.types.ProvisionAction;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class GroupMemberProvisionTaskJobDelegateTest extends AbstractTest {
+
+    /**
+     * Group 'otherchild', assigned to ws-target-resource-2.
+     */
+    private static final String GROUP_KEY = "f779c0d4-633b-4be5-8f57-32eb478a3ca5";
+
+    private static final String RESOURCE = "ws-target-resource-2";
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private AnySearchDAO searchDAO;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private PropagationManager propagationManager;
+
+    /**
+     * Member keys given to each propagation manager invocation.
+     */
+    private final List<List<String>> pages = new ArrayList<>();
+
+    /**
+     * Propagation tasks executed, one list per member.
+     */
+    private final List<List<PropagationTaskInfo>> executed = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Propagation manager recording the keys of each invocation, then delegating to the actual one.
+     */
+    private PropagationManager recordingPropagationManager() {
+        return (PropagationManager) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { PropagationManager.class },
+                (proxy, method, args) -> {
+                    if ("getProvisionTasks".equals(method.getName())) {
+                        pages.add(new ArrayList<>((Collection<?>) args[1]).stream().
+                                map(String.class::cast).collect(Collectors.toList()));
+                    }
+                    try {
+                        return method.invoke(propagationManager, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Propagation task executor reporting success for every task, without actually executing any.
+     */
+    private PropagationTaskExecutor successfulTaskExecutor() {
+        return (PropagationTaskExecutor) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { PropagationTaskExecutor.class },
+                (proxy, method, args) -> {
+                    @SuppressWarnings("unchecked")
+                    Collection<PropagationTaskInfo> taskInfos = (Collection<PropagationTaskInfo>) args[0];
+
+                    executed.add(new ArrayList<>(taskInfos));
+
+                    DefaultPropagationReporter reporter = new DefaultPropagationReporter();
+                    taskInfos.forEach(taskInfo -> reporter.onSuccessOrNonPriorityResourceFailures(
+                            taskInfo, ExecStatus.SUCCESS, null, null, null));
+                    return reporter;
+                });
+    }
+
+    private GroupMemberProvisionTaskJobDelegate job(final ProvisionAction action) {
+        GroupMemberProvisionTaskJobDelegate job = new GroupMemberProvisionTaskJobDelegate();
+        ReflectionTestUtils.setField(job, "groupDAO", groupDAO);
+        ReflectionTestUtils.setField(job, "searchDAO", searchDAO);
+        ReflectionTestUtils.setField(job, "propagationManager", recordingPropagationManager());
+        ReflectionTestUtils.setField(job, "taskExecutor", successfulTaskExecutor());
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        ReflectionTestUtils.setField(job, "concurrency", 2);
+        ReflectionTestUtils.setField(job, "groupKey", GROUP_KEY);
+        ReflectionTestUtils.setField(job, "action", action);
+        return job;
+    }
+
+    private List<String> members() {
+        MembershipCond membershipCond = new MembershipCond();
+        membershipCond.setGroup(GROUP_KEY);
+        return searchDAO.<Any<?>>search(SearchCond.getLeafCond(membershipCond), AnyTypeKind.USER).stream().
+                map(Any::getKey).collect(Collectors.toList());
+    }
+
+    private String execute(final ProvisionAction action) {
+        return AuthContextUtils.callAs(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                List.of(IdRepoEntitlement.GROUP_READ, IdRepoEntitlement.USER_READ),
+                () -> job(action).doExecute(false));
+    }
+
+    @BeforeEach
+    public void before() {
+        pages.clear();
+        executed.clear();
+
+        // make sure that members span more than one page
+        for (String username : List.of("verdi", "vivaldi")) {
+            User user = userDAO.findByUsername(username);
+            UMembership membership = entityFactory.newEntity(UMembership.class);
+            membership.setLeftEnd(user);
+            membership.setRightEnd(groupDAO.find(GROUP_KEY));
+            user.add(membership);
+            userDAO.save(user);
+        }
+        entityManager().flush();
+    }
+
+    @AfterEach
+    public void after() {
+        // the job clears the persistence context after each page, so members loaded afterwards, with the memberships
+        // added above, may end up in the second level cache in spite of the rollback
+        entityManager().getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    public void provision() {
+        List<String> users = members();
+        assertEquals(3, users.size());
+
+        String result = execute(ProvisionAction.PROVISION);
+
+        // one propagation manager invocation per page
+        assertEquals(List.of(2, 1), pages.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(users.size(), pages.stream().mapToInt(List::size).sum());
+
+        users.forEach(user -> assertTrue(pages.stream().anyMatch(page -> page.contains(user))));
+
+        assertEquals(users.size(), executed.size());
+        executed.forEach(tasks -> {
+            assertEquals(1, tasks.size());
+            assertEquals(RESOURCE, tasks.get(0).getResource());
+            assertEquals(ResourceOperation.UPDATE, tasks.get(0).getOperation());
+        });
+        assertEquals(
+                users.stream().sorted().collect(Collectors.toList()),
+                executed.stream().map(tasks -> tasks.get(0).getEntityKey()).sorted().collect(Collectors.toList()));
+
+        users.forEach(user -> assertTrue(result.contains("User " + user + "\tResource " + RESOURCE + "\tSUCCESS")));
+        assertFalse(result.contains("interrupted"));
+    }
+
+    @Test
+    public void deprovision() {
+        List<String> users = members();
+
+        String result = execute(ProvisionAction.DEPROVISION);
+        assertTrue(result.contains("members deprovision"));
+
+        assertEquals(List.of(2, 1), pages.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(users.size(), executed.size());
+        executed.forEach(tasks -> {
+            assertEquals(1, tasks.size());
+            assertEquals(ResourceOperation.DELETE, tasks.get(0).getOperation());
+        });
+
+        users.forEach(user -> assertTrue(result.contains("User " + user + "\tResource " + RESOURCE + "\tSUCCESS")));
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.report.ReconciliationReportletConf;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorFactory;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.common.objects.filter.AttributeFilter;
+import org.identityconnectors.framework.common.objects.filter.CompositeFilter;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+@Transactional("Master")
+public class ReconciliationReportletTest extends AbstractTest {
+
+    /**
+     * User 'rossini', on resource-testdb2 and, via group membership, on ws-target-resource-2.
+     */
+    private static final String ROSSINI = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    /**
+     * User 'vivaldi', on ws-target-resource-1, ws-target-resource-2 and ws-target-resource-delete.
+     */
+    private static final String VIVALDI = "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee";
+
+    /**
+     * User on resource-testdb2.
+     */
+    private static final String OTHER = "823074dc-d280-436d-a7dd-07399fae48ec";
+
+    /**
+     * Resource whose connector fails on search.
+     */
+    private static final String FAILING_SEARCH = "resource-testdb2";
+
+    /**
+     * Resource whose connector does not return, on search, the connector object of {@link #ROSSINI}.
+     */
+    private static final String PARTIAL_SEARCH = "ws-target-resource-2";
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private MappingManager mappingManager;
+
+    @Autowired
+    private AnyUtilsFactory anyUtilsFactory;
+
+    /**
+     * Connector object key values given to each search, with resource.
+     */
+    private final List<Pair<String, List<String>>> searches = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Connector object key values given to each single read, with resource.
+     */
+    private final List<Pair<String, String>> reads = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Connector object key values not found on single read, by resource.
+     */
+    private final Map<String, Set<String>> notFound = new ConcurrentHashMap<>();
+
+    /**
+     * Connector object key value of {@link #ROSSINI} on {@link #PARTIAL_SEARCH}.
+     */
+    private String notSearchable;
+
+    private ExecutorService executor;
+
+    private static void values(final Filter filter, final List<String> values) {
+        if (filter instanceof CompositeFilter) {
+            values(((CompositeFilter) filter).getLeft(), values);
+            values(((CompositeFilter) filter).getRight(), values);
+        } else if (filter instanceof AttributeFilter) {
+            values.add(AttributeUtil.getAsStringValue(((AttributeFilter) filter).getAttribute()));
+        }
+    }
+
+    private static ConnectorObject connectorObject(
+            final ObjectClass objectClass, final String extAttrName, final String value) {
+
+        return new ConnectorObjectBuilder().
+                setObjectClass(objectClass).
+                setUid(value).
+                setName(value).
+                addAttribute(extAttrName, value).
+                build();
+    }
+
+    /**
+     * Connector returning, both on search and single read, a connector object for each connector object key value
+     * requested, unless instructed otherwise for the given resource.
+     */
+    private Connector connector(final String resource) {
+        return (Connector) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { Connector.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "search":
+                            List<String> values = new ArrayList<>();
+                            values((Filter) args[1], values);
+                            searches.add(Pair.of(resource, values));
+
+                            if (FAILING_SEARCH.equals(resource)) {
+                                throw new IllegalStateException("Search not supported");
+                            }
+
+                            String extAttrName = ((AttributeFilter) (args[1] instanceof CompositeFilter
+                                    ? ((CompositeFilter) args[1]).getRight()
+                                    : args[1])).getName();
+                            SearchResultsHandler handler = (SearchResultsHandler) args[2];
+                            values.stream().
+                                    filter(value -> !PARTIAL_SEARCH.equals(resource) || !value.equals(notSearchable)).
+                                    forEach(value -> handler.handle(
+                                    connectorObject((ObjectClass) args[0], extAttrName, value)));
+                            SearchResult result = new SearchResult();
+                            handler.handleResult(result);
+                            return result;
+
+                        case "getObject":
+                            Attribute connObjectKey = (Attribute) args[1];
+                            String value = AttributeUtil.getAsStringValue(connObjectKey);
+                            reads.add(Pair.of(resource, value));
+
+                            return notFound.getOrDefault(resource, Set.of()).contains(value)
+                                    ? null
+                                    : connectorObject((ObjectClass) args[0], connObjectKey.getName(), value);
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private ReconciliationReportlet reportlet() {
+        ReconciliationReportletConf conf = new ReconciliationReportletConf();
+        conf.getFeatures().add(ReconciliationReportletConf.Feature.key);
+
+        ReconciliationReportlet reportlet = new ReconciliationReportlet();
+        ReflectionTestUtils.setField(reportlet, "mappingManager", mappingManager);
+        ReflectionTestUtils.setField(reportlet, "anyUtilsFactory", anyUtilsFactory);
+        ReflectionTestUtils.setField(reportlet, "connFactory", Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { ConnectorFactory.class },
+                (proxy, method, args) -> {
+                    if ("getConnector".equals(method.getName())) {
+                        return connector(((ExternalResource) args[0]).getKey());
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+        ReflectionTestUtils.setField(reportlet, "conf", conf);
+        return reportlet;
+    }
+
+    private String connObjectKeyValue(final String userKey, final String resource) {
+        User user = userDAO.find(userKey);
+        return anyUtilsFactory.getInstance(user).getAllResources(user).stream().
+                filter(r -> r.getKey().equals(resource)).findFirst().
+                flatMap(r -> r.getProvision(user.getType())).
+                flatMap(provision -> mappingManager.getConnObjectKeyValue(user, provision)).
+                orElseThrow();
+    }
+
+    /**
+     * Runs the reportlet on the given users, returning the report content as a flat list of element name and key /
+     * resource attribute.
+     */
+    private List<String> extract(final List<String> userKeys) {
+        List<User> users = userKeys.stream().map(userDAO::find).collect(Collectors.toList());
+
+        List<String> elements = new ArrayList<>();
+        ReflectionTestUtils.invokeMethod(reportlet(), "doExtract", new DefaultHandler() {
+
+            @Override
+            public void startElement(
+                    final String uri, final String localName, final String qName, final Attributes atts) {
+
+                if ("user".equals(qName)) {
+                    elements.add("user " + atts.getValue("key"));
+                } else if ("missing".equals(qName)) {
+                    elements.add("missing " + atts.getValue("resource"));
+                }
+            }
+        }, users, executor);
+        return elements;
+    }
+
+    @BeforeEach
+    public void before() {
+        searches.clear();
+        reads.clear();
+        notFound.clear();
+        notSearchable = connObjectKeyValue(ROSSINI, PARTIAL_SEARCH);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void bulkSearch() {
+        extract(List.of(ROSSINI, VIVALDI));
+
+        // a single search for each resource, with all the values to check there
+        List<String> searched = searches.stream().map(Pair::getLeft).sorted().collect(Collectors.toList());
+        assertEquals(searched.stream().distinct().collect(Collectors.toList()), searched);
+
+        List<String> onPartial = searches.stream().filter(search -> PARTIAL_SEARCH.equals(search.getLeft())).
+                findFirst().map(Pair::getRight).orElseThrow();
+        assertEquals(
+                Set.of(notSearchable, connObjectKeyValue(VIVALDI, PARTIAL_SEARCH)),
+                Set.copyOf(onPartial));
+
+        // no single read for whatever was found by searching
+        assertFalse(reads.contains(Pair.of(PARTIAL_SEARCH, connObjectKeyValue(VIVALDI, PARTIAL_SEARCH))));
+        assertTrue(reads.stream().noneMatch(read -> "ws-target-resource-1".equals(read.getLeft())));
+    }
+
+    @Test
+    public void fallbackToSingleReads() {
+        notFound.put(FAILING_SEARCH, Set.of(connObjectKeyValue(OTHER, FAILING_SEARCH)));
+
+        List<String> elements = extract(List.of(OTHER, ROSSINI, VIVALDI));
+
+        // single reads only when missing from search results or when search failed
+        assertEquals(
+                Set.of(Pair.of(PARTIAL_SEARCH, notSearchable),
+                        Pair.of(FAILING_SEARCH, connObjectKeyValue(ROSSINI, FAILING_SEARCH)),
+                        Pair.of(FAILING_SEARCH, connObjectKeyValue(OTHER, FAILING_SEARCH))),
+                Set.copyOf(reads));
+        assertEquals(3, reads.size());
+
+        // only what was not found by single read either is reported as missing
+        assertEquals(1, elements.stream().filter(element -> element.startsWith("missing ")).count());
+        assertEquals(elements.indexOf("user " + OTHER) + 1, elements.indexOf("missing " + FAILING_SEARCH));
+    }
+
+    @Test
+    public void outputOrder() {
+        // make sure that each user has something to be reported
+        notFound.put(FAILING_SEARCH, Set.of(connObjectKeyValue(OTHER, FAILING_SEARCH)));
+
+        for (List<String> userKeys : List.of(List.of(VIVALDI, OTHER, ROSSINI), List.of(ROSSINI, OTHER, VIVALDI))) {
+            assertEquals(
+                    userKeys.stream().map(key -> "user " + key).collect(Collectors.toList()),
+                    extract(userKeys).stream().
+                            filter(element -> element.startsWith("user ")).collect(Collectors.toList()));
+        }
+    }
+}
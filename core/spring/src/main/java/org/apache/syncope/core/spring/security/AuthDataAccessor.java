@@ -30,6 +30,7 @@ import javax.annotation.Resource;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -348,8 +349,40 @@ public class AuthDataAccessor {
         return authorities;
     }
 
+    /**
+     * Checks whether the given user is allowed to authenticate.
+     *
+     * @param domain domain
+     * @param user user
+     * @param authorities authorities resolved for the given user
+     * @return authorities to grant to the given user
+     */
+    protected Set<SyncopeGrantedAuthority> checkUser(
+            final String domain, final User user, final Set<SyncopeGrantedAuthority> authorities) {
+
+        if (BooleanUtils.isTrue(user.isSuspended())) {
+            throw new DisabledException("User " + user.getUsername() + " is suspended");
+        }
+
+        List<String> authStatuses = List.of(confParamOps.get(domain,
+                "authentication.statuses", new String[] {}, String[].class));
+        if (!authStatuses.contains(user.getStatus())) {
+            throw new DisabledException("User " + user.getUsername() + " not allowed to authenticate");
+        }
+
+        if (BooleanUtils.isTrue(user.isMustChangePassword())) {
+            LOG.debug("User {} must change password, resetting authorities", user.getUsername());
+            return Set.of(new SyncopeGrantedAuthority(IdRepoEntitlement.MUST_CHANGE_PASSWORD));
+        }
+
+        return authorities;
+    }
+
     @Transactional
-    public Pair<String, Set<SyncopeGrantedAuthority>> authenticate(final JWTAuthentication authentication) {
+    public Triple<String, String, Set<SyncopeGrantedAuthority>> authenticate(
+            final JWTAuthentication authentication) {
+
+        String userKey;
         String username;
         Set<SyncopeGrantedAuthority> authorities;
 
@@ -360,6 +393,7 @@ public class AuthDataAccessor {
                         "Could not find an Access Token for JWT " + authentication.getClaims().getTokenId());
             }
 
+            userKey = null;
             username = adminUser;
             authorities = getAdminAuthorities();
         } else {
@@ -372,6 +406,7 @@ public class AuthDataAccessor {
             }
 
             User user = resolved.getLeft();
+            userKey = user.getKey();
             username = user.getUsername();
             authorities = resolved.getRight() == null ? Set.of() : resolved.getRight();
             LOG.debug("JWT {} issued by {} resolved to User {} with authorities {}",
@@ -379,24 +414,34 @@ public class AuthDataAccessor {
                     authentication.getClaims().getIssuer(),
                     username, authorities);
 
-            if (BooleanUtils.isTrue(user.isSuspended())) {
-                throw new DisabledException("User " + username + " is suspended");
-            }
+            authorities = checkUser(authentication.getDetails().getDomain(), user, authorities);
+        }
 
-            List<String> authStatuses = List.of(confParamOps.get(authentication.getDetails().getDomain(),
-                    "authentication.statuses", new String[] {}, String[].class));
-            if (!authStatuses.contains(user.getStatus())) {
-                throw new DisabledException("User " + username + " not allowed to authenticate");
-            }
+        return Triple.of(userKey, username, authorities);
+    }
 
-            if (BooleanUtils.isTrue(user.isMustChangePassword())) {
-                LOG.debug("User {} must change password, resetting authorities", username);
-                authorities = Set.of(
-                        new SyncopeGrantedAuthority(IdRepoEntitlement.MUST_CHANGE_PASSWORD));
-            }
+    /**
+     * Checks the outcome of a previous authentication via JWT, as found in {@link JWTCache}, against the current
+     * state of the user: the user must still exist with same username and be allowed to authenticate.
+     *
+     * @param domain domain
+     * @param authenticated user key (null for admin), username and authorities, as previously authenticated
+     * @return user key (null for admin), username and authorities
+     */
+    @Transactional(readOnly = true)
+    public Triple<String, String, Set<SyncopeGrantedAuthority>> check(
+            final String domain, final Triple<String, String, Set<SyncopeGrantedAuthority>> authenticated) {
+
+        if (authenticated.getLeft() == null) {
+            return authenticated;
+        }
+
+        User user = userDAO.find(authenticated.getLeft());
+        if (user == null || !user.getUsername().equals(authenticated.getMiddle())) {
+            throw new AuthenticationCredentialsNotFoundException("Could not find User " + authenticated.getMiddle());
         }
 
-        return Pair.of(username, authorities);
+        return Triple.of(user.getKey(), user.getUsername(), checkUser(domain, user, authenticated.getRight()));
     }
 
     @Transactional
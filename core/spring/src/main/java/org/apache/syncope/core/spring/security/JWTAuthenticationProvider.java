@@ -20,7 +20,7 @@ package org.apache.syncope.core.spring.security;
 
 import java.util.Date;
 import java.util.Set;
-import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -37,13 +37,25 @@ public class JWTAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private AuthDataAccessor dataAccessor;
 
+    @Autowired
+    private JWTCache jwtCache;
+
     @Override
     public Authentication authenticate(final Authentication authentication) throws AuthenticationException {
         final JWTAuthentication jwtAuthentication = (JWTAuthentication) authentication;
 
-        AuthContextUtils.callAsAdmin(jwtAuthentication.getDetails().getDomain(), () -> {
-            Pair<String, Set<SyncopeGrantedAuthority>> authenticated = dataAccessor.authenticate(jwtAuthentication);
-            jwtAuthentication.setUsername(authenticated.getLeft());
+        String domain = jwtAuthentication.getDetails().getDomain();
+        AuthContextUtils.callAsAdmin(domain, () -> {
+            Triple<String, String, Set<SyncopeGrantedAuthority>> authenticated =
+                    jwtCache.get(domain, jwtAuthentication.getClaims());
+            if (authenticated == null) {
+                long evictions = jwtCache.evictions();
+                authenticated = dataAccessor.authenticate(jwtAuthentication);
+                jwtCache.put(domain, jwtAuthentication.getClaims(), authenticated, evictions);
+            } else {
+                authenticated = dataAccessor.check(domain, authenticated);
+            }
+            jwtAuthentication.setUsername(authenticated.getMiddle());
             jwtAuthentication.getAuthorities().addAll(authenticated.getRight());
             return null;
         });
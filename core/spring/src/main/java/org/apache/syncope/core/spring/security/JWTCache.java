@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.provisioning.api.event.AccessTokenChangedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the outcome of successful authentications for JWTs issued by Syncope, so that repeated requests bearing the
+ * same JWT do not access the database.
+ * Entries expire with the JWT or after {@code jwtCache.ttl} seconds, whichever comes first; access tokens and users
+ * saved or deleted on the current node evict the related entries straight away, while changes to access tokens made
+ * by other nodes (logout, refresh, cleanup of expired tokens) are detected by checking, at most once every
+ * {@code jwtCache.reconcileSeconds}, which of the cached access tokens are still found unchanged in the database.
+ * Users found here are still to be checked via {@link AuthDataAccessor#check}, as changes made by other nodes to
+ * their username, status or password are not tracked.
+ */
+public class JWTCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JWTCache.class);
+
+    protected static final class Key {
+
+        private final String domain;
+
+        private final String tokenId;
+
+        Key(final String domain, final String tokenId) {
+            this.domain = domain;
+            this.tokenId = tokenId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(domain, tokenId);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(domain, other.domain) && Objects.equals(tokenId, other.tokenId);
+        }
+    }
+
+    protected static final class Entry {
+
+        private final String userKey;
+
+        private final String username;
+
+        private final Set<SyncopeGrantedAuthority> authorities;
+
+        private final long expiryTime;
+
+        private final long created = System.currentTimeMillis();
+
+        Entry(
+                final String userKey,
+                final String username,
+                final Set<SyncopeGrantedAuthority> authorities,
+                final long expiryTime) {
+
+            this.userKey = userKey;
+            this.username = username;
+            this.authorities = authorities;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    protected static String userKey(final String domain, final String userKey) {
+        return domain + '/' + userKey;
+    }
+
+    @Resource(name = "jwtIssuer")
+    protected String jwtIssuer;
+
+    @Autowired
+    protected AccessTokenDAO accessTokenDAO;
+
+    @Value("${jwtCache.ttl:60}")
+    protected long ttl;
+
+    @Value("${jwtCache.maxSize:10000}")
+    protected int maxSize;
+
+    @Value("${jwtCache.reconcileSeconds:10}")
+    protected long reconcileSeconds;
+
+    protected final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Cached keys, by domain and user key.
+     */
+    protected final Map<String, Set<Key>> byUser = new ConcurrentHashMap<>();
+
+    protected final Map<String, AtomicLong> reconciled = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented at each eviction, to discard outcomes of authentications which were running meanwhile.
+     */
+    protected final AtomicLong evictions = new AtomicLong();
+
+    protected boolean isCacheable(final JwtClaims claims) {
+        return ttl > 0
+                && jwtIssuer.equals(claims.getIssuer())
+                && claims.getTokenId() != null
+                && claims.getExpiryTime() != null;
+    }
+
+    protected boolean isValid(final Entry entry, final JwtClaims claims) {
+        long now = System.currentTimeMillis();
+        return entry.expiryTime == claims.getExpiryTime() * 1000L
+                && entry.expiryTime > now
+                && now - entry.created < ttl * 1000;
+    }
+
+    /**
+     * To be invoked before authenticating, and then passed to {@link #put(String, JwtClaims, Pair, long)}.
+     *
+     * @return current eviction count
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the outcome of a previous successful authentication with the given JWT, if still valid.
+     * Requires to be invoked as admin for the given domain, as with {@link AuthContextUtils#callAsAdmin}.
+     *
+     * @param domain domain
+     * @param claims JWT claims
+     * @return user key (null for admin), username and authorities, or null if not found
+     */
+    public Triple<String, String, Set<SyncopeGrantedAuthority>> get(final String domain, final JwtClaims claims) {
+        if (!isCacheable(claims)) {
+            return null;
+        }
+
+        reconcile(domain);
+
+        Key key = new Key(domain, claims.getTokenId());
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!isValid(entry, claims)) {
+            cache.remove(key, entry);
+            return null;
+        }
+
+        LOG.debug("JWT {} found in cache for User {}", claims.getTokenId(), entry.username);
+        return Triple.of(entry.userKey, entry.username, entry.authorities);
+    }
+
+    /**
+     * Caches the outcome of a successful authentication with the given JWT, unless any eviction occurred since the
+     * authentication started.
+     *
+     * @param domain domain
+     * @param claims JWT claims
+     * @param authenticated user key (null for admin), username and authorities
+     * @param evictionsBefore eviction count as returned by {@link #evictions()} before authenticating
+     */
+    public void put(
+            final String domain,
+            final JwtClaims claims,
+            final Triple<String, String, Set<SyncopeGrantedAuthority>> authenticated,
+            final long evictionsBefore) {
+
+        if (!isCacheable(claims) || evictions.get() != evictionsBefore) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            free();
+        }
+
+        Key key = new Key(domain, claims.getTokenId());
+        Entry entry = new Entry(
+                authenticated.getLeft(),
+                authenticated.getMiddle(),
+                Set.copyOf(authenticated.getRight()),
+                claims.getExpiryTime() * 1000L);
+        if (entry.userKey != null) {
+            byUser.computeIfAbsent(userKey(domain, entry.userKey), k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        cache.put(key, entry);
+
+        // an eviction might have occurred while caching
+        if (evictions.get() != evictionsBefore) {
+            cache.remove(key, entry);
+        }
+    }
+
+    protected void evict(final String domain, final String tokenId) {
+        evictions.incrementAndGet();
+        cache.remove(new Key(domain, tokenId));
+    }
+
+    protected void evictUser(final String domain, final String userKey) {
+        Set<Key> keys = byUser.remove(userKey(domain, userKey));
+        if (keys != null) {
+            evictions.incrementAndGet();
+            keys.forEach(cache::remove);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AccessTokenChangedEvent event) {
+        evict(event.getDomain(), event.getKey());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyCreatedUpdatedEvent<Any<?>> event) {
+        if (event.getAnyTypeKind() == AnyTypeKind.USER) {
+            evictUser(event.getDomain(), event.getAny().getKey());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final AnyDeletedEvent event) {
+        if (event.getAnyTypeKind() == AnyTypeKind.USER) {
+            evictUser(event.getDomain(), event.getAnyKey());
+        }
+    }
+
+    /**
+     * Evicts entries for the given domain whose access token was deleted or replaced, at most once every
+     * {@code jwtCache.reconcileSeconds}.
+     *
+     * @param domain domain
+     */
+    protected void reconcile(final String domain) {
+        AtomicLong last = reconciled.computeIfAbsent(domain, k -> new AtomicLong(System.currentTimeMillis()));
+        long now = System.currentTimeMillis();
+        long previous = last.get();
+        if (now - previous < reconcileSeconds * 1000 || !last.compareAndSet(previous, now)) {
+            return;
+        }
+
+        prune();
+
+        Map<Key, Entry> entries = cache.entrySet().stream().
+                filter(entry -> domain.equals(entry.getKey().domain)).
+                collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, Date> expiryTimes = accessTokenDAO.findExpiryTimes(
+                    entries.keySet().stream().map(key -> key.tokenId).collect(Collectors.toSet()));
+
+            entries.forEach((key, entry) -> {
+                Date expiryTime = expiryTimes.get(key.tokenId);
+                if (expiryTime == null || expiryTime.getTime() != entry.expiryTime) {
+                    LOG.debug("Access Token {} was deleted or replaced, evicting", key.tokenId);
+                    cache.remove(key, entry);
+                }
+            });
+        } catch (Exception e) {
+            LOG.error("While reconciling cached JWTs for domain {}, evicting all", domain, e);
+            entries.forEach(cache::remove);
+        }
+    }
+
+    /**
+     * Removes expired entries; if none, removes entries until below max size.
+     */
+    protected void free() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiryTime <= now || now - entry.created >= ttl * 1000);
+
+        for (Iterator<Key> itor = cache.keySet().iterator(); cache.size() >= maxSize && itor.hasNext();) {
+            itor.next();
+            itor.remove();
+        }
+
+        prune();
+    }
+
+    /**
+     * Removes from {@link #byUser} the keys no longer cached.
+     */
+    protected void prune() {
+        byUser.values().forEach(keys -> keys.removeIf(key -> !cache.containsKey(key)));
+        byUser.values().removeIf(Set::isEmpty);
+    }
+}
@@ -140,4 +140,9 @@ public class WebSecurityContext extends WebSecurityConfigurerAdapter {
     public AuthDataAccessor authDataAccessor() {
         return new AuthDataAccessor();
     }
+
+    @Bean
+    public JWTCache jwtCache() {
+        return new JWTCache();
+    }
 }
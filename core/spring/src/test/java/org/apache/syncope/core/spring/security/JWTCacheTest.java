@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.cxf.rs.security.jose.jwt.JwtClaims;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.AccessTokenChangedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JWTCacheTest {
+
+    private static final Triple<String, String, Set<SyncopeGrantedAuthority>> AUTHENTICATED = Triple.of(
+            "c9b2dec2-00a7-4855-97c0-d854842b4b24",
+            "bellini",
+            Set.of(new SyncopeGrantedAuthority(IdRepoEntitlement.ANONYMOUS)));
+
+    private JWTCache jwtCache;
+
+    private static JwtClaims claims(final String issuer) {
+        JwtClaims claims = new JwtClaims();
+        claims.setTokenId(UUID.randomUUID().toString());
+        claims.setIssuer(issuer);
+        claims.setSubject(AUTHENTICATED.getMiddle());
+        claims.setExpiryTime(System.currentTimeMillis() / 1000L + 3600);
+        return claims;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        jwtCache = new JWTCache();
+        jwtCache.jwtIssuer = "ApacheSyncope";
+        jwtCache.ttl = 60;
+        jwtCache.maxSize = 10;
+        // no reconciliation
+        jwtCache.reconcileSeconds = Long.MAX_VALUE / 1000;
+    }
+
+    @Test
+    public void putAndGet() {
+        JwtClaims claims = claims(jwtCache.jwtIssuer);
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, jwtCache.evictions());
+        assertEquals(AUTHENTICATED, jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+        assertNull(jwtCache.get("Two", claims));
+
+        // same token id, different expiry: as for refreshed access tokens
+        JwtClaims refreshed = claims(jwtCache.jwtIssuer);
+        refreshed.setTokenId(claims.getTokenId());
+        refreshed.setExpiryTime(claims.getExpiryTime() + 60);
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, refreshed));
+    }
+
+    @Test
+    public void notCacheable() {
+        JwtClaims claims = claims("external");
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, jwtCache.evictions());
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        claims = claims(jwtCache.jwtIssuer);
+        claims.setExpiryTime(System.currentTimeMillis() / 1000L - 1);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, jwtCache.evictions());
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        jwtCache.ttl = 0;
+        claims = claims(jwtCache.jwtIssuer);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, jwtCache.evictions());
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+
+    @Test
+    public void evict() {
+        JwtClaims claims1 = claims(jwtCache.jwtIssuer);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims1, AUTHENTICATED, jwtCache.evictions());
+        JwtClaims claims2 = claims(jwtCache.jwtIssuer);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims2, AUTHENTICATED, jwtCache.evictions());
+
+        jwtCache.after(new AccessTokenChangedEvent(this, claims1.getTokenId(), SyncopeConstants.MASTER_DOMAIN));
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims1));
+        assertNotNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims2));
+
+        jwtCache.after(new AnyDeletedEvent(
+                this, AnyTypeKind.USER, AUTHENTICATED.getLeft(), AUTHENTICATED.getMiddle(),
+                SyncopeConstants.MASTER_DOMAIN));
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims2));
+    }
+
+    @Test
+    public void evictRenamed() {
+        JwtClaims claims = claims(jwtCache.jwtIssuer);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, jwtCache.evictions());
+
+        // the event carries the user as saved, hence with new username
+        AnyType anyType = (AnyType) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { AnyType.class },
+                (proxy, method, args) -> "getKind".equals(method.getName()) ? AnyTypeKind.USER : null);
+        User renamed = (User) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { User.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getKey":
+                            return AUTHENTICATED.getLeft();
+                        case "getUsername":
+                            return "renamed";
+                        case "getType":
+                            return anyType;
+                        default:
+                            return null;
+                    }
+                });
+        jwtCache.after(new AnyCreatedUpdatedEvent<Any<?>>(this, renamed, SyncopeConstants.MASTER_DOMAIN));
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+
+    @Test
+    public void admin() {
+        Triple<String, String, Set<SyncopeGrantedAuthority>> admin = Triple.of(
+                null, "admin", Set.of(new SyncopeGrantedAuthority(IdRepoEntitlement.ANONYMOUS)));
+
+        JwtClaims claims = claims(jwtCache.jwtIssuer);
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, admin, jwtCache.evictions());
+        assertEquals(admin, jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+
+        jwtCache.after(new AccessTokenChangedEvent(this, claims.getTokenId(), SyncopeConstants.MASTER_DOMAIN));
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+
+    @Test
+    public void evictWhileAuthenticating() {
+        JwtClaims claims = claims(jwtCache.jwtIssuer);
+
+        long evictions = jwtCache.evictions();
+        jwtCache.after(new AccessTokenChangedEvent(this, claims.getTokenId(), SyncopeConstants.MASTER_DOMAIN));
+        jwtCache.put(SyncopeConstants.MASTER_DOMAIN, claims, AUTHENTICATED, evictions);
+
+        assertNull(jwtCache.get(SyncopeConstants.MASTER_DOMAIN, claims));
+    }
+
+    @Test
+    public void maxSize() {
+        for (int i = 0; i < jwtCache.maxSize * 2; i++) {
+            jwtCache.put(
+                    SyncopeConstants.MASTER_DOMAIN, claims(jwtCache.jwtIssuer), AUTHENTICATED, jwtCache.evictions());
+        }
+        assertEquals(jwtCache.maxSize, jwtCache.cache.size());
+    }
+}
@@ -124,7 +124,8 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final AnyTypeKind kind,
             final int from,
             final int size,
-            final List<SortBuilder<?>> sortBuilders) {
+            final List<SortBuilder<?>> sortBuilders,
+            final List<String> searchAfter) {
 
         Pair<DisMaxQueryBuilder, Set<String>> filter = adminRealmsFilter(adminRealms);
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().
@@ -136,6 +137,9 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 from(from).
                 size(size);
         sortBuilders.forEach(sourceBuilder::sort);
+        if (!searchAfter.isEmpty()) {
+            sourceBuilder.searchAfter(searchAfter.toArray());
+        }
 
         return new SearchRequest(elasticsearchUtils.getContextDomainName(AuthContextUtils.getDomain(), kind)).
                 searchType(SearchType.QUERY_THEN_FETCH).
@@ -144,7 +148,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
 
     @Override
     protected int doCount(final Set<String> adminRealms, final SearchCond cond, final AnyTypeKind kind) {
-        SearchRequest request = searchRequest(adminRealms, cond, kind, 0, 0, List.of());
+        SearchRequest request = searchRequest(adminRealms, cond, kind, 0, 0, List.of(), List.of());
         try {
             return (int) client.search(request, RequestOptions.DEFAULT).getHits().getTotalHits().value;
         } catch (IOException e) {
@@ -200,8 +204,46 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                 kind,
                 (itemsPerPage * (page <= 0 ? 0 : page - 1)),
                 (itemsPerPage < 0 ? elasticsearchUtils.getIndexMaxResultWindow() : itemsPerPage),
-                sortBuilders(kind, orderBy));
+                sortBuilders(kind, orderBy),
+                List.of());
+
+        return search(request, kind);
+    }
+
+    /**
+     * Relies on Elasticsearch's {@code search_after} rather than on range conditions.
+     */
+    @Override
+    protected <T extends Any<?>> List<T> doSearchAfter(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final List<OrderByClause> orderBy,
+            final List<String> after,
+            final int itemsPerPage,
+            final AnyTypeKind kind) {
+
+        if (adminRealms == null || adminRealms.isEmpty()) {
+            LOG.error("No realms provided");
+            return List.of();
+        }
+        if (cond == null || !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return List.of();
+        }
+
+        SearchRequest request = searchRequest(
+                adminRealms,
+                cond,
+                kind,
+                0,
+                itemsPerPage,
+                sortBuilders(kind, orderBy),
+                after);
+
+        return search(request, kind);
+    }
 
+    private <T extends Any<?>> List<T> search(final SearchRequest request, final AnyTypeKind kind) {
         SearchHit[] esResult = null;
         try {
             esResult = client.search(request, RequestOptions.DEFAULT).getHits().getHits();
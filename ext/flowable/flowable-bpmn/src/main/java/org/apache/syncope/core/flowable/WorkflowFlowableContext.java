@@ -25,6 +25,7 @@ import org.apache.syncope.core.flowable.impl.FlowableUserRequestHandler;
 import org.apache.syncope.core.flowable.impl.FlowableWorkflowUtils;
 import org.apache.syncope.core.flowable.support.DomainProcessEngineConfiguration;
 import org.apache.syncope.core.flowable.support.SyncopeEntitiesVariableType;
+import org.apache.syncope.core.flowable.support.SyncopeJSONVariableType;
 import org.apache.syncope.core.flowable.support.SyncopeFormHandlerHelper;
 import org.apache.syncope.core.flowable.support.SyncopeIdmIdentityService;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
@@ -106,6 +107,12 @@ public class WorkflowFlowableContext {
         return new SyncopeEntitiesVariableType();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public SyncopeJSONVariableType syncopeJSONVariableType() {
+        return new SyncopeJSONVariableType();
+    }
+
     /**
      * This is called to generate unique identifiers for database entities used by Flowable.
      *
@@ -130,7 +137,7 @@ public class WorkflowFlowableContext {
         conf.setJpaCloseEntityManager(false);
         conf.setHistoryLevel(historyLevel);
         conf.setIdmEngineConfigurator(syncopeIdmEngineConfigurator());
-        conf.setCustomPreVariableTypes(List.of(syncopeEntitiesVariableType()));
+        conf.setCustomPreVariableTypes(List.of(syncopeEntitiesVariableType(), syncopeJSONVariableType()));
         conf.setFormHandlerHelper(syncopeFormHandlerHelper());
         conf.setIdGenerator(idGenerator());
         return conf;
@@ -21,10 +21,13 @@ package org.apache.syncope.core.flowable.impl;
 import org.apache.syncope.core.flowable.api.UserRequestHandler;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +43,7 @@ import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UserRequestFormPropertyType;
 import org.apache.syncope.core.flowable.api.DropdownValueProvider;
 import org.apache.syncope.core.flowable.support.DomainProcessEngine;
+import org.apache.syncope.core.flowable.support.UserRequestIndex;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -92,6 +96,9 @@ public class FlowableUserRequestHandler implements UserRequestHandler {
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected UserRequestIndex userRequestIndex;
+
     protected StringBuilder createProcessInstanceQuery(final String userKey) {
         StringBuilder query = new StringBuilder().
                 append("SELECT DISTINCT ID_,BUSINESS_KEY_,PROC_DEF_ID_,PROC_INST_ID_,START_TIME_ FROM ").
@@ -109,13 +116,6 @@ public class FlowableUserRequestHandler implements UserRequestHandler {
         return query;
     }
 
-    protected int countProcessInstances(final StringBuilder processInstanceQuery) {
-        return (int) engine.getRuntimeService().createNativeProcessInstanceQuery().
-                sql("SELECT COUNT(ID_) FROM "
-                        + StringUtils.substringAfter(processInstanceQuery.toString(), " FROM ")).
-                count();
-    }
-
     protected UserRequest getUserRequest(final ProcessInstance procInst) {
         Pair<String, String> split = FlowableRuntimeUtils.splitProcBusinessKey(procInst.getBusinessKey());
 
@@ -140,50 +140,22 @@ public class FlowableUserRequestHandler implements UserRequestHandler {
             final int size,
             final List<OrderByClause> orderByClauses) {
 
-        StringBuilder query = createProcessInstanceQuery(userKey);
-        Integer count = countProcessInstances(query);
-
-        if (!orderByClauses.isEmpty()) {
-            query.append(" ORDER BY");
-
-            for (OrderByClause clause : orderByClauses) {
-                boolean sorted = true;
-                switch (clause.getField().trim()) {
-                    case "bpmnProcess":
-                        query.append(" PROC_DEF_ID_");
-                        break;
-
-                    case "startTime":
-                        query.append(" START_TIME_");
-                        break;
-
-                    case "executionId":
-                        query.append(" PROC_INST_ID_");
-                        break;
-
-                    default:
-                        LOG.warn("User request sort request by {}: unsupported, ignoring", clause.getField().trim());
-                        sorted = false;
-                }
-                if (sorted) {
-                    if (clause.getDirection() == OrderByClause.Direction.ASC) {
-                        query.append(" ASC,");
-                    } else {
-                        query.append(" DESC,");
-                    }
-                }
-            }
-
-            query.setLength(query.length() - 1);
+        Pair<Integer, List<String>> found = userRequestIndex.findRequests(userKey, page, size, orderByClauses);
+        if (found.getRight().isEmpty()) {
+            return Pair.of(found.getLeft(), List.of());
         }
 
-        List<UserRequest> result = engine.getRuntimeService().createNativeProcessInstanceQuery().
-                sql(query.toString()).
-                listPage(size * (page <= 0 ? 0 : page - 1), size).stream().
+        Map<String, ProcessInstance> procInsts = engine.getRuntimeService().createProcessInstanceQuery().
+                processInstanceIds(new HashSet<>(found.getRight())).list().stream().
+                collect(Collectors.toMap(ProcessInstance::getId, Function.identity()));
+
+        List<UserRequest> result = found.getRight().stream().
+                map(procInsts::get).
+                filter(Objects::nonNull).
                 map(this::getUserRequest).
                 collect(Collectors.toList());
 
-        return Pair.of(count, result);
+        return Pair.of(found.getLeft(), result);
     }
 
     protected User lazyLoad(final User user) {
@@ -469,67 +441,25 @@ public class FlowableUserRequestHandler implements UserRequestHandler {
             final int size,
             final List<OrderByClause> orderByClauses) {
 
-        TaskQuery query = engine.getTaskService().createTaskQuery().taskWithFormKey();
-        if (userKey != null) {
-            query.processInstanceBusinessKeyLike(FlowableRuntimeUtils.getProcBusinessKey("%", userKey));
-        }
-
         String authUser = AuthContextUtils.getUsername();
-        return adminUser.equals(authUser)
-                ? getForms(query, page, size, orderByClauses)
-                : getForms(query.taskCandidateOrAssigned(authUser), page, size, orderByClauses);
-    }
-
-    protected Pair<Integer, List<UserRequestForm>> getForms(
-            final TaskQuery query, final int page, final int size, final List<OrderByClause> orderByClauses) {
-
-        for (OrderByClause clause : orderByClauses) {
-            boolean sorted = true;
-            switch (clause.getField().trim()) {
-                case "bpmnProcess":
-                    query.orderByProcessDefinitionId();
-                    break;
-
-                case "executionId":
-                    query.orderByExecutionId();
-                    break;
-
-                case "taskId":
-                    query.orderByTaskId();
-                    break;
-
-                case "createTime":
-                    query.orderByTaskCreateTime();
-                    break;
-
-                case "dueDate":
-                    query.orderByTaskDueDate();
-                    break;
-
-                case "assignee":
-                    query.orderByTaskAssignee();
-                    break;
-
-                default:
-                    LOG.warn("Form sort request by {}: unsupported, ignoring", clause.getField().trim());
-                    sorted = false;
-            }
-            if (sorted) {
-                if (clause.getDirection() == OrderByClause.Direction.ASC) {
-                    query.asc();
-                } else {
-                    query.desc();
-                }
-            }
-        }
-
-        List<UserRequestForm> result = query.listPage(size * (page <= 0 ? 0 : page - 1), size).stream().
-                map(task -> task instanceof HistoricTaskInstance
-                ? FlowableUserRequestHandler.this.getForm((HistoricTaskInstance) task)
-                : FlowableUserRequestHandler.this.getForm(task)).
+        Pair<Integer, List<String>> found = adminUser.equals(authUser)
+                ? userRequestIndex.findForms(userKey, null, List.of(), page, size, orderByClauses)
+                : userRequestIndex.findForms(
+                        userKey,
+                        authUser,
+                        Optional.ofNullable(userDAO.findByUsername(authUser)).
+                                map(userDAO::findAllGroupNames).orElse(List.of()),
+                        page,
+                        size,
+                        orderByClauses);
+
+        List<UserRequestForm> result = found.getRight().stream().
+                map(taskId -> engine.getTaskService().createTaskQuery().taskId(taskId).singleResult()).
+                filter(Objects::nonNull).
+                map(this::getForm).
                 collect(Collectors.toList());
 
-        return Pair.of((int) query.count(), result);
+        return Pair.of(found.getLeft(), result);
     }
 
     protected Pair<Task, TaskFormData> parseTask(final String taskId) {
@@ -18,12 +18,15 @@
  */
 package org.apache.syncope.core.flowable.support;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.sql.DataSource;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.common.engine.impl.cfg.SpringBeanFactoryProxyMap;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -89,7 +92,15 @@ public class DomainProcessEngineFactoryBean
         conf.setEnableSafeBpmnXml(true);
         conf.setCustomFormTypes(List.of(new DropdownFormType(null)));
 
-        return conf.buildProcessEngine();
+        UserRequestIndex userRequestIndex = ctx.getBean(UserRequestIndex.class);
+        List<FlowableEventListener> eventListeners =
+                new ArrayList<>(Optional.ofNullable(conf.getEventListeners()).orElse(List.of()));
+        eventListeners.add(new UserRequestIndexListener(userRequestIndex, domain));
+        conf.setEventListeners(eventListeners);
+
+        ProcessEngine processEngine = conf.buildProcessEngine();
+        userRequestIndex.init(domain, datasource, processEngine);
+        return processEngine;
     }
 
     @Override
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.syncope.common.lib.BaseBean;
+import org.apache.syncope.common.lib.request.AnyCR;
+import org.apache.syncope.common.lib.request.AnyUR;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+
+/**
+ * Flowable variable type for handling Syncope transfer objects, requests and {@link PropagationByResource} instances
+ * as Flowable variables, in place of Java serialization.
+ * Values are stored as compressed JSON, preceded by one byte reporting the encoding version; the value class is
+ * stored separately. Values are decoded only when first read within each command, and not tracked for changes: any
+ * modification is to be stored by setting the variable again.
+ */
+public class SyncopeJSONVariableType implements VariableType {
+
+    public static final String TYPE_NAME = "syncopeJSON";
+
+    protected static final byte VERSION = 1;
+
+    /**
+     * JSON representation of {@link PropagationByResource}, which is not a Java bean.
+     */
+    public static class PropByResJSON {
+
+        private Set<String> create = new HashSet<>();
+
+        private Set<String> update = new HashSet<>();
+
+        private Set<String> delete = new HashSet<>();
+
+        private Map<String, String> oldConnObjectKeys = new HashMap<>();
+
+        public Set<String> getCreate() {
+            return create;
+        }
+
+        public void setCreate(final Set<String> create) {
+            this.create = create;
+        }
+
+        public Set<String> getUpdate() {
+            return update;
+        }
+
+        public void setUpdate(final Set<String> update) {
+            this.update = update;
+        }
+
+        public Set<String> getDelete() {
+            return delete;
+        }
+
+        public void setDelete(final Set<String> delete) {
+            this.delete = delete;
+        }
+
+        public Map<String, String> getOldConnObjectKeys() {
+            return oldConnObjectKeys;
+        }
+
+        public void setOldConnObjectKeys(final Map<String, String> oldConnObjectKeys) {
+            this.oldConnObjectKeys = oldConnObjectKeys;
+        }
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAbleToStore(final Object value) {
+        return value instanceof BaseBean
+                || value instanceof AnyCR
+                || value instanceof AnyUR
+                || value instanceof PropagationByResource;
+    }
+
+    protected Object toJSONValue(final Object value) {
+        if (value instanceof PropagationByResource) {
+            PropagationByResource propByRes = (PropagationByResource) value;
+
+            PropByResJSON json = new PropByResJSON();
+            json.getCreate().addAll(propByRes.get(ResourceOperation.CREATE));
+            json.getUpdate().addAll(propByRes.get(ResourceOperation.UPDATE));
+            json.getDelete().addAll(propByRes.get(ResourceOperation.DELETE));
+            json.getOldConnObjectKeys().putAll(propByRes.getOldConnObjectKeys());
+            return json;
+        }
+
+        return value;
+    }
+
+    protected Object fromJSON(final String json, final Class<?> reference) {
+        if (PropagationByResource.class.equals(reference)) {
+            PropByResJSON propByResJSON = POJOHelper.deserialize(json, PropByResJSON.class);
+            if (propByResJSON == null) {
+                return null;
+            }
+
+            PropagationByResource propByRes = new PropagationByResource();
+            propByRes.addAll(ResourceOperation.CREATE, propByResJSON.getCreate());
+            propByRes.addAll(ResourceOperation.UPDATE, propByResJSON.getUpdate());
+            propByRes.addAll(ResourceOperation.DELETE, propByResJSON.getDelete());
+            propByResJSON.getOldConnObjectKeys().forEach(propByRes::addOldConnObjectKey);
+            return propByRes;
+        }
+
+        return POJOHelper.deserialize(json, reference);
+    }
+
+    @Override
+    public void setValue(final Object value, final ValueFields valueFields) {
+        if (value == null) {
+            valueFields.setTextValue2(null);
+            valueFields.setBytes(null);
+            return;
+        }
+
+        String json = POJOHelper.serialize(toJSONValue(value));
+        if (json == null) {
+            throw new FlowableException("Could not serialize variable " + valueFields.getName());
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        baos.write(VERSION);
+        try (OutputStream out = new GZIPOutputStream(baos)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize variable " + valueFields.getName(), e);
+        }
+
+        valueFields.setTextValue2(value.getClass().getName());
+        valueFields.setBytes(baos.toByteArray());
+    }
+
+    @Override
+    public Object getValue(final ValueFields valueFields) {
+        byte[] bytes = valueFields.getBytes();
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != VERSION) {
+            throw new FlowableException("Unsupported encoding version " + bytes[0]
+                    + " for variable " + valueFields.getName());
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            Class<?> reference = Class.forName(valueFields.getTextValue2(), true, getClass().getClassLoader());
+            return fromJSON(new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8), reference);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new FlowableException("Could not deserialize variable " + valueFields.getName(), e);
+        }
+    }
+}
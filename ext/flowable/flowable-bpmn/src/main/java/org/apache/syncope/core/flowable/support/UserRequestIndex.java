@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.flowable.impl.FlowableRuntimeUtils;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.task.api.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Syncope-side projection of pending user requests and forms, maintained by {@link UserRequestIndexListener} from
+ * Flowable events, so that paged, sorted and filtered queries can be served by a single query on indexed columns
+ * rather than by scanning Flowable runtime tables and reading process variables for each row.
+ * Tables are created, and populated from the Flowable runtime, when not found at domain load.
+ */
+@Component
+public class UserRequestIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserRequestIndex.class);
+
+    public static final String REQUEST_TABLE = "SYNCOPE_UR_REQUEST";
+
+    public static final String FORM_TABLE = "SYNCOPE_UR_FORM";
+
+    public static final String CANDIDATE_TABLE = "SYNCOPE_UR_CANDIDATE";
+
+    /**
+     * DDL statements for each projection table, in creation order.
+     */
+    private static final Map<String, List<String>> DDL = new LinkedHashMap<>();
+
+    static {
+        DDL.put(REQUEST_TABLE, List.of(
+                "CREATE TABLE " + REQUEST_TABLE + " ("
+                + "PROC_INST_ID_ VARCHAR(64) NOT NULL, "
+                + "BPMN_PROCESS_ VARCHAR(255), "
+                + "USER_KEY_ VARCHAR(36), "
+                + "START_TIME_ NUMERIC(19), "
+                + "PRIMARY KEY (PROC_INST_ID_))",
+                "CREATE INDEX SYNCOPE_UR_REQUEST_USER_IDX ON " + REQUEST_TABLE + "(USER_KEY_)",
+                "CREATE INDEX SYNCOPE_UR_REQUEST_START_IDX ON " + REQUEST_TABLE + "(START_TIME_)"));
+        DDL.put(FORM_TABLE, List.of(
+                "CREATE TABLE " + FORM_TABLE + " ("
+                + "TASK_ID_ VARCHAR(64) NOT NULL, "
+                + "PROC_INST_ID_ VARCHAR(64), "
+                + "EXECUTION_ID_ VARCHAR(64), "
+                + "BPMN_PROCESS_ VARCHAR(255), "
+                + "USER_KEY_ VARCHAR(36), "
+                + "FORM_KEY_ VARCHAR(255), "
+                + "ASSIGNEE_ VARCHAR(255), "
+                + "CREATE_TIME_ NUMERIC(19), "
+                + "DUE_DATE_ NUMERIC(19), "
+                + "PRIMARY KEY (TASK_ID_))",
+                "CREATE INDEX SYNCOPE_UR_FORM_PROC_IDX ON " + FORM_TABLE + "(PROC_INST_ID_)",
+                "CREATE INDEX SYNCOPE_UR_FORM_USER_IDX ON " + FORM_TABLE + "(USER_KEY_)",
+                "CREATE INDEX SYNCOPE_UR_FORM_ASSIGNEE_IDX ON " + FORM_TABLE + "(ASSIGNEE_)",
+                "CREATE INDEX SYNCOPE_UR_FORM_CREATE_IDX ON " + FORM_TABLE + "(CREATE_TIME_)"));
+        DDL.put(CANDIDATE_TABLE, List.of(
+                "CREATE TABLE " + CANDIDATE_TABLE + " ("
+                + "TASK_ID_ VARCHAR(64) NOT NULL, "
+                + "USER_ID_ VARCHAR(255), "
+                + "GROUP_ID_ VARCHAR(255))",
+                "CREATE INDEX SYNCOPE_UR_CAND_TASK_IDX ON " + CANDIDATE_TABLE + "(TASK_ID_)",
+                "CREATE INDEX SYNCOPE_UR_CAND_USER_IDX ON " + CANDIDATE_TABLE + "(USER_ID_)",
+                "CREATE INDEX SYNCOPE_UR_CAND_GROUP_IDX ON " + CANDIDATE_TABLE + "(GROUP_ID_)"));
+    }
+
+    private final Map<String, JdbcTemplate> jdbcTemplates = new ConcurrentHashMap<>();
+
+    private static Long toMillis(final Date date) {
+        return Optional.ofNullable(date).map(Date::getTime).orElse(null);
+    }
+
+    private static int offset(final int page, final int size) {
+        return size * (page <= 0 ? 0 : page - 1);
+    }
+
+    protected JdbcTemplate jdbcTemplate(final String domain) {
+        JdbcTemplate jdbcTemplate = jdbcTemplates.get(domain);
+        if (jdbcTemplate == null) {
+            throw new IllegalStateException("User request index not initialized for domain " + domain);
+        }
+        return jdbcTemplate;
+    }
+
+    protected JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate(AuthContextUtils.getDomain());
+    }
+
+    /**
+     * Ensures that the projection tables are available for the given domain; when any is not found, missing tables are
+     * created and all are populated from the Flowable runtime.
+     *
+     * @param domain domain
+     * @param datasource domain datasource, also used by Flowable
+     * @param processEngine Flowable process engine for the given domain
+     */
+    public void init(final String domain, final DataSource datasource, final ProcessEngine processEngine) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(datasource);
+        jdbcTemplates.put(domain, jdbcTemplate);
+
+        Set<String> missing = jdbcTemplate.execute((ConnectionCallback<Set<String>>) conn -> {
+            Set<String> tables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            tables.addAll(DDL.keySet());
+
+            DatabaseMetaData meta = conn.getMetaData();
+            try (ResultSet rs = meta.getTables(conn.getCatalog(), null, null, new String[] { "TABLE" })) {
+                while (rs.next()) {
+                    tables.remove(rs.getString("TABLE_NAME"));
+                }
+            }
+            return tables;
+        });
+        if (missing.isEmpty()) {
+            LOG.debug("User request index found for domain {}", domain);
+            return;
+        }
+
+        LOG.info("User request index tables {} not found for domain {}, creating", missing, domain);
+        DDL.entrySet().stream().filter(entry -> missing.contains(entry.getKey())).
+                forEach(entry -> entry.getValue().forEach(jdbcTemplate::execute));
+        rebuild(domain, processEngine);
+    }
+
+    /**
+     * Populates the projection tables for the given domain from the Flowable runtime, discarding their current content;
+     * also available as the {@code UserRequestIndexRebuild} scheduled task.
+     *
+     * @param domain domain
+     * @param processEngine Flowable process engine for the given domain
+     */
+    public void rebuild(final String domain, final ProcessEngine processEngine) {
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        jdbcTemplate.update("DELETE FROM " + CANDIDATE_TABLE);
+        jdbcTemplate.update("DELETE FROM " + FORM_TABLE);
+        jdbcTemplate.update("DELETE FROM " + REQUEST_TABLE);
+
+        Map<String, ProcessInstance> procInsts = new HashMap<>();
+        processEngine.getRuntimeService().createProcessInstanceQuery().list().forEach(procInst -> {
+            procInsts.put(procInst.getId(), procInst);
+            saveRequest(domain, procInst.getId(), procInst.getProcessDefinitionKey(),
+                    procInst.getBusinessKey(), procInst.getStartTime());
+        });
+
+        processEngine.getTaskService().createTaskQuery().taskWithFormKey().list().forEach(task -> {
+            ProcessInstance procInst = procInsts.get(task.getProcessInstanceId());
+            saveForm(domain,
+                    task,
+                    procInst == null ? null : procInst.getProcessDefinitionKey(),
+                    procInst == null ? null : procInst.getBusinessKey());
+            processEngine.getTaskService().getIdentityLinksForTask(task.getId()).
+                    forEach(link -> addCandidate(domain, link));
+        });
+
+        LOG.info("User request index rebuilt for domain {}: {} process instances", domain, procInsts.size());
+    }
+
+    public void saveRequest(
+            final String domain,
+            final String procInstId,
+            final String bpmnProcess,
+            final String businessKey,
+            final Date startTime) {
+
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        jdbcTemplate.update("DELETE FROM " + REQUEST_TABLE + " WHERE PROC_INST_ID_=?", procInstId);
+
+        if (businessKey != null && !FlowableRuntimeUtils.WF_PROCESS_ID.equals(bpmnProcess)) {
+            jdbcTemplate.update("INSERT INTO " + REQUEST_TABLE
+                    + "(PROC_INST_ID_,BPMN_PROCESS_,USER_KEY_,START_TIME_) VALUES (?,?,?,?)",
+                    procInstId,
+                    bpmnProcess,
+                    FlowableRuntimeUtils.splitProcBusinessKey(businessKey).getRight(),
+                    toMillis(startTime));
+        }
+
+        if (businessKey != null) {
+            jdbcTemplate.update("UPDATE " + FORM_TABLE + " SET USER_KEY_=? WHERE PROC_INST_ID_=?",
+                    FlowableRuntimeUtils.splitProcBusinessKey(businessKey).getRight(), procInstId);
+        }
+    }
+
+    public void removeRequest(final String domain, final String procInstId) {
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        jdbcTemplate.update("DELETE FROM " + CANDIDATE_TABLE + " WHERE TASK_ID_ IN "
+                + "(SELECT TASK_ID_ FROM " + FORM_TABLE + " WHERE PROC_INST_ID_=?)", procInstId);
+        jdbcTemplate.update("DELETE FROM " + FORM_TABLE + " WHERE PROC_INST_ID_=?", procInstId);
+        jdbcTemplate.update("DELETE FROM " + REQUEST_TABLE + " WHERE PROC_INST_ID_=?", procInstId);
+    }
+
+    public void saveForm(final String domain, final Task task, final String bpmnProcess, final String businessKey) {
+        if (StringUtils.isBlank(task.getFormKey())) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        jdbcTemplate.update("DELETE FROM " + FORM_TABLE + " WHERE TASK_ID_=?", task.getId());
+        jdbcTemplate.update("INSERT INTO " + FORM_TABLE
+                + "(TASK_ID_,PROC_INST_ID_,EXECUTION_ID_,BPMN_PROCESS_,USER_KEY_,FORM_KEY_,ASSIGNEE_,"
+                + "CREATE_TIME_,DUE_DATE_) VALUES (?,?,?,?,?,?,?,?,?)",
+                task.getId(),
+                task.getProcessInstanceId(),
+                task.getExecutionId(),
+                bpmnProcess,
+                businessKey == null ? null : FlowableRuntimeUtils.splitProcBusinessKey(businessKey).getRight(),
+                task.getFormKey(),
+                task.getAssignee(),
+                toMillis(task.getCreateTime()),
+                toMillis(task.getDueDate()));
+    }
+
+    public void updateForm(final String domain, final Task task) {
+        jdbcTemplate(domain).update("UPDATE " + FORM_TABLE + " SET ASSIGNEE_=?, DUE_DATE_=? WHERE TASK_ID_=?",
+                task.getAssignee(), toMillis(task.getDueDate()), task.getId());
+    }
+
+    public void removeForm(final String domain, final String taskId) {
+        JdbcTemplate jdbcTemplate = jdbcTemplate(domain);
+        jdbcTemplate.update("DELETE FROM " + CANDIDATE_TABLE + " WHERE TASK_ID_=?", taskId);
+        jdbcTemplate.update("DELETE FROM " + FORM_TABLE + " WHERE TASK_ID_=?", taskId);
+    }
+
+    public void addCandidate(final String domain, final IdentityLink link) {
+        if (link.getTaskId() != null && IdentityLinkType.CANDIDATE.equals(link.getType())) {
+            jdbcTemplate(domain).update("INSERT INTO " + CANDIDATE_TABLE
+                    + "(TASK_ID_,USER_ID_,GROUP_ID_) VALUES (?,?,?)",
+                    link.getTaskId(), link.getUserId(), link.getGroupId());
+        }
+    }
+
+    public void removeCandidate(final String domain, final IdentityLink link) {
+        if (link.getTaskId() != null && IdentityLinkType.CANDIDATE.equals(link.getType())) {
+            if (link.getUserId() == null) {
+                jdbcTemplate(domain).update("DELETE FROM " + CANDIDATE_TABLE
+                        + " WHERE TASK_ID_=? AND GROUP_ID_=?", link.getTaskId(), link.getGroupId());
+            } else {
+                jdbcTemplate(domain).update("DELETE FROM " + CANDIDATE_TABLE
+                        + " WHERE TASK_ID_=? AND USER_ID_=?", link.getTaskId(), link.getUserId());
+            }
+        }
+    }
+
+    private static void orderBy(
+            final StringBuilder query,
+            final List<OrderByClause> orderByClauses,
+            final Map<String, String> columns,
+            final String defaultColumn) {
+
+        query.append(" ORDER BY");
+        orderByClauses.forEach(clause -> {
+            String column = columns.get(clause.getField().trim());
+            if (column == null) {
+                LOG.warn("Sort request by {}: unsupported, ignoring", clause.getField().trim());
+            } else {
+                query.append(' ').append(column).
+                        append(clause.getDirection() == OrderByClause.Direction.ASC ? " ASC," : " DESC,");
+            }
+        });
+        // always ordering by primary key last, for stable paging
+        query.append(' ').append(defaultColumn).append(" ASC");
+    }
+
+    private List<String> page(final String query, final List<Object> args, final int page, final int size) {
+        int offset = offset(page, size);
+        return jdbcTemplate().query(
+                con -> {
+                    PreparedStatement stmt = con.prepareStatement(query);
+                    for (int i = 0; i < args.size(); i++) {
+                        stmt.setObject(i + 1, args.get(i));
+                    }
+                    stmt.setMaxRows(offset + size);
+                    return stmt;
+                },
+                (ResultSet rs) -> {
+                    List<String> keys = new ArrayList<>(size);
+                    int row = 0;
+                    while (rs.next()) {
+                        if (row++ >= offset) {
+                            keys.add(rs.getString(1));
+                        }
+                    }
+                    return keys;
+                });
+    }
+
+    /**
+     * Finds pending user requests, optionally limited to the given user.
+     *
+     * @param userKey user key, or null for all users
+     * @param page search page
+     * @param size search page size
+     * @param orderByClauses ordering clauses
+     * @return total count and process instance ids of the requested page, in the requested order
+     */
+    public Pair<Integer, List<String>> findRequests(
+            final String userKey,
+            final int page,
+            final int size,
+            final List<OrderByClause> orderByClauses) {
+
+        StringBuilder where = new StringBuilder(" FROM ").append(REQUEST_TABLE);
+        List<Object> args = new ArrayList<>();
+        if (userKey != null) {
+            where.append(" WHERE USER_KEY_=?");
+            args.add(userKey);
+        }
+
+        Integer count = jdbcTemplate().queryForObject("SELECT COUNT(*)" + where, Integer.class, args.toArray());
+
+        StringBuilder query = new StringBuilder("SELECT PROC_INST_ID_").append(where);
+        orderBy(query, orderByClauses,
+                Map.of("bpmnProcess", "BPMN_PROCESS_", "startTime", "START_TIME_", "executionId", "PROC_INST_ID_"),
+                "PROC_INST_ID_");
+
+        return Pair.of(count, page(query.toString(), args, page, size));
+    }
+
+    /**
+     * Finds pending forms, optionally limited to the given user and to the forms the given candidate or assignee
+     * can access, either directly or via one of the given groups.
+     *
+     * @param userKey user key, or null for all users
+     * @param candidateOrAssigned username, or null for no restriction
+     * @param groups group names of {@code candidateOrAssigned}
+     * @param page search page
+     * @param size search page size
+     * @param orderByClauses ordering clauses
+     * @return total count and task ids of the requested page, in the requested order
+     */
+    public Pair<Integer, List<String>> findForms(
+            final String userKey,
+            final String candidateOrAssigned,
+            final Collection<String> groups,
+            final int page,
+            final int size,
+            final List<OrderByClause> orderByClauses) {
+
+        StringBuilder where = new StringBuilder(" FROM ").append(FORM_TABLE).append(" f WHERE 1=1");
+        List<Object> args = new ArrayList<>();
+        if (userKey != null) {
+            where.append(" AND f.USER_KEY_=?");
+            args.add(userKey);
+        }
+        if (candidateOrAssigned != null) {
+            where.append(" AND (f.ASSIGNEE_=? OR (f.ASSIGNEE_ IS NULL AND EXISTS (SELECT c.TASK_ID_ FROM ").
+                    append(CANDIDATE_TABLE).append(" c WHERE c.TASK_ID_=f.TASK_ID_ AND (c.USER_ID_=?");
+            args.add(candidateOrAssigned);
+            args.add(candidateOrAssigned);
+            if (!groups.isEmpty()) {
+                where.append(" OR c.GROUP_ID_ IN (").
+                        append(StringUtils.repeat("?", ",", groups.size())).
+                        append(')');
+                args.addAll(groups);
+            }
+            where.append("))))");
+        }
+
+        Integer count = jdbcTemplate().queryForObject("SELECT COUNT(*)" + where, Integer.class, args.toArray());
+
+        StringBuilder query = new StringBuilder("SELECT f.TASK_ID_").append(where);
+        orderBy(query, orderByClauses,
+                Map.of("bpmnProcess", "f.BPMN_PROCESS_",
+                        "executionId", "f.EXECUTION_ID_",
+                        "taskId", "f.TASK_ID_",
+                        "createTime", "f.CREATE_TIME_",
+                        "dueDate", "f.DUE_DATE_",
+                        "assignee", "f.ASSIGNEE_"),
+                "f.TASK_ID_");
+
+        return Pair.of(count, page(query.toString(), args, page, size));
+    }
+}
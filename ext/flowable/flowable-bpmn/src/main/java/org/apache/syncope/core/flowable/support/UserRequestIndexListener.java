@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.task.api.Task;
+
+/**
+ * Keeps {@link UserRequestIndex} aligned with the Flowable runtime of a given domain; as Flowable events are
+ * dispatched within the running command, changes are part of the same transaction.
+ */
+public class UserRequestIndexListener implements FlowableEventListener {
+
+    private final UserRequestIndex index;
+
+    private final String domain;
+
+    public UserRequestIndexListener(final UserRequestIndex index, final String domain) {
+        this.index = index;
+        this.domain = domain;
+    }
+
+    protected ExecutionEntity findProcessInstance(final String procInstId) {
+        return CommandContextUtil.getExecutionEntityManager().findById(procInstId);
+    }
+
+    protected void onTaskCreated(final Task task) {
+        ExecutionEntity procInst = task.getProcessInstanceId() == null
+                ? null
+                : findProcessInstance(task.getProcessInstanceId());
+        index.saveForm(
+                domain,
+                task,
+                procInst == null ? null : procInst.getProcessDefinitionKey(),
+                procInst == null ? null : procInst.getBusinessKey());
+    }
+
+    @Override
+    public void onEvent(final FlowableEvent event) {
+        if (!(event.getType() instanceof FlowableEngineEventType)) {
+            return;
+        }
+
+        Object entity = event instanceof FlowableEntityEvent ? ((FlowableEntityEvent) event).getEntity() : null;
+        switch ((FlowableEngineEventType) event.getType()) {
+            case TASK_CREATED:
+                if (entity instanceof Task) {
+                    onTaskCreated((Task) entity);
+                }
+                break;
+
+            case TASK_ASSIGNED:
+                if (entity instanceof Task) {
+                    index.updateForm(domain, (Task) entity);
+                }
+                break;
+
+            case TASK_COMPLETED:
+                if (entity instanceof Task) {
+                    index.removeForm(domain, ((Task) entity).getId());
+                }
+                break;
+
+            case PROCESS_COMPLETED:
+            case PROCESS_CANCELLED:
+                if (event instanceof FlowableEngineEvent
+                        && ((FlowableEngineEvent) event).getProcessInstanceId() != null) {
+
+                    index.removeRequest(domain, ((FlowableEngineEvent) event).getProcessInstanceId());
+                }
+                break;
+
+            case ENTITY_CREATED:
+                if (entity instanceof IdentityLink) {
+                    index.addCandidate(domain, (IdentityLink) entity);
+                }
+                break;
+
+            case ENTITY_UPDATED:
+                if (entity instanceof Task) {
+                    index.updateForm(domain, (Task) entity);
+                } else if (entity instanceof ExecutionEntity && ((ExecutionEntity) entity).isProcessInstanceType()) {
+                    // business key is set after process start, when the user owning the request is known
+                    ExecutionEntity procInst = (ExecutionEntity) entity;
+                    index.saveRequest(
+                            domain,
+                            procInst.getId(),
+                            procInst.getProcessDefinitionKey(),
+                            procInst.getBusinessKey(),
+                            procInst.getStartTime());
+                }
+                break;
+
+            case ENTITY_DELETED:
+                if (entity instanceof Task) {
+                    index.removeForm(domain, ((Task) entity).getId());
+                } else if (entity instanceof IdentityLink) {
+                    index.removeCandidate(domain, (IdentityLink) entity);
+                } else if (entity instanceof ExecutionEntity && ((ExecutionEntity) entity).isProcessInstanceType()) {
+                    index.removeRequest(domain, ((ExecutionEntity) entity).getId());
+                }
+                break;
+
+            default:
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return true;
+    }
+
+    @Override
+    public boolean isFireOnTransactionLifecycleEvent() {
+        return false;
+    }
+
+    @Override
+    public String getOnTransaction() {
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.request.PasswordPatch;
+import org.apache.syncope.common.lib.request.StringPatchItem;
+import org.apache.syncope.common.lib.request.UserCR;
+import org.apache.syncope.common.lib.request.UserUR;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.provisioning.api.PropagationByResource;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.Test;
+
+public class SyncopeJSONVariableTypeTest {
+
+    private static final SyncopeJSONVariableType TYPE = new SyncopeJSONVariableType();
+
+    /**
+     * Builds variable fields backed by the given map: setters store values, getters return them.
+     */
+    private static ValueFields valueFields(final Map<String, Object> fields) {
+        return (ValueFields) Proxy.newProxyInstance(
+                SyncopeJSONVariableTypeTest.class.getClassLoader(),
+                new Class<?>[] { ValueFields.class },
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set")) {
+                        fields.put(method.getName().substring(3), args[0]);
+                        return null;
+                    }
+                    if ("getName".equals(method.getName())) {
+                        return "variable";
+                    }
+                    return method.getName().startsWith("get")
+                            ? fields.get(method.getName().substring(3))
+                            : null;
+                });
+    }
+
+    private static Object roundTrip(final Object value) {
+        assertTrue(TYPE.isAbleToStore(value));
+
+        Map<String, Object> fields = new HashMap<>();
+        TYPE.setValue(value, valueFields(fields));
+        assertEquals(value.getClass().getName(), fields.get("TextValue2"));
+
+        // read from fresh fields, as when the variable is loaded again from the database
+        return TYPE.getValue(valueFields(new HashMap<>(fields)));
+    }
+
+    @Test
+    public void userTO() {
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userTO.setRealm("/even/two");
+        userTO.setUsername("rossini");
+        userTO.setStatus("active");
+        userTO.getPlainAttrs().add(new Attr.Builder("fullname").value("Gioacchino Rossini").build());
+        userTO.getPlainAttrs().add(new Attr.Builder("loginDate").values("2009-05-26", "2010-05-26").build());
+        userTO.getResources().add("resource-testdb");
+
+        Object read = roundTrip(userTO);
+        assertEquals(userTO, read);
+    }
+
+    @Test
+    public void userCR() {
+        UserCR userCR = new UserCR.Builder("/even/two", "rossini").
+                password("password123").
+                plainAttr(new Attr.Builder("fullname").value("Gioacchino Rossini").build()).
+                resource("resource-testdb").
+                build();
+
+        Object read = roundTrip(userCR);
+        assertEquals(userCR, read);
+    }
+
+    @Test
+    public void userUR() {
+        UserUR userUR = new UserUR.Builder("1417acbe-cbf6-4277-9372-e75e04f97000").
+                password(new PasswordPatch.Builder().value("password321").resource("resource-testdb").build()).
+                plainAttr(new AttrPatch.Builder(new Attr.Builder("fullname").value("G. Rossini").build()).build()).
+                resource(new StringPatchItem.Builder().
+                        operation(PatchOperation.DELETE).value("resource-csv").build()).
+                build();
+
+        Object read = roundTrip(userUR);
+        assertEquals(userUR, read);
+    }
+
+    @Test
+    public void propagationByResource() {
+        PropagationByResource propByRes = new PropagationByResource();
+        propByRes.add(ResourceOperation.CREATE, "resource-ldap");
+        propByRes.addAll(ResourceOperation.UPDATE, Set.of("resource-testdb", "resource-testdb2"));
+        propByRes.add(ResourceOperation.DELETE, "resource-csv");
+        propByRes.addOldConnObjectKey("resource-testdb", "oldRossini");
+
+        PropagationByResource read = (PropagationByResource) roundTrip(propByRes);
+        assertEquals(Set.of("resource-ldap"), read.get(ResourceOperation.CREATE));
+        assertEquals(Set.of("resource-testdb", "resource-testdb2"), read.get(ResourceOperation.UPDATE));
+        assertEquals(Set.of("resource-csv"), read.get(ResourceOperation.DELETE));
+        assertEquals(Map.of("resource-testdb", "oldRossini"), read.getOldConnObjectKeys());
+    }
+
+    @Test
+    public void nullValue() {
+        Map<String, Object> fields = new HashMap<>();
+        TYPE.setValue(null, valueFields(fields));
+        assertNull(fields.get("Bytes"));
+        assertNull(TYPE.getValue(valueFields(fields)));
+    }
+
+    @Test
+    public void serializableStillRead() {
+        // variables stored before the introduction of this type were Java-serialized by Flowable
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userTO.setUsername("rossini");
+        userTO.getPlainAttrs().add(new Attr.Builder("fullname").value("Gioacchino Rossini").build());
+
+        Map<String, Object> fields = new HashMap<>();
+        new SerializableType().setValue(userTO, valueFields(fields));
+        fields.remove("CachedValue");
+
+        // pre variable types come first, Flowable's default types (serializable included) are added afterwards
+        DefaultVariableTypes types = new DefaultVariableTypes();
+        types.addType(TYPE);
+        types.addType(new SerializableType());
+
+        assertSame(TYPE, types.findVariableType(userTO));
+
+        VariableType stored = types.getVariableType(SerializableType.TYPE_NAME);
+        assertNotEquals(SyncopeJSONVariableType.TYPE_NAME, stored.getTypeName());
+        assertEquals(userTO, stored.getValue(valueFields(fields)));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.flowable.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.flowable.impl.FlowableRuntimeUtils;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.identitylink.api.IdentityLink;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.task.api.Task;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class UserRequestIndexListenerTest {
+
+    private static final String DOMAIN = SyncopeConstants.MASTER_DOMAIN;
+
+    private static final String USER_KEY = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    private static UserRequestIndex index;
+
+    /**
+     * Builds a proxy returning the given values by method name; for other methods, empty lists, the proxy itself for
+     * fluent queries, or further proxies of the same kind when returning interfaces.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> reference, final Map<String, Object> values) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (values.containsKey(method.getName())) {
+                return values.get(method.getName());
+            }
+            if (List.class.equals(method.getReturnType())) {
+                return List.of();
+            }
+            if (method.getReturnType().isAssignableFrom(reference)) {
+                return proxy;
+            }
+            if (method.getReturnType().isInterface()) {
+                return stub(method.getReturnType(), Map.of());
+            }
+            if (boolean.class.equals(method.getReturnType())) {
+                return false;
+            }
+            return null;
+        };
+        return (T) Proxy.newProxyInstance(
+                UserRequestIndexListenerTest.class.getClassLoader(), new Class<?>[] { reference }, handler);
+    }
+
+    private static FlowableEvent event(
+            final FlowableEngineEventType type,
+            final Object entity,
+            final String procInstId) {
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("getType", type);
+        values.put("getEntity", entity);
+        values.put("getProcessInstanceId", procInstId);
+        return (FlowableEvent) Proxy.newProxyInstance(
+                UserRequestIndexListenerTest.class.getClassLoader(),
+                new Class<?>[] { FlowableEntityEvent.class, FlowableEngineEvent.class },
+                (proxy, method, args) -> values.get(method.getName()));
+    }
+
+    private static Task task(final String taskId, final String procInstId, final String assignee) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", taskId);
+        values.put("getProcessInstanceId", procInstId);
+        values.put("getExecutionId", procInstId);
+        values.put("getFormKey", "approve");
+        values.put("getAssignee", assignee);
+        values.put("getCreateTime", new Date());
+        values.put("getDueDate", null);
+        return stub(Task.class, values);
+    }
+
+    private static IdentityLink candidateGroup(final String taskId, final String group) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getTaskId", taskId);
+        values.put("getType", IdentityLinkType.CANDIDATE);
+        values.put("getUserId", null);
+        values.put("getGroupId", group);
+        return stub(IdentityLink.class, values);
+    }
+
+    @BeforeAll
+    public static void init() {
+        JdbcDataSource datasource = new JdbcDataSource();
+        datasource.setURL("jdbc:h2:mem:userRequestIndex;DB_CLOSE_DELAY=-1");
+        datasource.setUser("sa");
+        datasource.setPassword("sa");
+
+        index = new UserRequestIndex();
+        ProcessEngine processEngine = stub(ProcessEngine.class, Map.of());
+        index.init(DOMAIN, datasource, processEngine);
+        // tables are now found, hence not created again
+        index.init(DOMAIN, datasource, processEngine);
+    }
+
+    private static Pair<Integer, List<String>> requests(final String userKey) {
+        return index.findRequests(userKey, 1, 10, List.of());
+    }
+
+    private static Pair<Integer, List<String>> forms(final String candidateOrAssigned, final List<String> groups) {
+        return index.findForms(null, candidateOrAssigned, groups, 1, 10, List.of());
+    }
+
+    @Test
+    public void requestAndForm() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", "1001");
+        values.put("getProcessDefinitionKey", "assignPrinterRequest");
+        values.put("getBusinessKey", FlowableRuntimeUtils.getProcBusinessKey("assignPrinterRequest", USER_KEY));
+        values.put("getStartTime", new Date());
+        values.put("isProcessInstanceType", true);
+        ExecutionEntity procInst = stub(ExecutionEntity.class, values);
+
+        UserRequestIndexListener listener = new UserRequestIndexListener(index, DOMAIN) {
+
+            @Override
+            protected ExecutionEntity findProcessInstance(final String procInstId) {
+                assertEquals(procInst.getId(), procInstId);
+                return procInst;
+            }
+        };
+
+        // 1. request started, business key set
+        listener.onEvent(event(FlowableEngineEventType.ENTITY_UPDATED, procInst, procInst.getId()));
+        assertEquals(Pair.of(1, List.of("1001")), requests(null));
+        assertEquals(Pair.of(1, List.of("1001")), requests(USER_KEY));
+        assertEquals(0, requests("00000000-0000-0000-0000-000000000000").getLeft().intValue());
+
+        // 2. approval form created, with candidate group
+        listener.onEvent(event(FlowableEngineEventType.TASK_CREATED, task("2001", "1001", null), "1001"));
+        listener.onEvent(event(FlowableEngineEventType.ENTITY_CREATED, candidateGroup("2001", "managers"), "1001"));
+        assertEquals(List.of("2001"), index.findForms(USER_KEY, null, List.of(), 1, 10, List.of()).getRight());
+        assertEquals(List.of("2001"), forms("bellini", List.of("managers")).getRight());
+        assertTrue(forms("bellini", List.of()).getRight().isEmpty());
+
+        // 3. form claimed
+        listener.onEvent(event(FlowableEngineEventType.TASK_ASSIGNED, task("2001", "1001", "bellini"), "1001"));
+        assertEquals(List.of("2001"), forms("bellini", List.of()).getRight());
+        assertTrue(forms("puccini", List.of("managers")).getRight().isEmpty());
+
+        // 4. form submitted
+        listener.onEvent(event(FlowableEngineEventType.TASK_COMPLETED, task("2001", "1001", "bellini"), "1001"));
+        assertEquals(0, forms(null, List.of()).getLeft().intValue());
+        assertEquals(1, requests(null).getLeft().intValue());
+
+        // 5. request completed
+        listener.onEvent(event(FlowableEngineEventType.PROCESS_COMPLETED, procInst, "1001"));
+        assertEquals(0, requests(null).getLeft().intValue());
+    }
+
+    @Test
+    public void userWorkflowNotARequest() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", "3001");
+        values.put("getProcessDefinitionKey", FlowableRuntimeUtils.WF_PROCESS_ID);
+        values.put("getBusinessKey", FlowableRuntimeUtils.getWFProcBusinessKey(USER_KEY));
+        values.put("getStartTime", new Date());
+        values.put("isProcessInstanceType", true);
+        ExecutionEntity procInst = stub(ExecutionEntity.class, values);
+
+        new UserRequestIndexListener(index, DOMAIN).
+                onEvent(event(FlowableEngineEventType.ENTITY_UPDATED, procInst, procInst.getId()));
+        assertEquals(0, requests(USER_KEY).getLeft().intValue());
+    }
+}
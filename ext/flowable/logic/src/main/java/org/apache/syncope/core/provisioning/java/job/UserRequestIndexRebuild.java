@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import org.apache.syncope.core.flowable.support.DomainProcessEngine;
+import org.apache.syncope.core.flowable.support.UserRequestIndex;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.flowable.engine.ProcessEngine;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Remove and rebuild the user request index with information from pending Flowable process instances and tasks.
+ */
+public class UserRequestIndexRebuild extends AbstractSchedTaskJobDelegate {
+
+    @Autowired
+    private DomainProcessEngine dpEngine;
+
+    @Autowired
+    private UserRequestIndex userRequestIndex;
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        if (!dryRun) {
+            String domain = AuthContextUtils.getDomain();
+            LOG.debug("Start rebuilding user request index for domain {}", domain);
+
+            ProcessEngine processEngine = dpEngine.getEngines().get(domain);
+            if (processEngine == null) {
+                throw new JobExecutionException("Could not find the configured ProcessEngine for domain " + domain);
+            }
+
+            try {
+                userRequestIndex.rebuild(domain, processEngine);
+            } catch (Exception e) {
+                throw new JobExecutionException("While rebuilding user request index for domain " + domain, e);
+            }
+
+            LOG.debug("Rebuild user request index for domain {} successfully completed", domain);
+        }
+
+        return "SUCCESS";
+    }
+
+    @Override
+    protected boolean hasToBeRegistered(final TaskExec execution) {
+        return true;
+    }
+}
@@ -18,7 +18,6 @@
  */
 package org.apache.syncope.core.logic;
 
-import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -28,22 +27,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.helpers.IOUtils;
-import org.apache.cxf.jaxrs.client.WebClient;
-import org.apache.cxf.jaxrs.provider.json.JsonMapObjectProvider;
-import org.apache.cxf.rs.security.jose.jaxrs.JsonWebKeysProvider;
 import org.apache.cxf.rs.security.oauth2.client.Consumer;
-import org.apache.cxf.rs.security.oauth2.common.ClientAccessToken;
 import org.apache.cxf.rs.security.oauth2.utils.OAuthConstants;
 import org.apache.cxf.rs.security.oidc.common.AbstractUserInfo;
 import org.apache.cxf.rs.security.oidc.common.IdToken;
 import org.apache.cxf.rs.security.oidc.common.UserInfo;
-import org.apache.cxf.rs.security.oidc.rp.IdTokenReader;
-import org.apache.cxf.rs.security.oidc.rp.UserInfoClient;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.EntityTO;
@@ -55,6 +47,8 @@ import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.logic.model.TokenEndpointResponse;
+import org.apache.syncope.core.logic.oidc.CachedOIDCProvider;
+import org.apache.syncope.core.logic.oidc.OIDCProviderCache;
 import org.apache.syncope.core.logic.oidc.OIDCUserManager;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.OIDCProviderDAO;
@@ -91,6 +85,9 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
     @Autowired
     private OIDCUserManager userManager;
 
+    @Autowired
+    private OIDCProviderCache opCache;
+
     private OIDCProvider getOIDCProvider(final String opName) {
         OIDCProvider op = null;
         if (StringUtils.isBlank(opName)) {
@@ -128,6 +125,7 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public OIDCLoginResponseTO login(final String redirectURI, final String authorizationCode, final String opName) {
         OIDCProvider op = getOIDCProvider(opName);
+        CachedOIDCProvider cachedOP = opCache.get(op);
 
         // 1. get OpenID Connect tokens
         String body = OAuthConstants.AUTHORIZATION_CODE_VALUE + "=" + authorizationCode
@@ -137,7 +135,7 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
                 + "&" + OAuthConstants.GRANT_TYPE + "=" + OAuthConstants.AUTHORIZATION_CODE_GRANT;
         TokenEndpointResponse tokenEndpointResponse;
         try {
-            tokenEndpointResponse = getOIDCTokens(op.getTokenEndpoint(), body);
+            tokenEndpointResponse = getOIDCTokens(cachedOP, body);
         } catch (IOException e) {
             LOG.error("Unexpected response for OIDC Tokens", e);
 
@@ -150,7 +148,7 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
 
         // 2. validate token
         LOG.debug("Id Token to be validated: {}", tokenEndpointResponse.getIdToken());
-        IdToken idToken = getValidatedIdToken(op, consumer, tokenEndpointResponse.getIdToken());
+        IdToken idToken = getValidatedIdToken(cachedOP, consumer, tokenEndpointResponse.getIdToken());
 
         // 3. prepare the result:
         final OIDCLoginResponseTO responseTO = new OIDCLoginResponseTO();
@@ -159,7 +157,7 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
         // 3a. extract user info from userInfoEndpoint if exists otherwise from idToken
         AbstractUserInfo userInfo = StringUtils.isBlank(op.getUserinfoEndpoint())
                 ? idToken
-                : getUserInfo(op.getUserinfoEndpoint(), tokenEndpointResponse.getAccessToken(), idToken, consumer);
+                : getUserInfo(cachedOP, tokenEndpointResponse.getAccessToken(), idToken, consumer);
 
         // 3b. find matching user (if any) and return the received attributes
         String keyValue = userInfo.getEmail();
@@ -370,10 +368,10 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
         return responseTO;
     }
 
-    private TokenEndpointResponse getOIDCTokens(final String url, final String body) throws IOException {
-        Response response = WebClient.create(url, List.of(new JacksonJsonProvider())).
-                type(MediaType.APPLICATION_FORM_URLENCODED).accept(MediaType.APPLICATION_JSON).
-                post(body);
+    private TokenEndpointResponse getOIDCTokens(final CachedOIDCProvider cachedOP, final String body)
+            throws IOException {
+
+        Response response = cachedOP.postToTokenEndpoint(body);
         if (response.getStatus() != Response.Status.OK.getStatusCode()) {
             LOG.error("Unexpected response from OIDC Provider: {}\n{}\n{}",
                     response.getStatus(), response.getHeaders(),
@@ -387,15 +385,14 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
         return response.readEntity(TokenEndpointResponse.class);
     }
 
-    private IdToken getValidatedIdToken(final OIDCProvider op, final Consumer consumer, final String jwtIdToken) {
-        IdTokenReader idTokenReader = new IdTokenReader();
-        idTokenReader.setClockOffset(10);
-        idTokenReader.setIssuerId(op.getIssuer());
-        idTokenReader.setJwkSetClient(WebClient.create(op.getJwksUri(), List.of(new JsonWebKeysProvider())).
-                accept(MediaType.APPLICATION_JSON));
+    private IdToken getValidatedIdToken(
+            final CachedOIDCProvider cachedOP,
+            final Consumer consumer,
+            final String jwtIdToken) {
+
         IdToken idToken;
         try {
-            idToken = idTokenReader.getIdToken(jwtIdToken, consumer);
+            idToken = cachedOP.getIdToken(jwtIdToken, consumer);
         } catch (Exception e) {
             LOG.error("While validating the id_token", e);
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.Unknown);
@@ -406,20 +403,14 @@ public class OIDCClientLogic extends AbstractTransactionalLogic<EntityTO> {
     }
 
     private UserInfo getUserInfo(
-            final String endpoint,
+            final CachedOIDCProvider cachedOP,
             final String accessToken,
             final IdToken idToken,
             final Consumer consumer) {
 
-        WebClient userInfoServiceClient = WebClient.create(endpoint, List.of(new JsonMapObjectProvider())).
-                accept(MediaType.APPLICATION_JSON);
-        ClientAccessToken clientAccessToken =
-                new ClientAccessToken(OAuthConstants.BEARER_AUTHORIZATION_SCHEME, accessToken);
-        UserInfoClient userInfoClient = new UserInfoClient();
-        userInfoClient.setUserInfoServiceClient(userInfoServiceClient);
         UserInfo userInfo = null;
         try {
-            userInfo = userInfoClient.getUserInfo(clientAccessToken, idToken, consumer);
+            userInfo = cachedOP.getUserInfo(accessToken, idToken, consumer);
         } catch (Exception e) {
             LOG.error("While getting the userInfo", e);
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.Unknown);
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.oidc;
+
+import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import java.util.Arrays;
+import java.util.List;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.cxf.jaxrs.provider.json.JsonMapObjectProvider;
+import org.apache.cxf.rs.security.jose.jaxrs.JsonWebKeysProvider;
+import org.apache.cxf.rs.security.jose.jwk.JsonWebKey;
+import org.apache.cxf.rs.security.jose.jwk.JsonWebKeys;
+import org.apache.cxf.rs.security.jose.jws.JwsHeaders;
+import org.apache.cxf.rs.security.jose.jws.JwsJwtCompactConsumer;
+import org.apache.cxf.rs.security.jose.jws.JwsUtils;
+import org.apache.cxf.rs.security.oauth2.client.Consumer;
+import org.apache.cxf.rs.security.oauth2.common.ClientAccessToken;
+import org.apache.cxf.rs.security.oauth2.utils.OAuthConstants;
+import org.apache.cxf.rs.security.oidc.common.IdToken;
+import org.apache.cxf.rs.security.oidc.common.UserInfo;
+import org.apache.cxf.rs.security.oidc.rp.IdTokenReader;
+import org.apache.cxf.rs.security.oidc.rp.UserInfoClient;
+import org.apache.syncope.core.persistence.api.entity.OIDCProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reusable HTTP clients and cached JSON Web Key Set for a given {@link OIDCProvider}.
+ * The key set is fetched again after the configured time-to-live or when an id_token is signed with an unknown key,
+ * but not more often than the configured minimum interval; while a fetch is in progress, concurrent logins keep
+ * using the previous key set.
+ */
+public class CachedOIDCProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachedOIDCProvider.class);
+
+    /**
+     * Key set as fetched from {@code jwks_uri}, with fetch time.
+     */
+    private static final class KeySet {
+
+        private final JsonWebKeys keys;
+
+        private final long fetched;
+
+        KeySet(final JsonWebKeys keys, final long fetched) {
+            this.keys = keys;
+            this.fetched = fetched;
+        }
+    }
+
+    /**
+     * Snapshot of the configuration fields of the given OIDC Provider.
+     *
+     * @param op OIDC Provider
+     * @return configuration fields
+     */
+    private static List<Object> config(final OIDCProvider op) {
+        return Arrays.asList(
+                op.getName(),
+                op.getIssuer(),
+                op.getClientID(),
+                op.getClientSecret(),
+                op.getAuthorizationEndpoint(),
+                op.getTokenEndpoint(),
+                op.getJwksUri(),
+                op.getUserinfoEndpoint(),
+                op.getEndSessionEndpoint(),
+                op.getHasDiscovery());
+    }
+
+    private final List<Object> config;
+
+    private final String issuer;
+
+    private final String jwksUri;
+
+    private final long jwksTtl;
+
+    private final long jwksMinRefresh;
+
+    private final WebClient jwksClient;
+
+    private final WebClient tokenClient;
+
+    private final UserInfoClient userInfoClient;
+
+    private final WebClient userInfoServiceClient;
+
+    private volatile KeySet jwks;
+
+    /**
+     * Guarded by this instance: whether a key set fetch is in progress.
+     */
+    private boolean refreshing;
+
+    /**
+     * Guarded by this instance: when the last key set fetch was started.
+     */
+    private long lastRefresh;
+
+    public CachedOIDCProvider(final OIDCProvider op, final long jwksTtl, final long jwksMinRefresh) {
+        this.config = config(op);
+        this.issuer = op.getIssuer();
+        this.jwksUri = op.getJwksUri();
+        this.jwksTtl = jwksTtl * 1000;
+        this.jwksMinRefresh = jwksMinRefresh * 1000;
+
+        // thread-safe clients, as shared among concurrent logins
+        jwksClient = WebClient.create(jwksUri, List.of(new JsonWebKeysProvider()), true);
+        tokenClient = WebClient.create(op.getTokenEndpoint(), List.of(new JacksonJsonProvider()), true);
+        if (StringUtils.isBlank(op.getUserinfoEndpoint())) {
+            userInfoServiceClient = null;
+            userInfoClient = null;
+        } else {
+            userInfoServiceClient = WebClient.create(
+                    op.getUserinfoEndpoint(), List.of(new JsonMapObjectProvider()), true);
+            userInfoClient = new UserInfoClient();
+            userInfoClient.setUserInfoServiceClient(userInfoServiceClient);
+        }
+    }
+
+    /**
+     * Tells whether this instance was built with the current configuration of the given {@link OIDCProvider}.
+     *
+     * @param op OIDC Provider
+     * @return whether this instance is still valid for the given OIDC Provider
+     */
+    public boolean matches(final OIDCProvider op) {
+        return config.equals(config(op));
+    }
+
+    public Response postToTokenEndpoint(final String body) {
+        return tokenClient.
+                replaceHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED).
+                replaceHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON).
+                post(body);
+    }
+
+    protected JsonWebKeys fetchJwks() {
+        LOG.debug("Fetching JSON Web Key Set from {}", jwksUri);
+        return jwksClient.
+                replaceHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON).
+                get(JsonWebKeys.class);
+    }
+
+    private static JsonWebKey findKey(final KeySet keySet, final String keyId) {
+        if (keySet == null || keySet.keys == null || keySet.keys.getKeys() == null) {
+            return null;
+        }
+        if (keyId == null) {
+            return keySet.keys.getKeys().size() == 1 ? keySet.keys.getKeys().get(0) : null;
+        }
+        return keySet.keys.getKey(keyId);
+    }
+
+    private synchronized boolean startRefresh(final KeySet seen, final long now, final long interval) {
+        if (refreshing || jwks != seen || (seen != null && now - lastRefresh < interval)) {
+            return false;
+        }
+
+        refreshing = true;
+        lastRefresh = now;
+        return true;
+    }
+
+    private synchronized void endRefresh() {
+        refreshing = false;
+    }
+
+    /**
+     * Fetches the key set again unless another thread is already doing it, or has done it since {@code seen} was
+     * read, or the last fetch started less than {@code interval} milliseconds ago; the network call is performed
+     * outside of any lock.
+     *
+     * @param seen key set found cached by the caller
+     * @param interval minimum interval since the last fetch
+     * @return most recent key set
+     */
+    private KeySet refresh(final KeySet seen, final long interval) {
+        long now = System.currentTimeMillis();
+        if (!startRefresh(seen, now, interval)) {
+            KeySet current = jwks;
+            // nothing to fall back on before the first fetch completes
+            return current == null ? new KeySet(fetchJwks(), now) : current;
+        }
+
+        try {
+            KeySet fetched = new KeySet(fetchJwks(), now);
+            jwks = fetched;
+            return fetched;
+        } finally {
+            endRefresh();
+        }
+    }
+
+    JsonWebKey getKey(final String keyId) {
+        KeySet keySet = jwks;
+        if (keySet == null || System.currentTimeMillis() - keySet.fetched >= jwksTtl) {
+            keySet = refresh(keySet, 0);
+        }
+
+        JsonWebKey key = findKey(keySet, keyId);
+        if (key == null) {
+            LOG.debug("Key {} not found in cached JSON Web Key Set, fetching again", keyId);
+            KeySet refreshed = refresh(keySet, jwksMinRefresh);
+            if (refreshed != keySet) {
+                key = findKey(refreshed, keyId);
+            }
+        }
+        return key;
+    }
+
+    public IdToken getIdToken(final String jwtIdToken, final Consumer consumer) {
+        JwsHeaders headers = new JwsJwtCompactConsumer(jwtIdToken).getJwtToken().getJwsHeaders();
+        JsonWebKey key = getKey(headers.getKeyId());
+        if (key == null) {
+            throw new SecurityException("No key found in " + jwksUri + " for id_token with kid " + headers.getKeyId());
+        }
+
+        IdTokenReader idTokenReader = new IdTokenReader();
+        idTokenReader.setClockOffset(10);
+        idTokenReader.setIssuerId(issuer);
+        idTokenReader.setJwsVerifier(JwsUtils.getSignatureVerifier(key, headers.getSignatureAlgorithm()));
+        return idTokenReader.getIdToken(jwtIdToken, consumer);
+    }
+
+    public UserInfo getUserInfo(final String accessToken, final IdToken idToken, final Consumer consumer) {
+        userInfoServiceClient.replaceHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+        ClientAccessToken clientAccessToken =
+                new ClientAccessToken(OAuthConstants.BEARER_AUTHORIZATION_SCHEME, accessToken);
+        return userInfoClient.getUserInfo(clientAccessToken, idToken, consumer);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.oidc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.core.persistence.api.entity.OIDCProvider;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Basic in-memory cache for {@link CachedOIDCProvider} instances, by domain and OIDC Provider.
+ * Entries are evicted once changes to the related OIDC Provider are committed; they are also replaced as soon as the
+ * configuration of the related OIDC Provider is found changed, so that updates made on other nodes are picked up.
+ */
+@Component
+public class OIDCProviderCache {
+
+    @Value("${oidcclient.jwks.ttl:3600}")
+    private long jwksTtl;
+
+    @Value("${oidcclient.jwks.minRefreshSeconds:60}")
+    private long jwksMinRefresh;
+
+    private final Map<String, CachedOIDCProvider> cache = new ConcurrentHashMap<>();
+
+    private static String key(final String domain, final String opKey) {
+        return domain + '/' + opKey;
+    }
+
+    public CachedOIDCProvider get(final OIDCProvider op) {
+        return cache.compute(key(AuthContextUtils.getDomain(), op.getKey()), (key, cached) ->
+                cached == null || !cached.matches(op)
+                ? new CachedOIDCProvider(op, jwksTtl, jwksMinRefresh)
+                : cached);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void after(final EntityChangedEvent event) {
+        if (OIDCProvider.class.isAssignableFrom(event.getReference())) {
+            cache.remove(key(event.getDomain(), event.getKey()));
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.oidc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.cxf.rs.security.jose.jwk.JsonWebKey;
+import org.apache.cxf.rs.security.jose.jwk.JsonWebKeys;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.OIDCProvider;
+import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class OIDCProviderCacheTest {
+
+    private static final String OP_KEY = "4bde0ef2-5a3e-4d3e-9a8f-6a3b5e0b1c11";
+
+    private static Map<String, Object> config() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("getKey", OP_KEY);
+        config.put("getName", "Google");
+        config.put("getIssuer", "https://accounts.google.com");
+        config.put("getClientID", "clientID");
+        config.put("getClientSecret", "clientSecret");
+        config.put("getAuthorizationEndpoint", "https://accounts.google.com/o/oauth2/v2/auth");
+        config.put("getTokenEndpoint", "https://oauth2.googleapis.com/token");
+        config.put("getJwksUri", "https://www.googleapis.com/oauth2/v3/certs");
+        config.put("getUserinfoEndpoint", "https://openidconnect.googleapis.com/v1/userinfo");
+        config.put("getEndSessionEndpoint", null);
+        config.put("getHasDiscovery", false);
+        return config;
+    }
+
+    /**
+     * Builds an OIDC Provider returning the given values from its getters.
+     */
+    private static OIDCProvider op(final Map<String, Object> config) {
+        return (OIDCProvider) Proxy.newProxyInstance(
+                OIDCProviderCacheTest.class.getClassLoader(),
+                new Class<?>[] { OIDCProvider.class },
+                (proxy, method, args) -> config.get(method.getName()));
+    }
+
+    private static JsonWebKeys keys(final String... keyIds) {
+        List<JsonWebKey> keys = new ArrayList<>();
+        for (String keyId : keyIds) {
+            JsonWebKey key = new JsonWebKey();
+            key.setKeyId(keyId);
+            keys.add(key);
+        }
+        JsonWebKeys jwks = new JsonWebKeys();
+        jwks.setKeys(keys);
+        return jwks;
+    }
+
+    /**
+     * Cached OIDC Provider counting the key set fetches, rather than calling the jwks_uri endpoint.
+     */
+    private static class CountingCachedOIDCProvider extends CachedOIDCProvider {
+
+        private final AtomicInteger fetches = new AtomicInteger();
+
+        private volatile Supplier<JsonWebKeys> jwks;
+
+        CountingCachedOIDCProvider(final long jwksTtl, final long jwksMinRefresh, final String... keyIds) {
+            super(op(config()), jwksTtl, jwksMinRefresh);
+            jwks = () -> keys(keyIds);
+        }
+
+        @Override
+        protected JsonWebKeys fetchJwks() {
+            fetches.incrementAndGet();
+            return jwks.get();
+        }
+    }
+
+    private static OIDCProviderCache cache() {
+        OIDCProviderCache cache = new OIDCProviderCache();
+        ReflectionTestUtils.setField(cache, "jwksTtl", 3600L);
+        ReflectionTestUtils.setField(cache, "jwksMinRefresh", 60L);
+        return cache;
+    }
+
+    @Test
+    public void matches() {
+        CachedOIDCProvider cached = new CachedOIDCProvider(op(config()), 3600, 60);
+        assertTrue(cached.matches(op(config())));
+
+        config().keySet().stream().filter(getter -> !"getKey".equals(getter)).forEach(getter -> {
+            Map<String, Object> changed = config();
+            changed.put(getter, changed.get(getter) instanceof Boolean ? Boolean.TRUE : "changed");
+            assertFalse(cached.matches(op(changed)), getter);
+        });
+    }
+
+    @Test
+    public void reuse() {
+        OIDCProviderCache cache = cache();
+
+        CachedOIDCProvider cached = cache.get(op(config()));
+        assertSame(cached, cache.get(op(config())));
+
+        Map<String, Object> changed = config();
+        changed.put("getClientSecret", "newClientSecret");
+        CachedOIDCProvider replaced = cache.get(op(changed));
+        assertNotSame(cached, replaced);
+        assertSame(replaced, cache.get(op(changed)));
+    }
+
+    @Test
+    public void evictOnCommit() {
+        OIDCProviderCache cache = cache();
+        CachedOIDCProvider cached = cache.get(op(config()));
+
+        cache.after(new EntityChangedEvent(this, Role.class, OP_KEY, SyncopeConstants.MASTER_DOMAIN));
+        assertSame(cached, cache.get(op(config())));
+
+        cache.after(new EntityChangedEvent(this, OIDCProvider.class, OP_KEY, "Two"));
+        assertSame(cached, cache.get(op(config())));
+
+        cache.after(new EntityChangedEvent(this, OIDCProvider.class, OP_KEY, SyncopeConstants.MASTER_DOMAIN));
+        assertNotSame(cached, cache.get(op(config())));
+    }
+
+    @Test
+    public void jwksTtl() {
+        CountingCachedOIDCProvider cached = new CountingCachedOIDCProvider(3600, 60, "k1");
+        assertNotNull(cached.getKey("k1"));
+        assertNotNull(cached.getKey("k1"));
+        assertEquals(1, cached.fetches.get());
+
+        cached = new CountingCachedOIDCProvider(0, 60, "k1");
+        assertNotNull(cached.getKey("k1"));
+        assertNotNull(cached.getKey("k1"));
+        assertEquals(2, cached.fetches.get());
+    }
+
+    @Test
+    public void jwksUnknownKey() {
+        // unknown keys do not trigger fetches more often than the minimum interval
+        CountingCachedOIDCProvider cached = new CountingCachedOIDCProvider(3600, 60, "k1");
+        assertNotNull(cached.getKey("k1"));
+        assertNull(cached.getKey("forged"));
+        assertNull(cached.getKey("forged"));
+        assertEquals(1, cached.fetches.get());
+
+        // rotated keys are found by fetching again
+        cached = new CountingCachedOIDCProvider(3600, 0, "k1");
+        assertNotNull(cached.getKey("k1"));
+        cached.jwks = () -> keys("k1", "k2");
+        assertNotNull(cached.getKey("k2"));
+        assertEquals(2, cached.fetches.get());
+    }
+
+    @Test
+    public void jwksFetchOutsideLock() throws InterruptedException {
+        CountingCachedOIDCProvider cached = new CountingCachedOIDCProvider(0, 0, "k1");
+        assertNotNull(cached.getKey("k1"));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        cached.jwks = () -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return keys("k1");
+        };
+
+        Thread slow = new Thread(() -> cached.getKey("k1"));
+        slow.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // while the key set is being fetched, the previous one is still used
+        assertNotNull(assertTimeoutPreemptively(Duration.ofSeconds(5), () -> cached.getKey("k1")));
+        assertEquals(2, cached.fetches.get());
+
+        release.countDown();
+        slow.join();
+    }
+}
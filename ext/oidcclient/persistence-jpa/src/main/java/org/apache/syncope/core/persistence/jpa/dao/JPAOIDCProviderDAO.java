@@ -24,12 +24,19 @@ import javax.persistence.TypedQuery;
 import org.apache.syncope.core.persistence.api.dao.OIDCProviderDAO;
 import org.apache.syncope.core.persistence.api.entity.OIDCProvider;
 import org.apache.syncope.core.persistence.jpa.entity.JPAOIDCProvider;
+import org.apache.syncope.core.provisioning.api.event.EntityChangedEvent;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPAOIDCProviderDAO extends AbstractDAO<OIDCProvider> implements OIDCProviderDAO {
 
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     @Transactional(readOnly = true)
     @Override
     public OIDCProvider find(final String key) {
@@ -64,7 +71,10 @@ public class JPAOIDCProviderDAO extends AbstractDAO<OIDCProvider> implements OID
 
     @Override
     public OIDCProvider save(final OIDCProvider op) {
-        return entityManager().merge(op);
+        OIDCProvider merged = entityManager().merge(op);
+        publisher.publishEvent(new EntityChangedEvent(
+                this, OIDCProvider.class, merged.getKey(), AuthContextUtils.getDomain()));
+        return merged;
     }
 
     @Override
@@ -72,6 +82,8 @@ public class JPAOIDCProviderDAO extends AbstractDAO<OIDCProvider> implements OID
         OIDCProvider op = find(key);
         if (op != null) {
             entityManager().remove(op);
+            publisher.publishEvent(new EntityChangedEvent(
+                    this, OIDCProvider.class, op.getKey(), AuthContextUtils.getDomain()));
         }
     }
 
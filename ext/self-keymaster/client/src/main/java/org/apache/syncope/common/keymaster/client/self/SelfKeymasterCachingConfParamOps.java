@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.self;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
+import org.apache.syncope.common.keymaster.client.api.CachingConfParamOps;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Caching {@link ConfParamOps} kept up-to-date by periodically reloading configuration parameters of cached domains
+ * from Self Keymaster.
+ */
+public class SelfKeymasterCachingConfParamOps extends CachingConfParamOps implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfParamOps.class);
+
+    private final long refreshSeconds;
+
+    private ScheduledExecutorService scheduler;
+
+    public SelfKeymasterCachingConfParamOps(final JAXRSClientFactoryBean clientFactory, final long refreshSeconds) {
+        super(new SelfKeymasterConfParamOps(clientFactory));
+        this.refreshSeconds = refreshSeconds;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SelfKeymasterConfParamOps-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(() -> getCachedDomains().forEach(domain -> {
+            try {
+                refresh(domain);
+            } catch (Exception e) {
+                LOG.error("While refreshing configuration parameters for domain {}", domain, e);
+            }
+        }), refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -47,6 +47,9 @@ public class SelfKeymasterClientContext {
     @Value("${keymaster.password}")
     private String password;
 
+    @Value("${keymaster.confParamRefreshSeconds:5}")
+    private long confParamRefreshSeconds;
+
     @ConditionalOnExpression("#{'${keymaster.address}' matches '^http.+'}")
     @Bean
     public JAXRSClientFactoryBean selfKeymasterRESTClientFactoryBean() {
@@ -65,7 +68,7 @@ public class SelfKeymasterClientContext {
     @ConditionalOnExpression("#{'${keymaster.address}' matches '^http.+'}")
     @Bean
     public ConfParamOps selfConfParamOps() {
-        return new SelfKeymasterConfParamOps(selfKeymasterRESTClientFactoryBean());
+        return new SelfKeymasterCachingConfParamOps(selfKeymasterRESTClientFactoryBean(), confParamRefreshSeconds);
     }
 
     @ConditionalOnExpression("#{'${keymaster.address}' matches '^http.+'}")
@@ -21,6 +21,7 @@ package org.apache.syncope.fit.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -36,6 +37,7 @@ import javax.ws.rs.core.Response;
 import org.apache.syncope.client.lib.batch.BatchRequest;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
 import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.request.PasswordPatch;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
 import java.util.Set;
@@ -65,8 +67,10 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.IdMImplementationType;
 import org.apache.syncope.common.lib.types.ImplementationEngine;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.common.lib.types.MappingPurpose;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.PropagationReadMode;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
 import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -220,6 +224,47 @@ public class PropagationTaskITCase extends AbstractTaskITCase {
         }
     }
 
+    @Test
+    public void cachedPropagationReadMode() {
+        ResourceTO resource = resourceService.read(RESOURCE_NAME_TESTDB);
+        assertEquals(PropagationReadMode.FULL, resource.getPropagationReadMode());
+        ResourceTO originalResource = SerializationUtils.clone(resource);
+
+        resource.setPropagationReadMode(PropagationReadMode.CACHED);
+        try {
+            resourceService.update(resource);
+            assertEquals(
+                    PropagationReadMode.CACHED,
+                    resourceService.read(RESOURCE_NAME_TESTDB).getPropagationReadMode());
+
+            // 1. create: remote state is not available yet
+            UserCR userCR = UserITCase.getUniqueSample("cachedReadMode@syncope.apache.org");
+            userCR.getResources().add(RESOURCE_NAME_TESTDB);
+            ProvisioningResult<UserTO> created = createUser(userCR);
+            assertEquals(1, created.getPropagationStatuses().size());
+            assertEquals(ExecStatus.SUCCESS, created.getPropagationStatuses().get(0).getStatus());
+            assertNotNull(created.getPropagationStatuses().get(0).getAfterObj());
+
+            // 2. update: remote state as left by creation is used in place of reading
+            UserUR userUR = new UserUR.Builder(created.getEntity().getKey()).
+                    password(new PasswordPatch.Builder().value("password234").onSyncope(false).
+                            resource(RESOURCE_NAME_TESTDB).build()).
+                    build();
+            ProvisioningResult<UserTO> updated = updateUser(userUR);
+            assertEquals(1, updated.getPropagationStatuses().size());
+            assertEquals(ExecStatus.SUCCESS, updated.getPropagationStatuses().get(0).getStatus());
+            assertNotNull(updated.getPropagationStatuses().get(0).getBeforeObj());
+            assertNotNull(updated.getPropagationStatuses().get(0).getAfterObj());
+
+            // 3. delete
+            ProvisioningResult<UserTO> deleted = deleteUser(created.getEntity().getKey());
+            assertEquals(ExecStatus.SUCCESS, deleted.getPropagationStatuses().get(0).getStatus());
+            assertNull(deleted.getPropagationStatuses().get(0).getAfterObj());
+        } finally {
+            resourceService.update(originalResource);
+        }
+    }
+
     @Test
     public void privileges() {
         ResourceTO ldap = resourceService.read(RESOURCE_NAME_LDAP);
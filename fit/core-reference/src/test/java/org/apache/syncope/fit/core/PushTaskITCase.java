@@ -25,10 +25,13 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -46,6 +49,7 @@ import org.apache.syncope.common.lib.to.PlainSchemaTO;
 import org.apache.syncope.common.lib.to.ProvisionTO;
 import org.apache.syncope.common.lib.to.ReconStatus;
 import org.apache.syncope.common.lib.to.ResourceTO;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.MappingPurpose;
@@ -313,6 +317,139 @@ public class PushTaskITCase extends AbstractTaskITCase {
         assertNotNull(status.getOnResource());
     }
 
+    @Test
+    public void concurrentPush() {
+        List<UserTO> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(createUser(UserITCase.getUniqueSample("concurrentPush" + i + "@syncope.apache.org")).
+                    getEntity());
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        users.forEach(user -> assertEquals(0, jdbcTemplate.queryForList(
+                "SELECT ID FROM test2 WHERE ID=?", user.getUsername()).size()));
+
+        PushTaskTO task = new PushTaskTO();
+        task.setName("Concurrent push");
+        task.setResource(RESOURCE_NAME_TESTDB2);
+        task.setSourceRealm(SyncopeConstants.ROOT_REALM);
+        task.setUnmatchingRule(UnmatchingRule.PROVISION);
+        task.setMatchingRule(MatchingRule.UPDATE);
+        task.setPerformCreate(true);
+        task.setPerformUpdate(true);
+        task.setConcurrency(3);
+        task.getFilters().put(AnyTypeKind.GROUP.name(), "name==$null");
+        task.getFilters().put(AnyTypeKind.USER.name(), users.stream().
+                map(user -> "username==" + user.getUsername()).collect(Collectors.joining(",")));
+
+        Response response = taskService.create(TaskType.PUSH, task);
+        task = getObject(response.getLocation(), TaskService.class, PushTaskTO.class);
+        assertEquals(3, task.getConcurrency());
+
+        try {
+            ExecTO exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+
+            users.forEach(user -> {
+                assertEquals(1, jdbcTemplate.queryForList(
+                        "SELECT ID FROM test2 WHERE ID=?", user.getUsername()).size());
+                assertTrue(userService.read(user.getKey()).getResources().contains(RESOURCE_NAME_TESTDB2));
+            });
+        } finally {
+            taskService.delete(TaskType.PUSH, task.getKey());
+            users.forEach(user -> deleteUser(user.getKey()));
+        }
+    }
+
+    @Test
+    public void preloadRemoteKeys() {
+        UserTO user = createUser(UserITCase.getUniqueSample("preloadRemoteKeys@syncope.apache.org")).getEntity();
+
+        PushTaskTO task = new PushTaskTO();
+        task.setName("Preload remote keys");
+        task.setResource(RESOURCE_NAME_TESTDB2);
+        task.setSourceRealm(SyncopeConstants.ROOT_REALM);
+        task.setUnmatchingRule(UnmatchingRule.PROVISION);
+        task.setMatchingRule(MatchingRule.UPDATE);
+        task.setPerformCreate(true);
+        task.setPerformUpdate(true);
+        task.setPreloadRemoteKeys(true);
+        task.getFilters().put(AnyTypeKind.GROUP.name(), "name==$null");
+        task.getFilters().put(AnyTypeKind.USER.name(), "username==" + user.getUsername());
+
+        Response response = taskService.create(TaskType.PUSH, task);
+        task = getObject(response.getLocation(), TaskService.class, PushTaskTO.class);
+        assertTrue(task.isPreloadRemoteKeys());
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        try {
+            // 1. not found among preloaded keys: provision
+            ExecTO exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+            assertEquals(1, jdbcTemplate.queryForList(
+                    "SELECT ID FROM test2 WHERE ID=?", user.getUsername()).size());
+
+            // 2. found among preloaded keys: update rather than attempting to create again
+            exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+            assertEquals(1, jdbcTemplate.queryForList(
+                    "SELECT ID FROM test2 WHERE ID=?", user.getUsername()).size());
+        } finally {
+            taskService.delete(TaskType.PUSH, task.getKey());
+            deleteUser(user.getKey());
+        }
+    }
+
+    @Test
+    public void skipUnchanged() {
+        UserTO user = createUser(UserITCase.getUniqueSample("skipUnchanged@syncope.apache.org")).getEntity();
+
+        PushTaskTO task = new PushTaskTO();
+        task.setName("Skip unchanged");
+        task.setResource(RESOURCE_NAME_TESTDB2);
+        task.setSourceRealm(SyncopeConstants.ROOT_REALM);
+        task.setUnmatchingRule(UnmatchingRule.PROVISION);
+        task.setMatchingRule(MatchingRule.UPDATE);
+        task.setPerformCreate(true);
+        task.setPerformUpdate(true);
+        task.setSkipUnchanged(true);
+        task.setChangedSinceLastExec(true);
+        task.getFilters().put(AnyTypeKind.GROUP.name(), "name==$null");
+        task.getFilters().put(AnyTypeKind.USER.name(), "username==" + user.getUsername());
+
+        Response response = taskService.create(TaskType.PUSH, task);
+        task = getObject(response.getLocation(), TaskService.class, PushTaskTO.class);
+        assertTrue(task.isSkipUnchanged());
+        assertTrue(task.isChangedSinceLastExec());
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        try {
+            // 1. first push: no previous execution nor fingerprint, user is provisioned
+            ExecTO exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+            assertEquals(1, jdbcTemplate.queryForList(
+                    "SELECT ID FROM test2 WHERE ID=?", user.getUsername()).size());
+
+            // 2. nothing changed since the first push: user is not pushed again
+            exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+            assertFalse(exec.getMessage().contains("CREATE SUCCESS"));
+            assertFalse(exec.getMessage().contains("UPDATE SUCCESS"));
+
+            // 3. still considered when looking at all users, but skipped as unchanged since last push
+            task.setChangedSinceLastExec(false);
+            taskService.update(TaskType.PUSH, task);
+
+            exec = execProvisioningTask(taskService, TaskType.PUSH, task.getKey(), 50, false);
+            assertEquals(ExecStatus.SUCCESS, ExecStatus.valueOf(exec.getStatus()));
+            assertTrue(exec.getMessage().contains("Users ignored"));
+            assertTrue(exec.getMessage().contains("Unchanged since last push"));
+        } finally {
+            taskService.delete(TaskType.PUSH, task.getKey());
+            deleteUser(user.getKey());
+        }
+    }
+
     @Test
     public void orgUnit() {
         assertNull(getLdapRemoteObject(RESOURCE_LDAP_ADMIN_DN, RESOURCE_LDAP_ADMIN_PWD, "ou=odd,o=isp"));
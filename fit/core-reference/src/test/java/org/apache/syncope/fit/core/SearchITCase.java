@@ -22,10 +22,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -44,8 +52,10 @@ import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RoleTO;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyExportFormat;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.rest.api.beans.AnyExportQuery;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.RoleService;
 import org.apache.syncope.fit.AbstractITCase;
@@ -260,6 +270,41 @@ public class SearchITCase extends AbstractITCase {
         assertFalse(matchingUsers.getResult().isEmpty());
     }
 
+    @Test
+    public void cursorSearch() {
+        String fiql = SyncopeClient.getUserSearchConditionBuilder().isNotNull("username").query();
+
+        PagedResult<UserTO> all = userService.search(new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
+                fiql(fiql).orderBy("username DESC").page(1).size(1000).build());
+
+        List<String> paged = new ArrayList<>();
+        String cursor = AnyQuery.FIRST_CURSOR;
+        do {
+            PagedResult<UserTO> page = userService.search(new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
+                    fiql(fiql).orderBy("username DESC").cursor(cursor).size(3).build());
+            assertEquals(all.getTotalCount(), page.getTotalCount());
+            page.getResult().forEach(user -> paged.add(user.getUsername()));
+
+            cursor = page.getCursor();
+            if (cursor == null) {
+                assertNull(page.getNext());
+            } else {
+                assertEquals(3, page.getSize());
+                assertNotNull(page.getNext());
+            }
+        } while (cursor != null);
+
+        assertEquals(all.getResult().stream().map(UserTO::getUsername).collect(Collectors.toList()), paged);
+
+        try {
+            userService.search(new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
+                    fiql(fiql).orderBy("lastLoginDate").cursor(AnyQuery.FIRST_CURSOR).size(3).build());
+            fail("This should not happen");
+        } catch (SyncopeClientException e) {
+            assertEquals(ClientExceptionType.InvalidSearchExpression, e.getType());
+        }
+    }
+
     @Test
     public void searchByBooleanAnyCond() {
         PagedResult<GroupTO> groups = groupService.search(new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
@@ -626,4 +671,33 @@ public class SearchITCase extends AbstractITCase {
 
         assertEquals(total.getTotalCount(), matching.getTotalCount() + unmatching.getTotalCount());
     }
+
+    @Test
+    public void export() throws IOException {
+        PagedResult<UserTO> total = userService.search(
+                new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).page(1).size(1).build());
+
+        // NDJSON, full TOs, small batches to go through several keyset pages
+        Response response = userService.export(new AnyExportQuery.Builder().
+                realm(SyncopeConstants.ROOT_REALM).batchSize(2).build());
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatusInfo().getStatusCode());
+
+        List<String> lines = IOUtils.readLines((InputStream) response.getEntity(), StandardCharsets.UTF_8);
+        assertEquals(total.getTotalCount(), lines.size());
+        assertEquals(total.getTotalCount(), lines.stream().distinct().count());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.contains("\"username\"")));
+
+        // CSV, with projection
+        response = userService.export(new AnyExportQuery.Builder().
+                realm(SyncopeConstants.ROOT_REALM).
+                fiql(SyncopeClient.getUserSearchConditionBuilder().is("username").equalTo("rossini").query()).
+                attribute("fullname").attribute("surname").
+                format(AnyExportFormat.CSV).build());
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatusInfo().getStatusCode());
+
+        lines = IOUtils.readLines((InputStream) response.getEntity(), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("key,username,realm,fullname,surname", lines.get(0));
+        assertTrue(lines.get(1).startsWith("1417acbe-cbf6-4277-9372-e75e04f97000,rossini,/,"));
+    }
 }
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -51,6 +52,7 @@ import org.apache.syncope.common.lib.policy.AccountPolicyTO;
 import org.apache.syncope.common.lib.policy.HaveIBeenPwnedPasswordRuleConf;
 import org.apache.syncope.common.lib.policy.PasswordPolicyTO;
 import org.apache.syncope.common.lib.request.AttrPatch;
+import org.apache.syncope.common.lib.request.BulkAttrUR;
 import org.apache.syncope.common.lib.request.MembershipUR;
 import org.apache.syncope.common.lib.request.PasswordPatch;
 import org.apache.syncope.common.lib.request.ResourceAR;
@@ -60,6 +62,7 @@ import org.apache.syncope.common.lib.request.StringReplacePatchItem;
 import org.apache.syncope.common.lib.request.UserUR;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.Attr;
+import org.apache.syncope.common.lib.to.BulkAttrResult;
 import org.apache.syncope.common.lib.to.ConnObjectTO;
 import org.apache.syncope.common.lib.to.ImplementationTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
@@ -93,6 +96,7 @@ import org.apache.syncope.fit.AbstractITCase;
 import org.apache.syncope.fit.FlowableDetector;
 import org.apache.syncope.fit.core.reference.TestAccountRuleConf;
 import org.apache.syncope.fit.core.reference.TestPasswordRuleConf;
+import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.OperationalAttributes;
 import org.junit.jupiter.api.Test;
 
@@ -1380,4 +1384,55 @@ public class UserITCase extends AbstractITCase {
         UserTO userTO = createUser(userCR).getEntity();
         assertNotNull(userTO.getKey());
     }
+
+    @Test
+    public void updateAttrs() {
+        // 1. create two users on resource-csv, whose connector object key is derived from firstname and surname
+        String ctype = "bulk" + getUUIDString();
+        List<UserTO> users = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            UserCR userCR = getUniqueSample("bulkattrs@syncope.apache.org");
+            userCR.setRealm("/odd");
+            userCR.getPlainAttrs().removeIf(attr -> "surname".equals(attr.getSchema())
+                    || "ctype".equals(attr.getSchema()));
+            userCR.getPlainAttrs().add(attr("surname", ctype + i));
+            userCR.getPlainAttrs().add(attr("ctype", ctype));
+            userCR.getAuxClasses().add("csv");
+            userCR.getResources().add(RESOURCE_NAME_CSV);
+
+            users.add(createUser(userCR).getEntity());
+        }
+        String fiql = SyncopeClient.getUserSearchConditionBuilder().is("ctype").equalTo(ctype).query();
+
+        // 2. replace firstname for both: values and connector object keys are updated on resource-csv
+        BulkAttrResult result = userService.updateAttrs(new BulkAttrUR.Builder(
+                new AttrPatch.Builder(attr("firstname", "Bulk")).build()).
+                realm("/odd").fiql(fiql).build());
+        assertEquals(2, result.getMatching());
+        assertEquals(2, result.getUpdated());
+        assertTrue(result.getPropagationFailures().isEmpty());
+        assertTrue(result.getRequiredValuesMissing().isEmpty());
+
+        for (int i = 0; i < users.size(); i++) {
+            UserTO userTO = userService.read(users.get(i).getKey());
+            assertEquals("Bulk", userTO.getPlainAttr("firstname").get().getValues().get(0));
+
+            ConnObjectTO connObjectTO = resourceService.readConnObject(
+                    RESOURCE_NAME_CSV, AnyTypeKind.USER.name(), userTO.getKey());
+            assertEquals("Bulk", connObjectTO.getAttr("name").get().getValues().get(0));
+            assertEquals("Bulk," + ctype + i, connObjectTO.getAttr(Name.NAME).get().getValues().get(0));
+        }
+
+        // 3. remove surname from both: not allowed, as mandatory
+        result = userService.updateAttrs(new BulkAttrUR.Builder(
+                new AttrPatch.Builder(new Attr.Builder("surname").build()).operation(PatchOperation.DELETE).build()).
+                realm("/odd").fiql(fiql).build());
+        assertEquals(2, result.getMatching());
+        assertEquals(0, result.getUpdated());
+        assertEquals(
+                users.stream().map(UserTO::getKey).collect(Collectors.toSet()),
+                Set.copyOf(result.getRequiredValuesMissing()));
+
+        users.forEach(user -> assertTrue(userService.read(user.getKey()).getPlainAttr("surname").isPresent()));
+    }
 }
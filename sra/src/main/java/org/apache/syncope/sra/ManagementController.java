@@ -28,10 +28,13 @@ import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteDefinition;
 import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -47,6 +50,9 @@ public class ManagementController {
     @Autowired
     private RouteLocator routeLocator;
 
+    @Autowired
+    private RouteMetrics routeMetrics;
+
     @PostMapping("/routes/refresh")
     public Mono<Void> refresh() {
         routeRefresher.refresh();
@@ -90,4 +96,21 @@ public class ManagementController {
             return allRoutes;
         });
     }
+
+    @GetMapping("/metrics")
+    public Mono<Map<String, Map<String, Object>>> metrics() {
+        return Mono.fromSupplier(routeMetrics::toMap);
+    }
+
+    @GetMapping("/metrics/{routeId}")
+    public Mono<Map<String, Object>> metrics(final @PathVariable("routeId") String routeId) {
+        return Mono.justOrEmpty(routeMetrics.get(routeId).map(RouteMetrics.Stats::toMap)).
+                switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, routeId)));
+    }
+
+    @PostMapping("/metrics/reset")
+    public Mono<Void> resetMetrics() {
+        routeMetrics.reset();
+        return Mono.empty();
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Collects per-route request counts, in-flight requests, status class counters and latency histograms.
+ */
+@Component
+public class RouteMetrics {
+
+    public static class Stats {
+
+        private final LongAdder requests = new LongAdder();
+
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private final LongAdder[] statusClasses = new LongAdder[5];
+
+        private final LongAdder errors = new LongAdder();
+
+        private final LongAdder cancelled = new LongAdder();
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        public Stats() {
+            for (int i = 0; i < statusClasses.length; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+
+        protected void start() {
+            requests.increment();
+            inFlight.incrementAndGet();
+        }
+
+        protected void end(final long startNanos, final HttpStatus status, final SignalType signal) {
+            inFlight.decrementAndGet();
+            latency.record((System.nanoTime() - startNanos) / 1000);
+
+            switch (signal) {
+                case ON_ERROR:
+                    errors.increment();
+                    break;
+
+                case CANCEL:
+                    cancelled.increment();
+                    break;
+
+                default:
+            }
+
+            if (status != null) {
+                int statusClass = status.value() / 100;
+                if (statusClass >= 1 && statusClass <= statusClasses.length) {
+                    statusClasses[statusClass - 1].increment();
+                }
+            }
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getInFlight() {
+            return inFlight.get();
+        }
+
+        public long getStatusClass(final int statusClass) {
+            return statusClasses[statusClass - 1].sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getCancelled() {
+            return cancelled.sum();
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        protected void reset() {
+            requests.reset();
+            for (LongAdder statusClass : statusClasses) {
+                statusClass.reset();
+            }
+            errors.reset();
+            cancelled.reset();
+            latency.reset();
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", getRequests());
+            map.put("in_flight", getInFlight());
+
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            for (int i = 0; i < statusClasses.length; i++) {
+                statuses.put((i + 1) + "xx", statusClasses[i].sum());
+            }
+            map.put("status", statuses);
+
+            map.put("errors", getErrors());
+            map.put("cancelled", getCancelled());
+            map.put("latency_micros", latency.toMap());
+            return map;
+        }
+    }
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public Optional<Stats> get(final String routeId) {
+        return Optional.ofNullable(stats.get(routeId));
+    }
+
+    /**
+     * Builds the gateway filter recording metrics for the given route; such filter is meant to be the outermost
+     * in the chain, so that all the time spent by other filters and by the proxied target is accounted.
+     *
+     * @param routeId route id
+     * @return gateway filter recording metrics for the given route
+     */
+    public GatewayFilter filter(final String routeId) {
+        Stats routeStats = stats.computeIfAbsent(routeId, k -> new Stats());
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            long start = System.nanoTime();
+            routeStats.start();
+            return chain.filter(exchange).
+                    doFinally(signal -> routeStats.end(start, exchange.getResponse().getStatusCode(), signal));
+        }, Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    /**
+     * Discards stats for routes not found among the given ones.
+     *
+     * @param routeIds ids of currently available routes
+     */
+    public void retain(final Collection<String> routeIds) {
+        stats.keySet().retainAll(routeIds);
+    }
+
+    public void reset() {
+        stats.values().forEach(Stats::reset);
+    }
+
+    public Map<String, Map<String, Object>> toMap() {
+        Map<String, Map<String, Object>> map = new TreeMap<>();
+        stats.forEach((routeId, routeStats) -> map.put(routeId, routeStats.toMap()));
+        return map;
+    }
+}
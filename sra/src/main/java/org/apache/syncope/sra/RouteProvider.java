@@ -96,6 +96,9 @@ public class RouteProvider {
     @Autowired
     private ConfigurableApplicationContext ctx;
 
+    @Autowired
+    private RouteMetrics routeMetrics;
+
     @Value("${anonymousUser}")
     private String anonymousUser;
 
@@ -400,7 +403,8 @@ public class RouteProvider {
 
     private Route.AsyncBuilder toRoute(final GatewayRouteTO gwroute) {
         Route.AsyncBuilder builder = new Route.AsyncBuilder().
-                id(gwroute.getKey()).order(gwroute.getOrder()).uri(gwroute.getTarget());
+                id(gwroute.getKey()).order(gwroute.getOrder()).uri(gwroute.getTarget()).
+                filter(routeMetrics.filter(gwroute.getKey()));
 
         if (gwroute.getPredicates().isEmpty()) {
             builder.predicate(exchange -> true);
@@ -462,9 +466,12 @@ public class RouteProvider {
             }
         }
 
-        return client.getService(GatewayRouteService.class).list().stream().
+        List<GatewayRouteTO> published = client.getService(GatewayRouteService.class).list().stream().
                 filter(gwroute -> gwroute.getStatus() == GatewayRouteStatus.PUBLISHED).
-                map(this::toRoute).
                 collect(Collectors.toList());
+
+        routeMetrics.retain(published.stream().map(GatewayRouteTO::getKey).collect(Collectors.toSet()));
+
+        return published.stream().map(this::toRoute).collect(Collectors.toList());
     }
 }
@@ -24,6 +24,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -61,6 +62,9 @@ public class SyncopeSRATest {
     @Autowired
     private RouteRefresher routeRefresher;
 
+    @Autowired
+    private RouteMetrics routeMetrics;
+
     @Value("${wiremock.server.port}")
     private int wiremockPort;
 
@@ -204,4 +208,41 @@ public class SyncopeSRATest {
                     }
                 });
     }
+
+    @Test
+    public void metrics() throws InterruptedException {
+        stubFor(get(urlEqualTo("/metrics/ok")).willReturn(aResponse()));
+        stubFor(get(urlEqualTo("/metrics/ko")).willReturn(aResponse().withStatus(503)));
+
+        GatewayRouteTO routeTO = new GatewayRouteTO();
+        routeTO.setKey("metrics");
+        routeTO.setStatus(GatewayRouteStatus.PUBLISHED);
+        routeTO.setTarget(URI.create("http://localhost:" + wiremockPort));
+        routeTO.getPredicates().add(new GatewayRoutePredicate.Builder().
+                factory(PredicateFactory.PATH).args("/metrics/**").build());
+
+        SyncopeSRATestCoreStartup.ROUTES.put(routeTO.getKey(), routeTO);
+
+        routeRefresher.refresh();
+
+        webClient.get().uri("/metrics/ok").exchange().expectStatus().isOk();
+        webClient.get().uri("/metrics/ok").exchange().expectStatus().isOk();
+        webClient.get().uri("/metrics/ko").exchange().expectStatus().isEqualTo(503);
+
+        RouteMetrics.Stats stats = routeMetrics.get("metrics").orElseThrow();
+        // metrics are recorded upon exchange completion, which might happen after the response was received
+        for (int i = 0; i < 50 && stats.getLatency().getCount() < 3; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(3, stats.getRequests());
+        assertEquals(0, stats.getInFlight());
+        assertEquals(2, stats.getStatusClass(2));
+        assertEquals(1, stats.getStatusClass(5));
+        assertEquals(3, stats.getLatency().getCount());
+        assertTrue(stats.getLatency().getValueAtPercentile(50) <= stats.getLatency().getMax());
+
+        routeMetrics.reset();
+        assertEquals(0, stats.getRequests());
+        assertEquals(0, stats.getLatency().getCount());
+    }
 }